@@ -20,7 +20,7 @@ public class ActiveMQEndpointUriFactory extends org.apache.camel.support.compone
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(98);
+        Set<String> props = new HashSet<>(99);
         props.add("includeSentJMSMessageID");
         props.add("asyncConsumer");
         props.add("mapJmsMessage");
@@ -36,6 +36,7 @@ public class ActiveMQEndpointUriFactory extends org.apache.camel.support.compone
         props.add("maxConcurrentConsumers");
         props.add("taskExecutor");
         props.add("priority");
+        props.add("replyToCorrelationShards");
         props.add("acknowledgementModeName");
         props.add("exposeListenerSession");
         props.add("receiveTimeout");
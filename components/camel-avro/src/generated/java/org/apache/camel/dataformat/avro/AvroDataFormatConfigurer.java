@@ -20,6 +20,9 @@ public class AvroDataFormatConfigurer extends PropertyConfigurerSupport implemen
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "instanceclassname":
         case "instanceClassName": dataformat.setInstanceClassName(property(camelContext, java.lang.String.class, value)); return true;
+        case "containerfile":
+        case "containerFile": dataformat.setContainerFile(property(camelContext, boolean.class, value)); return true;
+        case "codec": dataformat.setCodec(property(camelContext, java.lang.String.class, value)); return true;
         default: return false;
         }
     }
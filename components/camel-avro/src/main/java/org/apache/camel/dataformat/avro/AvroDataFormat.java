@@ -19,10 +19,18 @@ package org.apache.camel.dataformat.avro;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.apache.avro.Schema;
+import org.apache.avro.file.CodecFactory;
+import org.apache.avro.file.DataFileStream;
+import org.apache.avro.file.DataFileWriter;
 import org.apache.avro.generic.GenericContainer;
-import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.DatumReader;
 import org.apache.avro.io.DatumWriter;
 import org.apache.avro.io.Decoder;
@@ -45,7 +53,7 @@ import org.apache.camel.util.ObjectHelper;
 
 @Dataformat("avro")
 @Metadata(excludeProperties = "library,objectMapper,useDefaultObjectMapper,jsonViewTypeName,jsonView,include,allowJmsType," +
-                              "collectionTypeName,collectionType,useList,moduleClassNames,moduleRefs,enableFeatures," +
+                              "collectionTypeName,collectionType,useList,lazyLoad,moduleClassNames,moduleRefs,enableFeatures," +
                               "disableFeatures,allowUnmarshallType,timezone,autoDiscoverObjectMapper," +
                               "contentTypeHeader,schemaResolver,autoDiscoverSchemaResolver,unmarshalType,unmarshalTypeName")
 public class AvroDataFormat extends ServiceSupport implements DataFormat, DataFormatName, CamelContextAware {
@@ -55,6 +63,12 @@ public class AvroDataFormat extends ServiceSupport implements DataFormat, DataFo
     private Object schema;
     private transient Schema actualSchema;
     private String instanceClassName;
+    private boolean containerFile;
+    private String codec;
+    private transient SpecificData specificData;
+    // the datum writers are thread-safe and can be shared, but the datum readers are not
+    private final Map<Schema, DatumWriter<Object>> writers = new ConcurrentHashMap<>();
+    private final Queue<DatumReader<Object>> readers = new ConcurrentLinkedQueue<>();
 
     public AvroDataFormat() {
     }
@@ -91,6 +105,20 @@ public class AvroDataFormat extends ServiceSupport implements DataFormat, DataFo
         } else if (instanceClassName != null) {
             actualSchema = loadSchema(instanceClassName);
         }
+
+        ClassLoader classLoader = null;
+        if (actualSchema != null) {
+            Class<?> clazz = camelContext.getClassResolver().resolveClass(actualSchema.getFullName());
+            if (clazz != null) {
+                classLoader = clazz.getClassLoader();
+            }
+        }
+        // the classes of the records are cached per data format (and not shared globally by avro)
+        specificData = new SpecificData(classLoader);
+        if (codec != null) {
+            // validate the codec
+            CodecFactory.fromString(codec);
+        }
     }
 
     @Override
@@ -98,6 +126,12 @@ public class AvroDataFormat extends ServiceSupport implements DataFormat, DataFo
         // noop
     }
 
+    @Override
+    protected void doShutdown() throws Exception {
+        writers.clear();
+        readers.clear();
+    }
+
     // the getter/setter for Schema is Object type in the API
 
     public Object getSchema() {
@@ -116,6 +150,32 @@ public class AvroDataFormat extends ServiceSupport implements DataFormat, DataFo
         instanceClassName = className;
     }
 
+    public boolean isContainerFile() {
+        return containerFile;
+    }
+
+    /**
+     * Whether to marshal and unmarshal Avro object container files, which contains the schema and the records in
+     * blocks, instead of a single record. When unmarshalling an iterator is returned which reads the records block by
+     * block, such as when using the splitter in streaming mode. When marshalling the message body can be a single
+     * record, or a collection or iterator of records.
+     */
+    public void setContainerFile(boolean containerFile) {
+        this.containerFile = containerFile;
+    }
+
+    public String getCodec() {
+        return codec;
+    }
+
+    /**
+     * The compression codec to use when marshalling Avro object container files. Snappy and zstandard requires
+     * additional libraries on the classpath.
+     */
+    public void setCodec(String codec) {
+        this.codec = codec;
+    }
+
     protected Schema loadSchema(String className) throws CamelException, ClassNotFoundException {
         // must use same class loading procedure to ensure working in OSGi
         Class<?> instanceClass = camelContext.getClassResolver().resolveMandatoryClass(className);
@@ -135,10 +195,15 @@ public class AvroDataFormat extends ServiceSupport implements DataFormat, DataFo
 
     @Override
     public void marshal(Exchange exchange, Object graph, OutputStream outputStream) throws Exception {
+        if (containerFile) {
+            marshalContainerFile(graph, outputStream);
+            return;
+        }
+
         // the schema should be from the graph class name
         Schema useSchema = actualSchema != null ? actualSchema : loadSchema(graph.getClass().getName());
 
-        DatumWriter<Object> datum = new SpecificDatumWriter<>(useSchema);
+        DatumWriter<Object> datum = getDatumWriter(useSchema);
         Encoder encoder = EncoderFactory.get().binaryEncoder(outputStream, null);
         datum.write(graph, encoder);
         encoder.flush();
@@ -146,20 +211,62 @@ public class AvroDataFormat extends ServiceSupport implements DataFormat, DataFo
 
     @Override
     public Object unmarshal(Exchange exchange, InputStream inputStream) throws Exception {
+        if (containerFile) {
+            // the schema of the records is stored in the container file, and the records are read block by block
+            // as the iterator is used, and the reader cannot be shared as the schema is set by the container file
+            DatumReader<Object> reader = new SpecificDatumReader<>(null, actualSchema, specificData);
+            return new DataFileStream<>(inputStream, reader);
+        }
+
         ObjectHelper.notNull(actualSchema, "schema", this);
 
-        ClassLoader classLoader = null;
-        Class<?> clazz = camelContext.getClassResolver().resolveClass(actualSchema.getFullName());
+        DatumReader<Object> reader = readers.poll();
+        if (reader == null) {
+            reader = new SpecificDatumReader<>(actualSchema, actualSchema, specificData);
+        }
+        try {
+            Decoder decoder = DecoderFactory.get().binaryDecoder(inputStream, null);
+            return reader.read(null, decoder);
+        } finally {
+            readers.offer(reader);
+        }
+    }
+
+    protected void marshalContainerFile(Object graph, OutputStream outputStream) throws Exception {
+        Iterator<?> it;
+        if (graph instanceof Iterable) {
+            it = ((Iterable<?>) graph).iterator();
+        } else if (graph instanceof Iterator) {
+            it = (Iterator<?>) graph;
+        } else {
+            it = Collections.singleton(graph).iterator();
+        }
+
+        // the schema should be from the first record class name
+        Object first = it.hasNext() ? it.next() : null;
+        Schema useSchema = actualSchema;
+        if (useSchema == null && first != null) {
+            useSchema = loadSchema(first.getClass().getName());
+        }
+        ObjectHelper.notNull(useSchema, "schema", this);
 
-        if (clazz != null) {
-            classLoader = clazz.getClassLoader();
+        DataFileWriter<Object> writer = new DataFileWriter<>(getDatumWriter(useSchema));
+        if (codec != null) {
+            writer.setCodec(CodecFactory.fromString(codec));
         }
-        SpecificData specificData = new SpecificDataNoCache(classLoader);
-        DatumReader<GenericRecord> reader = new SpecificDatumReader<>(null, null, specificData);
-        reader.setSchema(actualSchema);
-        Decoder decoder = DecoderFactory.get().binaryDecoder(inputStream, null);
-        Object result = reader.read(null, decoder);
-        return result;
+        writer.create(useSchema, outputStream);
+        if (first != null) {
+            writer.append(first);
+            while (it.hasNext()) {
+                writer.append(it.next());
+            }
+        }
+        // flush the last block (the writer should not be closed as it would close the output stream)
+        writer.flush();
+    }
+
+    protected DatumWriter<Object> getDatumWriter(Schema schema) {
+        return writers.computeIfAbsent(schema, s -> new SpecificDatumWriter<>(s, specificData));
     }
 
 }
@@ -19,6 +19,11 @@ package org.apache.camel.dataformat.avro;
 import org.apache.avro.Schema;
 import org.apache.avro.specific.SpecificData;
 
+/**
+ * @deprecated the avro data format uses its own {@link SpecificData} which caches the classes of the records per data
+ *             format instead.
+ */
+@Deprecated
 public class SpecificDataNoCache extends SpecificData {
 
     public SpecificDataNoCache() {
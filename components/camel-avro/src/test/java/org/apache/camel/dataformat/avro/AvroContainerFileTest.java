@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.avro;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.dataformat.avro.example.Value;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class AvroContainerFileTest extends CamelTestSupport {
+
+    private static final int SIZE = 100;
+
+    @Test
+    public void testMarshalAndSplitContainerFile() throws Exception {
+        List<Value> input = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            input.add(Value.newBuilder().setValue("test body " + i).build());
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:value");
+        mock.expectedMessageCount(SIZE);
+        mock.allMessages().body().isInstanceOf(Value.class);
+        mock.message(0).body().isEqualTo(input.get(0));
+        mock.message(SIZE - 1).body().isEqualTo(input.get(SIZE - 1));
+
+        byte[] marshalled = template.requestBody("direct:marshal", input, byte[].class);
+        template.sendBody("direct:split", marshalled);
+
+        mock.assertIsSatisfied();
+    }
+
+    @Test
+    public void testMarshalAndUnmarshalSingleRecord() throws Exception {
+        Value input = Value.newBuilder().setValue("test body").build();
+
+        byte[] marshalled = template.requestBody("direct:marshal", input, byte[].class);
+        Iterator<?> it = template.requestBody("direct:unmarshal", marshalled, Iterator.class);
+
+        assertEquals(input, it.next());
+        assertFalse(it.hasNext());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                AvroDataFormat format = new AvroDataFormat(Value.SCHEMA$);
+                format.setContainerFile(true);
+                format.setCodec("deflate");
+
+                from("direct:marshal").marshal(format);
+                from("direct:unmarshal").unmarshal(format);
+
+                // the schema is read from the container file
+                org.apache.camel.model.dataformat.AvroDataFormat avro
+                        = new org.apache.camel.model.dataformat.AvroDataFormat().containerFile(true);
+                from("direct:split").unmarshal(avro)
+                        .split(body()).streaming()
+                        .to("mock:value");
+            }
+        };
+    }
+
+}
@@ -38,8 +38,7 @@ public class BeanComponent extends DefaultComponent {
 
     // use an internal soft cache for BeanInfo as they are costly to introspect
     // for example the bean language using OGNL expression runs much faster reusing the BeanInfo from this cache
-    @SuppressWarnings("unchecked")
-    private final Map<BeanInfoCacheKey, BeanInfo> beanInfoCache = LRUCacheFactory.newLRUSoftCache(1000);
+    private Map<BeanInfoCacheKey, BeanInfo> beanInfoCache;
 
     @Deprecated
     @Metadata(defaultValue = "true", description = "Use singleton option instead.")
@@ -54,6 +53,10 @@ public class BeanComponent extends DefaultComponent {
                                                         + " to the bean registry such as Spring or CDI (if in use), which depends on their configuration can act as either singleton or prototype scope."
                                                         + " so when using prototype then this depends on the delegated registry.")
     private BeanScope scope = BeanScope.Singleton;
+    @Metadata(label = "advanced", defaultValue = "1000",
+              description = "Maximum number of introspected bean information (BeanInfo) to keep in the soft cache."
+                            + " Increase this if many different bean types and methods are invoked, to avoid introspecting the beans again.")
+    private int beanInfoCacheSize = 1000;
 
     public BeanComponent() {
     }
@@ -77,11 +80,20 @@ public class BeanComponent extends DefaultComponent {
     }
 
     BeanInfo getBeanInfoFromCache(BeanInfoCacheKey key) {
-        return beanInfoCache.get(key);
+        return beanInfoCache != null ? beanInfoCache.get(key) : null;
     }
 
     void addBeanInfoToCache(BeanInfoCacheKey key, BeanInfo beanInfo) {
-        beanInfoCache.put(key, beanInfo);
+        if (beanInfoCache != null) {
+            beanInfoCache.put(key, beanInfo);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void doInit() throws Exception {
+        super.doInit();
+        beanInfoCache = LRUCacheFactory.newLRUSoftCache(beanInfoCacheSize);
     }
 
     @Override
@@ -91,7 +103,9 @@ public class BeanComponent extends DefaultComponent {
             LOG.debug("Clearing BeanInfo cache[size={}, hits={}, misses={}, evicted={}]", cache.size(), cache.getHits(),
                     cache.getMisses(), cache.getEvicted());
         }
-        beanInfoCache.clear();
+        if (beanInfoCache != null) {
+            beanInfoCache.clear();
+        }
     }
 
     @Deprecated
@@ -115,4 +129,12 @@ public class BeanComponent extends DefaultComponent {
     public void setScope(BeanScope scope) {
         this.scope = scope;
     }
+
+    public int getBeanInfoCacheSize() {
+        return beanInfoCacheSize;
+    }
+
+    public void setBeanInfoCacheSize(int beanInfoCacheSize) {
+        this.beanInfoCacheSize = beanInfoCacheSize;
+    }
 }
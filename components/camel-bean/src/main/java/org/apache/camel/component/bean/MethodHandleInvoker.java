@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Invokes a bean method using a {@link MethodHandle} which is created once per method, which avoids the overhead of
+ * reflective invocation via {@link Method#invoke(Object, Object...)} for each call.
+ * <p/>
+ * The method handle is adapted to the generic <tt>(Object, Object[])Object</tt> type so all methods can be invoked the
+ * same way. The arguments must match the parameter types of the method, which is checked by
+ * {@link #canInvoke(Object, Object[])}, otherwise the caller should fallback to reflection to report the problem the
+ * same way as before.
+ */
+final class MethodHandleInvoker {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodHandleInvoker.class);
+    private static final Object[] EMPTY_ARGUMENTS = new Object[0];
+
+    private final MethodHandle handle;
+    private final Class<?> declaringClass;
+    private final boolean isStatic;
+    private final Class<?>[] parameterTypes;
+    private final boolean[] primitives;
+
+    private MethodHandleInvoker(MethodHandle handle, Method method) {
+        this.handle = handle;
+        this.declaringClass = method.getDeclaringClass();
+        this.isStatic = Modifier.isStatic(method.getModifiers());
+        Class<?>[] types = method.getParameterTypes();
+        this.parameterTypes = new Class<?>[types.length];
+        this.primitives = new boolean[types.length];
+        for (int i = 0; i < types.length; i++) {
+            primitives[i] = types[i].isPrimitive();
+            parameterTypes[i] = ObjectHelper.convertPrimitiveTypeToWrapperType(types[i]);
+        }
+    }
+
+    /**
+     * Creates the invoker for the given method.
+     *
+     * @return the invoker, or <tt>null</tt> if a method handle cannot be created for the method, in which case
+     *         reflection should be used.
+     */
+    static MethodHandleInvoker create(Method method) {
+        try {
+            try {
+                // allows creating the method handle for public methods declared in non public classes
+                method.setAccessible(true);
+            } catch (RuntimeException e) {
+                // such as a SecurityException, or the method is in a module which is not open to us,
+                // then the method handle can still be created if the method is accessible
+                LOG.trace("Cannot make method: {} accessible due to: {}", method, e.getMessage());
+            }
+            int count = method.getParameterCount();
+            MethodHandle mh = MethodHandles.lookup().unreflect(method).asFixedArity();
+            if (Modifier.isStatic(method.getModifiers())) {
+                // static methods have no target instance, so drop the pojo argument
+                mh = MethodHandles.dropArguments(mh, 0, Object.class);
+            }
+            mh = mh.asType(MethodType.genericMethodType(count + 1));
+            mh = mh.asSpreader(Object[].class, count);
+            return new MethodHandleInvoker(mh, method);
+        } catch (Exception e) {
+            LOG.debug("Cannot create method handle for method: {} due to: {}. Will use reflection instead.", method,
+                    e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Whether the method can be invoked on the given pojo with the given arguments, which is when the arguments match
+     * the parameter types.
+     */
+    boolean canInvoke(Object pojo, Object[] arguments) {
+        if (!isStatic && !declaringClass.isInstance(pojo)) {
+            return false;
+        }
+        int count = arguments != null ? arguments.length : 0;
+        if (count != parameterTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < count; i++) {
+            Object arg = arguments[i];
+            if (arg == null ? primitives[i] : !parameterTypes[i].isInstance(arg)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Invokes the method, where any exception thrown by the method is wrapped in an {@link InvocationTargetException}
+     * the same way as when using reflection.
+     */
+    Object invoke(Object pojo, Object[] arguments) throws InvocationTargetException {
+        Object[] args = arguments != null ? arguments : EMPTY_ARGUMENTS;
+        try {
+            return (Object) handle.invokeExact(pojo, args);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+}
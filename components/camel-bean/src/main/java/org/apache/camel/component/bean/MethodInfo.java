@@ -40,6 +40,8 @@ import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.Expression;
 import org.apache.camel.ExpressionEvaluationException;
 import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.Header;
+import org.apache.camel.Headers;
 import org.apache.camel.InOnly;
 import org.apache.camel.InOut;
 import org.apache.camel.Message;
@@ -53,6 +55,7 @@ import org.apache.camel.spi.ErrorHandlerAware;
 import org.apache.camel.support.DefaultMessage;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.ExpressionAdapter;
+import org.apache.camel.support.LanguageSupport;
 import org.apache.camel.support.MessageHelper;
 import org.apache.camel.support.ObjectHelper;
 import org.apache.camel.support.service.ServiceHelper;
@@ -82,6 +85,9 @@ public class MethodInfo {
     private AsyncProcessor recipientList;
     private AsyncProcessor routingSlip;
     private AsyncProcessor dynamicRouter;
+    private volatile MethodHandleInvoker invoker;
+    private volatile boolean invoked;
+    private volatile boolean invokerResolved;
 
     /**
      * Adapter to invoke the method which has been annotated with the @DynamicRouter
@@ -490,6 +496,12 @@ public class MethodInfo {
     }
 
     protected Object invoke(Method mth, Object pojo, Object[] arguments, Exchange exchange) throws InvocationTargetException {
+        if (mth == method) {
+            MethodHandleInvoker mhi = getMethodHandleInvoker();
+            if (mhi != null && mhi.canInvoke(pojo, arguments)) {
+                return mhi.invoke(pojo, arguments);
+            }
+        }
         try {
             return ObjectHelper.invokeMethodSafe(mth, pojo, arguments);
         } catch (IllegalAccessException e) {
@@ -503,6 +515,25 @@ public class MethodInfo {
         }
     }
 
+    /**
+     * Gets the method handle based invoker for the method, which is created when the method is invoked the second time,
+     * so method infos which are created per call (such as for OGNL method calls) do not pay the cost of creating the
+     * method handle.
+     *
+     * @return the invoker, or <tt>null</tt> if reflection should be used
+     */
+    private MethodHandleInvoker getMethodHandleInvoker() {
+        if (!invokerResolved) {
+            if (!invoked) {
+                invoked = true;
+                return null;
+            }
+            invoker = MethodHandleInvoker.create(method);
+            invokerResolved = true;
+        }
+        return invoker;
+    }
+
     protected Expression[] createParameterExpressions() {
         final int size = parameters.size();
         LOG.trace("Creating parameters expression for {} parameters", size);
@@ -546,9 +577,31 @@ public class MethodInfo {
      */
     private final class ParameterExpression implements Expression {
         private final Expression[] expressions;
+        private final Class<?>[] types;
+        private final ParameterBinding[] bindings;
+        private final String[] headerNames;
 
         ParameterExpression(Expression[] expressions) {
             this.expressions = expressions;
+            // pre compute how to bind the common parameters, so they can be bound without evaluating their expressions
+            this.types = new Class<?>[expressions.length];
+            this.bindings = new ParameterBinding[expressions.length];
+            this.headerNames = new String[expressions.length];
+            for (int i = 0; i < expressions.length; i++) {
+                ParameterInfo info = parameters.get(i);
+                types[i] = info.getType();
+                bindings[i] = ParameterBinding.EXPRESSION;
+                Annotation[] annotations = info.getAnnotations();
+                Annotation single = annotations != null && annotations.length == 1 ? annotations[0] : null;
+                if (bodyParameters.contains(info) && !Exchange.class.isAssignableFrom(info.getType())) {
+                    bindings[i] = ParameterBinding.BODY;
+                } else if (single instanceof Header && !LanguageSupport.hasSimpleFunction(((Header) single).value())) {
+                    bindings[i] = ParameterBinding.HEADER;
+                    headerNames[i] = ((Header) single).value();
+                } else if (single instanceof Headers) {
+                    bindings[i] = ParameterBinding.HEADERS;
+                }
+            }
         }
 
         @Override
@@ -608,7 +661,7 @@ public class MethodInfo {
                 // grab the parameter value for the given index
                 Object parameterValue = it != null && it.hasNext() ? it.next() : null;
                 // and the expected parameter type
-                Class<?> parameterType = parameters.get(i).getType();
+                Class<?> parameterType = types[i];
                 // the value for the parameter to use
                 Object value = null;
 
@@ -621,7 +674,27 @@ public class MethodInfo {
                 // use bean parameter binding, if still no value
                 Expression expression = expressions[i];
                 if (value == null && expression != null) {
-                    value = evaluateParameterBinding(exchange, expression, i, parameterType);
+                    switch (bindings[i]) {
+                        case BODY:
+                            // optimize if the body is already the same type
+                            Object current = exchange.getIn().getBody();
+                            value = parameterType.isInstance(current)
+                                    ? current : evaluateParameterBinding(exchange, expression, i, parameterType);
+                            break;
+                        case HEADER:
+                            Object header = exchange.getIn().getHeader(headerNames[i]);
+                            if (header == null) {
+                                // fall back on a property
+                                header = exchange.getProperty(headerNames[i]);
+                            }
+                            value = convertParameterBinding(exchange, header, i, parameterType);
+                            break;
+                        case HEADERS:
+                            value = convertParameterBinding(exchange, exchange.getIn().getHeaders(), i, parameterType);
+                            break;
+                        default:
+                            value = evaluateParameterBinding(exchange, expression, i, parameterType);
+                    }
                 }
                 // remember the value to use
                 if (value != Void.TYPE) {
@@ -734,10 +807,17 @@ public class MethodInfo {
          * Evaluate using classic parameter binding using the pre compute expression
          */
         private Object evaluateParameterBinding(Exchange exchange, Expression expression, int index, Class<?> parameterType) {
-            Object answer = null;
-
             // use object first to avoid type conversion so we know if there is a value or not
             Object result = expression.evaluate(exchange, Object.class);
+            return convertParameterBinding(exchange, result, index, parameterType);
+        }
+
+        /**
+         * Converts the value of the parameter binding to the expected type of the parameter
+         */
+        private Object convertParameterBinding(Exchange exchange, Object result, int index, Class<?> parameterType) {
+            Object answer = null;
+
             if (result != null) {
                 try {
                     if (parameterType.isInstance(result)) {
@@ -771,4 +851,14 @@ public class MethodInfo {
         }
 
     }
+
+    /**
+     * How a parameter is bound to its value
+     */
+    private enum ParameterBinding {
+        BODY,
+        HEADER,
+        HEADERS,
+        EXPRESSION
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MethodHandleInvokerTest {
+
+    public static class MyBean {
+        private String last;
+
+        public String hello(String name, int times) {
+            return "Hello " + name + " x" + times;
+        }
+
+        public void remember(String name) {
+            last = name;
+        }
+
+        public String kaboom() {
+            throw new IllegalStateException("Forced");
+        }
+
+        public static String echo(String s) {
+            return s + s;
+        }
+    }
+
+    @Test
+    public void testInvoke() throws Exception {
+        MethodHandleInvoker invoker = MethodHandleInvoker.create(MyBean.class.getMethod("hello", String.class, int.class));
+        assertNotNull(invoker);
+
+        MyBean bean = new MyBean();
+        Object[] args = new Object[] { "World", 3 };
+        assertTrue(invoker.canInvoke(bean, args));
+        assertEquals("Hello World x3", invoker.invoke(bean, args));
+    }
+
+    @Test
+    public void testInvokeVoidAndStatic() throws Exception {
+        MyBean bean = new MyBean();
+        MethodHandleInvoker invoker = MethodHandleInvoker.create(MyBean.class.getMethod("remember", String.class));
+        assertNull(invoker.invoke(bean, new Object[] { "Camel" }));
+        assertEquals("Camel", bean.last);
+
+        invoker = MethodHandleInvoker.create(MyBean.class.getMethod("echo", String.class));
+        assertTrue(invoker.canInvoke(null, new Object[] { "A" }));
+        assertEquals("AA", invoker.invoke(null, new Object[] { "A" }));
+    }
+
+    @Test
+    public void testCannotInvoke() throws Exception {
+        MethodHandleInvoker invoker = MethodHandleInvoker.create(MyBean.class.getMethod("hello", String.class, int.class));
+        MyBean bean = new MyBean();
+
+        // null for a primitive, wrong type, wrong number of arguments and wrong target
+        assertFalse(invoker.canInvoke(bean, new Object[] { "World", null }));
+        assertFalse(invoker.canInvoke(bean, new Object[] { "World", "3" }));
+        assertFalse(invoker.canInvoke(bean, new Object[] { "World" }));
+        assertFalse(invoker.canInvoke("Not the bean", new Object[] { "World", 3 }));
+        assertTrue(invoker.canInvoke(bean, new Object[] { null, 3 }));
+    }
+
+    @Test
+    public void testExceptionIsWrapped() throws Exception {
+        MethodHandleInvoker invoker = MethodHandleInvoker.create(MyBean.class.getMethod("kaboom"));
+
+        InvocationTargetException e = assertThrows(InvocationTargetException.class,
+                () -> invoker.invoke(new MyBean(), null));
+        assertTrue(e.getTargetException() instanceof IllegalStateException);
+        assertEquals("Forced", e.getTargetException().getMessage());
+    }
+
+}
@@ -25,6 +25,8 @@ public class BindyCsvDataFormatConfigurer extends PropertyConfigurerSupport impl
         case "unwrapSingleInstance": dataformat.setUnwrapSingleInstance(property(camelContext, boolean.class, value)); return true;
         case "allowemptystream":
         case "allowEmptyStream": dataformat.setAllowEmptyStream(property(camelContext, boolean.class, value)); return true;
+        case "lazyload":
+        case "lazyLoad": dataformat.setLazyLoad(property(camelContext, boolean.class, value)); return true;
         default: return false;
         }
     }
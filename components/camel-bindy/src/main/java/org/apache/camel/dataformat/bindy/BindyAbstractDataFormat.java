@@ -49,6 +49,7 @@ public abstract class BindyAbstractDataFormat extends ServiceSupport implements
     private CamelContext camelContext;
     private boolean unwrapSingleInstance = true;
     private boolean allowEmptyStream;
+    private boolean lazyLoad;
 
     public BindyAbstractDataFormat() {
     }
@@ -89,6 +90,18 @@ public abstract class BindyAbstractDataFormat extends ServiceSupport implements
         this.allowEmptyStream = allowEmptyStream;
     }
 
+    public boolean isLazyLoad() {
+        return lazyLoad;
+    }
+
+    /**
+     * Whether the unmarshalling should produce an iterator that reads the records on the fly, instead of reading all
+     * the records into memory. This allows to unmarshal big files, such as when using the splitter in streaming mode.
+     */
+    public void setLazyLoad(boolean lazyLoad) {
+        this.lazyLoad = lazyLoad;
+    }
+
     public BindyAbstractFactory getFactory() throws Exception {
         if (modelFactory == null) {
             FormatFactory formatFactory = createFormatFactory();
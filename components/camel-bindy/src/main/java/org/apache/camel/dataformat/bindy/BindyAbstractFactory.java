@@ -28,8 +28,12 @@ import java.util.Map;
 import java.util.Set;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.dataformat.bindy.annotation.BindyConverter;
+import org.apache.camel.dataformat.bindy.annotation.DataField;
+import org.apache.camel.dataformat.bindy.annotation.KeyValuePairField;
 import org.apache.camel.dataformat.bindy.annotation.Link;
 import org.apache.camel.dataformat.bindy.annotation.OneToMany;
+import org.apache.camel.dataformat.bindy.util.ConverterUtils;
 import org.apache.camel.support.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -273,6 +277,51 @@ public abstract class BindyAbstractFactory implements BindyFactory {
         return strValue;
     }
 
+    /**
+     * Gets the format to use for the given field. When unmarshalling many records then the formats of the fields are
+     * reused by the records, so the formats are only created once per unmarshal.
+     *
+     * @param  formats   the formats to reuse, keyed by field, or <tt>null</tt> to not reuse the formats. As the formats
+     *                   may not be thread-safe then this must not be shared between threads.
+     * @param  field     the field
+     * @param  dataField the data field annotation of the field
+     * @return           the format
+     */
+    protected Format<?> getFormat(Map<Field, Format<?>> formats, Field field, DataField dataField) throws Exception {
+        Format<?> format = formats != null ? formats.get(field) : null;
+        if (format == null) {
+            format = formatFactory.getFormat(ConverterUtils.convert(dataField, field.getType(),
+                    field.getAnnotation(BindyConverter.class), getLocale()));
+            if (formats != null) {
+                formats.put(field, format);
+            }
+        }
+        return format;
+    }
+
+    /**
+     * Gets the format to use for the given field. When unmarshalling many records then the formats of the fields are
+     * reused by the records, so the formats are only created once per unmarshal.
+     *
+     * @param  formats           the formats to reuse, keyed by field, or <tt>null</tt> to not reuse the formats. As the
+     *                           formats may not be thread-safe then this must not be shared between threads.
+     * @param  field             the field
+     * @param  keyValuePairField the key value pair field annotation of the field
+     * @return                   the format
+     */
+    protected Format<?> getFormat(Map<Field, Format<?>> formats, Field field, KeyValuePairField keyValuePairField)
+            throws Exception {
+        Format<?> format = formats != null ? formats.get(field) : null;
+        if (format == null) {
+            format = formatFactory.getFormat(ConverterUtils.convert(keyValuePairField, field.getType(),
+                    field.getAnnotation(BindyConverter.class), getLocale()));
+            if (formats != null) {
+                formats.put(field, format);
+            }
+        }
+        return format;
+    }
+
     public String getLocale() {
         return locale;
     }
@@ -166,6 +166,18 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
 
     @Override
     public void bind(CamelContext camelContext, List<String> tokens, Map<String, Object> model, int line) throws Exception {
+        bind(camelContext, tokens, model, line, null);
+    }
+
+    /**
+     * Binds the tokens of the CSV record to the model.
+     *
+     * @param formats the formats of the fields to reuse, or <tt>null</tt> to create the formats for this record only
+     */
+    public void bind(
+            CamelContext camelContext, List<String> tokens, Map<String, Object> model, int line,
+            Map<Field, Format<?>> formats)
+            throws Exception {
 
         int pos = 1;
         int counterMandatoryFields = 0;
@@ -178,12 +190,12 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
             // If a DataField can be skipped, it needs to check whether it is in dataFields keyset
             if (isSkipField()) {
                 if (dataFields.keySet().contains(pos)) {
-                    counterMandatoryFields
-                            = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields, data, dataField);
+                    counterMandatoryFields = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields,
+                            data, dataField, formats);
                 }
             } else {
-                counterMandatoryFields
-                        = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields, data, dataField);
+                counterMandatoryFields = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields,
+                        data, dataField, formats);
             }
 
             ++pos;
@@ -197,14 +209,14 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
         }
 
         if (pos < totalFields) {
-            setDefaultValuesForFields(model);
+            setDefaultValuesForFields(model, formats);
         }
 
     }
 
     private int setDataFieldValue(
             CamelContext camelContext, Map<String, Object> model, int line, int pos, int counterMandatoryFields, String data,
-            DataField dataField)
+            DataField dataField, Map<Field, Format<?>> formats)
             throws Exception {
         org.apache.camel.util.ObjectHelper.notNull(dataField,
                 "No position " + pos + " defined for the field: " + data + ", line: " + line);
@@ -234,11 +246,7 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
         }
 
         // Create format object to format the field
-        FormattingOptions formattingOptions = ConverterUtils.convert(dataField,
-                field.getType(),
-                field.getAnnotation(BindyConverter.class),
-                getLocale());
-        Format<?> format = formatFactory.getFormat(formattingOptions);
+        Format<?> format = getFormat(formats, field, dataField);
 
         // field object to be set
         Object modelField = model.get(field.getDeclaringClass().getName());
@@ -696,10 +704,11 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
      * Set the default values for the non defined fields.
      * 
      * @param  model                  the model which has its default fields set.
+     * @param  formats                the formats of the fields to reuse (optional)
      * @throws IllegalAccessException if the underlying fields are inaccessible
      * @throws Exception              In case the field cannot be parsed
      */
-    private void setDefaultValuesForFields(final Map<String, Object> model)
+    private void setDefaultValuesForFields(final Map<String, Object> model, Map<Field, Format<?>> formats)
             throws Exception {
         // Set the default values, if defined
         for (int i = 1; i <= dataFields.size(); i++) {
@@ -708,11 +717,7 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
             DataField dataField = dataFields.get(i);
             Object modelField = model.get(field.getDeclaringClass().getName());
             if (field.get(modelField) == null && !dataField.defaultValue().isEmpty()) {
-                FormattingOptions formattingOptions = ConverterUtils.convert(dataField,
-                        field.getType(),
-                        field.getAnnotation(BindyConverter.class),
-                        getLocale());
-                Format<?> format = formatFactory.getFormat(formattingOptions);
+                Format<?> format = getFormat(formats, field, dataField);
                 Object value = format.parse(dataField.defaultValue());
                 field.set(modelField, value);
             }
@@ -162,6 +162,18 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
     }
 
     public void bind(CamelContext camelContext, String recordStr, Map<String, Object> model, int line) throws Exception {
+        bind(camelContext, recordStr, model, line, null);
+    }
+
+    /**
+     * Binds the fixed length record to the model.
+     *
+     * @param formats the formats of the fields to reuse, or <tt>null</tt> to create the formats for this record only
+     */
+    public void bind(
+            CamelContext camelContext, String recordStr, Map<String, Object> model, int line,
+            Map<Field, Format<?>> formats)
+            throws Exception {
 
         int pos = 1;
         int counterMandatoryFields = 0;
@@ -262,11 +274,7 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
             }
 
             // Create format object to format the field
-            FormattingOptions formattingOptions = ConverterUtils.convert(dataField,
-                    field.getType(),
-                    field.getAnnotation(BindyConverter.class),
-                    getLocale());
-            Format<?> format = formatFactory.getFormat(formattingOptions);
+            Format<?> format = getFormat(formats, field, dataField);
 
             // field object to be set
             Object modelField = model.get(field.getDeclaringClass().getName());
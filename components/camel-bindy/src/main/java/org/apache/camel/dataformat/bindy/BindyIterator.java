@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * An iterator which unmarshals one record at a time, which is used when lazy load is enabled, so the records are not
+ * all read into memory.
+ * <p/>
+ * The iterator returns the objects of the class type of the data format (or the model of the records if no class type
+ * has been configured), and closes the input when there are no more records, or when an exception is thrown.
+ */
+public abstract class BindyIterator implements Iterator<Object>, Closeable {
+
+    private final Closeable input;
+    private final Class<?> classType;
+    private Object next;
+    private boolean closed;
+
+    protected BindyIterator(Closeable input, Class<?> classType) {
+        this.input = input;
+        this.classType = classType;
+    }
+
+    /**
+     * Unmarshals the next record
+     *
+     * @return the model of the next record, or <tt>null</tt> if there are no more records
+     */
+    protected abstract Map<String, Object> nextModel() throws Exception;
+
+    @Override
+    public boolean hasNext() {
+        while (next == null && !closed) {
+            Map<String, Object> model;
+            try {
+                model = nextModel();
+            } catch (Exception e) {
+                IOHelper.close(this);
+                throw RuntimeCamelException.wrapRuntimeException(e);
+            }
+            if (model == null) {
+                IOHelper.close(this);
+            } else if (classType != null) {
+                // we expect to find this type in the model, and grab only that type
+                next = model.get(classType.getName());
+            } else {
+                next = model;
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public Object next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Object answer = next;
+        next = null;
+        return answer;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            input.close();
+        }
+    }
+}
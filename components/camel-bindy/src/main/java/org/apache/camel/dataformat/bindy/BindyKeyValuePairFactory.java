@@ -126,6 +126,18 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
     public void bind(
             CamelContext camelContext, List<String> data, Map<String, Object> model, int line, Map<String, List<Object>> lists)
             throws Exception {
+        bind(camelContext, data, model, line, lists, null);
+    }
+
+    /**
+     * Binds the key value pairs of the message to the model.
+     *
+     * @param formats the formats of the fields to reuse, or <tt>null</tt> to create the formats for this message only
+     */
+    public void bind(
+            CamelContext camelContext, List<String> data, Map<String, Object> model, int line, Map<String, List<Object>> lists,
+            Map<Field, Format<?>> formats)
+            throws Exception {
 
         Map<Integer, List<String>> results = new HashMap<>();
 
@@ -174,7 +186,7 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
             if (obj != null) {
 
                 // Generate model from key value map
-                generateModelFromKeyValueMap(clazz, obj, results, line, lists);
+                generateModelFromKeyValueMap(clazz, obj, results, line, lists, formats);
 
             }
         }
@@ -182,7 +194,8 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
     }
 
     private void generateModelFromKeyValueMap(
-            Class<?> clazz, Object obj, Map<Integer, List<String>> results, int line, Map<String, List<Object>> lists)
+            Class<?> clazz, Object obj, Map<Integer, List<String>> results, int line, Map<String, List<Object>> lists,
+            Map<Field, Format<?>> formats)
             throws Exception {
 
         for (Field field : clazz.getDeclaredFields()) {
@@ -287,11 +300,7 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
                             if (value != null) {
 
                                 // Create format object to format the field
-                                FormattingOptions formattingOptions = ConverterUtils.convert(keyValuePairField,
-                                        field.getType(),
-                                        field.getAnnotation(BindyConverter.class),
-                                        getLocale());
-                                Format<?> format = formatFactory.getFormat(formattingOptions);
+                                Format<?> format = getFormat(formats, field, keyValuePairField);
 
                                 // format the value of the key received
                                 result = formatField(format, value, key, line);
@@ -329,11 +338,7 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
                                     value = values.get(i);
 
                                     // Create format object to format the field
-                                    FormattingOptions formattingOptions = ConverterUtils.convert(keyValuePairField,
-                                            field.getType(),
-                                            field.getAnnotation(BindyConverter.class),
-                                            getLocale());
-                                    Format<?> format = formatFactory.getFormat(formattingOptions);
+                                    Format<?> format = getFormat(formats, field, keyValuePairField);
 
                                     // format the value of the key received
                                     Object result = formatField(format, value, key, line);
@@ -408,7 +413,7 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
                         lists.put(cl.getName(), new ArrayList<>());
                     }
 
-                    generateModelFromKeyValueMap(cl, null, results, line, lists);
+                    generateModelFromKeyValueMap(cl, null, results, line, lists, formats);
 
                     // Add list of objects
                     field.set(obj, lists.get(cl.getName()));
@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -37,6 +38,8 @@ import org.apache.camel.Exchange;
 import org.apache.camel.dataformat.bindy.BindyAbstractDataFormat;
 import org.apache.camel.dataformat.bindy.BindyAbstractFactory;
 import org.apache.camel.dataformat.bindy.BindyCsvFactory;
+import org.apache.camel.dataformat.bindy.BindyIterator;
+import org.apache.camel.dataformat.bindy.Format;
 import org.apache.camel.dataformat.bindy.FormatFactory;
 import org.apache.camel.dataformat.bindy.WrappedException;
 import org.apache.camel.dataformat.bindy.util.ConverterUtils;
@@ -145,6 +148,7 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
         List<Map<String, Object>> models = new ArrayList<>();
 
         InputStreamReader in = null;
+        boolean lazy = false;
         try {
             if (checkEmptyStream(factory, inputStream)) {
                 return models;
@@ -158,7 +162,21 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
             org.apache.camel.util.ObjectHelper.notNull(separator,
                     "The separator has not been defined in the annotation @CsvRecord or not instantiated during initModel.");
             Boolean removeQuotes = factory.getRemoveQuotes();
+            Pattern pattern = Pattern.compile(separator);
             AtomicInteger count = new AtomicInteger();
+            // the formats of the fields are reused by the records
+            Map<Field, Format<?>> formats = new HashMap<>();
+
+            if (isLazyLoad()) {
+                lazy = true;
+                BindyIterator it
+                        = createIterator(factory, new BufferedReader(in), pattern, removeQuotes, quote, count, formats);
+                // read the first record to check the stream is not empty (the iterator closes the input if it is)
+                if (!isAllowEmptyStream() && !it.hasNext()) {
+                    throw new java.lang.IllegalArgumentException("No records have been defined in the CSV");
+                }
+                return it;
+            }
 
             // Use a Stream to stream a file across.
             try (Stream<String> lines = new BufferedReader(in).lines()) {
@@ -174,7 +192,7 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
                 // If the internals of the consumer fail, we unrap the checked exception upstream.
                 try {
                     lines.skip(linesToSkip)
-                            .forEachOrdered(consumeFile(factory, models, separator, removeQuotes, quote, count));
+                            .forEachOrdered(consumeFile(factory, models, pattern, removeQuotes, quote, count, formats));
                 } catch (WrappedException e) {
                     throw e.getWrappedException();
                 }
@@ -188,83 +206,112 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
                 }
             }
         } finally {
-            if (in != null) {
+            // the iterator closes the input when its done
+            if (in != null && !lazy) {
                 IOHelper.close(in, "in", LOG);
             }
         }
 
     }
 
+    private BindyIterator createIterator(
+            BindyCsvFactory factory, BufferedReader reader, Pattern pattern, Boolean removeQuotes, String quote,
+            AtomicInteger count, Map<Field, Format<?>> formats)
+            throws IOException {
+        // If the first line of the CSV file contains columns name, then we skip this line
+        if (factory.getSkipFirstLine()) {
+            reader.readLine();
+        }
+
+        return new BindyIterator(reader, getClassType()) {
+            @Override
+            protected Map<String, Object> nextModel() throws Exception {
+                String line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+                return createModel(factory, line, pattern, removeQuotes, quote, count, formats);
+            }
+        };
+    }
+
     private Consumer<String> consumeFile(
             BindyCsvFactory factory, List<Map<String, Object>> models,
-            String separator, Boolean removeQuotes, String quote, AtomicInteger count) {
+            Pattern pattern, Boolean removeQuotes, String quote, AtomicInteger count, Map<Field, Format<?>> formats) {
         return line -> {
             try {
-                // Trim the line coming in to remove any trailing whitespace
-                String trimmedLine;
+                Map<String, Object> model = createModel(factory, line, pattern, removeQuotes, quote, count, formats);
 
-                // if separator is a tab, don't trim any leading whitespaces (could be empty values separated by tabs)
-                if (separator.equals("\t")) {
-                    // trim only trailing whitespaces (remove new lines etc but keep tab character)
-                    trimmedLine = line.replaceAll("[ \\n\\x0B\\f\\r]+$", "");
-                } else {
-                    trimmedLine = line.trim();
-                }
+                // Add objects graph to the list
+                models.add(model);
+            } catch (Exception e) {
+                throw new WrappedException(e);
+            }
+        };
+    }
 
-                // Increment counter
-                count.incrementAndGet();
-                Map<String, Object> model;
+    private Map<String, Object> createModel(
+            BindyCsvFactory factory, String line,
+            Pattern pattern, Boolean removeQuotes, String quote, AtomicInteger count, Map<Field, Format<?>> formats)
+            throws Exception {
+        // Trim the line coming in to remove any trailing whitespace
+        String trimmedLine;
+
+        // if separator is a tab, don't trim any leading whitespaces (could be empty values separated by tabs)
+        if (factory.getSeparator().equals("\t")) {
+            // trim only trailing whitespaces (remove new lines etc but keep tab character)
+            trimmedLine = line.replaceAll("[ \\n\\x0B\\f\\r]+$", "");
+        } else {
+            trimmedLine = line.trim();
+        }
 
-                // Create POJO where CSV data will be stored
-                model = factory.factory();
+        // Increment counter
+        count.incrementAndGet();
+        Map<String, Object> model;
 
-                // Split the CSV record according to the separator defined in
-                // annotated class @CSVRecord
-                Pattern pattern = Pattern.compile(separator);
-                Matcher matcher = pattern.matcher(trimmedLine);
-                List<String> separators = new ArrayList<>();
+        // Create POJO where CSV data will be stored
+        model = factory.factory();
 
-                // Retrieve separators for each match
-                while (matcher.find()) {
-                    separators.add(matcher.group());
-                }
-                // Add terminal separator
-                if (!separators.isEmpty()) {
-                    separators.add(separators.get(separators.size() - 1));
-                }
+        // Split the CSV record according to the separator defined in
+        // annotated class @CSVRecord
+        Matcher matcher = pattern.matcher(trimmedLine);
+        List<String> separators = new ArrayList<>();
 
-                String[] tokens = pattern.split(trimmedLine, factory.getAutospanLine() ? factory.getMaxpos() : -1);
+        // Retrieve separators for each match
+        while (matcher.find()) {
+            separators.add(matcher.group());
+        }
+        // Add terminal separator
+        if (!separators.isEmpty()) {
+            separators.add(separators.get(separators.size() - 1));
+        }
 
-                List<String> result = Arrays.asList(tokens);
+        String[] tokens = pattern.split(trimmedLine, factory.getAutospanLine() ? factory.getMaxpos() : -1);
 
-                // must unquote tokens before use
-                if (removeQuotes) {
-                    result = unquoteTokens(result, separators, quote);
-                }
+        List<String> result = Arrays.asList(tokens);
 
-                if (result.isEmpty()) {
-                    throw new IllegalArgumentException("No records have been defined in the CSV");
-                } else {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Size of the record splitted : {}", result.size());
-                    }
+        // must unquote tokens before use
+        if (removeQuotes) {
+            result = unquoteTokens(result, separators, quote);
+        }
 
-                    // Bind data from CSV record with model classes
+        if (result.isEmpty()) {
+            throw new IllegalArgumentException("No records have been defined in the CSV");
+        } else {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Size of the record splitted : {}", result.size());
+            }
 
-                    factory.bind(getCamelContext(), result, model, count.get());
+            // Bind data from CSV record with model classes
 
-                    // Link objects together
-                    factory.link(model);
+            factory.bind(getCamelContext(), result, model, count.get(), formats);
 
-                    // Add objects graph to the list
-                    models.add(model);
+            // Link objects together
+            factory.link(model);
 
-                    LOG.debug("Graph of objects created: {}", model);
-                }
-            } catch (Exception e) {
-                throw new WrappedException(e);
-            }
-        };
+            LOG.debug("Graph of objects created: {}", model);
+        }
+        return model;
     }
 
     /**
@@ -19,6 +19,7 @@ package org.apache.camel.dataformat.bindy.fixed;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -31,6 +32,8 @@ import org.apache.camel.Exchange;
 import org.apache.camel.dataformat.bindy.BindyAbstractDataFormat;
 import org.apache.camel.dataformat.bindy.BindyAbstractFactory;
 import org.apache.camel.dataformat.bindy.BindyFixedLengthFactory;
+import org.apache.camel.dataformat.bindy.BindyIterator;
+import org.apache.camel.dataformat.bindy.Format;
 import org.apache.camel.dataformat.bindy.FormatFactory;
 import org.apache.camel.dataformat.bindy.util.ConverterUtils;
 import org.apache.camel.spi.annotations.Dataformat;
@@ -196,6 +199,9 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
         }
 
         AtomicInteger count = new AtomicInteger();
+        // the formats of the fields are reused by the records
+        Map<Field, Format<?>> formats = new HashMap<>();
+        boolean lazy = false;
 
         try {
 
@@ -213,6 +219,16 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
 
             String thisLine = getNextNonEmptyLine(scanner, count, isEolSet);
 
+            if (isLazyLoad()) {
+                lazy = true;
+                BindyIterator it = createIterator(factory, scanner, thisLine, isEolSet, count, formats);
+                // read the first record to check the stream is not empty (the iterator closes the input if it is)
+                if (!isAllowEmptyStream() && !it.hasNext()) {
+                    throw new java.lang.IllegalArgumentException("No records have been defined in the file");
+                }
+                return it;
+            }
+
             String nextLine = null;
             if (thisLine != null) {
                 nextLine = getNextNonEmptyLine(scanner, count, isEolSet);
@@ -221,7 +237,7 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
             // Parse the main file content
             while (thisLine != null && nextLine != null) {
 
-                model = createModel(factory, thisLine, count.intValue());
+                model = createModel(factory, thisLine, count.intValue(), formats);
 
                 // Add objects graph to the list
                 models.add(model);
@@ -239,7 +255,7 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
                         exchange.getOut().setHeader(CAMEL_BINDY_FIXED_LENGTH_FOOTER, footerObjMap);
                     }
                 } else {
-                    model = createModel(factory, thisLine, count.intValue());
+                    model = createModel(factory, thisLine, count.intValue(), formats);
                     models.add(model);
                 }
             }
@@ -253,12 +269,39 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
             }
 
         } finally {
-            scanner.close();
-            IOHelper.close(in, "in", LOG);
+            // the iterator closes the input when its done
+            if (!lazy) {
+                scanner.close();
+                IOHelper.close(in, "in", LOG);
+            }
         }
 
     }
 
+    private BindyIterator createIterator(
+            BindyFixedLengthFactory factory, Scanner scanner, String firstLine, boolean isEolSet, AtomicInteger count,
+            Map<Field, Format<?>> formats) {
+        return new BindyIterator(scanner, getClassType()) {
+            private String thisLine = firstLine;
+
+            @Override
+            protected Map<String, Object> nextModel() throws Exception {
+                if (thisLine == null) {
+                    return null;
+                }
+                String nextLine = getNextNonEmptyLine(scanner, count, isEolSet);
+                if (nextLine == null && factory.hasFooter()) {
+                    // the last line is the footer which is not a record
+                    thisLine = null;
+                    return null;
+                }
+                Map<String, Object> model = createModel(factory, thisLine, count.intValue(), formats);
+                thisLine = nextLine;
+                return model;
+            }
+        };
+    }
+
     private boolean headerExists(BindyFixedLengthFactory factory, Scanner scanner, boolean isEolSet) {
         return hasMore(isEolSet, scanner) && factory.hasHeader();
     }
@@ -286,6 +329,12 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
     }
 
     protected Map<String, Object> createModel(BindyFixedLengthFactory factory, String line, int count) throws Exception {
+        return createModel(factory, line, count, null);
+    }
+
+    protected Map<String, Object> createModel(
+            BindyFixedLengthFactory factory, String line, int count, Map<Field, Format<?>> formats)
+            throws Exception {
         String myLine = line;
 
         // Check if the record length corresponds to the parameter
@@ -310,7 +359,7 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
         Map<String, Object> model = factory.factory();
 
         // Bind data from Fixed record with model classes
-        factory.bind(getCamelContext(), myLine, model, count);
+        factory.bind(getCamelContext(), myLine, model, count, formats);
 
         // Link objects together
         factory.link(model);
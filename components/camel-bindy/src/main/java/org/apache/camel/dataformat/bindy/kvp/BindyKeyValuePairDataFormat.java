@@ -20,6 +20,7 @@ import java.io.BufferedReader;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -34,7 +35,9 @@ import org.apache.camel.Exchange;
 import org.apache.camel.TypeConverter;
 import org.apache.camel.dataformat.bindy.BindyAbstractDataFormat;
 import org.apache.camel.dataformat.bindy.BindyAbstractFactory;
+import org.apache.camel.dataformat.bindy.BindyIterator;
 import org.apache.camel.dataformat.bindy.BindyKeyValuePairFactory;
+import org.apache.camel.dataformat.bindy.Format;
 import org.apache.camel.dataformat.bindy.FormatFactory;
 import org.apache.camel.dataformat.bindy.WrappedException;
 import org.apache.camel.dataformat.bindy.util.ConverterUtils;
@@ -100,19 +103,46 @@ public class BindyKeyValuePairDataFormat extends BindyAbstractDataFormat {
         // Map to hold the model @OneToMany classes while binding
         Map<String, List<Object>> lists = new HashMap<>();
 
+        // the formats of the fields are reused by the records
+        Map<Field, Format<?>> formats = new HashMap<>();
+
+        // Retrieve the pair separator defined to split the record
+        org.apache.camel.util.ObjectHelper.notNull(factory.getPairSeparator(),
+                "The pair separator property of the annotation @Message");
+        String separator = factory.getPairSeparator();
+        AtomicInteger count = new AtomicInteger();
+
         InputStreamReader in = new InputStreamReader(inputStream, ExchangeHelper.getCharsetName(exchange));
 
+        if (isLazyLoad()) {
+            BufferedReader reader = new BufferedReader(in);
+            BindyIterator it = new BindyIterator(reader, getClassType()) {
+                @Override
+                protected Map<String, Object> nextModel() throws Exception {
+                    Map<String, Object> model = null;
+                    String line = reader.readLine();
+                    while (model == null && line != null) {
+                        // the @OneToMany lists are not shared between the records which are returned one at a time
+                        model = createModel(factory, new HashMap<>(), separator, count, line, formats);
+                        if (model == null) {
+                            line = reader.readLine();
+                        }
+                    }
+                    return model;
+                }
+            };
+            // read the first record to check the stream is not empty (the iterator closes the input if it is)
+            if (!isAllowEmptyStream() && !it.hasNext()) {
+                throw new java.lang.IllegalArgumentException("No records have been defined in the CSV");
+            }
+            return it;
+        }
+
         // Use a Stream to stream a file across
         try (Stream<String> lines = new BufferedReader(in).lines()) {
-            // Retrieve the pair separator defined to split the record
-            org.apache.camel.util.ObjectHelper.notNull(factory.getPairSeparator(),
-                    "The pair separator property of the annotation @Message");
-            String separator = factory.getPairSeparator();
-            AtomicInteger count = new AtomicInteger();
-
             try {
                 lines.forEachOrdered(line -> {
-                    consumeFile(factory, models, lists, separator, count, line);
+                    consumeFile(factory, models, lists, separator, count, line, formats);
                 });
             } catch (WrappedException e) {
                 throw e.getWrappedException();
@@ -133,51 +163,65 @@ public class BindyKeyValuePairDataFormat extends BindyAbstractDataFormat {
 
     private void consumeFile(
             BindyKeyValuePairFactory factory, List<Map<String, Object>> models, Map<String, List<Object>> lists,
-            String separator, AtomicInteger count, String line) {
+            String separator, AtomicInteger count, String line, Map<Field, Format<?>> formats) {
         try {
-            // Trim the line coming in to remove any trailing whitespace
-            String trimmedLine = line.trim();
-
-            if (!org.apache.camel.util.ObjectHelper.isEmpty(trimmedLine)) {
-                // Increment counter
-                count.incrementAndGet();
-                // Pojos of the model
-                Map<String, Object> model;
-
-                // Create POJO
-                model = factory.factory();
-
-                // Split the message according to the pair separator defined in
-                // annotated class @Message
-                // Explicitly replace any occurrence of the Unicode new line character.
-                // Simply reading the line in with the File stream doesn't get us around the fact
-                // that this character is still present in the data set, and we don't wish for it
-                // to be present when storing the actual data in the model.
-                List<String> result = Arrays.stream(line.split(separator))
-                        .map(x -> x.replace("\u0085", ""))
-                        .collect(Collectors.toList());
-
-                if (result.isEmpty()) {
-                    throw new IllegalArgumentException("No records have been defined in the KVP");
-                }
-
-                // Bind data from message with model classes
-                // Counter is used to detect line where error occurs
-                factory.bind(getCamelContext(), result, model, count.get(), lists);
-
-                // Link objects together
-                factory.link(model);
-
+            Map<String, Object> model = createModel(factory, lists, separator, count, line, formats);
+            if (model != null) {
                 // Add objects graph to the list
                 models.add(model);
-
-                LOG.debug("Graph of objects created: {}", model);
             }
         } catch (Exception e) {
             throw new WrappedException(e);
         }
     }
 
+    /**
+     * Creates the model of the message in the line, or returns <tt>null</tt> if the line is empty
+     */
+    private Map<String, Object> createModel(
+            BindyKeyValuePairFactory factory, Map<String, List<Object>> lists,
+            String separator, AtomicInteger count, String line, Map<Field, Format<?>> formats)
+            throws Exception {
+        // Trim the line coming in to remove any trailing whitespace
+        String trimmedLine = line.trim();
+
+        if (org.apache.camel.util.ObjectHelper.isEmpty(trimmedLine)) {
+            return null;
+        }
+
+        // Increment counter
+        count.incrementAndGet();
+        // Pojos of the model
+        Map<String, Object> model;
+
+        // Create POJO
+        model = factory.factory();
+
+        // Split the message according to the pair separator defined in
+        // annotated class @Message
+        // Explicitly replace any occurrence of the Unicode new line character.
+        // Simply reading the line in with the File stream doesn't get us around the fact
+        // that this character is still present in the data set, and we don't wish for it
+        // to be present when storing the actual data in the model.
+        List<String> result = Arrays.stream(line.split(separator))
+                .map(x -> x.replace("\u0085", ""))
+                .collect(Collectors.toList());
+
+        if (result.isEmpty()) {
+            throw new IllegalArgumentException("No records have been defined in the KVP");
+        }
+
+        // Bind data from message with model classes
+        // Counter is used to detect line where error occurs
+        factory.bind(getCamelContext(), result, model, count.get(), lists, formats);
+
+        // Link objects together
+        factory.link(model);
+
+        LOG.debug("Graph of objects created: {}", model);
+        return model;
+    }
+
     @Override
     protected BindyAbstractFactory createModelFactory(FormatFactory formatFactory) throws Exception {
         BindyKeyValuePairFactory bindyKeyValuePairFactory = new BindyKeyValuePairFactory(getClassType());
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy.csv;
+
+import java.util.Iterator;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.dataformat.bindy.model.simple.oneclass.Order;
+import org.apache.camel.model.dataformat.BindyDataFormat;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BindyCsvLazyLoadTest extends CamelTestSupport {
+
+    @Test
+    public void testUnmarshalIterator() throws Exception {
+        String data = "1,B2,Keira,Knightley,ISIN,XX23456789,BUY,Share,400.25,EUR,14-01-2009,16-02-2010 23:21:59\r\n"
+                      + "2,B3,Jack,Sparrow,ISIN,XX23456789,SELL,Share,100.50,USD,14-01-2009,16-02-2010 23:21:59\r\n";
+
+        Iterator<?> it = template.requestBody("direct:iterator", data, Iterator.class);
+        assertTrue(it.hasNext());
+        assertEquals(1, ((Order) it.next()).getOrderNr());
+        Order order = (Order) it.next();
+        assertEquals(2, order.getOrderNr());
+        assertEquals("Sparrow", order.getLastName());
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void testUnmarshalEmptyStream() throws Exception {
+        CamelExecutionException e
+                = assertThrows(CamelExecutionException.class, () -> template.requestBody("direct:iterator", ""));
+        assertTrue(e.getCause() instanceof IllegalArgumentException);
+    }
+
+    @Test
+    public void testSplitStreaming() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10000);
+        mock.allMessages().body().isInstanceOf(Order.class);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                BindyDataFormat bindy = new BindyDataFormat()
+                        .classType(Order.class)
+                        .locale("en")
+                        .lazyLoad(true)
+                        .csv();
+
+                from("direct:iterator")
+                        .unmarshal(bindy);
+
+                from("file://src/test/data/big?noop=true")
+                        .unmarshal(bindy)
+                        .split(body()).streaming()
+                        .to("mock:result");
+            }
+        };
+    }
+}
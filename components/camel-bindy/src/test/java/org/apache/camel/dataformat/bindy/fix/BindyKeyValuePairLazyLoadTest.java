@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy.fix;
+
+import java.util.Iterator;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.dataformat.bindy.model.fix.complex.onetomany.Order;
+import org.apache.camel.model.dataformat.BindyDataFormat;
+import org.apache.camel.model.dataformat.BindyType;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BindyKeyValuePairLazyLoadTest extends CamelTestSupport {
+
+    private static final String HEADER = "8=FIX 4.1\u00019=20\u000134=1\u000135=0\u000149=INVMGR\u000156=BRKR\u0001";
+    private static final String TRAILER = "10=220\u0001";
+
+    @Test
+    public void testUnmarshalIterator() throws Exception {
+        String message = HEADER + "1=BE.CHM.001\u000111=CHM0001-01\u000158=this is a camel - bindy test\u0001"
+                         + "22=4\u000148=BE0001245678\u000154=1\u0001" + "22=5\u000148=BE0009876543\u000154=2\u0001"
+                         + TRAILER + "\r\n";
+        String message2 = HEADER + "1=BE.CHM.002\u000111=CHM0001-02\u000158=this is a camel - bindy test\u0001"
+                          + "22=6\u000148=BE0009999999\u000154=3\u0001" + TRAILER + "\r\n";
+
+        Iterator<?> it = template.requestBody("direct:iterator", message + "\r\n" + message2, Iterator.class);
+
+        assertTrue(it.hasNext());
+        Order order = (Order) it.next();
+        assertEquals("BE.CHM.001", order.getAccount());
+        assertEquals(2, order.getSecurities().size());
+        assertEquals("BE0009876543", order.getSecurities().get(1).getSecurityCode());
+
+        // the securities of the first order are not added to the second order
+        order = (Order) it.next();
+        assertEquals("BE.CHM.002", order.getAccount());
+        assertEquals(1, order.getSecurities().size());
+        assertEquals("BE0009999999", order.getSecurities().get(0).getSecurityCode());
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void testUnmarshalEmptyStream() throws Exception {
+        CamelExecutionException e = assertThrows(CamelExecutionException.class,
+                () -> template.requestBody("direct:iterator", "\r\n"));
+        assertTrue(e.getCause() instanceof IllegalArgumentException);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:iterator")
+                        .unmarshal(new BindyDataFormat().classType(Order.class).lazyLoad(true).type(BindyType.KeyValue));
+            }
+        };
+    }
+}
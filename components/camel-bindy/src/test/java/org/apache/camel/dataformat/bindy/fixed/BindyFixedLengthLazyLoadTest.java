@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy.fixed;
+
+import java.util.Iterator;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.dataformat.bindy.fixed.headerfooter.Order;
+import org.apache.camel.model.dataformat.BindyDataFormat;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BindyFixedLengthLazyLoadTest extends CamelTestSupport {
+
+    private static final String TEST_HEADER = "101-08-2009\r\n";
+    private static final String TEST_RECORD = "10A9  PaulineM    ISINXD12345678BUYShare000002500.45USD01-08-2009\r\n";
+    private static final String TEST_RECORD2 = "11B2  Jack   S    ISINXD12345678SELShare000000100.50USD01-08-2009\r\n";
+    private static final String TEST_FOOTER = "9000000002\r\n";
+
+    @Test
+    public void testUnmarshalIterator() throws Exception {
+        Iterator<?> it = template.requestBody("direct:iterator", TEST_HEADER + TEST_RECORD + TEST_RECORD2 + TEST_FOOTER,
+                Iterator.class);
+
+        // the header and footer are skipped
+        assertTrue(it.hasNext());
+        Order order = (Order) it.next();
+        assertEquals(10, order.getOrderNr());
+        assertEquals("  Pauline", order.getFirstName());
+        order = (Order) it.next();
+        assertEquals(11, order.getOrderNr());
+        assertEquals("  Jack   ", order.getFirstName());
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void testUnmarshalEmptyStream() throws Exception {
+        CamelExecutionException e = assertThrows(CamelExecutionException.class,
+                () -> template.requestBody("direct:iterator", TEST_HEADER + TEST_FOOTER));
+        assertTrue(e.getCause() instanceof IllegalArgumentException);
+
+        Iterator<?> it = template.requestBody("direct:allowEmpty", TEST_HEADER + TEST_FOOTER, Iterator.class);
+        assertFalse(it.hasNext());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:iterator")
+                        .unmarshal(new BindyDataFormat().classType(Order.class).locale("en").lazyLoad(true).fixed());
+
+                from("direct:allowEmpty")
+                        .unmarshal(new BindyDataFormat().classType(Order.class).locale("en").lazyLoad(true)
+                                .allowEmptyStream(true).fixed());
+            }
+        };
+    }
+}
@@ -66,6 +66,7 @@ public class CsvDataFormat extends ServiceSupport implements DataFormat, DataFor
     private boolean lazyLoad;
     private boolean useMaps;
     private boolean useOrderedMaps;
+    private boolean useFlyweightRows;
     private CsvRecordConverter<?> recordConverter;
 
     private CsvMarshallerFactory marshallerFactory = CsvMarshallerFactory.DEFAULT;
@@ -723,6 +724,29 @@ public class CsvDataFormat extends ServiceSupport implements DataFormat, DataFor
         return this;
     }
 
+    /**
+     * Indicates whether or not the unmarshalling should produce an iterator of reusable {@link CsvRow} instead of lists
+     * or maps.
+     *
+     * @return {@code true} for reusable rows, {@code false} otherwise
+     */
+    public boolean isUseFlyweightRows() {
+        return useFlyweightRows;
+    }
+
+    /**
+     * Sets whether or not the unmarshalling should produce an iterator of reusable {@link CsvRow} instead of lists or
+     * maps. The values are read into a buffer which is reused for all the records, so that no String is created for
+     * the values, and the same row instance is updated with the next records.
+     *
+     * @param  useFlyweightRows {@code true} for reusable rows, {@code false} otherwise
+     * @return                  Current {@code CsvDataFormat}, fluent API
+     */
+    public CsvDataFormat setUseFlyweightRows(boolean useFlyweightRows) {
+        this.useFlyweightRows = useFlyweightRows;
+        return this;
+    }
+
     /**
      * Gets the record converter to use. If {@code null} then it will use {@link CsvDataFormat#isUseMaps()} for finding
      * the proper converter.
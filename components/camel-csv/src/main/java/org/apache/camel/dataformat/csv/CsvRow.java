@@ -0,0 +1,414 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.csv;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A reusable (flyweight) view of a CSV record.
+ * <p/>
+ * The values of the cells are kept in a buffer which is shared by all the cells, and are exposed as
+ * {@link CharSequence} views over this buffer, or parsed as numbers directly from the buffer. Therefore reading a
+ * record does not create any object, and the same instance is updated with the content of the next records. The
+ * content of a row must be copied (for example with {@link #toList()}) if it must be kept after the next record is
+ * read.
+ */
+public final class CsvRow {
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+    // the largest integer which can be represented exactly by a double
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+    private final List<String> headerNames;
+    private final Map<String, Integer> headerIndexes;
+    private final boolean ignoreHeaderCase;
+
+    private char[] buffer = new char[256];
+    private int length;
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+    private boolean[] nulls = new boolean[16];
+    private Cell[] cells = new Cell[16];
+    private int size;
+    private long recordNumber;
+
+    CsvRow(List<String> headerNames, Map<String, Integer> headerIndexes, boolean ignoreHeaderCase) {
+        this.headerNames = headerNames;
+        this.headerIndexes = headerIndexes;
+        this.ignoreHeaderCase = ignoreHeaderCase;
+    }
+
+    /**
+     * Gets the number of cells of the record.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of the record, starting from 1 (the header record is counted).
+     */
+    public long getRecordNumber() {
+        return recordNumber;
+    }
+
+    /**
+     * Gets the names of the header, or an empty list if there is no header.
+     */
+    public List<String> getHeaderNames() {
+        return headerNames;
+    }
+
+    /**
+     * Gets the index of the cell with the given header name.
+     *
+     * @return the index, or {@code -1} if there is no such header
+     */
+    public int getIndex(String name) {
+        if (headerIndexes == null) {
+            return -1;
+        }
+        Integer answer = headerIndexes.get(ignoreHeaderCase ? name.toLowerCase(Locale.ROOT) : name);
+        return answer != null ? answer : -1;
+    }
+
+    /**
+     * Gets the value of the cell at the given index, as a view over the buffer of the row. The view is only valid until
+     * the next record is read.
+     *
+     * @return the value, or {@code null} if the value matches the null string of the format
+     */
+    public CharSequence get(int index) {
+        checkIndex(index);
+        return nulls[index] ? null : cells[index];
+    }
+
+    /**
+     * Gets the value of the cell with the given header name.
+     *
+     * @see #get(int)
+     */
+    public CharSequence get(String name) {
+        return get(mandatoryIndex(name));
+    }
+
+    /**
+     * Whether the value of the cell at the given index is null or has no characters.
+     */
+    public boolean isEmpty(int index) {
+        checkIndex(index);
+        return nulls[index] || starts[index] == ends[index];
+    }
+
+    /**
+     * Gets the value of the cell at the given index as a new String.
+     */
+    public String getString(int index) {
+        checkIndex(index);
+        return nulls[index] ? null : new String(buffer, starts[index], ends[index] - starts[index]);
+    }
+
+    /**
+     * Gets the value of the cell with the given header name as a new String.
+     */
+    public String getString(String name) {
+        return getString(mandatoryIndex(name));
+    }
+
+    /**
+     * Parses the value of the cell at the given index as an int.
+     *
+     * @throws NumberFormatException if the value is not a valid int
+     */
+    public int getInt(int index) {
+        String value = mandatoryValue(index).toString();
+        return Integer.parseInt(value);
+    }
+
+    /**
+     * Parses the value of the cell with the given header name as an int.
+     *
+     * @see #getInt(int)
+     */
+    public int getInt(String name) {
+        return getInt(mandatoryIndex(name));
+    }
+
+    /**
+     * Parses the value of the cell at the given index as a long.
+     *
+     * @throws NumberFormatException if the value is not a valid long
+     */
+    public long getLong(int index) {
+        String value = mandatoryValue(index).toString();
+        return Long.parseLong(value);
+    }
+
+    /**
+     * Parses the value of the cell with the given header name as a long.
+     *
+     * @see #getLong(int)
+     */
+    public long getLong(String name) {
+        return getLong(mandatoryIndex(name));
+    }
+
+    /**
+     * Parses the value of the cell at the given index as a double. Plain decimal values (such as {@code -123.45} or
+     * {@code 1.5e3}) with up to 15 significant digits are parsed without creating a String, and the other values are
+     * parsed with {@link Double#parseDouble(String)}.
+     *
+     * @throws NumberFormatException if the value is not a valid double
+     */
+    public double getDouble(int index) {
+        mandatoryValue(index);
+        int start = starts[index];
+        int end = ends[index];
+
+        int pos = start;
+        boolean negative = false;
+        if (pos < end && (buffer[pos] == '-' || buffer[pos] == '+')) {
+            negative = buffer[pos] == '-';
+            pos++;
+        }
+        long mantissa = 0;
+        int exponent = 0;
+        int digits = 0;
+        boolean dot = false;
+        boolean exact = true;
+        for (; pos < end; pos++) {
+            char ch = buffer[pos];
+            if (ch >= '0' && ch <= '9') {
+                digits++;
+                if (mantissa > (Long.MAX_VALUE - 9) / 10) {
+                    exact = false;
+                    break;
+                }
+                mantissa = mantissa * 10 + (ch - '0');
+                if (dot) {
+                    exponent--;
+                }
+            } else if (ch == '.' && !dot) {
+                dot = true;
+            } else {
+                break;
+            }
+        }
+        if (exact && digits > 0 && pos < end && (buffer[pos] == 'e' || buffer[pos] == 'E')) {
+            pos++;
+            boolean negativeExponent = false;
+            if (pos < end && (buffer[pos] == '-' || buffer[pos] == '+')) {
+                negativeExponent = buffer[pos] == '-';
+                pos++;
+            }
+            int value = 0;
+            int exponentDigits = 0;
+            for (; pos < end && value < 1000; pos++) {
+                char ch = buffer[pos];
+                if (ch < '0' || ch > '9') {
+                    break;
+                }
+                exponentDigits++;
+                value = value * 10 + (ch - '0');
+            }
+            exact = exponentDigits > 0;
+            exponent += negativeExponent ? -value : value;
+        }
+
+        // the value is exact when both the mantissa and the power of ten are exactly represented as doubles
+        if (exact && digits > 0 && pos == end && mantissa <= MAX_EXACT_DOUBLE
+                && exponent >= -22 && exponent <= 22) {
+            double answer = exponent >= 0 ? mantissa * POWERS_OF_TEN[exponent] : mantissa / POWERS_OF_TEN[-exponent];
+            return negative ? -answer : answer;
+        }
+        return Double.parseDouble(getString(index));
+    }
+
+    /**
+     * Parses the value of the cell with the given header name as a double.
+     *
+     * @see #getDouble(int)
+     */
+    public double getDouble(String name) {
+        return getDouble(mandatoryIndex(name));
+    }
+
+    /**
+     * Copies the values of the record into a new list.
+     */
+    public List<String> toList() {
+        List<String> answer = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            answer.add(getString(i));
+        }
+        return answer;
+    }
+
+    @Override
+    public String toString() {
+        return "CsvRow[recordNumber=" + recordNumber + ", values=" + toList() + "]";
+    }
+
+    // Methods used by the parser to fill the row
+    // -------------------------------------------------------------------------
+
+    void clear(long recordNumber) {
+        this.recordNumber = recordNumber;
+        this.length = 0;
+        this.size = 0;
+    }
+
+    void startCell() {
+        if (size == starts.length) {
+            int capacity = size * 2;
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            nulls = Arrays.copyOf(nulls, capacity);
+            cells = Arrays.copyOf(cells, capacity);
+        }
+        if (cells[size] == null) {
+            cells[size] = new Cell(size);
+        }
+        starts[size] = length;
+    }
+
+    void append(char ch) {
+        if (length == buffer.length) {
+            buffer = Arrays.copyOf(buffer, length * 2);
+        }
+        buffer[length++] = ch;
+    }
+
+    /**
+     * Ends the current cell, trimming it the same way as the Apache Commons CSV parser does.
+     *
+     * @param trimTrailingSpaces whether to remove the trailing whitespace characters (as
+     *                           {@link Character#isWhitespace(char)}), which is done by the lexer for the
+     *                           ignoreSurroundingSpaces setting
+     * @param trim               whether to remove the leading and trailing control and space characters (as
+     *                           {@link String#trim()}), which is done for the trim setting
+     * @param nullString         the value which is converted to <tt>null</tt>, if any
+     */
+    void endCell(boolean trimTrailingSpaces, boolean trim, String nullString) {
+        int start = starts[size];
+        int end = length;
+        if (trimTrailingSpaces) {
+            while (end > start && Character.isWhitespace(buffer[end - 1])) {
+                end--;
+            }
+        }
+        if (trim) {
+            while (start < end && buffer[start] <= ' ') {
+                start++;
+            }
+            while (end > start && buffer[end - 1] <= ' ') {
+                end--;
+            }
+        }
+        starts[size] = start;
+        ends[size] = end;
+        nulls[size] = nullString != null && regionEquals(start, end, nullString);
+        size++;
+    }
+
+    void removeLastCell() {
+        size--;
+    }
+
+    boolean isLastCellEmpty() {
+        return size > 0 && starts[size - 1] == ends[size - 1];
+    }
+
+    private boolean regionEquals(int start, int end, String value) {
+        if (end - start != value.length()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (buffer[start + i] != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Index " + index + " out of bounds for record " + recordNumber + " with " + size + " values");
+        }
+    }
+
+    private int mandatoryIndex(String name) {
+        int index = getIndex(name);
+        if (index < 0) {
+            throw new IllegalArgumentException("Header " + name + " does not exist in " + headerNames);
+        }
+        return index;
+    }
+
+    private CharSequence mandatoryValue(int index) {
+        CharSequence answer = get(index);
+        if (answer == null) {
+            throw new NumberFormatException("Cannot parse null value at index " + index + " of record " + recordNumber);
+        }
+        return answer;
+    }
+
+    /**
+     * A view of the value of a cell, which is updated when the row is reused.
+     */
+    private final class Cell implements CharSequence {
+        private final int index;
+
+        private Cell(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public int length() {
+            return ends[index] - starts[index];
+        }
+
+        @Override
+        public char charAt(int pos) {
+            if (pos < 0 || pos >= length()) {
+                throw new IndexOutOfBoundsException("Index " + pos + " out of bounds for length " + length());
+            }
+            return buffer[starts[index] + pos];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            if (start < 0 || end > length() || start > end) {
+                throw new IndexOutOfBoundsException(
+                        "Range [" + start + ", " + end + ") out of bounds for length " + length());
+            }
+            return new String(buffer, starts[index] + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(buffer, starts[index], length());
+        }
+    }
+}
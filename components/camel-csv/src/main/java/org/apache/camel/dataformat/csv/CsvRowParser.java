@@ -0,0 +1,318 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.csv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.commons.csv.CSVFormat;
+
+/**
+ * A CSV parser which reads the records into reusable {@link CsvRow} instances, instead of creating a String for each
+ * value like the Apache Commons CSV parser does.
+ * <p/>
+ * It supports the delimiter, quote, escape, comment marker, null string, header, skip header record, ignore empty
+ * lines, ignore surrounding spaces, trim and trailing delimiter settings of the {@link CSVFormat}.
+ */
+final class CsvRowParser implements Closeable {
+
+    private static final int EOF = -1;
+    private static final int DISABLED = -2;
+    private static final char CR = '\r';
+    private static final char LF = '\n';
+
+    private final Reader reader;
+    private final char[] chars = new char[8192];
+    private int position;
+    private int limit;
+    private long recordNumber;
+
+    private final int delimiter;
+    private final int quote;
+    private final int escape;
+    private final int commentMarker;
+    private final String nullString;
+    private final boolean ignoreEmptyLines;
+    private final boolean ignoreSurroundingSpaces;
+    private final boolean trim;
+    private final boolean trailingDelimiter;
+    private final boolean ignoreHeaderCase;
+    private List<String> headerNames = Collections.emptyList();
+    private Map<String, Integer> headerIndexes;
+
+    CsvRowParser(Reader reader, CSVFormat format) throws IOException {
+        this.reader = reader;
+        this.delimiter = format.getDelimiter();
+        this.quote = format.getQuoteCharacter() != null ? format.getQuoteCharacter() : DISABLED;
+        this.escape = format.getEscapeCharacter() != null ? format.getEscapeCharacter() : DISABLED;
+        this.commentMarker = format.getCommentMarker() != null ? format.getCommentMarker() : DISABLED;
+        this.nullString = format.getNullString();
+        this.ignoreEmptyLines = format.getIgnoreEmptyLines();
+        this.ignoreSurroundingSpaces = format.getIgnoreSurroundingSpaces();
+        this.trim = format.getTrim();
+        this.trailingDelimiter = format.getTrailingDelimiter();
+        this.ignoreHeaderCase = format.getIgnoreHeaderCase();
+
+        String[] header = format.getHeader();
+        if (header != null) {
+            if (header.length == 0) {
+                // the header is the first record
+                CsvRow row = newRow();
+                if (next(row)) {
+                    setHeaderNames(row.toList());
+                }
+            } else {
+                setHeaderNames(Arrays.asList(header));
+                if (format.getSkipHeaderRecord()) {
+                    next(newRow());
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the names of the header, or an empty list if there is no header.
+     */
+    List<String> getHeaderNames() {
+        return headerNames;
+    }
+
+    /**
+     * Creates a new row which can be filled by this parser.
+     */
+    CsvRow newRow() {
+        return new CsvRow(headerNames, headerIndexes, ignoreHeaderCase);
+    }
+
+    /**
+     * Reads the next record into the given row.
+     *
+     * @return {@code true} if a record was read, {@code false} if the end of the input is reached
+     */
+    boolean next(CsvRow row) throws IOException {
+        while (true) {
+            int ch = read();
+            if (ch == EOF) {
+                return false;
+            }
+            if (ch == commentMarker) {
+                skipLine();
+                continue;
+            }
+            if (ignoreEmptyLines && isLineBreak(ch)) {
+                skipLineFeed(ch);
+                continue;
+            }
+            row.clear(++recordNumber);
+            parseRecord(ch, row);
+            return true;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void parseRecord(int first, CsvRow row) throws IOException {
+        int ch = first;
+        while (true) {
+            if (ignoreSurroundingSpaces) {
+                while (isWhitespace(ch)) {
+                    ch = read();
+                }
+            }
+            row.startCell();
+            boolean quoted = ch == quote;
+            if (quoted) {
+                ch = parseQuoted(row);
+            } else {
+                ch = parseSimple(ch, row);
+            }
+            // the trim and null string settings apply to quoted values too, as with the Apache Commons CSV parser
+            row.endCell(ignoreSurroundingSpaces && !quoted, trim, nullString);
+
+            if (ch == delimiter) {
+                ch = read();
+                continue;
+            }
+            // end of the record
+            if (trailingDelimiter && row.size() > 1 && row.isLastCellEmpty()) {
+                row.removeLastCell();
+            }
+            skipLineFeed(ch);
+            return;
+        }
+    }
+
+    /**
+     * Parses a value which is not quoted, and returns the character which ends the value.
+     */
+    private int parseSimple(int first, CsvRow row) throws IOException {
+        int ch = first;
+        while (ch != delimiter && ch != EOF && !isLineBreak(ch)) {
+            if (ch == escape) {
+                appendEscaped(row);
+            } else {
+                row.append((char) ch);
+            }
+            ch = read();
+        }
+        return ch;
+    }
+
+    /**
+     * Parses a quoted value, and returns the character which ends the value.
+     */
+    private int parseQuoted(CsvRow row) throws IOException {
+        while (true) {
+            int ch = read();
+            if (ch == EOF) {
+                throw new IOException("EOF reached before encapsulated token finished in record " + recordNumber);
+            } else if (ch == escape && escape != quote) {
+                appendEscaped(row);
+            } else if (ch == quote) {
+                ch = read();
+                if (ch == quote) {
+                    // a doubled quote is a quote in the value
+                    row.append((char) ch);
+                    continue;
+                }
+                while (isWhitespace(ch)) {
+                    ch = read();
+                }
+                if (ch != delimiter && ch != EOF && !isLineBreak(ch)) {
+                    throw new IOException(
+                            "Invalid char between encapsulated token and delimiter in record " + recordNumber);
+                }
+                return ch;
+            } else {
+                row.append((char) ch);
+            }
+        }
+    }
+
+    /**
+     * Appends the character following an escape character, the same way as the Apache Commons CSV parser.
+     */
+    private void appendEscaped(CsvRow row) throws IOException {
+        int ch = read();
+        switch (ch) {
+            case 'r':
+                row.append(CR);
+                break;
+            case 'n':
+                row.append(LF);
+                break;
+            case 't':
+                row.append('\t');
+                break;
+            case 'b':
+                row.append('\b');
+                break;
+            case 'f':
+                row.append('\f');
+                break;
+            case CR:
+            case LF:
+            case '\t':
+            case '\b':
+            case '\f':
+                row.append((char) ch);
+                break;
+            case EOF:
+                throw new IOException("EOF whilst processing escape sequence in record " + recordNumber);
+            default:
+                if (ch == delimiter || ch == quote || ch == escape || ch == commentMarker) {
+                    row.append((char) ch);
+                } else {
+                    // not an escape sequence so both characters are kept
+                    row.append((char) escape);
+                    row.append((char) ch);
+                }
+        }
+    }
+
+    private void skipLine() throws IOException {
+        int ch = read();
+        while (ch != EOF && !isLineBreak(ch)) {
+            ch = read();
+        }
+        skipLineFeed(ch);
+    }
+
+    /**
+     * Skips the line feed of a CRLF line break.
+     */
+    private void skipLineFeed(int ch) throws IOException {
+        if (ch == CR) {
+            if (position == limit) {
+                fill();
+            }
+            if (position < limit && chars[position] == LF) {
+                position++;
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return EOF;
+        }
+        return chars[position++];
+    }
+
+    private boolean fill() throws IOException {
+        int read = reader.read(chars, 0, chars.length);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+
+    private void setHeaderNames(List<String> names) {
+        headerNames = Collections.unmodifiableList(names);
+        headerIndexes = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i);
+            if (name != null) {
+                headerIndexes.put(ignoreHeaderCase ? name.toLowerCase(Locale.ROOT) : name, i);
+            }
+        }
+    }
+
+    private static boolean isLineBreak(int ch) {
+        return ch == CR || ch == LF;
+    }
+
+    /**
+     * Whether the character is a whitespace which is ignored around the values, the same way as the lexer of the Apache
+     * Commons CSV parser.
+     */
+    private boolean isWhitespace(int ch) {
+        return ch != delimiter && ch != EOF && !isLineBreak(ch) && Character.isWhitespace((char) ch);
+    }
+}
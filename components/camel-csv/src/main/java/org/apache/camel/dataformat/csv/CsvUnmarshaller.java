@@ -24,9 +24,11 @@ import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedExchange;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.util.IOHelper;
 import org.apache.commons.csv.CSVFormat;
@@ -61,6 +63,9 @@ abstract class CsvUnmarshaller {
             format = format.withHeader();
         }
 
+        if (dataFormat.isUseFlyweightRows()) {
+            return new FlyweightCsvUnmarshaller(format, dataFormat);
+        }
         if (dataFormat.isLazyLoad()) {
             return new StreamCsvUnmarshaller(format, dataFormat);
         }
@@ -149,6 +154,89 @@ abstract class CsvUnmarshaller {
         }
     }
 
+    /**
+     * This class streams the content of the CSV into reusable rows, so the values are not converted into Strings.
+     */
+    private static final class FlyweightCsvUnmarshaller extends CsvUnmarshaller {
+
+        private FlyweightCsvUnmarshaller(CSVFormat format, CsvDataFormat dataFormat) {
+            super(format, dataFormat);
+        }
+
+        @Override
+        public Object unmarshal(Exchange exchange, InputStream inputStream) throws IOException {
+            Reader reader = null;
+            try {
+                reader = new InputStreamReader(inputStream, ExchangeHelper.getCharsetName(exchange));
+                CsvRowParser parser = new CsvRowParser(reader, format);
+                if (dataFormat.isCaptureHeaderRecord()) {
+                    exchange.getMessage().setHeader(CsvConstants.HEADER_RECORD, parser.getHeaderNames());
+                }
+                CsvRowIterator answer = new CsvRowIterator(parser);
+                // add to UoW so we can close the iterator so it can release any resources
+                exchange.adapt(ExtendedExchange.class).addOnCompletion(new CsvUnmarshalOnCompletion(answer));
+                return answer;
+            } catch (Exception e) {
+                IOHelper.close(reader);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * This class iterates over the records using two rows: the row returned by {@link #next()} is not changed when
+     * reading ahead with {@link #hasNext()}, so it is valid until {@link #next()} is called again.
+     */
+    private static final class CsvRowIterator implements Iterator<CsvRow>, Closeable {
+        private final CsvRowParser parser;
+        private CsvRow current;
+        private CsvRow spare;
+        private boolean ahead;
+        private boolean closed;
+
+        private CsvRowIterator(CsvRowParser parser) {
+            this.parser = parser;
+            this.current = parser.newRow();
+            this.spare = parser.newRow();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!ahead && !closed) {
+                try {
+                    ahead = parser.next(spare);
+                } catch (IOException e) {
+                    IOHelper.close(this);
+                    throw new RuntimeCamelException(e);
+                }
+                if (!ahead) {
+                    IOHelper.close(this);
+                }
+            }
+            return ahead;
+        }
+
+        @Override
+        public CsvRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            CsvRow answer = spare;
+            spare = current;
+            current = answer;
+            ahead = false;
+            return answer;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                parser.close();
+            }
+        }
+    }
+
     /**
      * This class converts the CSV iterator into the proper result type.
      *
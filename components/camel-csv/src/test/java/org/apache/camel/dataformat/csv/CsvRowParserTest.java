@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.csv;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that {@link CsvRowParser} reads the same records as the Apache Commons CSV parser.
+ */
+public class CsvRowParserTest {
+
+    private static final CSVFormat[] FORMATS = {
+            CSVFormat.DEFAULT,
+            CSVFormat.DEFAULT.withIgnoreEmptyLines(false),
+            CSVFormat.DEFAULT.withTrim(),
+            CSVFormat.DEFAULT.withIgnoreSurroundingSpaces(),
+            CSVFormat.DEFAULT.withIgnoreSurroundingSpaces().withTrim(),
+            CSVFormat.DEFAULT.withTrailingDelimiter(),
+            CSVFormat.DEFAULT.withTrailingDelimiter().withTrim(),
+            CSVFormat.DEFAULT.withCommentMarker('#'),
+            CSVFormat.DEFAULT.withCommentMarker('#').withIgnoreEmptyLines(false),
+            CSVFormat.DEFAULT.withEscape('\\'),
+            CSVFormat.DEFAULT.withEscape('\\').withQuote(null),
+            CSVFormat.DEFAULT.withNullString("NULL"),
+            CSVFormat.DEFAULT.withNullString("NULL").withTrim(),
+            CSVFormat.DEFAULT.withNullString("").withIgnoreEmptyLines(false),
+            CSVFormat.DEFAULT.withDelimiter(';'),
+            CSVFormat.DEFAULT.withDelimiter('\t').withIgnoreSurroundingSpaces(),
+            CSVFormat.EXCEL,
+            CSVFormat.RFC4180,
+            CSVFormat.TDF,
+            CSVFormat.MYSQL,
+            CSVFormat.INFORMIX_UNLOAD };
+
+    private static final String[] INPUTS = {
+            "",
+            "\n",
+            "a",
+            "a,b,c\n1,2,3\n",
+            "a,b,c\r\n1,2,3",
+            "a\rb\rc",
+            "\n\na,b\n\n\nc,d\n\n",
+            "a\n  \nb\n\t",
+            "a,,b,\n,\n",
+            "a,b,\nc,d,\n",
+            "a,\"\"\n,\"\",\n",
+            "\"a\",\"b,c\",\"d\"\"e\"\n\"multi\nline\",x\n",
+            "  a  ,  \"b\"  , c \n",
+            " \"a\" ,b\n",
+            "\" a \",b\n",
+            "\t a\t,\tb \n",
+            " a , b ,\u0001c\u0001\n",
+            "#comment\na,b\n#other,comment\nc,d\n",
+            "a,#b\n  #c,d\n#last",
+            "#comment\n\na\n",
+            "a\\,b,c\\\\d,e\\nf,\\x\n",
+            "\"a\\\"b\",c\n",
+            "NULL,\"NULL\",null, NULL ,\\N\n",
+            "a;b;c\nd;e\n",
+            "a\tb\t\tc\n",
+            "a|b|c\n",
+            "\"unterminated\n",
+            "\"a\"b,c\n",
+            "a,b\\" };
+
+    @Test
+    void testSameRecordsAsCommonsCsv() throws Exception {
+        for (CSVFormat format : FORMATS) {
+            for (String input : INPUTS) {
+                if (format.getTrailingDelimiter() && hasBlankLine(input)) {
+                    // the Apache Commons CSV parser stops at a line of whitespaces when the trailing delimiter is
+                    // enabled, as a record without any value is the end of the input
+                    continue;
+                }
+                assertEquals(parseWithCommonsCsv(format, input), parseWithRowParser(format, input),
+                        "Format: " + format + " with input: " + input);
+            }
+        }
+    }
+
+    private static List<List<String>> parseWithCommonsCsv(CSVFormat format, String input) {
+        List<List<String>> answer = new ArrayList<>();
+        try (CSVParser parser = format.parse(new StringReader(input))) {
+            for (CSVRecord record : parser.getRecords()) {
+                List<String> values = new ArrayList<>();
+                for (String value : record) {
+                    values.add(value);
+                }
+                answer.add(values);
+            }
+        } catch (IOException e) {
+            return null;
+        }
+        return answer;
+    }
+
+    private static List<List<String>> parseWithRowParser(CSVFormat format, String input) {
+        List<List<String>> answer = new ArrayList<>();
+        try (CsvRowParser parser = new CsvRowParser(new StringReader(input), format)) {
+            CsvRow row = parser.newRow();
+            while (parser.next(row)) {
+                answer.add(row.toList());
+            }
+        } catch (IOException e) {
+            return null;
+        }
+        return answer;
+    }
+
+    private static boolean hasBlankLine(String input) {
+        for (String line : input.split("\r\n|\r|\n", -1)) {
+            if (!line.isEmpty() && line.trim().isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.csv;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.apache.commons.csv.CSVFormat;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CsvUnmarshalFlyweightRowsTest extends CamelTestSupport {
+
+    private static final String CSV = "id,name,amount\n"
+                                      + "1,\"Smith, John\",12.5\n"
+                                      + "2,\"say \"\"hello\"\"\",-0.25\r\n"
+                                      + "\n"
+                                      + "3,\"multi\nline\",1e3\n";
+
+    @Test
+    void testUnmarshalFlyweightRows() throws Exception {
+        Exchange out = template.request("direct:start", exchange -> exchange.getIn().setBody(CSV));
+
+        assertEquals(1012.25, out.getMessage().getBody(Double.class));
+        assertEquals(Arrays.asList("id", "name", "amount"), out.getMessage().getHeader(CsvConstants.HEADER_RECORD));
+    }
+
+    @Test
+    void testRowIsReused() throws Exception {
+        CsvRowParser parser = new CsvRowParser(new StringReader("a,b\nc,d\n"), CSVFormat.DEFAULT);
+        CsvRow row = parser.newRow();
+
+        assertTrue(parser.next(row));
+        CharSequence first = row.get(0);
+        assertEquals("a", first.toString());
+        assertTrue(parser.next(row));
+        // the view is updated with the values of the next record
+        assertSame(first, row.get(0));
+        assertEquals("c", first.toString());
+        assertEquals(Arrays.asList("c", "d"), row.toList());
+        assertEquals(2, row.getRecordNumber());
+        assertFalse(parser.next(row));
+    }
+
+    @Test
+    void testParseNumbers() throws Exception {
+        String[] doubles = {
+                "0", "-0", "1", "3.14159", "-2.5e-3", "1E10", "0.1", "123456789012345", "1234567890123456789",
+                "0.30000000000000004", "4.9e-324", "1.7976931348623157E308", "  " };
+        CSVFormat format = CSVFormat.DEFAULT.withTrim();
+        CsvRowParser parser = new CsvRowParser(new StringReader(String.join(",", doubles)), format);
+        CsvRow row = parser.newRow();
+        assertTrue(parser.next(row));
+
+        for (int i = 0; i < doubles.length - 1; i++) {
+            assertEquals(Double.parseDouble(doubles[i]), row.getDouble(i), "Value: " + doubles[i]);
+        }
+        assertTrue(row.isEmpty(doubles.length - 1));
+
+        parser = new CsvRowParser(new StringReader("42;-9223372036854775808;NULL\n"),
+                CSVFormat.DEFAULT.withDelimiter(';').withNullString("NULL"));
+        row = parser.newRow();
+        assertTrue(parser.next(row));
+        assertEquals(42, row.getInt(0));
+        assertEquals(Long.MIN_VALUE, row.getLong(1));
+        assertNull(row.get(2));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                CsvDataFormat csv = new CsvDataFormat()
+                        .setUseFlyweightRows(true)
+                        .setSkipHeaderRecord(true)
+                        .setCaptureHeaderRecord(true);
+
+                from("direct:start")
+                        .unmarshal(csv)
+                        .process(exchange -> {
+                            Iterator<?> rows = exchange.getMessage().getBody(Iterator.class);
+                            double total = 0;
+                            int count = 0;
+                            while (rows.hasNext()) {
+                                CsvRow row = (CsvRow) rows.next();
+                                assertEquals(++count, row.getInt("id"));
+                                total += row.getDouble("amount");
+                                if (count == 2) {
+                                    assertEquals("say \"hello\"", row.getString("name"));
+                                }
+                                if (count == 3) {
+                                    assertEquals("multi\nline", row.get(1).toString());
+                                }
+                            }
+                            assertEquals(3, count);
+                            exchange.getMessage().setBody(total);
+                        });
+            }
+        };
+    }
+}
@@ -21,7 +21,7 @@ public class DisruptorEndpointUriFactory extends org.apache.camel.support.compon
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(13);
+        Set<String> props = new HashSet<>(15);
         props.add("exchangePattern");
         props.add("waitForTaskToComplete");
         props.add("blockWhenFull");
@@ -33,6 +33,8 @@ public class DisruptorEndpointUriFactory extends org.apache.camel.support.compon
         props.add("bridgeErrorHandler");
         props.add("size");
         props.add("name");
+        props.add("aggregateBatch");
+        props.add("consumeBatch");
         props.add("exceptionHandler");
         props.add("multipleConsumers");
         PROPERTY_NAMES = Collections.unmodifiableSet(props);
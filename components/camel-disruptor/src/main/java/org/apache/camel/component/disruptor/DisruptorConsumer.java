@@ -16,13 +16,17 @@
  */
 package org.apache.camel.component.disruptor;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
 import org.apache.camel.Consumer;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.ExtendedExchange;
 import org.apache.camel.Processor;
 import org.apache.camel.ShutdownRunningTask;
@@ -143,13 +147,19 @@ public class DisruptorConsumer extends ServiceSupport implements Consumer, Suspe
         return newExchange;
     }
 
+    private static boolean isIgnored(final Exchange exchange) {
+        return exchange.hasProperties() && exchange.getProperties().containsKey(DisruptorEndpoint.DISRUPTOR_IGNORE_EXCHANGE);
+    }
+
     private void process(final SynchronizedExchange synchronizedExchange) {
+        process(synchronizedExchange, -1, -1);
+    }
+
+    private void process(final SynchronizedExchange synchronizedExchange, final int batchIndex, final int batchSize) {
         try {
             Exchange exchange = synchronizedExchange.getExchange();
 
-            final boolean ignore = exchange.hasProperties() && exchange
-                    .getProperties().containsKey(DisruptorEndpoint.DISRUPTOR_IGNORE_EXCHANGE);
-            if (ignore) {
+            if (isIgnored(exchange)) {
                 // Property was set and it was set to true, so don't process Exchange.
                 LOGGER.trace("Ignoring exchange {}", exchange);
                 return;
@@ -158,6 +168,13 @@ public class DisruptorConsumer extends ServiceSupport implements Consumer, Suspe
             // send a new copied exchange with new camel context
             final Exchange result = prepareExchange(exchange);
 
+            if (batchSize > 0) {
+                // expose the boundary of the disruptor batch
+                result.setProperty(ExchangePropertyKey.BATCH_INDEX, batchIndex);
+                result.setProperty(ExchangePropertyKey.BATCH_SIZE, batchSize);
+                result.setProperty(ExchangePropertyKey.BATCH_COMPLETE, batchIndex == batchSize - 1);
+            }
+
             // We need to be notified when the exchange processing is complete to synchronize the original exchange
             // This is however the last part of the processing of this exchange and as such can't be done
             // in the AsyncCallback as that is called *AFTER* processing is considered to be done
@@ -192,6 +209,92 @@ public class DisruptorConsumer extends ServiceSupport implements Consumer, Suspe
         }
     }
 
+    private void processBatch(final List<SynchronizedExchange> batch) {
+        final List<SynchronizedExchange> synchronizedExchanges = new ArrayList<>(batch.size());
+        for (SynchronizedExchange synchronizedExchange : batch) {
+            if (isIgnored(synchronizedExchange.getExchange())) {
+                LOGGER.trace("Ignoring exchange {}", synchronizedExchange.getExchange());
+            } else {
+                synchronizedExchanges.add(synchronizedExchange);
+            }
+        }
+        if (synchronizedExchanges.isEmpty()) {
+            return;
+        }
+
+        final int size = synchronizedExchanges.size();
+        if (!endpoint.isAggregateBatch()) {
+            for (int i = 0; i < size; i++) {
+                process(synchronizedExchanges.get(i), i, size);
+            }
+            return;
+        }
+
+        // the original exchanges must be consumed exactly once, either when the aggregated exchange is done,
+        // or when it could not be processed at all
+        final AtomicBoolean consumed = new AtomicBoolean();
+        final List<Exchange> results = new ArrayList<>(size);
+        Exchange aggregated = null;
+        try {
+            // route the batch as a single exchange with the bodies of the exchanges as a list body
+            final List<Object> bodies = new ArrayList<>(size);
+            for (SynchronizedExchange synchronizedExchange : synchronizedExchanges) {
+                Exchange result = prepareExchange(synchronizedExchange.getExchange());
+                results.add(result);
+                bodies.add(result.getMessage().getBody());
+            }
+
+            aggregated = endpoint.createExchange();
+            aggregated.adapt(ExtendedExchange.class).setFromEndpoint(endpoint);
+            aggregated.getMessage().setBody(bodies);
+            aggregated.setProperty(ExchangePropertyKey.BATCH_SIZE, size);
+
+            final Synchronization synchronization = new Synchronization() {
+                @Override
+                public void onComplete(Exchange exchange) {
+                    if (consumed.compareAndSet(false, true)) {
+                        for (int i = 0; i < size; i++) {
+                            synchronizedExchanges.get(i).consumed(results.get(i));
+                        }
+                    }
+                }
+
+                @Override
+                public void onFailure(Exchange exchange) {
+                    consumedWithException(synchronizedExchanges, results, consumed, exchange.getException());
+                }
+            };
+            aggregated.adapt(ExtendedExchange.class).addOnCompletion(synchronization);
+
+            processor.process(aggregated, NOOP_ASYNC_CALLBACK);
+        } catch (Exception e) {
+            try {
+                if (aggregated != null) {
+                    getExceptionHandler().handleException("Error processing exchange", aggregated, e);
+                } else {
+                    getExceptionHandler().handleException(e);
+                }
+            } finally {
+                // release the producers waiting for the original exchanges
+                consumedWithException(synchronizedExchanges, results, consumed, e);
+            }
+        }
+    }
+
+    private static void consumedWithException(
+            List<SynchronizedExchange> synchronizedExchanges, List<Exchange> results, AtomicBoolean consumed,
+            Exception cause) {
+        if (consumed.compareAndSet(false, true)) {
+            for (int i = 0; i < synchronizedExchanges.size(); i++) {
+                SynchronizedExchange synchronizedExchange = synchronizedExchanges.get(i);
+                // the exchange may not have been prepared, then the original exchange is the result
+                Exchange result = i < results.size() ? results.get(i) : synchronizedExchange.getExchange();
+                result.setException(cause);
+                synchronizedExchange.consumed(result);
+            }
+        }
+    }
+
     @Override
     public Exchange createExchange(boolean autoRelease) {
         // noop
@@ -213,9 +316,13 @@ public class DisruptorConsumer extends ServiceSupport implements Consumer, Suspe
 
         private final int concurrentConsumers;
 
+        // the exchanges of the current disruptor batch, when consuming batches
+        private final List<SynchronizedExchange> batch;
+
         ConsumerEventHandler(final int ordinal, final int concurrentConsumers) {
             this.ordinal = ordinal;
             this.concurrentConsumers = concurrentConsumers;
+            this.batch = endpoint.isConsumeBatch() || endpoint.isAggregateBatch() ? new ArrayList<>() : null;
         }
 
         @Override
@@ -227,7 +334,20 @@ public class DisruptorConsumer extends ServiceSupport implements Consumer, Suspe
             // which can be used to determine whether he should process the exchange, or leave it for his brethren.
             //see http://code.google.com/p/disruptor/wiki/FrequentlyAskedQuestions#How_do_you_arrange_a_Disruptor_with_multiple_consumers_so_that_e
             if (sequence % concurrentConsumers == ordinal) {
-                process(event.getSynchronizedExchange());
+                if (batch != null) {
+                    batch.add(event.getSynchronizedExchange());
+                } else {
+                    process(event.getSynchronizedExchange());
+                }
+            }
+
+            // the end of the batch is signalled on the last sequence, which may be for another worker-pool handler
+            if (batch != null && endOfBatch && !batch.isEmpty()) {
+                try {
+                    processBatch(batch);
+                } finally {
+                    batch.clear();
+                }
             }
         }
 
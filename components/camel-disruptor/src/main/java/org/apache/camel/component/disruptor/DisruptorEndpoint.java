@@ -67,6 +67,10 @@ public class DisruptorEndpoint extends DefaultEndpoint implements AsyncEndpoint,
     private int concurrentConsumers;
     @UriParam(label = "consumer")
     private boolean multipleConsumers;
+    @UriParam(label = "consumer")
+    private boolean consumeBatch;
+    @UriParam(label = "consumer")
+    private boolean aggregateBatch;
     @UriParam(label = "producer", defaultValue = "IfReplyExpected")
     private WaitForTaskToComplete waitForTaskToComplete = WaitForTaskToComplete.IfReplyExpected;
     @UriParam(label = "producer", defaultValue = "30000", javaType = "java.time.Duration")
@@ -119,6 +123,35 @@ public class DisruptorEndpoint extends DefaultEndpoint implements AsyncEndpoint,
         this.concurrentConsumers = concurrentConsumers;
     }
 
+    @ManagedAttribute(description = "Whether the consumer routes the exchanges of a Disruptor batch together")
+    public boolean isConsumeBatch() {
+        return consumeBatch;
+    }
+
+    /**
+     * Whether the consumer routes the exchanges of a Disruptor batch together. When enabled the exchanges are routed at
+     * the end of each batch, with the exchange properties CamelBatchIndex, CamelBatchSize and CamelBatchComplete set,
+     * which for example allows a downstream transactional or bulk producer to flush once per batch.
+     */
+    public void setConsumeBatch(boolean consumeBatch) {
+        this.consumeBatch = consumeBatch;
+    }
+
+    @ManagedAttribute(description = "Whether the consumer routes a Disruptor batch as a single exchange")
+    public boolean isAggregateBatch() {
+        return aggregateBatch;
+    }
+
+    /**
+     * Whether the consumer routes the exchanges of a Disruptor batch as a single exchange, with a java.util.List
+     * message body containing the message bodies of the exchanges in the batch. The exchange property CamelBatchSize is
+     * set with the number of exchanges in the batch. This option is intended for InOnly exchanges, as the result of
+     * routing the batch is not set as reply on the individual exchanges, however any failure is.
+     */
+    public void setAggregateBatch(boolean aggregateBatch) {
+        this.aggregateBatch = aggregateBatch;
+    }
+
     @ManagedAttribute(description = "Option to specify whether the caller should wait for the async task to complete or not before continuing")
     public WaitForTaskToComplete getWaitForTaskToComplete() {
         return waitForTaskToComplete;
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.disruptor;
+
+import java.util.List;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.test.junit5.TestSupport.assertIsInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DisruptorBatchConsumerTest extends CamelTestSupport {
+
+    @Test
+    void testConsumeBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:batch");
+        mock.expectedMessageCount(100);
+        mock.allMessages().exchangeProperty(Exchange.BATCH_SIZE).isNotNull();
+
+        for (int i = 0; i < 100; i++) {
+            template.sendBody("disruptor:batch", "Message " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        // the last exchange must complete the batch
+        List<Exchange> exchanges = mock.getReceivedExchanges();
+        assertEquals(Boolean.TRUE, exchanges.get(99).getProperty(Exchange.BATCH_COMPLETE));
+        for (Exchange exchange : exchanges) {
+            int index = exchange.getProperty(Exchange.BATCH_INDEX, Integer.class);
+            int size = exchange.getProperty(Exchange.BATCH_SIZE, Integer.class);
+            assertEquals(index == size - 1, exchange.getProperty(Exchange.BATCH_COMPLETE, Boolean.class));
+        }
+    }
+
+    @Test
+    void testAggregateBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:aggregate");
+        mock.expectedMinimumMessageCount(1);
+        mock.allMessages().body().isInstanceOf(List.class);
+        // the batches must contain all the messages in order
+        MockEndpoint bodies = getMockEndpoint("mock:bodies");
+        bodies.expectedMessageCount(100);
+        for (int i = 0; i < 100; i++) {
+            bodies.message(i).body().isEqualTo("Message " + i);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            template.sendBody("disruptor:aggregate", "Message " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            assertEquals(exchange.getMessage().getBody(List.class).size(), exchange.getProperty(Exchange.BATCH_SIZE));
+        }
+    }
+
+    @Test
+    void testAggregateBatchFailure() throws Exception {
+        // the producer waiting for the reply must get the exception of the aggregated exchange
+        CamelExecutionException e = assertThrows(CamelExecutionException.class,
+                () -> template.requestBody("disruptor:failing?aggregateBatch=true", "Hello World"));
+        assertIsInstanceOf(IllegalArgumentException.class, e.getCause());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("disruptor:batch?consumeBatch=true").to("mock:batch");
+
+                from("disruptor:aggregate?aggregateBatch=true").to("mock:aggregate")
+                        .split(body()).to("mock:bodies");
+
+                from("disruptor:failing?aggregateBatch=true")
+                        .throwException(new IllegalArgumentException("Forced"));
+            }
+        };
+    }
+}
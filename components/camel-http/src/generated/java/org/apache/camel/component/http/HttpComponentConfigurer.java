@@ -23,6 +23,8 @@ public class HttpComponentConfigurer extends PropertyConfigurerSupport implement
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "allowjavaserializedobject":
         case "allowJavaSerializedObject": target.setAllowJavaSerializedObject(property(camelContext, boolean.class, value)); return true;
+        case "asyncclientconnectionmanager":
+        case "asyncClientConnectionManager": target.setAsyncClientConnectionManager(property(camelContext, org.apache.http.nio.conn.NHttpClientConnectionManager.class, value)); return true;
         case "authcachingdisabled":
         case "authCachingDisabled": target.setAuthCachingDisabled(property(camelContext, boolean.class, value)); return true;
         case "automaticretriesdisabled":
@@ -104,6 +106,8 @@ public class HttpComponentConfigurer extends PropertyConfigurerSupport implement
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "allowjavaserializedobject":
         case "allowJavaSerializedObject": return boolean.class;
+        case "asyncclientconnectionmanager":
+        case "asyncClientConnectionManager": return org.apache.http.nio.conn.NHttpClientConnectionManager.class;
         case "authcachingdisabled":
         case "authCachingDisabled": return boolean.class;
         case "automaticretriesdisabled":
@@ -186,6 +190,8 @@ public class HttpComponentConfigurer extends PropertyConfigurerSupport implement
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "allowjavaserializedobject":
         case "allowJavaSerializedObject": return target.isAllowJavaSerializedObject();
+        case "asyncclientconnectionmanager":
+        case "asyncClientConnectionManager": return target.getAsyncClientConnectionManager();
         case "authcachingdisabled":
         case "authCachingDisabled": return target.isAuthCachingDisabled();
         case "automaticretriesdisabled":
@@ -116,6 +116,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "throwExceptionOnFailure": target.setThrowExceptionOnFailure(property(camelContext, boolean.class, value)); return true;
         case "transferexception":
         case "transferException": target.setTransferException(property(camelContext, boolean.class, value)); return true;
+        case "useasyncclient":
+        case "useAsyncClient": target.setUseAsyncClient(property(camelContext, boolean.class, value)); return true;
         case "usesystemproperties":
         case "useSystemProperties": target.setUseSystemProperties(property(camelContext, boolean.class, value)); return true;
         case "useragent":
@@ -224,6 +226,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "throwExceptionOnFailure": return boolean.class;
         case "transferexception":
         case "transferException": return boolean.class;
+        case "useasyncclient":
+        case "useAsyncClient": return boolean.class;
         case "usesystemproperties":
         case "useSystemProperties": return boolean.class;
         case "useragent":
@@ -333,6 +337,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "throwExceptionOnFailure": return target.isThrowExceptionOnFailure();
         case "transferexception":
         case "transferException": return target.isTransferException();
+        case "useasyncclient":
+        case "useAsyncClient": return target.isUseAsyncClient();
         case "usesystemproperties":
         case "useSystemProperties": return target.isUseSystemProperties();
         case "useragent":
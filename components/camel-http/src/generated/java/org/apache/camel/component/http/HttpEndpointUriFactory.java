@@ -21,7 +21,7 @@ public class HttpEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(52);
+        Set<String> props = new HashSet<>(53);
         props.add("clientBuilder");
         props.add("authMethodPriority");
         props.add("ignoreResponseBody");
@@ -30,6 +30,7 @@ public class HttpEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("transferException");
         props.add("copyHeaders");
         props.add("proxyAuthPassword");
+        props.add("useAsyncClient");
         props.add("bridgeEndpoint");
         props.add("clearExpiredCookies");
         props.add("proxyAuthMethod");
@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.CamelExchangeException;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.converter.stream.CachedOutputStream;
+import org.apache.camel.spi.AsyncProcessorAwaitManager;
+import org.apache.camel.support.AsyncCallbackToCompletableFutureAdapter;
+import org.apache.camel.util.IOHelper;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.nio.ContentDecoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.client.methods.HttpAsyncMethods;
+import org.apache.http.nio.protocol.AbstractAsyncResponseConsumer;
+import org.apache.http.protocol.HttpContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.apache.camel.util.BufferCaster.cast;
+
+/**
+ * A HTTP producer which uses the non-blocking HttpAsyncClient to send the requests, so the calling thread is not
+ * blocked while waiting for the response.
+ * <p/>
+ * The request body is streamed to the server from the HTTP entity, and the response body is streamed into a
+ * {@link CachedOutputStream} while it is being received, which allows to spool big responses to disk.
+ * <p/>
+ * The responses are handled and the exchanges continue routing on a thread pool of this producer, so the IO reactor
+ * threads of the client are never used to route the exchanges.
+ */
+public class HttpAsyncProducer extends HttpProducer implements AsyncProcessor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HttpAsyncProducer.class);
+
+    private CloseableHttpAsyncClient httpAsyncClient;
+    private ExecutorService executorService;
+
+    public HttpAsyncProducer(HttpEndpoint endpoint) {
+        super(endpoint);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        httpAsyncClient = getEndpoint().getHttpAsyncClient();
+        if (executorService == null) {
+            executorService = getEndpoint().getCamelContext().getExecutorServiceManager().newDefaultThreadPool(this,
+                    "HttpAsyncProducer");
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        if (executorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+        }
+    }
+
+    @Override
+    public void process(Exchange exchange) throws Exception {
+        AsyncProcessorAwaitManager awaitManager
+                = exchange.getContext().adapt(ExtendedCamelContext.class).getAsyncProcessorAwaitManager();
+        awaitManager.process(this, exchange);
+    }
+
+    @Override
+    public CompletableFuture<Exchange> processAsync(Exchange exchange) {
+        AsyncCallbackToCompletableFutureAdapter<Exchange> callback = new AsyncCallbackToCompletableFutureAdapter<>(exchange);
+        process(exchange, callback);
+        return callback.getFuture();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        final HttpRequestBase httpRequest;
+        final HttpHost httpHost;
+        try {
+            httpRequest = createRequest(exchange);
+            httpHost = createHost(httpRequest, exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Executing async http {} method: {}", httpRequest.getMethod(), httpRequest.getURI());
+        }
+        getEndpoint().getAsyncInflightRequestsCounter().incrementAndGet();
+        httpAsyncClient.execute(HttpAsyncMethods.create(httpHost, httpRequest), new CachedResponseConsumer(exchange),
+                createLocalContext(), new FutureCallback<HttpResponse>() {
+                    @Override
+                    public void completed(HttpResponse httpResponse) {
+                        complete(exchange, callback, () -> {
+                            try {
+                                handleResponse(exchange, httpRequest, httpResponse);
+                            } catch (Exception e) {
+                                exchange.setException(e);
+                            } finally {
+                                releaseResponse(exchange, httpResponse);
+                                getEndpoint().getAsyncInflightRequestsCounter().decrementAndGet();
+                                getEndpoint().getAsyncCompletedRequestsCounter().incrementAndGet();
+                            }
+                        });
+                    }
+
+                    @Override
+                    public void failed(Exception e) {
+                        complete(exchange, callback, () -> {
+                            exchange.setException(e);
+                            getEndpoint().getAsyncInflightRequestsCounter().decrementAndGet();
+                            getEndpoint().getAsyncFailedRequestsCounter().incrementAndGet();
+                        });
+                    }
+
+                    @Override
+                    public void cancelled() {
+                        complete(exchange, callback, () -> {
+                            exchange.setException(new CamelExchangeException(
+                                    "Http request cancelled: " + httpRequest.getURI(), exchange));
+                            getEndpoint().getAsyncInflightRequestsCounter().decrementAndGet();
+                            getEndpoint().getAsyncFailedRequestsCounter().incrementAndGet();
+                        });
+                    }
+                });
+        return false;
+    }
+
+    /**
+     * Hands off the completion of the exchange from the IO reactor thread to the thread pool of this producer, which
+     * runs the given task and then continues routing the exchange.
+     */
+    private void complete(Exchange exchange, AsyncCallback callback, Runnable task) {
+        try {
+            executorService.submit(() -> {
+                try {
+                    task.run();
+                } finally {
+                    callback.done(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // the producer is stopping so complete the exchange on the current thread
+            LOG.debug("Completing exchange: {} on the IO reactor thread as the thread pool is shutdown", exchange);
+            task.run();
+            callback.done(false);
+        }
+    }
+
+    /**
+     * Response consumer which streams the response body into a {@link CachedOutputStream} as the content is received
+     * from the IO reactor, instead of buffering the entire body in memory.
+     */
+    private static final class CachedResponseConsumer extends AbstractAsyncResponseConsumer<HttpResponse> {
+
+        private final Exchange exchange;
+        private final ByteBuffer buffer = ByteBuffer.allocate(8192);
+        private HttpResponse response;
+        private CachedOutputStream cos;
+        private boolean built;
+
+        CachedResponseConsumer(Exchange exchange) {
+            this.exchange = exchange;
+        }
+
+        @Override
+        protected void onResponseReceived(HttpResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        protected void onEntityEnclosed(HttpEntity entity, ContentType contentType) {
+            // this CachedOutputStream will not be closed when the exchange is done, but when the stream is closed
+            cos = new CachedOutputStream(exchange, false);
+        }
+
+        @Override
+        protected void onContentReceived(ContentDecoder decoder, IOControl ioControl) throws IOException {
+            int len;
+            while ((len = decoder.read(buffer)) > 0) {
+                cos.write(buffer.array(), 0, len);
+                cast(buffer).clear();
+            }
+        }
+
+        @Override
+        protected HttpResponse buildResult(HttpContext context) throws Exception {
+            HttpEntity original = response.getEntity();
+            if (cos != null && original != null) {
+                BasicHttpEntity entity = new BasicHttpEntity();
+                entity.setContentType(original.getContentType());
+                entity.setContentEncoding(original.getContentEncoding());
+                entity.setChunked(original.isChunked());
+                entity.setContentLength(original.getContentLength());
+                entity.setContent(cos.getWrappedInputStream());
+                response.setEntity(entity);
+            }
+            built = true;
+            return response;
+        }
+
+        @Override
+        protected void releaseResources() {
+            if (!built && cos != null) {
+                // the response failed or was cancelled so discard what was received
+                IOHelper.close(cos);
+            }
+        }
+    }
+}
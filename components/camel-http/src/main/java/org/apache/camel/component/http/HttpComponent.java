@@ -25,6 +25,7 @@ import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Endpoint;
@@ -50,6 +51,7 @@ import org.apache.camel.support.RestProducerFactoryHelper;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.PropertiesHelper;
 import org.apache.camel.util.StringHelper;
@@ -66,6 +68,16 @@ import org.apache.http.conn.ssl.DefaultHostnameVerifier;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.conn.NHttpClientConnectionManager;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
 import org.apache.http.protocol.HttpContext;
 import org.apache.http.ssl.SSLContexts;
 import org.slf4j.Logger;
@@ -86,6 +98,11 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
     @Metadata(label = "advanced", description = "To use a custom and shared HttpClientConnectionManager to manage connections."
                                                 + " If this has been configured then this is always used for all endpoints created by this component.")
     protected HttpClientConnectionManager clientConnectionManager;
+    @Metadata(label = "advanced",
+              description = "To use a custom and shared NHttpClientConnectionManager to manage the connections of the async client (useAsyncClient=true)."
+                            + " If this has not been configured then one is created on demand, which is shared by all the endpoints using"
+                            + " the async client with the connection options of the component.")
+    protected NHttpClientConnectionManager asyncClientConnectionManager;
     @Metadata(label = "advanced", description = "To use a custom org.apache.http.protocol.HttpContext when executing requests.")
     protected HttpContext httpContext;
     @Metadata(label = "security", description = "To configure security using SSLContextParameters."
@@ -186,6 +203,11 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
     @UriParam(label = "producer,advanced", description = "To set a custom HTTP User-Agent request header")
     protected String userAgent;
 
+    // the connection manager of the async client which is created by this component and shared by its endpoints
+    private boolean asyncClientConnectionManagerCreated;
+    // runs the IO reactor of the shared connection manager of the async client
+    private CloseableHttpAsyncClient asyncClientConnectionManagerRunner;
+
     public HttpComponent() {
         this(HttpEndpoint.class);
     }
@@ -298,6 +320,9 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
         if (val != -1) {
             httpClientOptions.put("socketTimeout", val);
         }
+        // keep a copy of the options as they are consumed when creating the blocking client builder
+        final Map<String, Object> asyncClientOptions = new HashMap<>(httpClientOptions);
+        asyncClientOptions.putAll(PropertiesHelper.extractProperties(new HashMap<>(parameters), "httpClient."));
 
         final HttpClientBuilder clientBuilder = createHttpClientBuilder(uri, parameters, httpClientOptions);
 
@@ -306,6 +331,10 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
 
         SSLContextParameters sslContextParameters
                 = resolveAndRemoveReferenceParameter(parameters, "sslContextParameters", SSLContextParameters.class);
+        // the async client can only use the shared connection manager if the connections are not configured on the endpoint
+        final boolean endpointConnectionOptions = sslContextParameters != null
+                || parameters.containsKey("x509HostnameVerifier") || parameters.containsKey("maxTotalConnections")
+                || parameters.containsKey("connectionsPerRoute") || parameters.containsKey("useSystemProperties");
         if (sslContextParameters == null) {
             sslContextParameters = getSslContextParameters();
         }
@@ -358,7 +387,18 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
         String endpointUriString = endpointUri.toString();
 
         LOG.debug("Creating endpoint uri {}", endpointUriString);
-        final HttpClientConnectionManager localConnectionManager = createConnectionManager(parameters, sslContextParameters);
+        // the async client does not use the blocking connection manager
+        final boolean useAsyncClient
+                = CamelContextHelper.mandatoryConvertTo(getCamelContext(), boolean.class, parameters.get("useAsyncClient"));
+        NHttpClientConnectionManager localAsyncConnectionManager = null;
+        HttpClientConnectionManager localConnectionManager = null;
+        if (!useAsyncClient) {
+            localConnectionManager = createConnectionManager(parameters, sslContextParameters);
+        } else if (endpointConnectionOptions && (asyncClientConnectionManager == null || asyncClientConnectionManagerCreated)) {
+            localAsyncConnectionManager = createAsyncConnectionManager(parameters, sslContextParameters);
+        } else {
+            localAsyncConnectionManager = getOrCreateAsyncConnectionManager(parameters, sslContextParameters);
+        }
         HttpEndpoint endpoint = new HttpEndpoint(endpointUriString, this, clientBuilder, localConnectionManager, configurer);
         endpoint.setCopyHeaders(copyHeaders);
         endpoint.setSkipRequestHeaders(skipRequestHeaders);
@@ -376,6 +416,14 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
         // configure the endpoint
         setProperties(endpoint, parameters);
 
+        if (localAsyncConnectionManager != null) {
+            HttpAsyncClientBuilder asyncClientBuilder = createHttpAsyncClientBuilder(asyncClientOptions);
+            // the shared connection manager must not be shutdown when the endpoint closes its client
+            asyncClientBuilder.setConnectionManagerShared(localAsyncConnectionManager == asyncClientConnectionManager);
+            endpoint.setAsyncClientBuilder(asyncClientBuilder);
+            endpoint.setAsyncClientConnectionManager(localAsyncConnectionManager);
+        }
+
         // we can not change the port of an URI, we must create a new one with an explicit port value
         URI httpUri = URISupport.createRemainingURI(
                 new URI(
@@ -479,6 +527,90 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
         return clientBuilder;
     }
 
+    protected HttpAsyncClientBuilder createHttpAsyncClientBuilder(final Map<String, Object> httpClientOptions) {
+        HttpAsyncClientBuilder clientBuilder = HttpAsyncClientBuilder.create();
+        // the options has already been validated when creating the blocking client builder
+        PropertyBindingSupport.bindProperties(getCamelContext(), clientBuilder, httpClientOptions);
+        RequestConfig.Builder requestConfigBuilder = RequestConfig.custom();
+        PropertyBindingSupport.bindProperties(getCamelContext(), requestConfigBuilder, httpClientOptions);
+        if (redirectHandlingDisabled) {
+            requestConfigBuilder.setRedirectsEnabled(false);
+        }
+        clientBuilder.setDefaultRequestConfig(requestConfigBuilder.build());
+
+        if (cookieManagementDisabled) {
+            clientBuilder.disableCookieManagement();
+        }
+        if (authCachingDisabled) {
+            clientBuilder.disableAuthCaching();
+        }
+        if (connectionStateDisabled) {
+            clientBuilder.disableConnectionState();
+        }
+
+        return clientBuilder;
+    }
+
+    /**
+     * Gets the connection manager of the async client which is shared by the endpoints of this component, and creates
+     * it (with the connection options of the component) if needed.
+     */
+    protected synchronized NHttpClientConnectionManager getOrCreateAsyncConnectionManager(
+            final Map<String, Object> parameters,
+            final SSLContextParameters sslContextParameters)
+            throws GeneralSecurityException, IOException {
+        if (asyncClientConnectionManager == null) {
+            asyncClientConnectionManager = createAsyncConnectionManager(parameters, sslContextParameters);
+            asyncClientConnectionManagerCreated = true;
+        } else {
+            // the options are not in use as the connection manager is shared
+            resolveAndRemoveReferenceParameter(parameters, "x509HostnameVerifier", HostnameVerifier.class);
+            getAndRemoveParameter(parameters, "maxTotalConnections", int.class);
+            getAndRemoveParameter(parameters, "connectionsPerRoute", int.class);
+        }
+        if (asyncClientConnectionManagerRunner == null) {
+            // the clients of the endpoints do not run the IO reactor of a shared connection manager
+            asyncClientConnectionManagerRunner = HttpAsyncClients.createMinimal(asyncClientConnectionManager);
+            asyncClientConnectionManagerRunner.start();
+        }
+        return asyncClientConnectionManager;
+    }
+
+    protected NHttpClientConnectionManager createAsyncConnectionManager(
+            final Map<String, Object> parameters,
+            final SSLContextParameters sslContextParameters)
+            throws GeneralSecurityException, IOException {
+        final HostnameVerifier resolvedHostnameVerifier
+                = resolveAndRemoveReferenceParameter(parameters, "x509HostnameVerifier", HostnameVerifier.class);
+        final HostnameVerifier hostnameVerifier = Optional.ofNullable(resolvedHostnameVerifier).orElse(x509HostnameVerifier);
+
+        final int maxTotalConnections = getAndRemoveParameter(parameters, "maxTotalConnections", int.class, 0);
+        final int connectionsPerRoute = getAndRemoveParameter(parameters, "connectionsPerRoute", int.class, 0);
+        final boolean useSystemProperties = CamelContextHelper.mandatoryConvertTo(this.getCamelContext(), boolean.class,
+                parameters.get("useSystemProperties"));
+
+        SSLContext sslContext;
+        if (sslContextParameters != null) {
+            sslContext = sslContextParameters.createSSLContext(getCamelContext());
+        } else {
+            sslContext = useSystemProperties ? SSLContexts.createSystemDefault() : SSLContexts.createDefault();
+        }
+        Registry<SchemeIOSessionStrategy> registry = RegistryBuilder.<SchemeIOSessionStrategy> create()
+                .register("http", NoopIOSessionStrategy.INSTANCE)
+                .register("https", new SSLIOSessionStrategy(sslContext, hostnameVerifier))
+                .build();
+
+        // the IO reactor use one dispatcher thread per cpu core by default
+        PoolingNHttpClientConnectionManager answer = new PoolingNHttpClientConnectionManager(
+                new DefaultConnectingIOReactor(IOReactorConfig.DEFAULT), null, registry, null, null,
+                getConnectionTimeToLive(), TimeUnit.MILLISECONDS);
+        answer.setMaxTotal(maxTotalConnections > 0 ? maxTotalConnections : getMaxTotalConnections());
+        answer.setDefaultMaxPerRoute(connectionsPerRoute > 0 ? connectionsPerRoute : getConnectionsPerRoute());
+        LOG.debug("Created async ClientConnectionManager {}", answer);
+
+        return answer;
+    }
+
     protected Registry<ConnectionSocketFactory> createConnectionRegistry(
             HostnameVerifier x509HostnameVerifier, SSLContextParameters sslContextParams,
             boolean useSystemProperties)
@@ -611,6 +743,19 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
         this.clientConnectionManager = clientConnectionManager;
     }
 
+    public NHttpClientConnectionManager getAsyncClientConnectionManager() {
+        return asyncClientConnectionManager;
+    }
+
+    /**
+     * To use a custom and shared NHttpClientConnectionManager to manage the connections of the async client
+     * (useAsyncClient=true). If this has not been configured then one is created on demand, which is shared by all the
+     * endpoints using the async client with the connection options of the component.
+     */
+    public void setAsyncClientConnectionManager(NHttpClientConnectionManager asyncClientConnectionManager) {
+        this.asyncClientConnectionManager = asyncClientConnectionManager;
+    }
+
     public HttpContext getHttpContext() {
         return httpContext;
     }
@@ -935,6 +1080,17 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
             clientConnectionManager.shutdown();
             clientConnectionManager = null;
         }
+        if (asyncClientConnectionManagerRunner != null) {
+            // stops the IO reactor
+            IOHelper.close(asyncClientConnectionManagerRunner);
+            asyncClientConnectionManagerRunner = null;
+        }
+        if (asyncClientConnectionManager != null) {
+            LOG.info("Shutting down async ClientConnectionManager: {}", asyncClientConnectionManager);
+            asyncClientConnectionManager.shutdown();
+            asyncClientConnectionManager = null;
+            asyncClientConnectionManagerCreated = false;
+        }
 
         super.doStop();
     }
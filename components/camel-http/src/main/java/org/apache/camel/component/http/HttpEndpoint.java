@@ -20,6 +20,7 @@ import java.io.Closeable;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.net.ssl.HostnameVerifier;
 
@@ -47,6 +48,9 @@ import org.apache.http.conn.HttpClientConnectionManager;
 import org.apache.http.conn.ssl.DefaultHostnameVerifier;
 import org.apache.http.impl.client.BasicCookieStore;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.nio.conn.NHttpClientConnectionManager;
 import org.apache.http.pool.ConnPoolControl;
 import org.apache.http.pool.PoolStats;
 import org.apache.http.protocol.HttpContext;
@@ -150,6 +154,19 @@ public class HttpEndpoint extends HttpCommonEndpoint {
     private boolean skipResponseHeaders;
     @UriParam(label = "producer,advanced", description = "To set a custom HTTP User-Agent request header")
     private String userAgent;
+    @UriParam(label = "producer,advanced",
+              description = "Whether the producer should use the non-blocking HttpAsyncClient to send the HTTP requests."
+                            + " The producer then processes the exchanges asynchronously, so the calling thread is not blocked"
+                            + " while waiting for the response, which allows many concurrent requests using only a few IO threads."
+                            + " Notice that the httpClientConfigurer is not in use for the async client.")
+    private boolean useAsyncClient;
+
+    private HttpAsyncClientBuilder asyncClientBuilder;
+    private NHttpClientConnectionManager asyncClientConnectionManager;
+    private CloseableHttpAsyncClient httpAsyncClient;
+    private final AtomicLong asyncInflightRequests = new AtomicLong();
+    private final AtomicLong asyncCompletedRequests = new AtomicLong();
+    private final AtomicLong asyncFailedRequests = new AtomicLong();
 
     public HttpEndpoint() {
     }
@@ -180,6 +197,9 @@ public class HttpEndpoint extends HttpCommonEndpoint {
 
     @Override
     public Producer createProducer() throws Exception {
+        if (useAsyncClient) {
+            return new HttpAsyncProducer(this);
+        }
         return new HttpProducer(this);
     }
 
@@ -228,19 +248,8 @@ public class HttpEndpoint extends HttpCommonEndpoint {
 
         if (!useSystemProperties) {
             // configure http proxy from camelContext
-            if (ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyHost"))
-                    && ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyPort"))) {
-                String host = getCamelContext().getGlobalOption("http.proxyHost");
-                int port = Integer.parseInt(getCamelContext().getGlobalOption("http.proxyPort"));
-                String scheme = getCamelContext().getGlobalOption("http.proxyScheme");
-                // fallback and use either http or https depending on secure
-                if (scheme == null) {
-                    scheme = HttpHelper.isSecureConnection(getEndpointUri()) ? "https" : "http";
-                }
-                LOG.debug(
-                        "CamelContext properties http.proxyHost, http.proxyPort, and http.proxyScheme detected. Using http proxy host: {} port: {} scheme: {}",
-                        host, port, scheme);
-                HttpHost proxy = new HttpHost(host, port, scheme);
+            HttpHost proxy = createGlobalProxy();
+            if (proxy != null) {
                 clientBuilder.setProxy(proxy);
             }
         } else {
@@ -270,6 +279,75 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         return clientBuilder.build();
     }
 
+    public synchronized CloseableHttpAsyncClient getHttpAsyncClient() {
+        if (httpAsyncClient == null) {
+            httpAsyncClient = createHttpAsyncClient();
+            httpAsyncClient.start();
+        }
+        return httpAsyncClient;
+    }
+
+    /**
+     * Factory method to create a new {@link CloseableHttpAsyncClient} instance which is used when
+     * <tt>useAsyncClient</tt> is enabled.
+     * <p/>
+     * Producers should use the {@link #getHttpAsyncClient()} method instead.
+     */
+    protected CloseableHttpAsyncClient createHttpAsyncClient() {
+        ObjectHelper.notNull(asyncClientBuilder, "httpAsyncClientBuilder");
+        ObjectHelper.notNull(asyncClientConnectionManager, "httpAsyncConnectionManager");
+
+        asyncClientBuilder.setDefaultCookieStore(cookieStore);
+        asyncClientBuilder.setConnectionManager(asyncClientConnectionManager);
+
+        if (!useSystemProperties) {
+            HttpHost proxy = createGlobalProxy();
+            if (proxy != null) {
+                asyncClientBuilder.setProxy(proxy);
+            }
+        } else {
+            asyncClientBuilder.useSystemProperties();
+        }
+
+        if (isAuthenticationPreemptive()) {
+            asyncClientBuilder.addInterceptorFirst(new PreemptiveAuthInterceptor());
+        }
+        String userAgent = getUserAgent();
+        if (userAgent != null) {
+            asyncClientBuilder.setUserAgent(userAgent);
+        }
+
+        if (isBridgeEndpoint()) {
+            // need to use noop cookiestore as we do not want to keep cookies in memory
+            asyncClientBuilder.setDefaultCookieStore(new NoopCookieStore());
+        }
+
+        LOG.debug("Setup the HttpAsyncClientBuilder {}", asyncClientBuilder);
+        return asyncClientBuilder.build();
+    }
+
+    /**
+     * Creates the http proxy configured from the http.proxyHost, http.proxyPort and http.proxyScheme global options on
+     * the CamelContext, or <tt>null</tt> if no proxy has been configured.
+     */
+    private HttpHost createGlobalProxy() {
+        if (ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyHost"))
+                && ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyPort"))) {
+            String host = getCamelContext().getGlobalOption("http.proxyHost");
+            int port = Integer.parseInt(getCamelContext().getGlobalOption("http.proxyPort"));
+            String scheme = getCamelContext().getGlobalOption("http.proxyScheme");
+            // fallback and use either http or https depending on secure
+            if (scheme == null) {
+                scheme = HttpHelper.isSecureConnection(getEndpointUri()) ? "https" : "http";
+            }
+            LOG.debug(
+                    "CamelContext properties http.proxyHost, http.proxyPort, and http.proxyScheme detected. Using http proxy host: {} port: {} scheme: {}",
+                    host, port, scheme);
+            return new HttpHost(host, port, scheme);
+        }
+        return null;
+    }
+
     @Override
     public HttpComponent getComponent() {
         return (HttpComponent) super.getComponent();
@@ -277,13 +355,19 @@ public class HttpEndpoint extends HttpCommonEndpoint {
 
     @Override
     protected void doStop() throws Exception {
-        if (getComponent() != null && getComponent().getClientConnectionManager() != clientConnectionManager) {
+        if (clientConnectionManager != null && getComponent() != null
+                && getComponent().getClientConnectionManager() != clientConnectionManager) {
             // need to shutdown the ConnectionManager
             clientConnectionManager.shutdown();
         }
         if (httpClient instanceof Closeable) {
             IOHelper.close((Closeable) httpClient);
         }
+        if (httpAsyncClient != null) {
+            // closing the client also shutdown its connection manager and IO reactor
+            IOHelper.close(httpAsyncClient);
+            httpAsyncClient = null;
+        }
     }
 
     // Properties
@@ -587,6 +671,100 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         this.userAgent = userAgent;
     }
 
+    public boolean isUseAsyncClient() {
+        return useAsyncClient;
+    }
+
+    /**
+     * Whether the producer should use the non-blocking HttpAsyncClient to send the HTTP requests. The producer then
+     * processes the exchanges asynchronously, so the calling thread is not blocked while waiting for the response,
+     * which allows many concurrent requests using only a few IO threads. Notice that the httpClientConfigurer is not in
+     * use for the async client.
+     */
+    public void setUseAsyncClient(boolean useAsyncClient) {
+        this.useAsyncClient = useAsyncClient;
+    }
+
+    public HttpAsyncClientBuilder getAsyncClientBuilder() {
+        return asyncClientBuilder;
+    }
+
+    /**
+     * Sets the builder used to create the HttpAsyncClient when <tt>useAsyncClient</tt> is enabled.
+     */
+    public void setAsyncClientBuilder(HttpAsyncClientBuilder asyncClientBuilder) {
+        this.asyncClientBuilder = asyncClientBuilder;
+    }
+
+    public NHttpClientConnectionManager getAsyncClientConnectionManager() {
+        return asyncClientConnectionManager;
+    }
+
+    /**
+     * Sets the non-blocking connection manager used by the HttpAsyncClient when <tt>useAsyncClient</tt> is enabled.
+     */
+    public void setAsyncClientConnectionManager(NHttpClientConnectionManager asyncClientConnectionManager) {
+        this.asyncClientConnectionManager = asyncClientConnectionManager;
+    }
+
+    AtomicLong getAsyncInflightRequestsCounter() {
+        return asyncInflightRequests;
+    }
+
+    AtomicLong getAsyncCompletedRequestsCounter() {
+        return asyncCompletedRequests;
+    }
+
+    AtomicLong getAsyncFailedRequestsCounter() {
+        return asyncFailedRequests;
+    }
+
+    @ManagedAttribute(description = "Number of requests currently in-flight when using the async client")
+    public long getAsyncClientInflightRequests() {
+        return asyncInflightRequests.get();
+    }
+
+    @ManagedAttribute(description = "Number of requests which completed with a response when using the async client")
+    public long getAsyncClientCompletedRequests() {
+        return asyncCompletedRequests.get();
+    }
+
+    @ManagedAttribute(description = "Number of requests which failed or was cancelled when using the async client")
+    public long getAsyncClientFailedRequests() {
+        return asyncFailedRequests.get();
+    }
+
+    @ManagedAttribute(description = "Maximum number of allowed persistent connections of the async client")
+    public int getAsyncClientConnectionsPoolStatsMax() {
+        PoolStats stats = getAsyncClientConnectionsPoolStats();
+        return stats != null ? stats.getMax() : -1;
+    }
+
+    @ManagedAttribute(description = "Number of available idle persistent connections of the async client")
+    public int getAsyncClientConnectionsPoolStatsAvailable() {
+        PoolStats stats = getAsyncClientConnectionsPoolStats();
+        return stats != null ? stats.getAvailable() : -1;
+    }
+
+    @ManagedAttribute(description = "Number of persistent connections of the async client currently being used to execute requests")
+    public int getAsyncClientConnectionsPoolStatsLeased() {
+        PoolStats stats = getAsyncClientConnectionsPoolStats();
+        return stats != null ? stats.getLeased() : -1;
+    }
+
+    @ManagedAttribute(description = "Number of requests waiting for a free connection of the async client")
+    public int getAsyncClientConnectionsPoolStatsPending() {
+        PoolStats stats = getAsyncClientConnectionsPoolStats();
+        return stats != null ? stats.getPending() : -1;
+    }
+
+    private PoolStats getAsyncClientConnectionsPoolStats() {
+        if (asyncClientConnectionManager instanceof ConnPoolControl) {
+            return ((ConnPoolControl<?>) asyncClientConnectionManager).getTotalStats();
+        }
+        return null;
+    }
+
     @ManagedAttribute(description = "Maximum number of allowed persistent connections")
     public int getClientConnectionsPoolStatsMax() {
         ConnPoolControl<?> pool = null;
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Producer;
+import org.apache.camel.http.common.HttpOperationFailedException;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpStatus;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.bootstrap.HttpServer;
+import org.apache.http.impl.bootstrap.ServerBootstrap;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HttpAsyncProducerTest extends BaseHttpTest {
+
+    private HttpServer localServer;
+
+    private String endpointUrl;
+
+    @BeforeEach
+    @Override
+    public void setUp() throws Exception {
+        localServer = ServerBootstrap.bootstrap().setHttpProcessor(getBasicHttpProcessor())
+                .setConnectionReuseStrategy(getConnectionReuseStrategy()).setResponseFactory(getHttpResponseFactory())
+                .setExpectationVerifier(getHttpExpectationVerifier()).setSslContext(getSSLContext())
+                .registerHandler("/echo", (request, response, context) -> {
+                    String body = EntityUtils.toString(((HttpEntityEnclosingRequest) request).getEntity());
+                    response.setEntity(new StringEntity("Bye " + body, "ASCII"));
+                    response.setStatusCode(HttpStatus.SC_OK);
+                })
+                .registerHandler("/missing", (request, response, context) -> {
+                    response.setEntity(new StringEntity("Not here", "ASCII"));
+                    response.setStatusCode(HttpStatus.SC_NOT_FOUND);
+                }).create();
+        localServer.start();
+
+        endpointUrl = "http://" + localServer.getInetAddress().getHostName() + ":" + localServer.getLocalPort();
+
+        super.setUp();
+    }
+
+    @AfterEach
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        if (localServer != null) {
+            localServer.stop();
+        }
+    }
+
+    @Test
+    public void testAsyncClient() throws Exception {
+        String uri = endpointUrl + "/echo?useAsyncClient=true";
+
+        Exchange out = template.request(uri, exchange -> exchange.getIn().setBody("World"));
+
+        assertNotNull(out);
+        assertFalse(out.isFailed(), "Should not fail");
+        assertEquals("Bye World", out.getMessage().getBody(String.class));
+        assertEquals(200, out.getMessage().getHeader(Exchange.HTTP_RESPONSE_CODE));
+
+        HttpEndpoint http = context.getEndpoint(uri, HttpEndpoint.class);
+        Producer producer = http.createProducer();
+        assertTrue(producer instanceof HttpAsyncProducer);
+
+        assertEquals(1, http.getAsyncClientCompletedRequests());
+        assertEquals(0, http.getAsyncClientInflightRequests());
+        assertEquals(0, http.getAsyncClientFailedRequests());
+        assertEquals(200, http.getAsyncClientConnectionsPoolStatsMax());
+        assertEquals(0, http.getAsyncClientConnectionsPoolStatsLeased());
+    }
+
+    @Test
+    public void testAsyncClientConcurrent() throws Exception {
+        String uri = endpointUrl + "/echo?useAsyncClient=true";
+
+        List<CompletableFuture<Object>> replies = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            replies.add(template.asyncRequestBody(uri, "World " + i));
+        }
+        for (int i = 0; i < 20; i++) {
+            assertEquals("Bye World " + i, context.getTypeConverter().convertTo(String.class, replies.get(i).get()));
+        }
+
+        HttpEndpoint http = context.getEndpoint(uri, HttpEndpoint.class);
+        assertEquals(20, http.getAsyncClientCompletedRequests());
+        assertEquals(0, http.getAsyncClientInflightRequests());
+    }
+
+    @Test
+    public void testAsyncClientSharedConnectionManager() throws Exception {
+        HttpEndpoint echo = context.getEndpoint(endpointUrl + "/echo?useAsyncClient=true", HttpEndpoint.class);
+        HttpEndpoint missing = context.getEndpoint(endpointUrl + "/missing?useAsyncClient=true", HttpEndpoint.class);
+
+        assertNotNull(echo.getAsyncClientConnectionManager());
+        assertSame(echo.getAsyncClientConnectionManager(), missing.getAsyncClientConnectionManager());
+        assertSame(context.getComponent("http", HttpComponent.class).getAsyncClientConnectionManager(),
+                echo.getAsyncClientConnectionManager());
+        // the blocking connection manager is not in use
+        assertNull(echo.getClientConnectionManager());
+
+        // the connections are configured on the endpoint
+        HttpEndpoint custom = context.getEndpoint(endpointUrl + "/echo?useAsyncClient=true&connectionsPerRoute=5",
+                HttpEndpoint.class);
+        assertNotSame(echo.getAsyncClientConnectionManager(), custom.getAsyncClientConnectionManager());
+    }
+
+    @Test
+    public void testAsyncClientCompletesOnProducerThread() throws Exception {
+        HttpEndpoint http = context.getEndpoint(endpointUrl + "/echo?useAsyncClient=true", HttpEndpoint.class);
+        HttpAsyncProducer producer = (HttpAsyncProducer) http.createProducer();
+        producer.start();
+
+        Exchange exchange = http.createExchange();
+        exchange.getIn().setBody("World");
+        CompletableFuture<String> thread = new CompletableFuture<>();
+        producer.process(exchange, doneSync -> thread.complete(Thread.currentThread().getName()));
+
+        // the exchange is not completed on the IO reactor threads of the client
+        String name = thread.get(10, TimeUnit.SECONDS);
+        assertTrue(name.endsWith("HttpAsyncProducer"), "Should complete on the producer thread pool: " + name);
+        assertEquals("Bye World", exchange.getMessage().getBody(String.class));
+
+        producer.stop();
+    }
+
+    @Test
+    public void testAsyncClientOperationFailed() throws Exception {
+        String uri = endpointUrl + "/missing?useAsyncClient=true";
+
+        Exchange out = template.request(uri, exchange -> exchange.getIn().setBody("World"));
+
+        assertNotNull(out);
+        HttpOperationFailedException cause = out.getException(HttpOperationFailedException.class);
+        assertNotNull(cause);
+        assertEquals(404, cause.getStatusCode());
+        assertEquals("Not here", cause.getResponseBody());
+    }
+
+}
@@ -26,7 +26,8 @@ import org.apache.camel.spi.annotations.Dataformat;
  * Marshal POJOs to Avro and back using Jackson.
  */
 @Dataformat("avro-jackson")
-@Metadata(firstVersion = "3.10.0", title = "Avro Jackson", excludeProperties = "library,instanceClassName,schema")
+@Metadata(firstVersion = "3.10.0", title = "Avro Jackson",
+          excludeProperties = "library,instanceClassName,schema,containerFile,codec")
 public class JacksonAvroDataFormat extends AbstractJacksonDataFormat {
 
     /**
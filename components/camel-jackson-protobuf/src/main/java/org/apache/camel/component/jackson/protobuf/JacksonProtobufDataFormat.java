@@ -27,7 +27,7 @@ import org.apache.camel.spi.annotations.Dataformat;
  */
 @Dataformat("protobuf-jackson")
 @Metadata(firstVersion = "3.10.0", title = "Protobuf Jackson",
-          excludeProperties = "library,instanceClass,contentTypeFormat,defaultInstance")
+          excludeProperties = "library,instanceClass,contentTypeFormat,delimited,defaultInstance")
 public class JacksonProtobufDataFormat extends AbstractJacksonDataFormat {
 
     /**
@@ -26,15 +26,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.FormatSchema;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.type.CollectionType;
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
@@ -71,6 +74,7 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
     private boolean prettyPrint;
     private boolean allowJmsType;
     private boolean useList;
+    private boolean lazyLoad;
     private String enableFeatures;
     private String disableFeatures;
     private boolean enableJacksonTypeConverter;
@@ -80,6 +84,9 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
     private boolean autoDiscoverObjectMapper;
     private SchemaResolver schemaResolver;
     private boolean autoDiscoverSchemaResolver = true;
+    // readers and writers are immutable and thread-safe, so they are created once and reused
+    private final Map<JavaType, ObjectReader> objectReaders = new ConcurrentHashMap<>();
+    private ObjectWriter objectWriter;
 
     /**
      * Use the default Jackson {@link ObjectMapper} and {@link Object}
@@ -149,7 +156,7 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
         if (this.schemaResolver != null) {
             schema = this.schemaResolver.resolve(exchange);
         }
-        this.objectMapper.writerWithView(jsonView).with(schema).writeValue(stream, graph);
+        this.objectWriter.with(schema).writeValue(stream, graph);
 
         if (contentTypeHeader) {
             if (exchange.hasOut()) {
@@ -178,11 +185,18 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
         if (type != null) {
             clazz = exchange.getContext().getClassResolver().resolveMandatoryClass(type);
         }
-        if (collectionType != null) {
-            CollectionType collType = objectMapper.getTypeFactory().constructCollectionType(collectionType, clazz);
-            return this.objectMapper.readerFor(collType).with(schema).readValue(stream);
+        JavaType javaType;
+        if (collectionType != null && !lazyLoad) {
+            javaType = objectMapper.getTypeFactory().constructCollectionType(collectionType, clazz);
         } else {
-            return this.objectMapper.reader(schema).readValue(stream, clazz);
+            javaType = objectMapper.getTypeFactory().constructType(clazz);
+        }
+        ObjectReader reader = objectReaders.computeIfAbsent(javaType, objectMapper::readerFor).with(schema);
+        if (lazyLoad) {
+            // the iterator reads the elements on the fly and closes the stream when there are no more elements
+            return reader.readValues(stream);
+        } else {
+            return reader.readValue(stream);
         }
     }
 
@@ -281,6 +295,18 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
         this.useList = useList;
     }
 
+    public boolean isLazyLoad() {
+        return lazyLoad;
+    }
+
+    /**
+     * Whether the unmarshalling should produce an iterator that reads the elements on the fly (a JSON array or a
+     * sequence of root values), or if all the elements must be read at once.
+     */
+    public void setLazyLoad(boolean lazyLoad) {
+        this.lazyLoad = lazyLoad;
+    }
+
     public List<Module> getModules() {
         return modules;
     }
@@ -666,11 +692,13 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
         } else {
             LOG.debug("The option autoDiscoverSchemaResolver is set to false, Camel won't search in the registry");
         }
+
+        objectWriter = objectMapper.writerWithView(jsonView);
     }
 
     @Override
     protected void doStop() throws Exception {
-        // noop
+        objectReaders.clear();
     }
 
     public abstract String getDataFormatName();
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jackson;
+
+import java.util.Iterator;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.model.dataformat.JsonDataFormat;
+import org.apache.camel.model.dataformat.JsonLibrary;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JacksonLazyLoadTest extends CamelTestSupport {
+
+    private static final int SIZE = 1000;
+
+    @Test
+    public void testUnmarshalIterator() throws Exception {
+        String json = "[{\"name\":\"Camel\"}, {\"name\":\"World\"}]";
+
+        Iterator<?> it = template.requestBody("direct:iterator", json, Iterator.class);
+        assertTrue(it.hasNext());
+        assertEquals("Camel", ((TestPojo) it.next()).getName());
+        assertEquals("World", ((TestPojo) it.next()).getName());
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void testUnmarshalIteratorRootValues() throws Exception {
+        String json = "{\"name\":\"Camel\"}\n{\"name\":\"World\"}";
+
+        Iterator<?> it = template.requestBody("direct:iterator", json, Iterator.class);
+        assertEquals("Camel", ((TestPojo) it.next()).getName());
+        assertEquals("World", ((TestPojo) it.next()).getName());
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void testSplitStreaming() throws Exception {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < SIZE; i++) {
+            if (i > 0) {
+                sb.append(",");
+            }
+            sb.append("{\"name\":\"Camel ").append(i).append("\"}");
+        }
+        sb.append("]");
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(SIZE);
+        mock.allMessages().body().isInstanceOf(TestPojo.class);
+        mock.message(SIZE - 1).simple("${body.name}").isEqualTo("Camel " + (SIZE - 1));
+
+        template.sendBody("direct:split", sb.toString());
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+
+            @Override
+            public void configure() throws Exception {
+                JacksonDataFormat format = new JacksonDataFormat(TestPojo.class);
+                format.setLazyLoad(true);
+
+                from("direct:iterator").unmarshal(format);
+
+                JsonDataFormat json = new JsonDataFormat(JsonLibrary.Jackson)
+                        .unmarshalType(TestPojo.class)
+                        .lazyLoad(true);
+
+                from("direct:split").unmarshal(json)
+                        .split(body()).streaming()
+                        .to("mock:result");
+            }
+        };
+    }
+
+}
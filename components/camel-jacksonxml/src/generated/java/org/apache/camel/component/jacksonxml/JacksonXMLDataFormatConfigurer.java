@@ -37,6 +37,8 @@ public class JacksonXMLDataFormatConfigurer extends PropertyConfigurerSupport im
         case "allowJmsType": dataformat.setAllowJmsType(property(camelContext, boolean.class, value)); return true;
         case "uselist":
         case "useList": dataformat.setUseList(property(camelContext, boolean.class, value)); return true;
+        case "lazyload":
+        case "lazyLoad": dataformat.setLazyLoad(property(camelContext, boolean.class, value)); return true;
         case "enablejaxbannotationmodule":
         case "enableJaxbAnnotationModule": dataformat.setEnableJaxbAnnotationModule(property(camelContext, boolean.class, value)); return true;
         case "enablefeatures":
@@ -25,13 +25,16 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.type.CollectionType;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import com.fasterxml.jackson.module.jaxb.JaxbAnnotationModule;
 import org.apache.camel.CamelContext;
@@ -73,12 +76,16 @@ public class JacksonXMLDataFormat extends ServiceSupport
     private boolean prettyPrint;
     private boolean allowJmsType;
     private boolean useList;
+    private boolean lazyLoad;
     private boolean enableJaxbAnnotationModule;
     private String enableFeatures;
     private String disableFeatures;
     private boolean enableJacksonTypeConverter;
     private boolean allowUnmarshallType;
     private boolean contentTypeHeader = true;
+    // readers and writers are immutable and thread-safe, so they are created once and reused
+    private final Map<JavaType, ObjectReader> objectReaders = new ConcurrentHashMap<>();
+    private ObjectWriter objectWriter;
     private TimeZone timezone;
 
     /**
@@ -163,7 +170,7 @@ public class JacksonXMLDataFormat extends ServiceSupport
 
     @Override
     public void marshal(Exchange exchange, Object graph, OutputStream stream) throws Exception {
-        this.xmlMapper.writerWithView(jsonView).writeValue(stream, graph);
+        this.objectWriter.writeValue(stream, graph);
 
         if (contentTypeHeader) {
             exchange.getMessage().setHeader(Exchange.CONTENT_TYPE, "application/xml");
@@ -185,11 +192,18 @@ public class JacksonXMLDataFormat extends ServiceSupport
         if (type != null) {
             clazz = exchange.getContext().getClassResolver().resolveMandatoryClass(type);
         }
-        if (collectionType != null) {
-            CollectionType collType = xmlMapper.getTypeFactory().constructCollectionType(collectionType, clazz);
-            return this.xmlMapper.readValue(stream, collType);
+        JavaType javaType;
+        if (collectionType != null && !lazyLoad) {
+            javaType = xmlMapper.getTypeFactory().constructCollectionType(collectionType, clazz);
         } else {
-            return this.xmlMapper.readValue(stream, clazz);
+            javaType = xmlMapper.getTypeFactory().constructType(clazz);
+        }
+        ObjectReader reader = objectReaders.computeIfAbsent(javaType, xmlMapper::readerFor);
+        if (lazyLoad) {
+            // the iterator reads the child elements on the fly and closes the stream when there are no more elements
+            return new JacksonXMLIterator(xmlMapper.getFactory(), reader, stream);
+        } else {
+            return reader.readValue(stream);
         }
     }
 
@@ -280,6 +294,18 @@ public class JacksonXMLDataFormat extends ServiceSupport
         this.useList = useList;
     }
 
+    public boolean isLazyLoad() {
+        return lazyLoad;
+    }
+
+    /**
+     * Whether the unmarshalling should produce an iterator that reads the child elements of the root element on the
+     * fly, or if all the elements must be read at once.
+     */
+    public void setLazyLoad(boolean lazyLoad) {
+        this.lazyLoad = lazyLoad;
+    }
+
     public boolean isEnableJaxbAnnotationModule() {
         return enableJaxbAnnotationModule;
     }
@@ -605,11 +631,13 @@ public class JacksonXMLDataFormat extends ServiceSupport
             LOG.debug("Setting timezone to XML Mapper: {}", timezone);
             xmlMapper.setTimeZone(timezone);
         }
+
+        objectWriter = xmlMapper.writerWithView(jsonView);
     }
 
     @Override
     protected void doStop() throws Exception {
-        // noop
+        objectReaders.clear();
     }
 
 }
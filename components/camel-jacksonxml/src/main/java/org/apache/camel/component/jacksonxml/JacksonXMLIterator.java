@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jacksonxml;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.xml.XmlFactory;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * An iterator which unmarshals the child elements of the root element one at a time, which is used when lazy load is
+ * enabled, so the elements are not all read into memory.
+ * <p/>
+ * The input is closed when there are no more elements, or when an exception is thrown.
+ */
+public class JacksonXMLIterator implements Iterator<Object>, Closeable {
+
+    private final XmlFactory factory;
+    private final ObjectReader reader;
+    private final InputStream input;
+    private final XMLStreamReader xmlReader;
+    private boolean closed;
+
+    public JacksonXMLIterator(XmlFactory factory, ObjectReader reader, InputStream input) throws XMLStreamException {
+        this.factory = factory;
+        this.reader = reader;
+        this.input = input;
+        this.xmlReader = factory.getXMLInputFactory().createXMLStreamReader(input);
+        // move to the first child element of the root element (if any)
+        xmlReader.nextTag();
+        xmlReader.nextTag();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!closed && xmlReader.getEventType() != XMLStreamConstants.START_ELEMENT) {
+            IOHelper.close(this);
+        }
+        return !closed;
+    }
+
+    @Override
+    public Object next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            Object answer = reader.readValue(factory.createParser(xmlReader));
+            // the reader is positioned at the end of the element, so move to the next element (if any)
+            xmlReader.nextTag();
+            return answer;
+        } catch (Exception e) {
+            IOHelper.close(this);
+            throw RuntimeCamelException.wrapRuntimeException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            try {
+                xmlReader.close();
+            } catch (XMLStreamException e) {
+                // ignore
+            }
+            input.close();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jacksonxml;
+
+import java.util.Iterator;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JacksonLazyLoadTest extends CamelTestSupport {
+
+    private static final int SIZE = 1000;
+
+    @Test
+    public void testUnmarshalIterator() throws Exception {
+        String xml = "<list>\n  <pojo name=\"Camel\"/>\n  <pojo><name>World</name></pojo>\n</list>";
+
+        Iterator<?> it = template.requestBody("direct:iterator", xml, Iterator.class);
+        assertTrue(it.hasNext());
+        assertEquals("Camel", ((TestPojo) it.next()).getName());
+        assertEquals("World", ((TestPojo) it.next()).getName());
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void testUnmarshalIteratorEmpty() throws Exception {
+        Iterator<?> it = template.requestBody("direct:iterator", "<list/>", Iterator.class);
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void testSplitStreaming() throws Exception {
+        StringBuilder sb = new StringBuilder("<list>");
+        for (int i = 0; i < SIZE; i++) {
+            sb.append("<pojo name=\"Camel ").append(i).append("\"/>");
+        }
+        sb.append("</list>");
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(SIZE);
+        mock.allMessages().body().isInstanceOf(TestPojo.class);
+        mock.message(SIZE - 1).simple("${body.name}").isEqualTo("Camel " + (SIZE - 1));
+
+        template.sendBody("direct:split", sb.toString());
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+
+            @Override
+            public void configure() throws Exception {
+                JacksonXMLDataFormat format = new JacksonXMLDataFormat(TestPojo.class);
+                format.setLazyLoad(true);
+
+                from("direct:iterator").unmarshal(format);
+
+                from("direct:split").unmarshal(format)
+                        .split(body()).streaming()
+                        .to("mock:result");
+            }
+        };
+    }
+
+}
@@ -51,6 +51,10 @@ public class JaxbDataFormatConfigurer extends PropertyConfigurerSupport implemen
         case "jaxbProviderProperties": dataformat.setJaxbProviderProperties(property(camelContext, java.util.Map.class, value)); return true;
         case "contenttypeheader":
         case "contentTypeHeader": dataformat.setContentTypeHeader(property(camelContext, boolean.class, value)); return true;
+        case "streamingelement":
+        case "streamingElement": dataformat.setStreamingElement(property(camelContext, javax.xml.namespace.QName.class, value)); return true;
+        case "streamingrootelement":
+        case "streamingRootElement": dataformat.setStreamingRootElement(property(camelContext, javax.xml.namespace.QName.class, value)); return true;
         default: return false;
         }
     }
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.converter.jaxb;
 
+import java.io.Closeable;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
@@ -25,6 +26,9 @@ import java.io.UnsupportedEncodingException;
 import java.lang.reflect.Method;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.BlockingQueue;
@@ -54,6 +58,7 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.ExtendedExchange;
 import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.TypeConverter;
 import org.apache.camel.spi.DataFormat;
@@ -62,6 +67,7 @@ import org.apache.camel.spi.DataFormatName;
 import org.apache.camel.spi.annotations.Dataformat;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.ResourceHelper;
+import org.apache.camel.support.SynchronizationAdapter;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
@@ -108,6 +114,12 @@ public class JaxbDataFormat extends ServiceSupport
     private Schema cachedSchema;
     private Map<String, Object> jaxbProviderProperties;
     private boolean contentTypeHeader = true;
+    // streaming support
+    private QName streamingElement;
+    private QName streamingRootElement;
+    // the marshallers and unmarshallers are not thread safe, so each instance is only used by one thread at a time
+    private final BlockingQueue<Marshaller> marshallerPool = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Unmarshaller> unmarshallerPool = new LinkedBlockingQueue<>();
 
     public JaxbDataFormat() {
     }
@@ -127,13 +139,20 @@ public class JaxbDataFormat extends ServiceSupport
 
     @Override
     public void marshal(Exchange exchange, Object graph, OutputStream stream) throws IOException {
+        // JAX-RI custom properties from the exchange take precedence over the properties from the instance
+        Map<String, Object> customProperties = exchange.getProperty(JaxbConstants.JAXB_PROVIDER_PROPERTIES, Map.class);
+        // the pooled marshallers are configured with the properties from the instance, so a new
+        // marshaller must be created if the exchange has custom properties
+        boolean pooled = customProperties == null;
+        Marshaller marshaller = null;
         try {
-            // must create a new instance of marshaller as its not thread safe
-            Marshaller marshaller = createMarshaller();
-
-            if (isPrettyPrint()) {
-                marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+            if (pooled) {
+                marshaller = acquireMarshaller();
+            } else {
+                marshaller = createMarshaller();
+                configureMarshaller(marshaller, customProperties);
             }
+
             // exchange take precedence over encoding option
             String charset = exchange.getProperty(ExchangePropertyKey.CHARSET_NAME, String.class);
             if (charset == null) {
@@ -146,32 +165,11 @@ public class JaxbDataFormat extends ServiceSupport
             if (charset != null) {
                 marshaller.setProperty(Marshaller.JAXB_ENCODING, charset);
             }
-            if (isFragment()) {
-                marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
-            }
-            if (ObjectHelper.isNotEmpty(schemaLocation)) {
-                marshaller.setProperty(Marshaller.JAXB_SCHEMA_LOCATION, schemaLocation);
-            }
-            if (ObjectHelper.isNotEmpty(noNamespaceSchemaLocation)) {
-                marshaller.setProperty(Marshaller.JAXB_NO_NAMESPACE_SCHEMA_LOCATION, noNamespaceSchemaLocation);
-            }
-            if (namespacePrefixMapper != null) {
-                marshaller.setProperty(namespacePrefixMapper.getRegistrationKey(), namespacePrefixMapper);
-            }
-            // Inject any JAX-RI custom properties from the exchange or from the instance into the marshaller
-            Map<String, Object> customProperties = exchange.getProperty(JaxbConstants.JAXB_PROVIDER_PROPERTIES, Map.class);
-            if (customProperties == null) {
-                customProperties = getJaxbProviderProperties();
-            }
-            if (customProperties != null) {
-                for (Entry<String, Object> property : customProperties.entrySet()) {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Using JAXB Provider Property {}={}", property.getKey(), property.getValue());
-                    }
-                    marshaller.setProperty(property.getKey(), property.getValue());
-                }
+            if (streamingRootElement != null) {
+                doMarshalStreaming(exchange, graph, stream, marshaller, charset);
+            } else {
+                doMarshal(exchange, graph, stream, marshaller, charset);
             }
-            doMarshal(exchange, graph, stream, marshaller, charset);
 
             if (contentTypeHeader) {
                 if (exchange.hasOut()) {
@@ -181,7 +179,87 @@ public class JaxbDataFormat extends ServiceSupport
                 }
             }
         } catch (Exception e) {
+            // do not reuse a marshaller which failed
+            pooled = false;
             throw new IOException(e);
+        } finally {
+            if (pooled && marshaller != null) {
+                releaseMarshaller(marshaller);
+            }
+        }
+    }
+
+    /**
+     * Marshals the elements of the message body one at a time between the start and the end of the root element, so the
+     * elements can be read from an iterator without keeping all of them in memory.
+     */
+    void doMarshalStreaming(Exchange exchange, Object graph, OutputStream stream, Marshaller marshaller, String charset)
+            throws Exception {
+        Iterator<?> it = createIterator(graph);
+        XMLStreamWriter writer = typeConverter.mandatoryConvertTo(XMLStreamWriter.class, exchange, stream);
+        if (needFiltering(exchange)) {
+            writer = new FilteringXmlStreamWriter(writer, charset);
+        }
+        if (xmlStreamWriterWrapper != null) {
+            writer = xmlStreamWriterWrapper.wrapWriter(writer);
+        }
+
+        // the elements are written as fragments of the document
+        marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+        try {
+            if (!isFragment()) {
+                writer.writeStartDocument(charset != null ? charset : "UTF-8", "1.0");
+            }
+            String namespace = streamingRootElement.getNamespaceURI();
+            String prefix = streamingRootElement.getPrefix();
+            writer.writeStartElement(prefix, streamingRootElement.getLocalPart(), namespace);
+            if (!namespace.isEmpty()) {
+                if (prefix.isEmpty()) {
+                    writer.writeDefaultNamespace(namespace);
+                } else {
+                    writer.writeNamespace(prefix, namespace);
+                }
+            }
+            while (it.hasNext()) {
+                marshaller.marshal(toJaxbElement(exchange, it.next()), writer);
+            }
+            writer.writeEndElement();
+            writer.writeEndDocument();
+            writer.flush();
+        } finally {
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, isFragment());
+            if (it instanceof Closeable) {
+                IOHelper.close((Closeable) it);
+            }
+        }
+    }
+
+    private Object toJaxbElement(Exchange exchange, Object value) throws Exception {
+        if (partClass != null && partNamespace != null) {
+            return new JAXBElement<>(partNamespace, (Class<Object>) partClass, value);
+        }
+        if (introspector.isElement(value)) {
+            return value;
+        }
+        if (objectFactory && value != null) {
+            Method objectFactoryMethod = JaxbHelper.getJaxbElementFactoryMethod(camelContext, value.getClass());
+            if (objectFactoryMethod != null) {
+                Object instance = objectFactoryMethod.getDeclaringClass().getDeclaredConstructor().newInstance();
+                return objectFactoryMethod.invoke(instance, value);
+            }
+        }
+        throw new InvalidPayloadException(exchange, JAXBElement.class);
+    }
+
+    private static Iterator<?> createIterator(Object graph) {
+        if (graph instanceof Iterator) {
+            return (Iterator<?>) graph;
+        } else if (graph instanceof Iterable) {
+            return ((Iterable<?>) graph).iterator();
+        } else if (graph instanceof Object[]) {
+            return Arrays.asList((Object[]) graph).iterator();
+        } else {
+            return Collections.singleton(graph).iterator();
         }
     }
 
@@ -290,19 +368,36 @@ public class JaxbDataFormat extends ServiceSupport
                 xmlReader = typeConverter.convertTo(XMLStreamReader.class, exchange, stream);
             }
             String partClassFromHeader = exchange.getIn().getHeader(JaxbConstants.JAXB_PART_CLASS, String.class);
-            if (partClass != null || partClassFromHeader != null) {
+            if (partClassFromHeader != null) {
                 // partial unmarshalling
-                if (partClassFromHeader != null) {
-                    try {
-                        partClass = camelContext.getClassResolver().resolveMandatoryClass(partClassFromHeader, Object.class);
-                    } catch (ClassNotFoundException e) {
-                        throw new JAXBException(e);
-                    }
+                try {
+                    partClass = camelContext.getClassResolver().resolveMandatoryClass(partClassFromHeader, Object.class);
+                } catch (ClassNotFoundException e) {
+                    throw new JAXBException(e);
                 }
-                answer = createUnmarshaller().unmarshal(xmlReader, partClass);
+            }
+
+            Unmarshaller unmarshaller = acquireUnmarshaller();
+            if (streamingElement != null) {
+                // the iterator uses the unmarshaller until it is closed
+                JaxbStreamingIterator iterator
+                        = new JaxbStreamingIterator(this, xmlReader, stream, streamingElement, partClass, unmarshaller);
+                // add to UoW so we can close the iterator so it can release any resources
+                exchange.adapt(ExtendedExchange.class).addOnCompletion(new SynchronizationAdapter() {
+                    @Override
+                    public void onDone(Exchange exchange) {
+                        IOHelper.close(iterator);
+                    }
+                });
+                return iterator;
+            }
+            if (partClass != null) {
+                answer = unmarshaller.unmarshal(xmlReader, partClass);
             } else {
-                answer = createUnmarshaller().unmarshal(xmlReader);
+                answer = unmarshaller.unmarshal(xmlReader);
             }
+            // only reuse the unmarshaller if the unmarshalling succeeded
+            releaseUnmarshaller(unmarshaller);
 
             if (answer instanceof JAXBElement && isIgnoreJAXBElement()) {
                 answer = ((JAXBElement<?>) answer).getValue();
@@ -510,6 +605,31 @@ public class JaxbDataFormat extends ServiceSupport
         this.contentTypeHeader = contentTypeHeader;
     }
 
+    public QName getStreamingElement() {
+        return streamingElement;
+    }
+
+    /**
+     * The name of the repeating element to unmarshal one at a time. When set, the unmarshalling returns an iterator
+     * which reads the document with StAX and unmarshals each element on demand.
+     */
+    public void setStreamingElement(QName streamingElement) {
+        this.streamingElement = streamingElement;
+    }
+
+    public QName getStreamingRootElement() {
+        return streamingRootElement;
+    }
+
+    /**
+     * The name of the root element which wraps the elements when marshalling in streaming mode. When set, the elements
+     * of the message body (such as an iterator or a collection) are marshalled one at a time between the start and the
+     * end of this element.
+     */
+    public void setStreamingRootElement(QName streamingRootElement) {
+        this.streamingRootElement = streamingRootElement;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     protected void doStart() throws Exception {
@@ -534,6 +654,8 @@ public class JaxbDataFormat extends ServiceSupport
 
     @Override
     protected void doStop() throws Exception {
+        marshallerPool.clear();
+        unmarshallerPool.clear();
     }
 
     /**
@@ -601,6 +723,63 @@ public class JaxbDataFormat extends ServiceSupport
         return marshaller;
     }
 
+    private Marshaller acquireMarshaller() throws JAXBException {
+        Marshaller marshaller = marshallerPool.poll();
+        if (marshaller == null) {
+            marshaller = createMarshaller();
+            configureMarshaller(marshaller, getJaxbProviderProperties());
+        }
+        return marshaller;
+    }
+
+    private void releaseMarshaller(Marshaller marshaller) {
+        try {
+            // reset the encoding which may be set from the exchange
+            marshaller.setProperty(Marshaller.JAXB_ENCODING, encoding != null ? encoding : "UTF-8");
+            marshallerPool.offer(marshaller);
+        } catch (JAXBException e) {
+            LOG.debug("Cannot reuse marshaller due to {}. This exception is ignored.", e.getMessage(), e);
+        }
+    }
+
+    private void configureMarshaller(Marshaller marshaller, Map<String, Object> customProperties) throws JAXBException {
+        if (isPrettyPrint()) {
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+        }
+        if (isFragment()) {
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+        }
+        if (ObjectHelper.isNotEmpty(schemaLocation)) {
+            marshaller.setProperty(Marshaller.JAXB_SCHEMA_LOCATION, schemaLocation);
+        }
+        if (ObjectHelper.isNotEmpty(noNamespaceSchemaLocation)) {
+            marshaller.setProperty(Marshaller.JAXB_NO_NAMESPACE_SCHEMA_LOCATION, noNamespaceSchemaLocation);
+        }
+        if (namespacePrefixMapper != null) {
+            marshaller.setProperty(namespacePrefixMapper.getRegistrationKey(), namespacePrefixMapper);
+        }
+        // Inject any JAX-RI custom properties into the marshaller
+        if (customProperties != null) {
+            for (Entry<String, Object> property : customProperties.entrySet()) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Using JAXB Provider Property {}={}", property.getKey(), property.getValue());
+                }
+                marshaller.setProperty(property.getKey(), property.getValue());
+            }
+        }
+    }
+
+    private Unmarshaller acquireUnmarshaller() throws JAXBException {
+        Unmarshaller unmarshaller = unmarshallerPool.poll();
+        return unmarshaller != null ? unmarshaller : createUnmarshaller();
+    }
+
+    void releaseUnmarshaller(Unmarshaller unmarshaller) {
+        if (unmarshaller != null) {
+            unmarshallerPool.offer(unmarshaller);
+        }
+    }
+
     private Schema createSchema(Source[] sources) throws SAXException {
         SchemaFactory factory = getOrCreateSchemaFactory();
         try {
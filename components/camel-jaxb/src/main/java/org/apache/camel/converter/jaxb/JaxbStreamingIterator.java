@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.jaxb;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * An iterator which unmarshals the repeating elements of a XML document one at a time, by moving a
+ * {@link XMLStreamReader} to each element with the given name, so the whole document is never loaded into memory.
+ * <p/>
+ * The unmarshaller is only used by this iterator until it is closed, which happens when there are no more elements.
+ */
+class JaxbStreamingIterator implements Iterator<Object>, Closeable {
+
+    private final JaxbDataFormat dataFormat;
+    private final XMLStreamReader reader;
+    private final InputStream stream;
+    private final QName element;
+    private final Class<?> partClass;
+    private Unmarshaller unmarshaller;
+    private Object next;
+    private boolean closed;
+
+    JaxbStreamingIterator(JaxbDataFormat dataFormat, XMLStreamReader reader, InputStream stream, QName element,
+                          Class<?> partClass, Unmarshaller unmarshaller) {
+        this.dataFormat = dataFormat;
+        this.reader = reader;
+        this.stream = stream;
+        this.element = element;
+        this.partClass = partClass;
+        this.unmarshaller = unmarshaller;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !closed) {
+            try {
+                next = readNext();
+            } catch (Exception e) {
+                IOHelper.close(this);
+                throw RuntimeCamelException.wrapRuntimeException(e);
+            }
+            if (next == null) {
+                IOHelper.close(this);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public Object next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Object answer = next;
+        next = null;
+        return answer;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            dataFormat.releaseUnmarshaller(unmarshaller);
+            unmarshaller = null;
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                throw new IOException(e);
+            } finally {
+                IOHelper.close(stream);
+            }
+        }
+    }
+
+    private Object readNext() throws XMLStreamException, JAXBException {
+        while (reader.hasNext()) {
+            // the reader is positioned right after the end of the previous element
+            if (reader.isStartElement() && matches(reader.getName())) {
+                Object answer = partClass != null
+                        ? unmarshaller.unmarshal(reader, partClass) : unmarshaller.unmarshal(reader);
+                if (answer instanceof JAXBElement && dataFormat.isIgnoreJAXBElement()) {
+                    answer = ((JAXBElement<?>) answer).getValue();
+                }
+                return answer;
+            }
+            reader.next();
+        }
+        return null;
+    }
+
+    private boolean matches(QName name) {
+        if (!element.getLocalPart().equals(name.getLocalPart())) {
+            return false;
+        }
+        // an element name without namespace matches the elements of any namespace
+        return element.getNamespaceURI().isEmpty() || element.getNamespaceURI().equals(name.getNamespaceURI());
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.example;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.xml.namespace.QName;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.converter.jaxb.JaxbDataFormat;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DataFormatStreamingTest extends CamelTestSupport {
+
+    private static final int SIZE = 1000;
+
+    @Test
+    public void testMarshalIteratorAndSplitStreaming() throws Exception {
+        // the orders are created on demand while marshalling
+        String xml = template.requestBody("direct:marshal", new PurchaseOrderIterator(), String.class);
+
+        assertTrue(xml.startsWith("<?xml"), xml);
+        assertTrue(xml.contains("<orders xmlns=\"http://www.camel.apache.org/jaxb/example/order/1\">"), xml);
+        assertTrue(xml.endsWith("</orders>"), xml);
+
+        MockEndpoint mock = getMockEndpoint("mock:order");
+        mock.expectedMessageCount(SIZE);
+        mock.allMessages().body().isInstanceOf(PurchaseOrder.class);
+        mock.message(0).body().isEqualTo(createOrder(0));
+        mock.message(SIZE - 1).body().isEqualTo(createOrder(SIZE - 1));
+
+        template.sendBody("direct:split", xml);
+
+        mock.assertIsSatisfied();
+    }
+
+    @Test
+    public void testUnmarshalStreamingSkipsOtherElements() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:order");
+        mock.expectedBodiesReceived(createOrder(1), createOrder(2));
+
+        template.sendBody("direct:split",
+                "<orders><header>skipped</header>"
+                                          + "<purchaseOrder name=\"Order 1\" price=\"1.5\" amount=\"1.0\"/>"
+                                          + "<other><purchaseOrder name=\"Order 2\" price=\"3.0\" amount=\"2.0\"/></other>"
+                                          + "</orders>");
+
+        mock.assertIsSatisfied();
+    }
+
+    @Test
+    public void testUnmarshalStreamingClosedWhenDone() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        InputStream is = new ByteArrayInputStream(
+                "<orders><purchaseOrder name=\"Order 1\" price=\"1.5\" amount=\"1.0\"/></orders>".getBytes()) {
+            @Override
+            public void close() throws IOException {
+                closed.set(true);
+                super.close();
+            }
+        };
+
+        // the iterator is not read, so it is closed when the exchange is done
+        Iterator<?> it = template.requestBody("direct:unmarshal", is, Iterator.class);
+
+        assertTrue(closed.get());
+        assertFalse(it.hasNext());
+    }
+
+    private static PurchaseOrder createOrder(int i) {
+        PurchaseOrder order = new PurchaseOrder();
+        order.setName("Order " + i);
+        order.setAmount(i);
+        order.setPrice(i * 1.5);
+        return order;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                JaxbDataFormat marshal = new JaxbDataFormat(PurchaseOrder.class.getPackage().getName());
+                marshal.setStreamingRootElement(new QName("http://www.camel.apache.org/jaxb/example/order/1", "orders"));
+                from("direct:marshal").marshal(marshal);
+
+                JaxbDataFormat unmarshal = new JaxbDataFormat(PurchaseOrder.class.getPackage().getName());
+                unmarshal.setStreamingElement(new QName("purchaseOrder"));
+                from("direct:split").unmarshal(unmarshal)
+                        .split(body()).streaming()
+                        .to("mock:order");
+
+                from("direct:unmarshal").unmarshal(unmarshal);
+            }
+        };
+    }
+
+    private static class PurchaseOrderIterator implements Iterator<PurchaseOrder> {
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+            return index < SIZE;
+        }
+
+        @Override
+        public PurchaseOrder next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return createOrder(index++);
+        }
+    }
+}
@@ -20,7 +20,7 @@ public class JmsEndpointUriFactory extends org.apache.camel.support.component.En
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(97);
+        Set<String> props = new HashSet<>(98);
         props.add("includeSentJMSMessageID");
         props.add("asyncConsumer");
         props.add("mapJmsMessage");
@@ -36,6 +36,7 @@ public class JmsEndpointUriFactory extends org.apache.camel.support.component.En
         props.add("maxConcurrentConsumers");
         props.add("taskExecutor");
         props.add("priority");
+        props.add("replyToCorrelationShards");
         props.add("acknowledgementModeName");
         props.add("exposeListenerSession");
         props.add("receiveTimeout");
@@ -207,6 +207,12 @@ public class JmsConfiguration implements Cloneable {
     @UriParam(label = "producer", defaultValue = "1",
               description = "Specifies the maximum number of concurrent consumers for continue routing when timeout occurred when using request/reply over JMS.")
     private int replyToOnTimeoutMaxConcurrentConsumers = 1;
+    @UriParam(label = "producer,advanced", defaultValue = "1",
+              description = "Specifies the number of shards the correlation map of pending replies is divided into when using request/reply over JMS."
+                            + " The correlation ids are assigned to a shard by their hash code, which reduces lock contention when"
+                            + " many request/reply messages are in-flight. When using a shared reply queue with a dynamic message selector,"
+                            + " then a reply listener is created per shard which only selects the replies for the correlation ids of its shard.")
+    private int replyToCorrelationShards = 1;
     // JmsTemplate only
     @UriParam(label = "producer", defaultValue = "false",
               description = "Set if the deliveryMode, priority or timeToLive qualities of service should be used when sending messages."
@@ -1271,6 +1277,20 @@ public class JmsConfiguration implements Cloneable {
         this.replyToOnTimeoutMaxConcurrentConsumers = replyToOnTimeoutMaxConcurrentConsumers;
     }
 
+    public int getReplyToCorrelationShards() {
+        return replyToCorrelationShards;
+    }
+
+    /**
+     * Specifies the number of shards the correlation map of pending replies is divided into when using request/reply
+     * over JMS. The correlation ids are assigned to a shard by their hash code, which reduces lock contention when many
+     * request/reply messages are in-flight. When using a shared reply queue with a dynamic message selector, then a
+     * reply listener is created per shard which only selects the replies for the correlation ids of its shard.
+     */
+    public void setReplyToCorrelationShards(int replyToCorrelationShards) {
+        this.replyToCorrelationShards = replyToCorrelationShards;
+    }
+
     public boolean isExplicitQosEnabled() {
         return explicitQosEnabled != null ? explicitQosEnabled : false;
     }
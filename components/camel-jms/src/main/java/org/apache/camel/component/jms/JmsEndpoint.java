@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.jms;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -39,6 +41,7 @@ import org.apache.camel.Producer;
 import org.apache.camel.Service;
 import org.apache.camel.api.management.ManagedAttribute;
 import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.component.jms.reply.ReplyManagerSupport;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spi.HeaderFilterStrategyAware;
 import org.apache.camel.spi.Metadata;
@@ -76,6 +79,7 @@ public class JmsEndpoint extends DefaultEndpoint
     private static final Logger LOG = LoggerFactory.getLogger(JmsEndpoint.class);
 
     private final AtomicInteger runningMessageListeners = new AtomicInteger();
+    private final Set<ReplyManagerSupport> replyManagers = ConcurrentHashMap.newKeySet();
     private boolean pubSubDomain;
     private JmsBinding binding;
     @UriPath(defaultValue = "queue", enums = "queue,topic,temp-queue,temp-topic",
@@ -422,6 +426,14 @@ public class JmsEndpoint extends DefaultEndpoint
         runningMessageListeners.decrementAndGet();
     }
 
+    public void onReplyManagerStarted(ReplyManagerSupport replyManager) {
+        replyManagers.add(replyManager);
+    }
+
+    public void onReplyManagerStopped(ReplyManagerSupport replyManager) {
+        replyManagers.remove(replyManager);
+    }
+
     /**
      * State whether this endpoint is running (eg started)
      */
@@ -559,6 +571,11 @@ public class JmsEndpoint extends DefaultEndpoint
         return getConfiguration().getReplyToOnTimeoutMaxConcurrentConsumers();
     }
 
+    @ManagedAttribute
+    public int getReplyToCorrelationShards() {
+        return getConfiguration().getReplyToCorrelationShards();
+    }
+
     @ManagedAttribute
     public int getMaxMessagesPerTask() {
         return getConfiguration().getMaxMessagesPerTask();
@@ -800,6 +817,11 @@ public class JmsEndpoint extends DefaultEndpoint
         getConfiguration().setReplyToConcurrentConsumers(concurrentConsumers);
     }
 
+    @ManagedAttribute
+    public void setReplyToCorrelationShards(int replyToCorrelationShards) {
+        getConfiguration().setReplyToCorrelationShards(replyToCorrelationShards);
+    }
+
     public void setConnectionFactory(ConnectionFactory connectionFactory) {
         getConfiguration().setConnectionFactory(connectionFactory);
     }
@@ -1222,6 +1244,55 @@ public class JmsEndpoint extends DefaultEndpoint
         return runningMessageListeners.get();
     }
 
+    @ManagedAttribute(description = "Number of request/reply messages currently waiting for a reply")
+    public int getOutstandingReplies() {
+        int answer = 0;
+        for (ReplyManagerSupport replyManager : replyManagers) {
+            answer += replyManager.getOutstandingReplies();
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Number of reply messages received when using request/reply")
+    public long getRepliesReceived() {
+        long answer = 0;
+        for (ReplyManagerSupport replyManager : replyManagers) {
+            answer += replyManager.getRepliesReceived();
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Number of request/reply messages which timed out waiting for a reply")
+    public long getRepliesTimedOut() {
+        long answer = 0;
+        for (ReplyManagerSupport replyManager : replyManagers) {
+            answer += replyManager.getRepliesTimedOut();
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Mean time in millis from the request was sent until the reply message was received")
+    public long getMeanReplyTime() {
+        long count = 0;
+        long total = 0;
+        for (ReplyManagerSupport replyManager : replyManagers) {
+            count += replyManager.getRepliesReceived();
+            total += replyManager.getReplyTimeTotal();
+        }
+        return count > 0 ? total / count : 0;
+    }
+
+    @ManagedAttribute(description = "Mean time in millis from the request was sent until the timeout was triggered")
+    public long getMeanTimeoutTime() {
+        long count = 0;
+        long total = 0;
+        for (ReplyManagerSupport replyManager : replyManagers) {
+            count += replyManager.getRepliesTimedOut();
+            total += replyManager.getTimeoutTimeTotal();
+        }
+        return count > 0 ? total / count : 0;
+    }
+
     @ManagedAttribute
     public String getSelector() {
         return configuration.getSelector();
@@ -58,17 +58,18 @@ public class QueueReplyManager extends ReplyManagerSupport {
     public void updateCorrelationId(String correlationId, String newCorrelationId, long requestTimeout) {
         log.trace("Updated provisional correlationId [{}] to expected correlationId [{}]", correlationId, newCorrelationId);
 
-        ReplyHandler handler = correlation.remove(correlationId);
+        ReplyHandler handler = getCorrelation(correlationId).remove(correlationId);
         if (handler == null) {
             // should not happen that we can't find the handler
             return;
         }
 
-        correlation.put(newCorrelationId, handler, requestTimeout);
+        getCorrelation(newCorrelationId).put(newCorrelationId, handler, requestTimeout);
     }
 
     @Override
     protected void handleReplyMessage(String correlationID, Message message, Session session) {
+        CorrelationTimeoutMap correlation = getCorrelation(correlationID);
         ReplyHandler handler = correlation.get(correlationID);
         if (handler == null && endpoint.isUseMessageIDAsCorrelationID()) {
             handler = waitForProvisionCorrelationToBeUpdated(correlationID, message);
@@ -83,7 +84,7 @@ public class QueueReplyManager extends ReplyManagerSupport {
             // log a warn and then ignore the message
             log.warn(
                     "Reply received for unknown correlationID [{}] on reply destination [{}]. Current correlation map size: {}. The message will be ignored: {}",
-                    correlationID, replyTo, correlation.size(), message);
+                    correlationID, replyTo, getOutstandingReplies(), message);
         }
     }
 
@@ -120,8 +121,34 @@ public class QueueReplyManager extends ReplyManagerSupport {
         }
     }
 
+    @Override
+    protected AbstractMessageListenerContainer[] createListenerContainers() throws Exception {
+        ReplyToType type = endpoint.getConfiguration().getReplyToType();
+        if (correlations.length > 1 && (type == null || ReplyToType.Shared == type)
+                && endpoint.getReplyToDestinationSelectorName() == null) {
+            // use a listener container per correlation shard, where the dynamic message selector of each container
+            // only selects the replies for the correlation ids in its shard
+            AbstractMessageListenerContainer[] answer = new AbstractMessageListenerContainer[correlations.length];
+            for (int i = 0; i < correlations.length; i++) {
+                answer[i] = createListenerContainer(i);
+            }
+            return answer;
+        }
+        return super.createListenerContainers();
+    }
+
     @Override
     protected AbstractMessageListenerContainer createListenerContainer() throws Exception {
+        return createListenerContainer(-1);
+    }
+
+    /**
+     * Creates the listener container
+     *
+     * @param shard the correlation shard the listener container should select replies for when using a dynamic message
+     *              selector, or <tt>-1</tt> to select replies for all shards
+     */
+    protected AbstractMessageListenerContainer createListenerContainer(int shard) throws Exception {
         DefaultMessageListenerContainer answer;
 
         ReplyToType type = endpoint.getConfiguration().getReplyToType();
@@ -145,7 +172,8 @@ public class QueueReplyManager extends ReplyManagerSupport {
                         endpoint.getReplyTo(), fixedMessageSelector, answer);
             } else {
                 // use a dynamic message selector which will select the message we want to receive as reply
-                dynamicMessageSelector = new MessageSelectorCreator(correlation);
+                // (there is only one shard when not using a listener container per shard)
+                dynamicMessageSelector = new MessageSelectorCreator(correlations[Math.max(0, shard)]);
                 answer = new SharedQueueMessageListenerContainer(endpoint, dynamicMessageSelector);
                 // must use cache level session for dynamic message selector,
                 // as otherwise the dynamic message selector will not be updated on-the-fly
@@ -227,6 +255,9 @@ public class QueueReplyManager extends ReplyManagerSupport {
 
         // setup a bean name which is used by Spring JMS as the thread name
         String name = "QueueReplyManager[" + answer.getDestinationName() + "]";
+        if (shard >= 0) {
+            name = "QueueReplyManager[" + answer.getDestinationName() + "-" + shard + "]";
+        }
         answer.setBeanName(name);
 
         if (answer.getConcurrentConsumers() > 1) {
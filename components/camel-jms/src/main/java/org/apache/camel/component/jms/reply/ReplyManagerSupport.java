@@ -20,6 +20,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.jms.Destination;
 import javax.jms.JMSException;
@@ -52,11 +53,15 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
     protected ExecutorService executorService;
     protected JmsEndpoint endpoint;
     protected Destination replyTo;
-    protected AbstractMessageListenerContainer listenerContainer;
+    protected AbstractMessageListenerContainer[] listenerContainers;
     protected final CountDownLatch replyToLatch = new CountDownLatch(1);
     protected final long replyToTimeout = 10000;
-    protected CorrelationTimeoutMap correlation;
+    protected CorrelationTimeoutMap[] correlations;
     protected String correlationProperty;
+    private final LongAdder repliesReceived = new LongAdder();
+    private final LongAdder repliesTimedOut = new LongAdder();
+    private final LongAdder replyTimeTotal = new LongAdder();
+    private final LongAdder timeoutTimeTotal = new LongAdder();
 
     public ReplyManagerSupport(CamelContext camelContext) {
         this.camelContext = camelContext;
@@ -121,7 +126,7 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
                 replyManager, exchange, callback,
                 originalCorrelationId, correlationId, requestTimeout);
         // Just make sure we don't override the old value of the correlationId
-        ReplyHandler result = correlation.putIfAbsent(correlationId, handler, requestTimeout);
+        ReplyHandler result = getCorrelation(correlationId).putIfAbsent(correlationId, handler, requestTimeout);
         if (result != null) {
             String logMessage = String.format("The correlationId [%s] is not unique.", correlationId);
             throw new IllegalArgumentException(logMessage);
@@ -166,6 +171,9 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
 
                 boolean timeout = holder.isTimeout();
                 if (timeout) {
+                    repliesTimedOut.increment();
+                    timeoutTimeTotal.add(holder.getElapsed());
+
                     // timeout occurred do a WARN log so its easier to spot in the logs
                     if (log.isWarnEnabled()) {
                         log.warn(
@@ -180,6 +188,9 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
                                  + " not received on destination: " + replyTo;
                     exchange.setException(new ExchangeTimedOutException(exchange, holder.getRequestTimeout(), msg));
                 } else {
+                    repliesReceived.increment();
+                    replyTimeTotal.add(holder.getElapsed());
+
                     Message message = holder.getMessage();
                     Session session = holder.getSession();
                     JmsMessage response = new JmsMessage(exchange, message, session, endpoint.getBinding());
@@ -244,7 +255,7 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
             }
 
             // try again
-            answer = correlation.get(correlationID);
+            answer = getCorrelation(correlationID).get(correlationID);
             done = answer != null;
 
             if (answer != null) {
@@ -259,6 +270,75 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
         return answer;
     }
 
+    /**
+     * Gets the correlation map which holds the given correlation id. The correlation ids are sharded over a number of
+     * correlation maps by their hash, to reduce lock contention when many request/reply messages are in-flight.
+     */
+    protected CorrelationTimeoutMap getCorrelation(String correlationId) {
+        if (correlations.length == 1) {
+            return correlations[0];
+        }
+        return correlations[getShard(correlationId)];
+    }
+
+    /**
+     * Gets the shard index for the given correlation id
+     */
+    protected int getShard(String correlationId) {
+        return (correlationId.hashCode() & Integer.MAX_VALUE) % correlations.length;
+    }
+
+    /**
+     * Creates the listener containers to consume the reply messages.
+     * <p/>
+     * By default a single listener container is used for all the correlation shards.
+     */
+    protected AbstractMessageListenerContainer[] createListenerContainers() throws Exception {
+        return new AbstractMessageListenerContainer[] { createListenerContainer() };
+    }
+
+    /**
+     * Number of request/reply messages currently waiting for a reply
+     */
+    public int getOutstandingReplies() {
+        int size = 0;
+        CorrelationTimeoutMap[] maps = correlations;
+        if (maps != null) {
+            for (CorrelationTimeoutMap map : maps) {
+                size += map.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Number of reply messages received
+     */
+    public long getRepliesReceived() {
+        return repliesReceived.sum();
+    }
+
+    /**
+     * Number of request/reply messages which timed out waiting for a reply
+     */
+    public long getRepliesTimedOut() {
+        return repliesTimedOut.sum();
+    }
+
+    /**
+     * Total time in millis from the request was sent until the reply messages was received
+     */
+    public long getReplyTimeTotal() {
+        return replyTimeTotal.sum();
+    }
+
+    /**
+     * Total time in millis from the request was sent until the timeout was triggered
+     */
+    public long getTimeoutTimeTotal() {
+        return timeoutTimeTotal.sum();
+    }
+
     @Override
     protected void doStart() throws Exception {
         ObjectHelper.notNull(executorService, "executorService", this);
@@ -268,32 +348,42 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
         // timeout map to use for purging messages which have timed out, while waiting for an expected reply
         // when doing request/reply over JMS
         log.trace("Using timeout checker interval with {} millis", endpoint.getRequestTimeoutCheckerInterval());
-        correlation = new CorrelationTimeoutMap(
-                scheduledExecutorService, endpoint.getRequestTimeoutCheckerInterval(), executorService);
-        ServiceHelper.startService(correlation);
+        int shards = Math.max(1, endpoint.getConfiguration().getReplyToCorrelationShards());
+        correlations = new CorrelationTimeoutMap[shards];
+        for (int i = 0; i < shards; i++) {
+            correlations[i] = new CorrelationTimeoutMap(
+                    scheduledExecutorService, endpoint.getRequestTimeoutCheckerInterval(), executorService);
+        }
+        ServiceHelper.startService((Object[]) correlations);
 
-        // create JMS listener and start it
-        listenerContainer = createListenerContainer();
-        listenerContainer.afterPropertiesSet();
-        log.debug("Starting reply listener container on endpoint: {}", endpoint);
+        // create JMS listeners and start them
+        listenerContainers = createListenerContainers();
+        for (AbstractMessageListenerContainer listenerContainer : listenerContainers) {
+            listenerContainer.afterPropertiesSet();
+            log.debug("Starting reply listener container on endpoint: {}", endpoint);
 
-        endpoint.onListenerContainerStarting();
-        listenerContainer.start();
+            endpoint.onListenerContainerStarting();
+            listenerContainer.start();
+        }
+        endpoint.onReplyManagerStarted(this);
     }
 
     @Override
     protected void doStop() throws Exception {
-        ServiceHelper.stopService(correlation);
-
-        if (listenerContainer != null) {
-            log.debug("Stopping reply listener container on endpoint: {}", endpoint);
-            try {
-                listenerContainer.stop();
-                listenerContainer.destroy();
-            } finally {
-                endpoint.onListenerContainerStopped();
-                listenerContainer = null;
+        endpoint.onReplyManagerStopped(this);
+        ServiceHelper.stopService((Object[]) correlations);
+
+        if (listenerContainers != null) {
+            for (AbstractMessageListenerContainer listenerContainer : listenerContainers) {
+                log.debug("Stopping reply listener container on endpoint: {}", endpoint);
+                try {
+                    listenerContainer.stop();
+                    listenerContainer.destroy();
+                } finally {
+                    endpoint.onListenerContainerStopped();
+                }
             }
+            listenerContainers = null;
         }
 
         // must also stop executor service
@@ -66,14 +66,15 @@ public class TemporaryQueueReplyManager extends ReplyManagerSupport {
     public void updateCorrelationId(String correlationId, String newCorrelationId, long requestTimeout) {
         log.trace("Updated provisional correlationId [{}] to expected correlationId [{}]", correlationId, newCorrelationId);
 
-        ReplyHandler handler = correlation.remove(correlationId);
+        ReplyHandler handler = getCorrelation(correlationId).remove(correlationId);
         if (handler != null) {
-            correlation.put(newCorrelationId, handler, requestTimeout);
+            getCorrelation(newCorrelationId).put(newCorrelationId, handler, requestTimeout);
         }
     }
 
     @Override
     protected void handleReplyMessage(String correlationID, Message message, Session session) {
+        CorrelationTimeoutMap correlation = getCorrelation(correlationID);
         ReplyHandler handler = correlation.get(correlationID);
         if (handler == null && endpoint.isUseMessageIDAsCorrelationID()) {
             handler = waitForProvisionCorrelationToBeUpdated(correlationID, message);
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jms;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import javax.jms.ConnectionFactory;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.component.jms.JmsComponent.jmsComponentAutoAcknowledge;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JmsRequestReplySharedReplyToShardsTest extends CamelTestSupport {
+
+    private static final String URI
+            = "activemq:queue:foo?replyTo=bar&replyToType=Shared&replyToCorrelationShards=3&receiveTimeout=250";
+
+    @Test
+    public void testJmsRequestReplySharedReplyToShards() throws Exception {
+        List<Future<String>> replies = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            replies.add(template.asyncRequestBody(URI, "Camel " + i, String.class));
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals("Hello Camel " + i, replies.get(i).get());
+        }
+
+        JmsEndpoint endpoint = context.getEndpoint(URI, JmsEndpoint.class);
+        assertEquals(3, endpoint.getReplyToCorrelationShards());
+        // a reply listener per shard
+        assertEquals(3, endpoint.getRunningMessageListeners());
+        assertEquals(10, endpoint.getRepliesReceived());
+        assertEquals(0, endpoint.getRepliesTimedOut());
+        assertEquals(0, endpoint.getOutstandingReplies());
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext camelContext = super.createCamelContext();
+        ConnectionFactory connectionFactory = CamelJmsTestHelper.createConnectionFactory();
+        camelContext.addComponent("activemq", jmsComponentAutoAcknowledge(connectionFactory));
+        return camelContext;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("activemq:queue:foo?concurrentConsumers=5")
+                        .transform(body().prepend("Hello "));
+            }
+        };
+    }
+}
@@ -21,6 +21,9 @@ public final class JsonPathConstants {
     /** Header name for the encoding of the JSON document. */
     public static final String HEADER_JSON_ENCODING = "CamelJsonPathJsonEncoding";
 
+    /** Exchange property holding the cached parsed JSON document of the message body. */
+    public static final String DOCUMENT_CACHE = "CamelJsonPathDocumentCache";
+
     private JsonPathConstants() {
         // no instance
     }
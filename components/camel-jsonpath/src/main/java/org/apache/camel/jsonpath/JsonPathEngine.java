@@ -22,12 +22,14 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.Option;
 import com.jayway.jsonpath.spi.json.JacksonJsonProvider;
@@ -56,6 +58,7 @@ public class JsonPathEngine {
     private final String headerName;
     private final Configuration configuration;
     private final boolean hasSimple;
+    private final boolean cacheDocument;
     private JsonPathAdapter adapter;
     private volatile boolean initJsonAdapter;
 
@@ -66,7 +69,13 @@ public class JsonPathEngine {
 
     public JsonPathEngine(String expression, boolean writeAsString, boolean suppressExceptions, boolean allowSimple,
                           String headerName, Option[] options) {
+        this(expression, writeAsString, suppressExceptions, allowSimple, headerName, options, false);
+    }
+
+    public JsonPathEngine(String expression, boolean writeAsString, boolean suppressExceptions, boolean allowSimple,
+                          String headerName, Option[] options, boolean cacheDocument) {
         this.expression = expression;
+        this.cacheDocument = cacheDocument;
         this.writeAsString = writeAsString;
         this.headerName = headerName;
 
@@ -131,7 +140,8 @@ public class JsonPathEngine {
                 }
                 return list;
             } else if (answer instanceof Map) {
-                Map map = (Map) answer;
+                // the map may be part of a cached document, so the json values must be put in a copy
+                Map map = cacheDocument ? new LinkedHashMap((Map) answer) : (Map) answer;
                 for (Object key : map.keySet()) {
                     Object value = map.get(key);
                     if (adapter != null) {
@@ -156,61 +166,81 @@ public class JsonPathEngine {
     private Object doRead(String path, Exchange exchange) throws IOException, CamelExchangeException {
         Object json = headerName != null ? exchange.getIn().getHeader(headerName) : exchange.getIn().getBody();
 
+        DocumentContext document = null;
+        // only the message body is cached, and there is no need to cache bodies which are already parsed
+        boolean cache = cacheDocument && headerName == null && json != null && !(json instanceof Map)
+                && !(json instanceof List);
+        if (cache) {
+            Object cached = JsonPathDocumentCache.lookup(exchange, json);
+            if (cached != null) {
+                LOG.trace("JSonPath: {} is read from cached document", path);
+                document = JsonPath.using(configuration).parse(cached);
+            }
+        }
+        if (document == null) {
+            document = doParse(path, exchange, json);
+            if (cache && document != null) {
+                JsonPathDocumentCache.store(exchange, json, document.json());
+            }
+        }
+        if (document != null) {
+            return document.read(path);
+        }
+
+        // is json path configured to suppress exceptions
+        if (configuration.getOptions().contains(SUPPRESS_EXCEPTIONS)) {
+            if (configuration.getOptions().contains(ALWAYS_RETURN_LIST)) {
+                return Collections.emptyList();
+            } else {
+                return null;
+            }
+        }
+
+        // okay it was not then lets throw a failure
+        if (headerName != null) {
+            throw new CamelExchangeException("Cannot read message header " + headerName + " as supported JSON value", exchange);
+        } else {
+            throw new CamelExchangeException("Cannot read message body as supported JSON value", exchange);
+        }
+    }
+
+    private DocumentContext doParse(String path, Exchange exchange, Object json) throws IOException {
         if (json instanceof InputStream) {
-            return readWithInputStream(path, exchange);
+            return parseWithInputStream(path, exchange, json);
         } else if (json instanceof GenericFile) {
             LOG.trace("JSonPath: {} is read as generic file: {}", path, json);
             GenericFile<?> genericFile = (GenericFile<?>) json;
             if (genericFile.getCharset() != null) {
                 // special treatment for generic file with charset
                 InputStream inputStream = new FileInputStream((File) genericFile.getFile());
-                return JsonPath.using(configuration).parse(inputStream, genericFile.getCharset()).read(path);
+                return JsonPath.using(configuration).parse(inputStream, genericFile.getCharset());
             }
         }
 
         if (json instanceof String) {
             LOG.trace("JSonPath: {} is read as String: {}", path, json);
             String str = (String) json;
-            return JsonPath.using(configuration).parse(str).read(path);
+            return JsonPath.using(configuration).parse(str);
         } else if (json instanceof Map) {
             LOG.trace("JSonPath: {} is read as Map: {}", path, json);
             Map map = (Map) json;
-            return JsonPath.using(configuration).parse(map).read(path);
+            return JsonPath.using(configuration).parse(map);
         } else if (json instanceof List) {
             LOG.trace("JSonPath: {} is read as List: {}", path, json);
             List list = (List) json;
-            return JsonPath.using(configuration).parse(list).read(path);
+            return JsonPath.using(configuration).parse(list);
         } else {
             //try to auto convert into inputStream
-            Object answer = readWithInputStream(path, exchange);
+            DocumentContext answer = parseWithInputStream(path, exchange, json);
             if (answer == null) {
                 // fallback and attempt an adapter which can read the message body/header
-                answer = readWithAdapter(path, exchange);
-            }
-            if (answer != null) {
-                return answer;
+                answer = parseWithAdapter(path, exchange, json);
             }
-        }
-
-        // is json path configured to suppress exceptions
-        if (configuration.getOptions().contains(SUPPRESS_EXCEPTIONS)) {
-            if (configuration.getOptions().contains(ALWAYS_RETURN_LIST)) {
-                return Collections.emptyList();
-            } else {
-                return null;
-            }
-        }
-
-        // okay it was not then lets throw a failure
-        if (headerName != null) {
-            throw new CamelExchangeException("Cannot read message header " + headerName + " as supported JSON value", exchange);
-        } else {
-            throw new CamelExchangeException("Cannot read message body as supported JSON value", exchange);
+            return answer;
         }
     }
 
-    private Object readWithInputStream(String path, Exchange exchange) throws IOException {
-        Object json = headerName != null ? exchange.getIn().getHeader(headerName) : exchange.getIn().getBody();
+    private DocumentContext parseWithInputStream(String path, Exchange exchange, Object json) throws IOException {
         LOG.trace("JSonPath: {} is read as InputStream: {}", path, json);
 
         InputStream is = exchange.getContext().getTypeConverter().tryConvertTo(InputStream.class, exchange, json);
@@ -223,20 +253,19 @@ public class JsonPathEngine {
             String jsonEncoding = exchange.getIn().getHeader(JsonPathConstants.HEADER_JSON_ENCODING, String.class);
             if (jsonEncoding != null) {
                 // json encoding specified in header
-                return JsonPath.using(configuration).parse(is, jsonEncoding).read(path);
+                return JsonPath.using(configuration).parse(is, jsonEncoding);
             } else {
                 // No json encoding specified --> assume json encoding is unicode and determine the specific unicode encoding according to RFC-4627.
                 // This is a temporary solution, it can be removed as soon as jsonpath offers the encoding detection
                 JsonStream jsonStream = new JsonStream(is);
-                return JsonPath.using(configuration).parse(jsonStream, jsonStream.getEncoding().name()).read(path);
+                return JsonPath.using(configuration).parse(jsonStream, jsonStream.getEncoding().name());
             }
         }
 
         return null;
     }
 
-    private Object readWithAdapter(String path, Exchange exchange) {
-        Object json = headerName != null ? exchange.getIn().getHeader(headerName) : exchange.getIn().getBody();
+    private DocumentContext parseWithAdapter(String path, Exchange exchange, Object json) {
         LOG.trace("JSonPath: {} is read with adapter: {}", path, json);
 
         doInitAdapter(exchange);
@@ -254,7 +283,7 @@ public class JsonPathEngine {
                     LOG.debug("JacksonJsonAdapter converted object from: {} to: java.util.Map",
                             ObjectHelper.classCanonicalName(json));
                 }
-                return JsonPath.using(configuration).parse(map).read(path);
+                return JsonPath.using(configuration).parse(map);
             }
         }
 
@@ -44,6 +44,7 @@ public class JsonPathExpression extends ExpressionAdapter {
     private boolean writeAsString;
     private String headerName;
     private Option[] options;
+    private boolean cacheDocument;
 
     public JsonPathExpression(String expression) {
         this.expression = expression;
@@ -138,6 +139,19 @@ public class JsonPathExpression extends ExpressionAdapter {
         this.options = options;
     }
 
+    public boolean isCacheDocument() {
+        return cacheDocument;
+    }
+
+    /**
+     * Whether to cache the parsed JSON document of the message body on the exchange, so other jsonpath expressions
+     * evaluated on the same exchange can reuse the document instead of parsing the message body again. The cached
+     * document is invalidated when the message body is changed.
+     */
+    public void setCacheDocument(boolean cacheDocument) {
+        this.cacheDocument = cacheDocument;
+    }
+
     @Override
     public Object evaluate(Exchange exchange) {
         try {
@@ -175,7 +189,8 @@ public class JsonPathExpression extends ExpressionAdapter {
 
         LOG.debug("Initializing {} using: {}", predicate ? "predicate" : "expression", exp);
         try {
-            engine = new JsonPathEngine(exp, writeAsString, suppressExceptions, allowSimple, headerName, options);
+            engine = new JsonPathEngine(
+                    exp, writeAsString, suppressExceptions, allowSimple, headerName, options, cacheDocument);
         } catch (Exception e) {
             throw new ExpressionIllegalSyntaxException(exp, e);
         }
@@ -40,6 +40,7 @@ public class JsonPathLanguage extends LanguageSupport implements PropertyConfigu
     private boolean writeAsString;
     private String headerName;
     private Option[] options;
+    private boolean cacheDocument;
 
     public Class<?> getResultType() {
         return resultType;
@@ -97,6 +98,14 @@ public class JsonPathLanguage extends LanguageSupport implements PropertyConfigu
         this.options = options;
     }
 
+    public boolean isCacheDocument() {
+        return cacheDocument;
+    }
+
+    public void setCacheDocument(boolean cacheDocument) {
+        this.cacheDocument = cacheDocument;
+    }
+
     @Override
     public Predicate createPredicate(String expression) {
         JsonPathExpression answer = (JsonPathExpression) createExpression(expression);
@@ -115,6 +124,7 @@ public class JsonPathLanguage extends LanguageSupport implements PropertyConfigu
         answer.setWriteAsString(writeAsString);
         answer.setHeaderName(headerName);
         answer.setOptions(options);
+        answer.setCacheDocument(cacheDocument);
         answer.init(getCamelContext());
         return answer;
     }
@@ -143,6 +153,7 @@ public class JsonPathLanguage extends LanguageSupport implements PropertyConfigu
             }
             answer.setOptions(list.toArray(new Option[list.size()]));
         }
+        answer.setCacheDocument(cacheDocument);
         answer.init(getCamelContext());
         return answer;
     }
@@ -195,6 +206,10 @@ public class JsonPathLanguage extends LanguageSupport implements PropertyConfigu
             case "options":
                 setOptions(PropertyConfigurerSupport.property(camelContext, Option[].class, value));
                 return true;
+            case "cachedocument":
+            case "cacheDocument":
+                setCacheDocument(PropertyConfigurerSupport.property(camelContext, boolean.class, value));
+                return true;
             default:
                 return false;
         }
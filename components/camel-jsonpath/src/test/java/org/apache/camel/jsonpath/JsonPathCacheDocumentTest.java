@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jsonpath;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.file.Files;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class JsonPathCacheDocumentTest extends CamelTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        JsonPathLanguage jsonPath = (JsonPathLanguage) context.resolveLanguage("jsonpath");
+        jsonPath.setCacheDocument(true);
+        return context;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .choice()
+                        .when().jsonpath("$.store.book[?(@.price < 5)]")
+                        .to("mock:cheap")
+                        .when().jsonpath("$.store.book[?(@.price < 10)]")
+                        .to("mock:average")
+                        .otherwise()
+                        .to("mock:expensive");
+
+                from("direct:change")
+                        .setHeader("color").jsonpath("$.store.bicycle.color")
+                        .setHeader("cached", simple("${exchangeProperty.CamelJsonPathDocumentCache} != null", Boolean.class))
+                        .setBody(constant("{ \"store\": { \"bicycle\": { \"color\": \"blue\" } } }"))
+                        .setHeader("color2").jsonpath("$.store.bicycle.color")
+                        .to("mock:result");
+            }
+        };
+    }
+
+    @Test
+    public void testCachedInputStream() throws Exception {
+        getMockEndpoint("mock:cheap").expectedMessageCount(0);
+        getMockEndpoint("mock:average").expectedMessageCount(1);
+        getMockEndpoint("mock:expensive").expectedMessageCount(0);
+
+        // the input stream can only be read once, so the 2nd predicate must use the cached document
+        byte[] data = Files.readAllBytes(new File("src/test/resources/cheap.json").toPath());
+        Exchange out = template.send("direct:start", e -> e.getIn().setBody(new ByteArrayInputStream(data)));
+
+        assertMockEndpointsSatisfied();
+        // the cache is released when the exchange is done
+        assertNull(out.getProperty(JsonPathConstants.DOCUMENT_CACHE));
+    }
+
+    @Test
+    public void testBodyChanged() throws Exception {
+        getMockEndpoint("mock:result").expectedHeaderReceived("color", "red");
+        getMockEndpoint("mock:result").expectedHeaderReceived("cached", true);
+        getMockEndpoint("mock:result").expectedHeaderReceived("color2", "blue");
+
+        template.sendBody("direct:change", new File("src/test/resources/cheap.json"));
+
+        assertMockEndpointsSatisfied();
+    }
+
+}
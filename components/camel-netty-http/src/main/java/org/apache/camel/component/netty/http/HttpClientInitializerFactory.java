@@ -118,7 +118,7 @@ public class HttpClientInitializerFactory extends ClientInitializerFactory {
         pipeline.addLast("aggregator", new HttpObjectAggregator(configuration.getChunkedMaxContentLength()));
         pipeline.addLast("outbound-streamer", new HttpOutboundStreamHandler());
 
-        if (producer.getConfiguration().getRequestTimeout() > 0) {
+        if (producer.getConfiguration().getRequestTimeout() > 0 && producer.getPipelinedPool() == null) {
             if (LOG.isTraceEnabled()) {
                 LOG.trace("Using request timeout {} millis", producer.getConfiguration().getRequestTimeout());
             }
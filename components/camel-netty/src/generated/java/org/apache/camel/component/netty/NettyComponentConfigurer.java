@@ -96,6 +96,8 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "noReplyLogLevel": getOrCreateConfiguration(target).setNoReplyLogLevel(property(camelContext, org.apache.camel.LoggingLevel.class, value)); return true;
         case "options": getOrCreateConfiguration(target).setOptions(property(camelContext, java.util.Map.class, value)); return true;
         case "passphrase": getOrCreateConfiguration(target).setPassphrase(property(camelContext, java.lang.String.class, value)); return true;
+        case "producerpipelinedchannels":
+        case "producerPipelinedChannels": getOrCreateConfiguration(target).setProducerPipelinedChannels(property(camelContext, int.class, value)); return true;
         case "producerpoolenabled":
         case "producerPoolEnabled": getOrCreateConfiguration(target).setProducerPoolEnabled(property(camelContext, boolean.class, value)); return true;
         case "producerpoolmaxactive":
@@ -235,6 +237,8 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "noReplyLogLevel": return org.apache.camel.LoggingLevel.class;
         case "options": return java.util.Map.class;
         case "passphrase": return java.lang.String.class;
+        case "producerpipelinedchannels":
+        case "producerPipelinedChannels": return int.class;
         case "producerpoolenabled":
         case "producerPoolEnabled": return boolean.class;
         case "producerpoolmaxactive":
@@ -375,6 +379,8 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "noReplyLogLevel": return getOrCreateConfiguration(target).getNoReplyLogLevel();
         case "options": return getOrCreateConfiguration(target).getOptions();
         case "passphrase": return getOrCreateConfiguration(target).getPassphrase();
+        case "producerpipelinedchannels":
+        case "producerPipelinedChannels": return getOrCreateConfiguration(target).getProducerPipelinedChannels();
         case "producerpoolenabled":
         case "producerPoolEnabled": return getOrCreateConfiguration(target).isProducerPoolEnabled();
         case "producerpoolmaxactive":
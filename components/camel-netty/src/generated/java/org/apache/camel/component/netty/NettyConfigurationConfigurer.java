@@ -93,6 +93,8 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "Passphrase": target.setPassphrase(property(camelContext, java.lang.String.class, value)); return true;
         case "port":
         case "Port": target.setPort(property(camelContext, int.class, value)); return true;
+        case "producerpipelinedchannels":
+        case "ProducerPipelinedChannels": target.setProducerPipelinedChannels(property(camelContext, int.class, value)); return true;
         case "producerpoolenabled":
         case "ProducerPoolEnabled": target.setProducerPoolEnabled(property(camelContext, boolean.class, value)); return true;
         case "producerpoolmaxactive":
@@ -242,6 +244,8 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "Passphrase": return java.lang.String.class;
         case "port":
         case "Port": return int.class;
+        case "producerpipelinedchannels":
+        case "ProducerPipelinedChannels": return int.class;
         case "producerpoolenabled":
         case "ProducerPoolEnabled": return boolean.class;
         case "producerpoolmaxactive":
@@ -392,6 +396,8 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "Passphrase": return target.getPassphrase();
         case "port":
         case "Port": return target.getPort();
+        case "producerpipelinedchannels":
+        case "ProducerPipelinedChannels": return target.getProducerPipelinedChannels();
         case "producerpoolenabled":
         case "ProducerPoolEnabled": return target.isProducerPoolEnabled();
         case "producerpoolmaxactive":
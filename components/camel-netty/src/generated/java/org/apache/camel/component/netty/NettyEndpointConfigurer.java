@@ -86,6 +86,8 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
         case "noReplyLogLevel": target.getConfiguration().setNoReplyLogLevel(property(camelContext, org.apache.camel.LoggingLevel.class, value)); return true;
         case "options": target.getConfiguration().setOptions(property(camelContext, java.util.Map.class, value)); return true;
         case "passphrase": target.getConfiguration().setPassphrase(property(camelContext, java.lang.String.class, value)); return true;
+        case "producerpipelinedchannels":
+        case "producerPipelinedChannels": target.getConfiguration().setProducerPipelinedChannels(property(camelContext, int.class, value)); return true;
         case "producerpoolenabled":
         case "producerPoolEnabled": target.getConfiguration().setProducerPoolEnabled(property(camelContext, boolean.class, value)); return true;
         case "producerpoolmaxactive":
@@ -221,6 +223,8 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
         case "noReplyLogLevel": return org.apache.camel.LoggingLevel.class;
         case "options": return java.util.Map.class;
         case "passphrase": return java.lang.String.class;
+        case "producerpipelinedchannels":
+        case "producerPipelinedChannels": return int.class;
         case "producerpoolenabled":
         case "producerPoolEnabled": return boolean.class;
         case "producerpoolmaxactive":
@@ -357,6 +361,8 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
         case "noReplyLogLevel": return target.getConfiguration().getNoReplyLogLevel();
         case "options": return target.getConfiguration().getOptions();
         case "passphrase": return target.getConfiguration().getPassphrase();
+        case "producerpipelinedchannels":
+        case "producerPipelinedChannels": return target.getConfiguration().getProducerPipelinedChannels();
         case "producerpoolenabled":
         case "producerPoolEnabled": return target.getConfiguration().isProducerPoolEnabled();
         case "producerpoolmaxactive":
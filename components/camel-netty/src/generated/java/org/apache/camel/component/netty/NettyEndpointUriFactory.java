@@ -20,10 +20,11 @@ public class NettyEndpointUriFactory extends org.apache.camel.support.component.
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(74);
+        Set<String> props = new HashSet<>(75);
         props.add("usingExecutorService");
         props.add("disconnect");
         props.add("enabledProtocols");
+        props.add("producerPipelinedChannels");
         props.add("synchronous");
         props.add("hostnameVerification");
         props.add("keyStoreFormat");
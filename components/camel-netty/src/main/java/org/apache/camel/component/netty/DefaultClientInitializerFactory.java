@@ -82,8 +82,8 @@ public class DefaultClientInitializerFactory extends ClientInitializerFactory {
             addToPipeline("encoder-" + x, channelPipeline, encoder);
         }
 
-        // do we use request timeout?
-        if (producer.getConfiguration().getRequestTimeout() > 0) {
+        // do we use request timeout? (a shared pipelined channel has the timeout on each request instead)
+        if (producer.getConfiguration().getRequestTimeout() > 0 && producer.getPipelinedPool() == null) {
             if (LOG.isTraceEnabled()) {
                 LOG.trace("Using request timeout {} millis", producer.getConfiguration().getRequestTimeout());
             }
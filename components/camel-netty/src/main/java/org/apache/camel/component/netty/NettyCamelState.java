@@ -36,6 +36,7 @@ public final class NettyCamelState {
     // It is never a good idea to call the same callback twice
     private final AtomicBoolean callbackCalled;
     private final AtomicBoolean exceptionCaught;
+    private volatile long timeout;
 
     public NettyCamelState(AsyncCallback callback, Exchange exchange) {
         this.callback = callback;
@@ -63,6 +64,17 @@ public final class NettyCamelState {
         return exchange;
     }
 
+    /**
+     * The timeout in millis of the request, when the timeout is enforced by the correlation manager.
+     */
+    public long getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(long timeout) {
+        this.timeout = timeout;
+    }
+
     public void onExceptionCaught() {
         exceptionCaught.set(true);
     }
@@ -38,6 +38,20 @@ public interface NettyCamelStateCorrelationManager {
      */
     void putState(Channel channel, NettyCamelState state);
 
+    /**
+     * Puts the state, which must time out after the given timeout if no response message has been received.
+     * <p/>
+     * This is used when the channel is shared by many in-flight requests (see the producerPipelinedChannels option), as
+     * the request timeout cannot be enforced on the channel itself. The default implementation ignores the timeout.
+     *
+     * @param channel the channel
+     * @param state   the Camel state to be stored
+     * @param timeout the timeout in millis, or <tt>0</tt> to use the default timeout of the correlation manager
+     */
+    default void putState(Channel channel, NettyCamelState state, long timeout) {
+        putState(channel, state);
+    }
+
     /**
      * Removes the state when the channel is inactive.
      *
@@ -102,6 +102,8 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
     @UriParam(label = "producer,advanced", defaultValue = "true")
     private boolean producerPoolEnabled = true;
     @UriParam(label = "producer,advanced")
+    private int producerPipelinedChannels;
+    @UriParam(label = "producer,advanced")
     private boolean udpConnectionlessSending;
     @UriParam(label = "consumer")
     private boolean clientMode;
@@ -639,6 +641,26 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
         this.producerPoolEnabled = producerPoolEnabled;
     }
 
+    public int getProducerPipelinedChannels() {
+        return producerPipelinedChannels;
+    }
+
+    /**
+     * Sets the number of long-lived channels which are shared by the producer to pipeline many concurrent request/reply
+     * messages on the same channels, instead of borrowing a channel from the producer pool per request.
+     * <p>
+     * Important: This requires to have a correlation id in both the request and reply messages, and to configure a
+     * {@link NettyCamelStateCorrelationManager} via the <tt>correlationManager</tt> option, so the replies can be
+     * correlated to the Camel callback that is responsible for continue processing the message in Camel. We recommend
+     * extending the {@link TimeoutCorrelationManagerSupport} which also handles timeout of the individual requests, as
+     * the <tt>requestTimeout</tt> is enforced per request by the correlation manager, and not on the shared channels.
+     * <p/>
+     * When this option is set to 1 or higher then the <tt>producerPoolEnabled</tt> option is not in use.
+     */
+    public void setProducerPipelinedChannels(int producerPipelinedChannels) {
+        this.producerPipelinedChannels = producerPipelinedChannels;
+    }
+
     public boolean isUdpConnectionlessSending() {
         return udpConnectionlessSending;
     }
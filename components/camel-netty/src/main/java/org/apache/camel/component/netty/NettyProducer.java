@@ -73,6 +73,7 @@ public class NettyProducer extends DefaultAsyncProducer {
     private CamelLogger noReplyLogger;
     private EventLoopGroup workerGroup;
     private volatile ObjectPool<ChannelFuture> pool;
+    private volatile PipelinedChannelPool pipelinedPool;
     private NettyCamelStateCorrelationManager correlationManager;
 
     public NettyProducer(NettyEndpoint nettyEndpoint, NettyConfiguration configuration) {
@@ -99,9 +100,30 @@ public class NettyProducer extends DefaultAsyncProducer {
         return configuration.getProtocol().equalsIgnoreCase("tcp");
     }
 
+    /**
+     * Gets the pool of shared channels when the producer is pipelining requests, or <tt>null</tt> if not in use.
+     */
+    public PipelinedChannelPool getPipelinedPool() {
+        return pipelinedPool;
+    }
+
     @Override
     protected void doStart() throws Exception {
-        if (configuration.isProducerPoolEnabled()) {
+        if (configuration.getProducerPipelinedChannels() > 0) {
+            if (configuration.getCorrelationManager() == null) {
+                throw new IllegalArgumentException(
+                        "The producerPipelinedChannels option requires a correlationManager to be configured");
+            }
+            if (!isTcp() || configuration.isDisconnect() || configuration.isReuseChannel()) {
+                throw new IllegalArgumentException(
+                        "The producerPipelinedChannels option can only be used with the TCP protocol, disconnect=false and reuseChannel=false");
+            }
+            pipelinedPool = new PipelinedChannelPool(this, configuration.getProducerPipelinedChannels());
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Created NettyProducer pipelined channel pool[size={}] -> {}", pipelinedPool.getSize(),
+                        pipelinedPool);
+            }
+        } else if (configuration.isProducerPoolEnabled()) {
             // setup pool where we want an unbounded pool, which allows the pool to shrink on no demand
             GenericObjectPool.Config config = new GenericObjectPool.Config();
             config.maxActive = configuration.getProducerPoolMaxActive();
@@ -154,9 +176,15 @@ public class NettyProducer extends DefaultAsyncProducer {
 
         if (!configuration.isLazyChannelCreation()) {
             // ensure the connection can be established when we start up
-            ChannelFuture channelFuture = pool.borrowObject();
-            channelFuture.get();
-            pool.returnObject(channelFuture);
+            if (pipelinedPool != null) {
+                for (int i = 0; i < pipelinedPool.getSize(); i++) {
+                    pipelinedPool.nextChannel().get();
+                }
+            } else {
+                ChannelFuture channelFuture = pool.borrowObject();
+                channelFuture.get();
+                pool.returnObject(channelFuture);
+            }
         }
 
         if (configuration.getCorrelationManager() != null) {
@@ -182,6 +210,10 @@ public class NettyProducer extends DefaultAsyncProducer {
             }
             pool.close();
         }
+        if (pipelinedPool != null) {
+            LOG.debug("Stopping producer with pipelined channel pool[active={}]", pipelinedPool.getNumActive());
+            pipelinedPool.close();
+        }
 
         // close all channels
         LOG.debug("Closing {} channels", allChannels.size());
@@ -237,7 +269,11 @@ public class NettyProducer extends DefaultAsyncProducer {
         }
 
         if (LOG.isTraceEnabled()) {
-            LOG.trace("Pool[active={}, idle={}]", pool.getNumActive(), pool.getNumIdle());
+            if (pipelinedPool != null) {
+                LOG.trace("PipelinedPool[active={}, size={}]", pipelinedPool.getNumActive(), pipelinedPool.getSize());
+            } else {
+                LOG.trace("Pool[active={}, idle={}]", pool.getNumActive(), pool.getNumIdle());
+            }
         }
 
         // get a channel from the pool
@@ -247,7 +283,11 @@ public class NettyProducer extends DefaultAsyncProducer {
             if (getConfiguration().isReuseChannel()) {
                 channel = exchange.getProperty(NettyConstants.NETTY_CHANNEL, Channel.class);
             }
-            if (channel == null) {
+            if (channel == null && pipelinedPool != null) {
+                // the channel is shared with other in-flight requests
+                channelFuture = pipelinedPool.nextChannel();
+                LOG.trace("Got shared channel request from pipelined pool {}", channelFuture);
+            } else if (channel == null) {
                 if (pool == null) {
                     throw new IllegalStateException("Producer pool is null");
                 }
@@ -318,7 +358,13 @@ public class NettyProducer extends DefaultAsyncProducer {
         final NettyCamelStateCorrelationManager channelCorrelationManager
                 = Optional.ofNullable(channel.attr(CORRELATION_MANAGER_ATTR).get()).orElse(correlationManager);
 
-        if (exchange.getIn().getHeader(NettyConstants.NETTY_REQUEST_TIMEOUT) != null) {
+        // the channel is shared by the in-flight requests when pipelined, so the request timeout is enforced
+        // by the correlation manager for each request instead of on the channel
+        long pipelinedTimeout = 0;
+        if (pipelinedPool != null) {
+            pipelinedTimeout = exchange.getIn().getHeader(NettyConstants.NETTY_REQUEST_TIMEOUT,
+                    configuration.getRequestTimeout(), Long.class);
+        } else if (exchange.getIn().getHeader(NettyConstants.NETTY_REQUEST_TIMEOUT) != null) {
             long timeoutInMs = exchange.getIn().getHeader(NettyConstants.NETTY_REQUEST_TIMEOUT, Long.class);
             ChannelHandler oldHandler = channel.pipeline().get("timeout");
             ReadTimeoutHandler newHandler = new ReadTimeoutHandler(timeoutInMs, TimeUnit.MILLISECONDS);
@@ -342,7 +388,11 @@ public class NettyProducer extends DefaultAsyncProducer {
 
         // setup state as attachment on the channel, so we can access the state later when needed
         final NettyCamelState state = new NettyCamelState(producerCallback, exchange);
-        channelCorrelationManager.putState(channel, state);
+        if (pipelinedPool != null) {
+            channelCorrelationManager.putState(channel, state, pipelinedTimeout);
+        } else {
+            channelCorrelationManager.putState(channel, state);
+        }
         // here we need to setup the remote address information here
         InetSocketAddress remoteAddress = null;
         if (!isTcp()) {
@@ -389,8 +439,8 @@ public class NettyProducer extends DefaultAsyncProducer {
                             disconnect = close;
                         }
 
-                        // we should not close if we are reusing the channel
-                        if (!configuration.isReuseChannel() && disconnect) {
+                        // we should not close if we are reusing or sharing the channel
+                        if (!configuration.isReuseChannel() && pipelinedPool == null && disconnect) {
                             if (LOG.isTraceEnabled()) {
                                 LOG.trace("Closing channel when complete at address: {}",
                                         getEndpoint().getConfiguration().getAddress());
@@ -539,6 +589,10 @@ public class NettyProducer extends DefaultAsyncProducer {
 
     protected void releaseChannel(ChannelFuture channelFuture) {
         Channel channel = channelFuture.channel();
+        if (pipelinedPool != null) {
+            pipelinedPool.invalidate(channel);
+            return;
+        }
         try {
             // Only put the connected channel back to the pool
             if (channel.isActive()) {
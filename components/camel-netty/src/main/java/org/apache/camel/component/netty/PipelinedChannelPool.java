@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A pool with a fixed number of long-lived channels which are shared by all the in-flight requests, and handed out in
+ * round-robin order.
+ * <p/>
+ * A channel is not borrowed exclusively, which means many requests are pipelined on the same channel concurrently. This
+ * requires a {@link NettyCamelStateCorrelationManager} that can correlate the replies to the requests, such as one
+ * extending {@link TimeoutCorrelationManagerSupport}.
+ */
+public class PipelinedChannelPool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PipelinedChannelPool.class);
+
+    private final NettyProducer producer;
+    private final ChannelFuture[] channels;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    public PipelinedChannelPool(NettyProducer producer, int size) {
+        this.producer = producer;
+        this.channels = new ChannelFuture[size];
+    }
+
+    /**
+     * Gets the next channel (which may still be connecting) in round-robin order. A new connection is created if the
+     * channel is not yet connected or is no longer valid.
+     */
+    public ChannelFuture nextChannel() throws Exception {
+        int index = Math.floorMod(counter.getAndIncrement(), channels.length);
+        synchronized (channels) {
+            ChannelFuture answer = channels[index];
+            if (answer != null && answer.isDone() && (!answer.isSuccess() || !answer.channel().isActive())) {
+                LOG.info("Recreating new connection as current connection is invalid: {}", answer);
+                answer = null;
+            }
+            if (answer == null) {
+                answer = producer.openConnection().addListener(new ChannelFutureListener() {
+                    @Override
+                    public void operationComplete(ChannelFuture future) throws Exception {
+                        producer.notifyChannelOpen(future);
+                    }
+                });
+                LOG.trace("Requested channel: {} for slot: {}", answer, index);
+                channels[index] = answer;
+            }
+            return answer;
+        }
+    }
+
+    /**
+     * Removes the channel from the pool if its no longer active, so a new connection is created in its place. An active
+     * channel is kept in the pool, as its shared with the other in-flight requests.
+     */
+    public void invalidate(Channel channel) {
+        if (channel.isActive()) {
+            return;
+        }
+        synchronized (channels) {
+            for (int i = 0; i < channels.length; i++) {
+                if (channels[i] != null && channels[i].channel() == channel) {
+                    LOG.trace("Invalidating channel from pool {}", channel);
+                    channels[i] = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Number of channels in the pool which are currently active.
+     */
+    public int getNumActive() {
+        int answer = 0;
+        synchronized (channels) {
+            for (ChannelFuture future : channels) {
+                if (future != null && future.isSuccess() && future.channel().isActive()) {
+                    answer++;
+                }
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * The maximum number of channels in the pool.
+     */
+    public int getSize() {
+        return channels.length;
+    }
+
+    /**
+     * Closes all the channels in the pool.
+     */
+    public void close() {
+        synchronized (channels) {
+            for (int i = 0; i < channels.length; i++) {
+                ChannelFuture future = channels[i];
+                if (future != null) {
+                    future.cancel(false);
+                    if (future.isSuccess()) {
+                        NettyHelper.close(future.channel());
+                    }
+                }
+                channels[i] = null;
+            }
+        }
+    }
+}
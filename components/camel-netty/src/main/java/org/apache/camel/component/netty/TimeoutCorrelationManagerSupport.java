@@ -136,6 +136,11 @@ public abstract class TimeoutCorrelationManagerSupport extends ServiceSupport
 
     @Override
     public void putState(Channel channel, NettyCamelState state) {
+        putState(channel, state, 0);
+    }
+
+    @Override
+    public void putState(Channel channel, NettyCamelState state, long timeout) {
         // grab the correlation id
         Object body = state.getExchange().getMessage().getBody();
         // the correlation id is the first part of the message
@@ -143,8 +148,10 @@ public abstract class TimeoutCorrelationManagerSupport extends ServiceSupport
         if (ObjectHelper.isEmpty(cid)) {
             throw new IllegalArgumentException("CorrelationID is missing");
         }
-        LOG.debug("putState({}) on channel: {}", cid, channel.id());
-        map.put(cid, state, timeout);
+        long entryTimeout = timeout > 0 ? timeout : this.timeout;
+        state.setTimeout(entryTimeout);
+        LOG.debug("putState({}) on channel: {} with timeout: {}", cid, channel.id(), entryTimeout);
+        map.put(cid, state, entryTimeout);
     }
 
     @Override
@@ -233,7 +240,7 @@ public abstract class TimeoutCorrelationManagerSupport extends ServiceSupport
                 if (timeoutBody != null) {
                     exchange.getMessage().setBody(timeoutBody);
                 } else {
-                    exchange.setException(new ExchangeTimedOutException(exchange, timeout));
+                    exchange.setException(new ExchangeTimedOutException(exchange, value.getTimeout()));
                 }
                 callback.done(false);
             }
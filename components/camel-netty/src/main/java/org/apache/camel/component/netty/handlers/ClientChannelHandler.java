@@ -34,6 +34,10 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Client handler which cannot be shared
+ * <p/>
+ * When the channel is shared by pipelined requests (see {@link NettyProducer#getPipelinedPool()}) the replies are
+ * correlated to the requests by the correlation manager, which also times out the requests, so the state of this
+ * handler is only used for the channel itself.
  */
 public class ClientChannelHandler extends SimpleChannelInboundHandler<Object> {
     // use NettyProducer as logger to make it easier to read the logs as this is part of the producer
@@ -100,6 +104,13 @@ public class ClientChannelHandler extends SimpleChannelInboundHandler<Object> {
 
             // signal callback
             state.callbackDoneOnce(false);
+        } else if (producer.getPipelinedPool() != null) {
+            // the channel is shared by many requests, which cannot be correlated to the exception, so close the channel
+            // to let the pool create a new one, and the in-flight requests time out by the correlation manager
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Closing pipelined channel as an exception was thrown from Netty", cause);
+            }
+            NettyHelper.close(ctx.channel());
         }
     }
 
@@ -212,8 +223,8 @@ public class ClientChannelHandler extends SimpleChannelInboundHandler<Object> {
             if (close != null) {
                 disconnect = close;
             }
-            // we should not close if we are reusing the channel
-            if (!producer.getConfiguration().isReuseChannel() && disconnect) {
+            // we should not close if we are reusing the channel or its shared by the pipelined requests
+            if (!producer.getConfiguration().isReuseChannel() && producer.getPipelinedPool() == null && disconnect) {
                 if (LOG.isTraceEnabled()) {
                     LOG.trace("Closing channel when complete at address: {}", producer.getConfiguration().getAddress());
                 }
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.netty.channel.Channel;
+import org.apache.camel.BindToRegistry;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangeTimedOutException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.test.junit5.TestSupport.assertIsInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NettyProducerPipelinedTest extends BaseNettyTest {
+
+    @BindToRegistry("myManager")
+    private final MyCorrelationManager myManager = new MyCorrelationManager();
+
+    @Test
+    public void testPipelined() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(20);
+        // check that the request and reply are correlated correctly
+        mock.allMessages().predicate(exchange -> {
+            String request = exchange.getMessage().getHeader("request", String.class);
+            String reply = exchange.getMessage().getBody(String.class);
+            return reply.equals(request + ":Bye");
+        });
+
+        for (int i = 0; i < 20; i++) {
+            template.sendBodyAndHeader("seda:start", i + ":" + i, "request", i + ":" + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        assertTrue(myManager.channels.size() <= 2, "Should use at most 2 channels, was: " + myManager.channels.size());
+    }
+
+    @Test
+    public void testRequestTimeout() throws Exception {
+        Exchange out = template.request("direct:start", exchange -> {
+            exchange.getIn().setBody("slow:1");
+            exchange.getIn().setHeader(NettyConstants.NETTY_REQUEST_TIMEOUT, 200);
+        });
+        assertIsInstanceOf(ExchangeTimedOutException.class, out.getException());
+
+        // the timeout is on the request and must not close the shared channels
+        assertFalse(myManager.channels.isEmpty());
+        for (Channel channel : myManager.channels) {
+            assertTrue(channel.isActive(), "Channel should still be active: " + channel);
+        }
+        assertEquals("2:Bye", template.requestBody("direct:start", "2", String.class));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:start?concurrentConsumers=10").to(
+                        "netty:tcp://localhost:{{port}}?textline=true&sync=true&producerPipelinedChannels=2&correlationManager=#myManager")
+                        .to("mock:result");
+
+                from("direct:start").to(
+                        "netty:tcp://localhost:{{port}}?textline=true&sync=true&producerPipelinedChannels=2&correlationManager=#myManager");
+
+                from("netty:tcp://localhost:{{port}}?textline=true&sync=true")
+                        .choice().when(body().startsWith("slow")).delay(1000).end().end()
+                        .transform(body().append(":Bye"));
+            }
+        };
+    }
+
+    private static final class MyCorrelationManager extends TimeoutCorrelationManagerSupport {
+
+        private final Set<Channel> channels = ConcurrentHashMap.newKeySet();
+
+        private MyCorrelationManager() {
+            setTimeoutChecker(50);
+        }
+
+        @Override
+        public void putState(Channel channel, NettyCamelState state, long timeout) {
+            channels.add(channel);
+            super.putState(channel, state, timeout);
+        }
+
+        @Override
+        public String getRequestCorrelationId(Object request) {
+            return request.toString().split(":")[0];
+        }
+
+        @Override
+        public String getResponseCorrelationId(Object response) {
+            return response.toString().split(":")[0];
+        }
+    }
+}
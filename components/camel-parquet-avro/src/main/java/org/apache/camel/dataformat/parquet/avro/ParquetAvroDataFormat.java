@@ -0,0 +1,338 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.parquet.avro;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericContainer;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.IndexedRecord;
+import org.apache.avro.reflect.ReflectData;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Exchange;
+import org.apache.camel.WrappedFile;
+import org.apache.camel.spi.DataFormat;
+import org.apache.camel.spi.DataFormatName;
+import org.apache.camel.spi.annotations.Dataformat;
+import org.apache.camel.support.ObjectHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.IOHelper;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.avro.AvroParquetReader;
+import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.avro.AvroReadSupport;
+import org.apache.parquet.avro.AvroSchemaConverter;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.hadoop.metadata.FileMetaData;
+import org.apache.parquet.io.InputFile;
+
+/**
+ * A {@link DataFormat} which reads and writes Parquet files, using the Avro object model for the records.
+ * <p/>
+ * The records are written one row group at a time, as soon as the row group is complete. When unmarshalling the
+ * records are read one row group at a time, and only the columns which are needed can be read (column projection).
+ */
+@Dataformat("parquetAvro")
+public class ParquetAvroDataFormat extends ServiceSupport implements DataFormat, DataFormatName, CamelContextAware {
+
+    // the key of the avro schema in the metadata of the parquet files written with parquet-avro
+    private static final String AVRO_SCHEMA_METADATA_KEY = "parquet.avro.schema";
+
+    private CamelContext camelContext;
+    private String unmarshalTypeName;
+    private Class<?> unmarshalType;
+    private String compressionCodecName = CompressionCodecName.GZIP.name();
+    private int rowGroupSize = ParquetWriter.DEFAULT_BLOCK_SIZE;
+    private boolean lazyLoad;
+    private String columns;
+    private transient Configuration configuration;
+    private transient GenericData readDataModel;
+    private transient Function<Object, Object> converter;
+
+    public ParquetAvroDataFormat() {
+    }
+
+    public ParquetAvroDataFormat(Class<?> unmarshalType) {
+        this.unmarshalType = unmarshalType;
+    }
+
+    @Override
+    public String getDataFormatName() {
+        return "parquetAvro";
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        super.doInit();
+
+        if (unmarshalTypeName != null && unmarshalType == null) {
+            unmarshalType = camelContext.getClassResolver().resolveMandatoryClass(unmarshalTypeName);
+        }
+        // validate the codec
+        CompressionCodecName.valueOf(compressionCodecName);
+
+        // the configuration is expensive to create, so its created once and copied when it must be changed
+        configuration = new Configuration();
+
+        converter = Function.identity();
+        if (unmarshalType == null) {
+            readDataModel = GenericData.get();
+        } else if (Map.class.isAssignableFrom(unmarshalType)) {
+            readDataModel = GenericData.get();
+            converter = ParquetAvroDataFormat::toMap;
+        } else if (SpecificRecord.class.isAssignableFrom(unmarshalType)) {
+            readDataModel = new SpecificData(unmarshalType.getClassLoader());
+        } else {
+            readDataModel = new ReflectData(unmarshalType.getClassLoader());
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // noop
+    }
+
+    @Override
+    public void marshal(Exchange exchange, Object graph, OutputStream outputStream) throws Exception {
+        Iterator<?> it;
+        if (graph instanceof Iterator) {
+            it = (Iterator<?>) graph;
+        } else if (graph instanceof Iterable) {
+            it = ((Iterable<?>) graph).iterator();
+        } else {
+            it = Collections.singleton(graph).iterator();
+        }
+        if (!it.hasNext()) {
+            // a parquet file needs a schema which is taken from the records
+            return;
+        }
+
+        Object first = it.next();
+        Schema schema;
+        GenericData model;
+        if (first instanceof SpecificRecord) {
+            schema = ((SpecificRecord) first).getSchema();
+            model = SpecificData.get();
+        } else if (first instanceof GenericContainer) {
+            schema = ((GenericContainer) first).getSchema();
+            model = GenericData.get();
+        } else {
+            schema = ReflectData.get().getSchema(first.getClass());
+            model = ReflectData.get();
+        }
+
+        // the row groups are written to the output stream as soon as they are complete
+        try (ParquetWriter<Object> writer = AvroParquetWriter.builder(new ParquetOutputFile(outputStream))
+                .withSchema(schema)
+                .withDataModel(model)
+                .withConf(configuration)
+                .withCompressionCodec(CompressionCodecName.valueOf(compressionCodecName))
+                .withRowGroupSize(rowGroupSize)
+                .build()) {
+            writer.write(first);
+            while (it.hasNext()) {
+                writer.write(it.next());
+            }
+        }
+    }
+
+    @Override
+    public Object unmarshal(Exchange exchange, InputStream inputStream) throws Exception {
+        InputFile file = asInputFile(exchange, inputStream);
+
+        Configuration conf = configuration;
+        if (columns != null) {
+            conf = new Configuration(configuration);
+            AvroReadSupport.setRequestedProjection(conf, createProjection(file, conf));
+        }
+
+        ParquetReader<Object> reader = AvroParquetReader.builder(file)
+                .withDataModel(readDataModel)
+                .withConf(conf)
+                .build();
+        ParquetIterator it = new ParquetIterator(reader, inputStream, converter);
+        if (lazyLoad) {
+            return it;
+        }
+
+        try {
+            List<Object> answer = new ArrayList<>();
+            while (it.hasNext()) {
+                answer.add(it.next());
+            }
+            return answer;
+        } finally {
+            IOHelper.close(it);
+        }
+    }
+
+    /**
+     * Parquet needs random access to the data, so local files are read directly, and otherwise the data is read into
+     * memory.
+     */
+    private static InputFile asInputFile(Exchange exchange, InputStream inputStream) throws IOException {
+        Object body = exchange.getIn().getBody();
+        if (body instanceof WrappedFile) {
+            body = ((WrappedFile<?>) body).getFile();
+        }
+        if (body instanceof File && ((File) body).isFile()) {
+            return ParquetInputFile.fromFile((File) body);
+        }
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        IOHelper.copy(inputStream, bos);
+        return ParquetInputFile.fromBytes(bos.toByteArray());
+    }
+
+    /**
+     * Creates the schema with only the columns to read, from the schema stored in the footer of the file
+     */
+    private Schema createProjection(InputFile file, Configuration conf) throws IOException {
+        Schema schema;
+        try (ParquetFileReader reader = ParquetFileReader.open(file)) {
+            FileMetaData metaData = reader.getFooter().getFileMetaData();
+            String avroSchema = metaData.getKeyValueMetaData().get(AVRO_SCHEMA_METADATA_KEY);
+            if (avroSchema != null) {
+                schema = new Schema.Parser().parse(avroSchema);
+            } else {
+                schema = new AvroSchemaConverter(conf).convert(metaData.getSchema());
+            }
+        }
+
+        List<Schema.Field> fields = new ArrayList<>();
+        for (Object column : ObjectHelper.createIterable(columns)) {
+            String name = column.toString().trim();
+            Schema.Field field = schema.getField(name);
+            if (field == null) {
+                throw new IllegalArgumentException("Column " + name + " does not exist in the schema: " + schema);
+            }
+            fields.add(new Schema.Field(field, field.schema()));
+        }
+        return Schema.createRecord(schema.getName(), schema.getDoc(), schema.getNamespace(), schema.isError(), fields);
+    }
+
+    private static Object toMap(Object record) {
+        IndexedRecord indexed = (IndexedRecord) record;
+        Map<String, Object> answer = new LinkedHashMap<>();
+        for (Schema.Field field : indexed.getSchema().getFields()) {
+            Object value = indexed.get(field.pos());
+            if (value instanceof CharSequence) {
+                // avro strings are read as utf8
+                value = value.toString();
+            }
+            answer.put(field.name(), value);
+        }
+        return answer;
+    }
+
+    public String getUnmarshalTypeName() {
+        return unmarshalTypeName;
+    }
+
+    /**
+     * Class name of the java type to use when unmarshalling
+     */
+    public void setUnmarshalTypeName(String unmarshalTypeName) {
+        this.unmarshalTypeName = unmarshalTypeName;
+    }
+
+    public Class<?> getUnmarshalType() {
+        return unmarshalType;
+    }
+
+    /**
+     * Class of the java type to use when unmarshalling. By default the records are unmarshalled as Avro generic
+     * records. If the type is a Map then the records are unmarshalled as maps of the column names and values.
+     */
+    public void setUnmarshalType(Class<?> unmarshalType) {
+        this.unmarshalType = unmarshalType;
+    }
+
+    public String getCompressionCodecName() {
+        return compressionCodecName;
+    }
+
+    /**
+     * Compression codec to use when marshalling.
+     */
+    public void setCompressionCodecName(String compressionCodecName) {
+        this.compressionCodecName = compressionCodecName;
+    }
+
+    public int getRowGroupSize() {
+        return rowGroupSize;
+    }
+
+    /**
+     * The size of a row group (in bytes) when marshalling. The records are buffered in memory until a row group is
+     * complete, which is then written to the output.
+     */
+    public void setRowGroupSize(int rowGroupSize) {
+        this.rowGroupSize = rowGroupSize;
+    }
+
+    public boolean isLazyLoad() {
+        return lazyLoad;
+    }
+
+    /**
+     * Whether the unmarshalling should produce an iterator that reads the records on the fly (one row group at a time),
+     * instead of reading all the records into memory.
+     */
+    public void setLazyLoad(boolean lazyLoad) {
+        this.lazyLoad = lazyLoad;
+    }
+
+    public String getColumns() {
+        return columns;
+    }
+
+    /**
+     * The names of the columns to read when unmarshalling (column projection), separated by comma. Only these columns
+     * are read and decoded. By default all the columns are read.
+     */
+    public void setColumns(String columns) {
+        this.columns = columns;
+    }
+}
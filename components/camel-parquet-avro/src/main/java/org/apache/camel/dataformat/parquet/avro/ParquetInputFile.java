@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.parquet.avro;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+
+import org.apache.parquet.io.DelegatingSeekableInputStream;
+import org.apache.parquet.io.InputFile;
+import org.apache.parquet.io.SeekableInputStream;
+
+/**
+ * A Parquet {@link InputFile} which reads from a local file or from a byte array.
+ * <p/>
+ * Parquet needs random access to the data, as the schema and the location of the row groups are stored in the footer
+ * at the end of the file, and therefore the input cannot be read as a stream.
+ */
+public abstract class ParquetInputFile implements InputFile {
+
+    /**
+     * Creates an input file which reads the row groups from the given file, without loading the file into memory.
+     */
+    public static ParquetInputFile fromFile(File file) {
+        return new ParquetInputFile() {
+            @Override
+            public long getLength() {
+                return file.length();
+            }
+
+            @Override
+            public SeekableInputStream newStream() throws IOException {
+                RandomAccessFile raf = new RandomAccessFile(file, "r");
+                // the stream reads from the channel which shares the position of the random access file
+                return new DelegatingSeekableInputStream(Channels.newInputStream(raf.getChannel())) {
+                    @Override
+                    public long getPos() throws IOException {
+                        return raf.getFilePointer();
+                    }
+
+                    @Override
+                    public void seek(long newPos) throws IOException {
+                        raf.seek(newPos);
+                    }
+                };
+            }
+
+            @Override
+            public String toString() {
+                return file.toString();
+            }
+        };
+    }
+
+    /**
+     * Creates an input file which reads the row groups from the given data.
+     */
+    public static ParquetInputFile fromBytes(byte[] data) {
+        return new ParquetInputFile() {
+            @Override
+            public long getLength() {
+                return data.length;
+            }
+
+            @Override
+            public SeekableInputStream newStream() {
+                SeekableByteArrayInputStream in = new SeekableByteArrayInputStream(data);
+                return new DelegatingSeekableInputStream(in) {
+                    @Override
+                    public long getPos() {
+                        return in.getPos();
+                    }
+
+                    @Override
+                    public void seek(long newPos) {
+                        in.seek(newPos);
+                    }
+                };
+            }
+
+            @Override
+            public String toString() {
+                return "byte[" + data.length + "]";
+            }
+        };
+    }
+
+    private static final class SeekableByteArrayInputStream extends ByteArrayInputStream {
+
+        SeekableByteArrayInputStream(byte[] data) {
+            super(data);
+        }
+
+        long getPos() {
+            return pos;
+        }
+
+        void seek(long newPos) {
+            if (newPos < 0 || newPos > count) {
+                throw new IllegalArgumentException("Cannot seek to position " + newPos + " of " + count + " bytes");
+            }
+            pos = (int) newPos;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.parquet.avro;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.util.IOHelper;
+import org.apache.parquet.hadoop.ParquetReader;
+
+/**
+ * An iterator which reads the records one at a time, so only the row group which is being read is held in memory.
+ * <p/>
+ * The reader and the input are closed when there are no more records, or when an exception is thrown.
+ */
+public class ParquetIterator implements Iterator<Object>, Closeable {
+
+    private final ParquetReader<Object> reader;
+    private final InputStream input;
+    private final Function<Object, Object> converter;
+    private Object next;
+    private boolean closed;
+
+    public ParquetIterator(ParquetReader<Object> reader, InputStream input, Function<Object, Object> converter) {
+        this.reader = reader;
+        this.input = input;
+        this.converter = converter;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !closed) {
+            try {
+                next = reader.read();
+            } catch (Exception e) {
+                IOHelper.close(this);
+                throw RuntimeCamelException.wrapRuntimeException(e);
+            }
+            if (next == null) {
+                IOHelper.close(this);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public Object next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Object answer = converter.apply(next);
+        next = null;
+        return answer;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            try {
+                reader.close();
+            } finally {
+                IOHelper.close(input);
+            }
+        }
+    }
+}
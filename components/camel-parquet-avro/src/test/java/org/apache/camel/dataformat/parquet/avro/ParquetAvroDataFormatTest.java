@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.parquet.avro;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ParquetAvroDataFormatTest extends CamelTestSupport {
+
+    private static final int SIZE = 1000;
+
+    @Test
+    public void testMarshalAndUnmarshal() throws Exception {
+        List<Order> input = createOrders();
+
+        byte[] marshalled = template.requestBody("direct:marshal", input, byte[].class);
+        List<?> output = template.requestBody("direct:unmarshal", marshalled, List.class);
+
+        assertEquals(SIZE, output.size());
+        for (int i = 0; i < SIZE; i++) {
+            Order order = (Order) output.get(i);
+            assertEquals(i, order.id);
+            assertEquals("customer " + i, order.customer);
+            assertEquals(i * 10d, order.amount);
+        }
+    }
+
+    @Test
+    public void testSplitFileWithColumnProjection() throws Exception {
+        byte[] marshalled = template.requestBody("direct:marshal", createOrders(), byte[].class);
+        File file = new File("target/data/orders.parquet");
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), marshalled);
+
+        MockEndpoint mock = getMockEndpoint("mock:order");
+        mock.expectedMessageCount(SIZE);
+        mock.allMessages().body().isInstanceOf(Map.class);
+        mock.message(0).body().isEqualTo(Collections.singletonMap("customer", "customer 0"));
+        mock.message(SIZE - 1).body().isEqualTo(Collections.singletonMap("customer", "customer " + (SIZE - 1)));
+
+        // the row groups are read directly from the file
+        template.sendBody("direct:split", file);
+
+        mock.assertIsSatisfied();
+    }
+
+    private static List<Order> createOrders() {
+        List<Order> answer = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            answer.add(new Order(i, "customer " + i, i * 10d));
+        }
+        return answer;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                // use small row groups so the data is split into many row groups
+                ParquetAvroDataFormat marshal = new ParquetAvroDataFormat();
+                marshal.setRowGroupSize(4096);
+                marshal.setCompressionCodecName("UNCOMPRESSED");
+                from("direct:marshal").marshal(marshal);
+
+                from("direct:unmarshal").unmarshal().parquetAvro(Order.class);
+
+                // only read the customer column
+                org.apache.camel.model.dataformat.ParquetAvroDataFormat parquet
+                        = new org.apache.camel.model.dataformat.ParquetAvroDataFormat(Map.class)
+                                .lazyLoad(true).columns("customer");
+                from("direct:split").unmarshal(parquet)
+                        .split(body()).streaming()
+                        .to("mock:order");
+            }
+        };
+    }
+
+    public static class Order {
+        private int id;
+        private String customer;
+        private double amount;
+
+        public Order() {
+        }
+
+        public Order(int id, String customer, double amount) {
+            this.id = id;
+            this.customer = customer;
+            this.amount = amount;
+        }
+    }
+}
@@ -16,34 +16,44 @@
  */
 package org.apache.camel.dataformat.protobuf;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import com.google.protobuf.Message;
 import com.google.protobuf.Message.Builder;
+import com.google.protobuf.Parser;
 import com.google.protobuf.util.JsonFormat;
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.CamelException;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
 import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.NoTypeConversionAvailableException;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.DataFormatContentTypeHeader;
 import org.apache.camel.spi.DataFormatName;
 import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.annotations.Dataformat;
+import org.apache.camel.support.SynchronizationAdapter;
 import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.StringHelper;
 import org.apache.commons.io.IOUtils;
 
 @Dataformat("protobuf")
 @Metadata(excludeProperties = "library,objectMapper,useDefaultObjectMapper,jsonViewTypeName,jsonView,include,allowJmsType," +
-                              "collectionTypeName,collectionType,useList,moduleClassNames,moduleRefs,enableFeatures," +
+                              "collectionTypeName,collectionType,useList,lazyLoad,moduleClassNames,moduleRefs,enableFeatures," +
                               "disableFeatures,allowUnmarshallType,timezone,autoDiscoverObjectMapper," +
                               "schemaResolver,autoDiscoverSchemaResolver,unmarshalType,unmarshalTypeName")
 public class ProtobufDataFormat extends ServiceSupport
@@ -55,11 +65,28 @@ public class ProtobufDataFormat extends ServiceSupport
     private static final String CONTENT_TYPE_HEADER_NATIVE = "application/octet-stream";
     private static final String CONTENT_TYPE_HEADER_JSON = "application/json";
 
+    // the default instances are looked up by reflection only once per class
+    private static final ClassValue<Message> DEFAULT_INSTANCES = new ClassValue<Message>() {
+        @Override
+        protected Message computeValue(Class<?> type) {
+            try {
+                Method method = type.getMethod("getDefaultInstance");
+                return (Message) method.invoke(null);
+            } catch (Exception e) {
+                throw RuntimeCamelException.wrapRuntimeException(e);
+            }
+        }
+    };
+
     private CamelContext camelContext;
     private Message defaultInstance;
     private String instanceClassName;
     private boolean contentTypeHeader = true;
     private String contentTypeFormat = CONTENT_TYPE_FORMAT_NATIVE;
+    private boolean delimited;
+    private Parser<? extends Message> parser;
+    private final JsonFormat.Printer jsonPrinter = JsonFormat.printer();
+    private final JsonFormat.Parser jsonParser = JsonFormat.parser().ignoringUnknownFields();
 
     public ProtobufDataFormat() {
     }
@@ -124,6 +151,19 @@ public class ProtobufDataFormat extends ServiceSupport
         this.contentTypeFormat = contentTypeFormat;
     }
 
+    public boolean isDelimited() {
+        return delimited;
+    }
+
+    /*
+     * Whether to marshal and unmarshal a stream of length-delimited messages
+     * (each message is prefixed with its size), instead of a single message.
+     * This is only supported with the native content type format.
+     */
+    public void setDelimited(boolean delimited) {
+        this.delimited = delimited;
+    }
+
     /*
      * (non-Javadoc)
      * @see org.apache.camel.spi.DataFormat#marshal(org.apache.camel.Exchange,
@@ -131,11 +171,16 @@ public class ProtobufDataFormat extends ServiceSupport
      */
     @Override
     public void marshal(final Exchange exchange, final Object graph, final OutputStream outputStream) throws Exception {
+        if (delimited) {
+            marshalDelimited(exchange, graph, outputStream);
+            return;
+        }
+
         final Message inputMessage = convertGraphToMessage(exchange, graph);
 
         String contentTypeHeader = CONTENT_TYPE_HEADER_NATIVE;
         if (contentTypeFormat.equals(CONTENT_TYPE_FORMAT_JSON)) {
-            IOUtils.write(JsonFormat.printer().print(inputMessage), outputStream, "UTF-8");
+            IOUtils.write(jsonPrinter.print(inputMessage), outputStream, "UTF-8");
             contentTypeHeader = CONTENT_TYPE_HEADER_JSON;
         } else if (contentTypeFormat.equals(CONTENT_TYPE_FORMAT_NATIVE)) {
             inputMessage.writeTo(outputStream);
@@ -148,6 +193,29 @@ public class ProtobufDataFormat extends ServiceSupport
         }
     }
 
+    /**
+     * Writes each message prefixed with its size, so the messages can be appended to an existing stream of delimited
+     * messages.
+     */
+    private void marshalDelimited(final Exchange exchange, final Object graph, final OutputStream outputStream)
+            throws Exception {
+        Iterator<?> it;
+        if (graph instanceof Iterator) {
+            it = (Iterator<?>) graph;
+        } else if (graph instanceof Iterable) {
+            it = ((Iterable<?>) graph).iterator();
+        } else {
+            it = Collections.singleton(graph).iterator();
+        }
+        while (it.hasNext()) {
+            convertGraphToMessage(exchange, it.next()).writeDelimitedTo(outputStream);
+        }
+
+        if (isContentTypeHeader()) {
+            exchange.getMessage().setHeader(Exchange.CONTENT_TYPE, CONTENT_TYPE_HEADER_NATIVE);
+        }
+    }
+
     private Message convertGraphToMessage(final Exchange exchange, final Object inputData)
             throws NoTypeConversionAvailableException {
         if (!(inputData instanceof Message)) {
@@ -169,22 +237,31 @@ public class ProtobufDataFormat extends ServiceSupport
     @Override
     public Object unmarshal(final Exchange exchange, final InputStream inputStream) throws Exception {
         ObjectHelper.notNull(defaultInstance, "defaultInstance or instanceClassName must be set", this);
-        Builder builder = defaultInstance.newBuilderForType();
 
+        if (delimited) {
+            DelimitedMessageIterator answer = new DelimitedMessageIterator(exchange, inputStream);
+            // add to UoW so we can close the iterator so it can release any resources
+            exchange.adapt(ExtendedExchange.class).addOnCompletion(new DelimitedMessageOnCompletion(answer));
+            return answer;
+        }
+
+        Message answer;
         if (contentTypeFormat.equals(CONTENT_TYPE_FORMAT_JSON)) {
-            JsonFormat.parser().ignoringUnknownFields().merge(new InputStreamReader(inputStream), builder);
+            Builder builder = defaultInstance.newBuilderForType();
+            jsonParser.merge(new InputStreamReader(inputStream), builder);
+            answer = builder.buildPartial();
         } else if (contentTypeFormat.equals(CONTENT_TYPE_FORMAT_NATIVE)) {
-            builder = defaultInstance.newBuilderForType().mergeFrom(inputStream);
+            answer = parser.parsePartialFrom(inputStream);
         } else {
             throw new CamelException("Invalid protobuf content type format: " + contentTypeFormat);
         }
 
-        if (!builder.isInitialized()) {
+        if (!answer.isInitialized()) {
             // TODO which exception should be thrown here?
             throw new InvalidPayloadException(exchange, defaultInstance.getClass());
         }
 
-        return builder.build();
+        return answer;
     }
 
     protected Message loadDefaultInstance(final String className, final CamelContext context)
@@ -192,8 +269,7 @@ public class ProtobufDataFormat extends ServiceSupport
         Class<?> instanceClass = context.getClassResolver().resolveMandatoryClass(className);
         if (Message.class.isAssignableFrom(instanceClass)) {
             try {
-                Method method = instanceClass.getMethod("getDefaultInstance");
-                return (Message) method.invoke(null);
+                return DEFAULT_INSTANCES.get(instanceClass);
             } catch (final Exception ex) {
                 throw new CamelException(
                         "Can't set the defaultInstance of ProtobufferDataFormat with " + className + ", caused by " + ex);
@@ -210,6 +286,14 @@ public class ProtobufDataFormat extends ServiceSupport
         if (defaultInstance == null && instanceClassName != null) {
             defaultInstance = loadDefaultInstance(instanceClassName, getCamelContext());
         }
+        if (delimited && !CONTENT_TYPE_FORMAT_NATIVE.equals(contentTypeFormat)) {
+            throw new IllegalArgumentException(
+                    "Delimited messages are only supported with the native content type format, was: " + contentTypeFormat);
+        }
+        if (defaultInstance != null) {
+            // the parser is thread-safe and can be reused for all the messages
+            parser = defaultInstance.getParserForType();
+        }
     }
 
     @Override
@@ -217,4 +301,73 @@ public class ProtobufDataFormat extends ServiceSupport
         // noop
     }
 
+    /**
+     * An iterator which reads the length-delimited messages one at a time from the stream, which is closed when there
+     * are no more messages.
+     */
+    private final class DelimitedMessageIterator implements Iterator<Message>, Closeable {
+        private final Exchange exchange;
+        private final InputStream inputStream;
+        private Message next;
+        private boolean closed;
+
+        private DelimitedMessageIterator(Exchange exchange, InputStream inputStream) {
+            this.exchange = exchange;
+            this.inputStream = inputStream;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !closed) {
+                try {
+                    // returns null at the end of the stream
+                    next = parser.parsePartialDelimitedFrom(inputStream);
+                    if (next != null && !next.isInitialized()) {
+                        throw new InvalidPayloadException(exchange, defaultInstance.getClass());
+                    }
+                } catch (Exception e) {
+                    IOHelper.close(this);
+                    throw RuntimeCamelException.wrapRuntimeException(e);
+                }
+                if (next == null) {
+                    IOHelper.close(this);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Message next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Message answer = next;
+            next = null;
+            return answer;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                inputStream.close();
+            }
+        }
+    }
+
+    /**
+     * Closes the delimited message iterator when the exchange is done, in case the messages were not all read.
+     */
+    private static final class DelimitedMessageOnCompletion extends SynchronizationAdapter {
+        private final Closeable closeable;
+
+        private DelimitedMessageOnCompletion(Closeable closeable) {
+            this.closeable = closeable;
+        }
+
+        @Override
+        public void onDone(Exchange exchange) {
+            IOHelper.close(closeable);
+        }
+    }
 }
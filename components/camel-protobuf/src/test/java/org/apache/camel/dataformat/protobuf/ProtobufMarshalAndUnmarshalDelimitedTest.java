@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.protobuf;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.dataformat.protobuf.generated.AddressBookProtos.Person;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ProtobufMarshalAndUnmarshalDelimitedTest extends CamelTestSupport {
+
+    @Test
+    public void testMarshalAndSplitDelimited() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            persons.add(Person.newBuilder().setName("Person " + i).setId(i).build());
+        }
+
+        // marshal a collection of messages, then append a single message to the same stream
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(template.requestBody("direct:marshal", persons, byte[].class));
+        out.write(template.requestBody("direct:marshal", Person.newBuilder().setName("Last").setId(10).build(),
+                byte[].class));
+
+        MockEndpoint mock = getMockEndpoint("mock:person");
+        mock.expectedMessageCount(11);
+        mock.allMessages().body().isInstanceOf(Person.class);
+        mock.message(0).body().isEqualTo(persons.get(0));
+        mock.message(10).body().isEqualTo(Person.newBuilder().setName("Last").setId(10).build());
+
+        template.sendBody("direct:split", new ByteArrayInputStream(out.toByteArray()));
+
+        mock.assertIsSatisfied();
+        for (int i = 0; i < 10; i++) {
+            assertEquals("Person " + i, mock.getReceivedExchanges().get(i).getIn().getBody(Person.class).getName());
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                ProtobufDataFormat format = new ProtobufDataFormat(Person.getDefaultInstance());
+                format.setDelimited(true);
+                from("direct:marshal").marshal(format);
+
+                org.apache.camel.model.dataformat.ProtobufDataFormat delimited
+                        = new org.apache.camel.model.dataformat.ProtobufDataFormat(Person.class.getName())
+                                .delimited(true);
+                from("direct:split").unmarshal(delimited)
+                        .split(body()).streaming()
+                        .to("mock:person");
+            }
+        };
+    }
+
+}
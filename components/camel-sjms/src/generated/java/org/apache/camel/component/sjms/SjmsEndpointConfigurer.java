@@ -88,6 +88,8 @@ public class SjmsEndpointConfigurer extends PropertyConfigurerSupport implements
         case "replyTo": target.setReplyTo(property(camelContext, java.lang.String.class, value)); return true;
         case "replytoconcurrentconsumers":
         case "replyToConcurrentConsumers": target.setReplyToConcurrentConsumers(property(camelContext, int.class, value)); return true;
+        case "replytocorrelationshards":
+        case "replyToCorrelationShards": target.setReplyToCorrelationShards(property(camelContext, int.class, value)); return true;
         case "replytodeliverypersistent":
         case "replyToDeliveryPersistent": target.setReplyToDeliveryPersistent(property(camelContext, boolean.class, value)); return true;
         case "replytooverride":
@@ -180,6 +182,8 @@ public class SjmsEndpointConfigurer extends PropertyConfigurerSupport implements
         case "replyTo": return java.lang.String.class;
         case "replytoconcurrentconsumers":
         case "replyToConcurrentConsumers": return int.class;
+        case "replytocorrelationshards":
+        case "replyToCorrelationShards": return int.class;
         case "replytodeliverypersistent":
         case "replyToDeliveryPersistent": return boolean.class;
         case "replytooverride":
@@ -273,6 +277,8 @@ public class SjmsEndpointConfigurer extends PropertyConfigurerSupport implements
         case "replyTo": return target.getReplyTo();
         case "replytoconcurrentconsumers":
         case "replyToConcurrentConsumers": return target.getReplyToConcurrentConsumers();
+        case "replytocorrelationshards":
+        case "replyToCorrelationShards": return target.getReplyToCorrelationShards();
         case "replytodeliverypersistent":
         case "replyToDeliveryPersistent": return target.isReplyToDeliveryPersistent();
         case "replytooverride":
@@ -20,7 +20,7 @@ public class SjmsEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(46);
+        Set<String> props = new HashSet<>(47);
         props.add("asyncConsumer");
         props.add("mapJmsMessage");
         props.add("synchronous");
@@ -56,6 +56,7 @@ public class SjmsEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("deliveryPersistent");
         props.add("priority");
         props.add("preserveMessageQos");
+        props.add("replyToCorrelationShards");
         props.add("concurrentConsumers");
         props.add("acknowledgementMode");
         props.add("replyToType");
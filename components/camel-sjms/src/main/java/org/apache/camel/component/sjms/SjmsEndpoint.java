@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.sjms;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 
 import javax.jms.ConnectionFactory;
@@ -34,6 +36,8 @@ import org.apache.camel.MultipleConsumersSupport;
 import org.apache.camel.PollingConsumer;
 import org.apache.camel.Processor;
 import org.apache.camel.Producer;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.component.sjms.consumer.EndpointMessageListener;
 import org.apache.camel.component.sjms.consumer.SimpleMessageListenerContainer;
 import org.apache.camel.component.sjms.jms.DefaultDestinationCreationStrategy;
@@ -47,6 +51,7 @@ import org.apache.camel.component.sjms.jms.JmsMessageHelper;
 import org.apache.camel.component.sjms.jms.JmsObjectFactory;
 import org.apache.camel.component.sjms.jms.MessageCreatedStrategy;
 import org.apache.camel.component.sjms.jms.SessionAcknowledgementType;
+import org.apache.camel.component.sjms.reply.ReplyManagerSupport;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spi.HeaderFilterStrategyAware;
 import org.apache.camel.spi.Metadata;
@@ -62,11 +67,14 @@ import org.apache.camel.util.StringHelper;
  *
  * This component uses plain JMS API where as the jms component uses Spring JMS.
  */
+@ManagedResource(description = "Managed Simple JMS Endpoint")
 @UriEndpoint(firstVersion = "2.11.0", scheme = "sjms", title = "Simple JMS", syntax = "sjms:destinationType:destinationName",
              category = { Category.MESSAGING })
 public class SjmsEndpoint extends DefaultEndpoint
         implements AsyncEndpoint, MultipleConsumersSupport, HeaderFilterStrategyAware {
 
+    private final Set<ReplyManagerSupport> replyManagers = ConcurrentHashMap.newKeySet();
+
     private boolean topic;
     private JmsBinding binding;
 
@@ -107,6 +115,11 @@ public class SjmsEndpoint extends DefaultEndpoint
               description = "Specifies the default number of concurrent consumers when doing request/reply over JMS."
                             + " See also the maxMessagesPerTask option to control dynamic scaling up/down of threads.")
     private int replyToConcurrentConsumers = 1;
+    @UriParam(defaultValue = "1", label = "producer,advanced",
+              description = "Number of shards to split the correlation map used by the reply manager into, when doing request/reply over JMS."
+                            + " Outstanding requests are routed to a shard by the hash of their correlation id, which reduces contention"
+                            + " when many requests are in-flight. The reply listener uses at least as many concurrent consumers as there are shards.")
+    private int replyToCorrelationShards = 1;
     @UriParam(label = "producer,advanced", defaultValue = "false",
               description = "Set if the deliveryMode, priority or timeToLive qualities of service should be used when sending messages."
                             + " This option is based on Spring's JmsTemplate. The deliveryMode, priority and timeToLive options are applied to the current endpoint."
@@ -521,6 +534,20 @@ public class SjmsEndpoint extends DefaultEndpoint
         this.replyToConcurrentConsumers = replyToConcurrentConsumers;
     }
 
+    public int getReplyToCorrelationShards() {
+        return replyToCorrelationShards;
+    }
+
+    /**
+     * The number of shards of the map which correlates the outstanding requests with their replies when doing
+     * request/reply over JMS. Outstanding requests are routed to a shard by the hash of their correlation id, which
+     * reduces contention when many requests are in-flight. The reply listener uses at least as many concurrent
+     * consumers as there are shards.
+     */
+    public void setReplyToCorrelationShards(int replyToCorrelationShards) {
+        this.replyToCorrelationShards = replyToCorrelationShards;
+    }
+
     public Boolean getExplicitQosEnabled() {
         return explicitQosEnabled;
     }
@@ -812,4 +839,61 @@ public class SjmsEndpoint extends DefaultEndpoint
     public void setSynchronous(boolean synchronous) {
         this.synchronous = synchronous;
     }
+
+    public void onReplyManagerStarted(ReplyManagerSupport replyManager) {
+        replyManagers.add(replyManager);
+    }
+
+    public void onReplyManagerStopped(ReplyManagerSupport replyManager) {
+        replyManagers.remove(replyManager);
+    }
+
+    @ManagedAttribute(description = "Number of request/reply messages currently waiting for a reply")
+    public int getOutstandingReplies() {
+        int answer = 0;
+        for (ReplyManagerSupport replyManager : replyManagers) {
+            answer += replyManager.getOutstandingReplies();
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Number of reply messages received when using request/reply")
+    public long getRepliesReceived() {
+        long answer = 0;
+        for (ReplyManagerSupport replyManager : replyManagers) {
+            answer += replyManager.getRepliesReceived();
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Number of request/reply messages which timed out waiting for a reply")
+    public long getRepliesTimedOut() {
+        long answer = 0;
+        for (ReplyManagerSupport replyManager : replyManagers) {
+            answer += replyManager.getRepliesTimedOut();
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Mean time in millis from the request was sent until the reply message was received")
+    public long getMeanReplyTime() {
+        long count = 0;
+        long total = 0;
+        for (ReplyManagerSupport replyManager : replyManagers) {
+            count += replyManager.getRepliesReceived();
+            total += replyManager.getReplyTimeTotal();
+        }
+        return count > 0 ? total / count : 0;
+    }
+
+    @ManagedAttribute(description = "Mean time in millis from the request was sent until the timeout was triggered")
+    public long getMeanTimeoutTime() {
+        long count = 0;
+        long total = 0;
+        for (ReplyManagerSupport replyManager : replyManagers) {
+            count += replyManager.getRepliesTimedOut();
+            total += replyManager.getTimeoutTimeTotal();
+        }
+        return count > 0 ? total / count : 0;
+    }
 }
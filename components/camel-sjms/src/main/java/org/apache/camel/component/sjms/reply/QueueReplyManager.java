@@ -40,17 +40,18 @@ public class QueueReplyManager extends ReplyManagerSupport {
     public void updateCorrelationId(String correlationId, String newCorrelationId, long requestTimeout) {
         log.trace("Updated provisional correlationId [{}] to expected correlationId [{}]", correlationId, newCorrelationId);
 
-        ReplyHandler handler = correlation.remove(correlationId);
+        ReplyHandler handler = getCorrelation(correlationId).remove(correlationId);
         if (handler == null) {
             // should not happen that we can't find the handler
             return;
         }
 
-        correlation.put(newCorrelationId, handler, requestTimeout);
+        getCorrelation(newCorrelationId).put(newCorrelationId, handler, requestTimeout);
     }
 
     @Override
     protected void handleReplyMessage(String correlationID, Message message, Session session) {
+        CorrelationTimeoutMap correlation = getCorrelation(correlationID);
         ReplyHandler handler = correlation.get(correlationID);
 
         if (handler != null) {
@@ -110,7 +111,9 @@ public class QueueReplyManager extends ReplyManagerSupport {
         }
         answer.setMessageListener(this);
 
-        answer.setConcurrentConsumers(endpoint.getReplyToConcurrentConsumers());
+        // use (at least) one reply consumer per correlation shard
+        answer.setConcurrentConsumers(
+                Math.max(endpoint.getReplyToConcurrentConsumers(), endpoint.getReplyToCorrelationShards()));
         answer.setDestinationCreationStrategy(new DestinationResolverDelegate(endpoint.getDestinationCreationStrategy()));
         answer.setDestinationName(endpoint.getReplyTo());
 
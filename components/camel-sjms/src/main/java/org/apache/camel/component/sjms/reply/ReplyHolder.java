@@ -35,6 +35,7 @@ public class ReplyHolder {
     private final String originalCorrelationId;
     private final String correlationId;
     private long timeout;
+    private long elapsed;
 
     /**
      * Constructor to use when a reply message was received
@@ -121,4 +122,15 @@ public class ReplyHolder {
     public long getRequestTimeout() {
         return timeout;
     }
+
+    /**
+     * Time in millis from the request was sent until the reply was received or the timeout was triggered
+     */
+    public long getElapsed() {
+        return elapsed;
+    }
+
+    public void setElapsed(long elapsed) {
+        this.elapsed = elapsed;
+    }
 }
@@ -20,6 +20,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.jms.Destination;
 import javax.jms.JMSException;
@@ -57,7 +58,11 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
     protected MessageListenerContainer listenerContainer;
     protected final CountDownLatch replyToLatch = new CountDownLatch(1);
     protected final long replyToTimeout = 10000;
-    protected CorrelationTimeoutMap correlation;
+    protected CorrelationTimeoutMap[] correlations;
+    private final LongAdder repliesReceived = new LongAdder();
+    private final LongAdder repliesTimedOut = new LongAdder();
+    private final LongAdder replyTimeTotal = new LongAdder();
+    private final LongAdder timeoutTimeTotal = new LongAdder();
 
     public ReplyManagerSupport(CamelContext camelContext) {
         this.camelContext = camelContext;
@@ -117,7 +122,7 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
                 replyManager, exchange, callback,
                 originalCorrelationId, correlationId, requestTimeout);
         // Just make sure we don't override the old value of the correlationId
-        ReplyHandler result = correlation.putIfAbsent(correlationId, handler, requestTimeout);
+        ReplyHandler result = getCorrelation(correlationId).putIfAbsent(correlationId, handler, requestTimeout);
         if (result != null) {
             String logMessage = String.format("The correlationId [%s] is not unique.", correlationId);
             throw new IllegalArgumentException(logMessage);
@@ -148,6 +153,9 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
 
                 boolean timeout = holder.isTimeout();
                 if (timeout) {
+                    repliesTimedOut.increment();
+                    timeoutTimeTotal.add(holder.getElapsed());
+
                     // timeout occurred do a WARN log so its easier to spot in the logs
                     if (log.isWarnEnabled()) {
                         log.warn(
@@ -162,6 +170,9 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
                                  + " not received on destination: " + replyTo;
                     exchange.setException(new ExchangeTimedOutException(exchange, holder.getRequestTimeout(), msg));
                 } else {
+                    repliesReceived.increment();
+                    replyTimeTotal.add(holder.getElapsed());
+
                     Message message = holder.getMessage();
                     Session session = holder.getSession();
                     SjmsMessage response = new SjmsMessage(exchange, message, session, endpoint.getBinding());
@@ -198,6 +209,59 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
 
     protected abstract MessageListenerContainer createListenerContainer() throws Exception;
 
+    /**
+     * Gets the correlation map which holds the given correlation id. The correlation ids are sharded over a number of
+     * correlation maps by their hash, to reduce lock contention when many request/reply messages are in-flight.
+     */
+    protected CorrelationTimeoutMap getCorrelation(String correlationId) {
+        if (correlations.length == 1) {
+            return correlations[0];
+        }
+        return correlations[(correlationId.hashCode() & Integer.MAX_VALUE) % correlations.length];
+    }
+
+    /**
+     * Number of request/reply messages currently waiting for a reply
+     */
+    public int getOutstandingReplies() {
+        int size = 0;
+        CorrelationTimeoutMap[] maps = correlations;
+        if (maps != null) {
+            for (CorrelationTimeoutMap map : maps) {
+                size += map.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Number of reply messages received
+     */
+    public long getRepliesReceived() {
+        return repliesReceived.sum();
+    }
+
+    /**
+     * Number of request/reply messages which timed out waiting for a reply
+     */
+    public long getRepliesTimedOut() {
+        return repliesTimedOut.sum();
+    }
+
+    /**
+     * Total time in millis from the request was sent until the reply messages was received
+     */
+    public long getReplyTimeTotal() {
+        return replyTimeTotal.sum();
+    }
+
+    /**
+     * Total time in millis from the request was sent until the timeout was triggered
+     */
+    public long getTimeoutTimeTotal() {
+        return timeoutTimeTotal.sum();
+    }
+
     @Override
     protected void doStart() throws Exception {
         ObjectHelper.notNull(executorService, "executorService", this);
@@ -207,9 +271,13 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
         // timeout map to use for purging messages which have timed out, while waiting for an expected reply
         // when doing request/reply over JMS
         log.trace("Using timeout checker interval with {} millis", endpoint.getComponent().getRequestTimeoutCheckerInterval());
-        correlation = new CorrelationTimeoutMap(
-                scheduledExecutorService, endpoint.getComponent().getRequestTimeoutCheckerInterval(), executorService);
-        ServiceHelper.startService(correlation);
+        int shards = Math.max(1, endpoint.getReplyToCorrelationShards());
+        correlations = new CorrelationTimeoutMap[shards];
+        for (int i = 0; i < shards; i++) {
+            correlations[i] = new CorrelationTimeoutMap(
+                    scheduledExecutorService, endpoint.getComponent().getRequestTimeoutCheckerInterval(), executorService);
+        }
+        ServiceHelper.startService((Object[]) correlations);
 
         // create JMS listener and start it
         listenerContainer = createListenerContainer();
@@ -217,11 +285,13 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
         log.debug("Starting reply listener container on endpoint: {}", endpoint);
 
         ServiceHelper.startService(listenerContainer);
+        endpoint.onReplyManagerStarted(this);
     }
 
     @Override
     protected void doStop() throws Exception {
-        ServiceHelper.stopService(correlation);
+        endpoint.onReplyManagerStopped(this);
+        ServiceHelper.stopService((Object[]) correlations);
 
         if (listenerContainer != null) {
             log.debug("Stopping reply listener container on endpoint: {}", endpoint);
@@ -35,6 +35,7 @@ public class TemporaryQueueReplyHandler implements ReplyHandler {
     protected final String originalCorrelationId;
     protected final String correlationId;
     protected final long timeout;
+    protected final long created = System.currentTimeMillis();
 
     public TemporaryQueueReplyHandler(ReplyManager replyManager, Exchange exchange, AsyncCallback callback,
                                       String originalCorrelationId, String correlationId, long timeout) {
@@ -50,6 +51,7 @@ public class TemporaryQueueReplyHandler implements ReplyHandler {
     public void onReply(String correlationId, Message reply, Session session) {
         // create holder object with the reply
         ReplyHolder holder = new ReplyHolder(exchange, callback, originalCorrelationId, correlationId, reply, session);
+        holder.setElapsed(System.currentTimeMillis() - created);
         // process the reply
         replyManager.processReply(holder);
     }
@@ -58,6 +60,7 @@ public class TemporaryQueueReplyHandler implements ReplyHandler {
     public void onTimeout(String correlationId) {
         // create holder object without the reply which means a timeout occurred
         ReplyHolder holder = new ReplyHolder(exchange, callback, originalCorrelationId, correlationId, timeout);
+        holder.setElapsed(System.currentTimeMillis() - created);
         // process timeout
         replyManager.processReply(holder);
     }
@@ -54,14 +54,15 @@ public class TemporaryQueueReplyManager extends ReplyManagerSupport {
     public void updateCorrelationId(String correlationId, String newCorrelationId, long requestTimeout) {
         log.trace("Updated provisional correlationId [{}] to expected correlationId [{}]", correlationId, newCorrelationId);
 
-        ReplyHandler handler = correlation.remove(correlationId);
+        ReplyHandler handler = getCorrelation(correlationId).remove(correlationId);
         if (handler != null) {
-            correlation.put(newCorrelationId, handler, requestTimeout);
+            getCorrelation(newCorrelationId).put(newCorrelationId, handler, requestTimeout);
         }
     }
 
     @Override
     protected void handleReplyMessage(String correlationID, Message message, Session session) {
+        CorrelationTimeoutMap correlation = getCorrelation(correlationID);
         ReplyHandler handler = correlation.get(correlationID);
         if (handler != null) {
             correlation.remove(correlationID);
@@ -85,7 +86,9 @@ public class TemporaryQueueReplyManager extends ReplyManagerSupport {
             clientId += ".CamelReplyManager";
             answer.setClientId(clientId);
         }
-        answer.setConcurrentConsumers(endpoint.getReplyToConcurrentConsumers());
+        // use (at least) one reply consumer per correlation shard
+        answer.setConcurrentConsumers(
+                Math.max(endpoint.getReplyToConcurrentConsumers(), endpoint.getReplyToCorrelationShards()));
         answer.setExceptionListener(new TemporaryReplyQueueExceptionListener(destResolver));
         answer.setDestinationCreationStrategy(destResolver);
         answer.setDestinationName("temporary");
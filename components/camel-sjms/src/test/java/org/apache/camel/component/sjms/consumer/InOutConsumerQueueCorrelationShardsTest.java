@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sjms.consumer;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.sjms.SjmsEndpoint;
+import org.apache.camel.component.sjms.support.JmsTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class InOutConsumerQueueCorrelationShardsTest extends JmsTestSupport {
+
+    @Test
+    public void testCorrelationShards() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(20);
+        getMockEndpoint("mock:result").allMessages().body().startsWith("Bye ");
+
+        for (int i = 0; i < 20; i++) {
+            template.sendBody("direct:start", "Camel " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        // the replies are counted by the endpoint
+        SjmsEndpoint endpoint = context.getEndpoint(
+                "sjms:queue:in.out.shards?exchangePattern=InOut&replyTo=in.out.shards.response&replyToCorrelationShards=4",
+                SjmsEndpoint.class);
+        assertEquals(20, endpoint.getRepliesReceived());
+        assertEquals(0, endpoint.getRepliesTimedOut());
+        assertEquals(0, endpoint.getOutstandingReplies());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() throws Exception {
+                from("direct:start")
+                        .to("sjms:queue:in.out.shards?exchangePattern=InOut&replyTo=in.out.shards.response"
+                            + "&replyToCorrelationShards=4")
+                        .to("mock:result");
+
+                from("sjms:queue:in.out.shards?concurrentConsumers=4").transform(body().prepend("Bye "));
+            }
+        };
+    }
+
+}
@@ -20,7 +20,7 @@ public class Sjms2EndpointUriFactory extends org.apache.camel.support.component.
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(49);
+        Set<String> props = new HashSet<>(50);
         props.add("asyncConsumer");
         props.add("mapJmsMessage");
         props.add("synchronous");
@@ -40,6 +40,7 @@ public class Sjms2EndpointUriFactory extends org.apache.camel.support.component.
         props.add("messageSelector");
         props.add("deliveryPersistent");
         props.add("priority");
+        props.add("replyToCorrelationShards");
         props.add("concurrentConsumers");
         props.add("acknowledgementMode");
         props.add("lazyStartProducer");
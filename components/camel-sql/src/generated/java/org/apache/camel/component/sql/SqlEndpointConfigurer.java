@@ -32,6 +32,8 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "backoffmultiplier":
         case "backoffMultiplier": target.setBackoffMultiplier(property(camelContext, int.class, value)); return true;
         case "batch": target.setBatch(property(camelContext, boolean.class, value)); return true;
+        case "batchonconsume":
+        case "batchOnConsume": target.setBatchOnConsume(property(camelContext, boolean.class, value)); return true;
         case "breakbatchonconsumefail":
         case "breakBatchOnConsumeFail": target.setBreakBatchOnConsumeFail(property(camelContext, boolean.class, value)); return true;
         case "bridgeerrorhandler":
@@ -67,6 +69,9 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "outputType": target.setOutputType(property(camelContext, org.apache.camel.component.sql.SqlOutputType.class, value)); return true;
         case "parameterscount":
         case "parametersCount": target.setParametersCount(property(camelContext, int.class, value)); return true;
+        case "partitioncolumn":
+        case "partitionColumn": target.setPartitionColumn(property(camelContext, java.lang.String.class, value)); return true;
+        case "partitions": target.setPartitions(property(camelContext, int.class, value)); return true;
         case "placeholder": target.setPlaceholder(property(camelContext, java.lang.String.class, value)); return true;
         case "pollstrategy":
         case "pollStrategy": target.setPollStrategy(property(camelContext, org.apache.camel.spi.PollingConsumerPollStrategy.class, value)); return true;
@@ -126,6 +131,8 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "backoffmultiplier":
         case "backoffMultiplier": return int.class;
         case "batch": return boolean.class;
+        case "batchonconsume":
+        case "batchOnConsume": return boolean.class;
         case "breakbatchonconsumefail":
         case "breakBatchOnConsumeFail": return boolean.class;
         case "bridgeerrorhandler":
@@ -161,6 +168,9 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "outputType": return org.apache.camel.component.sql.SqlOutputType.class;
         case "parameterscount":
         case "parametersCount": return int.class;
+        case "partitioncolumn":
+        case "partitionColumn": return java.lang.String.class;
+        case "partitions": return int.class;
         case "placeholder": return java.lang.String.class;
         case "pollstrategy":
         case "pollStrategy": return org.apache.camel.spi.PollingConsumerPollStrategy.class;
@@ -216,6 +226,8 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "backoffmultiplier":
         case "backoffMultiplier": return target.getBackoffMultiplier();
         case "batch": return target.isBatch();
+        case "batchonconsume":
+        case "batchOnConsume": return target.isBatchOnConsume();
         case "breakbatchonconsumefail":
         case "breakBatchOnConsumeFail": return target.isBreakBatchOnConsumeFail();
         case "bridgeerrorhandler":
@@ -251,6 +263,9 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "outputType": return target.getOutputType();
         case "parameterscount":
         case "parametersCount": return target.getParametersCount();
+        case "partitioncolumn":
+        case "partitionColumn": return target.getPartitionColumn();
+        case "partitions": return target.getPartitions();
         case "placeholder": return target.getPlaceholder();
         case "pollstrategy":
         case "pollStrategy": return target.getPollStrategy();
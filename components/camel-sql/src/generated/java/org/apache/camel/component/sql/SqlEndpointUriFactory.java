@@ -20,53 +20,56 @@ public class SqlEndpointUriFactory extends org.apache.camel.support.component.En
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(46);
-        props.add("backoffMultiplier");
-        props.add("breakBatchOnConsumeFail");
-        props.add("onConsume");
-        props.add("onConsumeFailed");
-        props.add("useMessageBodyForSql");
-        props.add("outputType");
-        props.add("transacted");
+        Set<String> props = new HashSet<>(49);
         props.add("initialDelay");
-        props.add("useIterator");
         props.add("allowNamedParameters");
         props.add("usePlaceholder");
-        props.add("parametersCount");
-        props.add("scheduler");
-        props.add("noop");
         props.add("templateOptions");
         props.add("bridgeErrorHandler");
-        props.add("useFixedDelay");
-        props.add("runLoggingLevel");
-        props.add("backoffErrorThreshold");
         props.add("greedy");
         props.add("maxMessagesPerPoll");
-        props.add("placeholder");
         props.add("scheduledExecutorService");
         props.add("repeatCount");
-        props.add("timeUnit");
+        props.add("partitions");
+        props.add("batchOnConsume");
         props.add("query");
-        props.add("onConsumeBatchComplete");
         props.add("sendEmptyMessageWhenIdle");
         props.add("schedulerProperties");
-        props.add("exchangePattern");
         props.add("batch");
-        props.add("routeEmptyResultSet");
-        props.add("alwaysPopulateStatement");
         props.add("separator");
         props.add("backoffIdleThreshold");
         props.add("processingStrategy");
         props.add("prepareStatementStrategy");
         props.add("lazyStartProducer");
         props.add("delay");
-        props.add("outputHeader");
-        props.add("pollStrategy");
         props.add("startScheduler");
-        props.add("expectedUpdateCount");
         props.add("outputClass");
         props.add("dataSource");
         props.add("exceptionHandler");
+        props.add("backoffMultiplier");
+        props.add("breakBatchOnConsumeFail");
+        props.add("onConsume");
+        props.add("onConsumeFailed");
+        props.add("useMessageBodyForSql");
+        props.add("outputType");
+        props.add("transacted");
+        props.add("useIterator");
+        props.add("parametersCount");
+        props.add("scheduler");
+        props.add("noop");
+        props.add("useFixedDelay");
+        props.add("runLoggingLevel");
+        props.add("backoffErrorThreshold");
+        props.add("partitionColumn");
+        props.add("placeholder");
+        props.add("timeUnit");
+        props.add("onConsumeBatchComplete");
+        props.add("exchangePattern");
+        props.add("routeEmptyResultSet");
+        props.add("alwaysPopulateStatement");
+        props.add("outputHeader");
+        props.add("pollStrategy");
+        props.add("expectedUpdateCount");
         PROPERTY_NAMES = Collections.unmodifiableSet(props);
         SECRET_PROPERTY_NAMES = Collections.emptySet();
     }
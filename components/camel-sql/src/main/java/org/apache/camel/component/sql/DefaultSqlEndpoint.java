@@ -80,6 +80,20 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
     private int expectedUpdateCount = -1;
     @UriParam(label = "consumer", description = "Sets whether to break batch if onConsume failed.")
     private boolean breakBatchOnConsumeFail;
+    @UriParam(label = "consumer,advanced",
+              description = "Sets whether onConsume and onConsumeFailed queries are executed as JDBC batch statements once all rows from the poll"
+                            + " have been processed, instead of one statement per row.")
+    private boolean batchOnConsume;
+    @UriParam(label = "consumer,advanced",
+              description = "Number of partitions the consumer query is split into. When set to 2 or more then the rows of each partition"
+                            + " are fetched concurrently on its own thread and database connection, and then processed as a single batch. The query is partitioned by the partitionColumn option"
+                            + " using MOD(partitionColumn, partitions), or if no column is configured then the query can refer to the partition"
+                            + " using the named parameters :#CamelSqlPartitionIndex and :#CamelSqlPartitionCount.")
+    private int partitions;
+    @UriParam(label = "consumer,advanced",
+              description = "The numeric column to use for splitting the consumer query into partitions, when the partitions option is in use."
+                            + " The query cannot have an ORDER BY clause when using this option.")
+    private String partitionColumn;
     @UriParam(defaultValue = "true", description = "Whether to allow using named parameters in the queries.")
     private boolean allowNamedParameters = true;
     @UriParam(label = "advanced",
@@ -413,6 +427,45 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
         this.breakBatchOnConsumeFail = breakBatchOnConsumeFail;
     }
 
+    public boolean isBatchOnConsume() {
+        return batchOnConsume;
+    }
+
+    /**
+     * Sets whether onConsume and onConsumeFailed queries are executed as JDBC batch statements once all rows from the
+     * poll have been processed, instead of one statement per row.
+     */
+    public void setBatchOnConsume(boolean batchOnConsume) {
+        this.batchOnConsume = batchOnConsume;
+    }
+
+    public int getPartitions() {
+        return partitions;
+    }
+
+    /**
+     * Number of partitions the consumer query is split into. When set to 2 or more then the rows of each partition are
+     * fetched concurrently on its own thread and database connection, and then processed as a single batch. The query
+     * is partitioned by the partitionColumn option using MOD(partitionColumn, partitions), or if no column is
+     * configured then the query can refer to the partition using the named parameters :#CamelSqlPartitionIndex and
+     * :#CamelSqlPartitionCount.
+     */
+    public void setPartitions(int partitions) {
+        this.partitions = partitions;
+    }
+
+    public String getPartitionColumn() {
+        return partitionColumn;
+    }
+
+    /**
+     * The numeric column to use for splitting the consumer query into partitions, when the partitions option is in use.
+     * The query cannot have an ORDER BY clause when using this option.
+     */
+    public void setPartitionColumn(String partitionColumn) {
+        this.partitionColumn = partitionColumn;
+    }
+
     public String getPlaceholder() {
         return placeholder;
     }
@@ -18,7 +18,11 @@ package org.apache.camel.component.sql;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.apache.camel.Exchange;
 import org.slf4j.Logger;
@@ -70,6 +74,49 @@ public class DefaultSqlProcessingStrategy implements SqlProcessingStrategy {
         });
     }
 
+    @Override
+    public int[] commitBatch(
+            final DefaultSqlEndpoint endpoint, final List<Exchange> exchanges, final List<Object> data,
+            final JdbcTemplate jdbcTemplate, final String query)
+            throws Exception {
+
+        // the prepared query may vary per row (such as SQL IN with dynamic number of values)
+        // so group the rows by their prepared query and execute a JDBC batch per group
+        final Map<String, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < exchanges.size(); i++) {
+            String preparedQuery
+                    = sqlPrepareStatementStrategy.prepareQuery(query, endpoint.isAllowNamedParameters(), exchanges.get(i));
+            groups.computeIfAbsent(preparedQuery, k -> new ArrayList<>()).add(i);
+        }
+
+        final int[] answer = new int[exchanges.size()];
+        for (Map.Entry<String, List<Integer>> group : groups.entrySet()) {
+            final String preparedQuery = group.getKey();
+            final List<Integer> rows = group.getValue();
+
+            int[] counts = jdbcTemplate.execute(preparedQuery, new PreparedStatementCallback<int[]>() {
+                public int[] doInPreparedStatement(PreparedStatement ps) throws SQLException {
+                    int expected = ps.getParameterMetaData().getParameterCount();
+
+                    for (int row : rows) {
+                        Iterator<?> iterator = sqlPrepareStatementStrategy.createPopulateIterator(query, preparedQuery,
+                                expected, exchanges.get(row), data.get(row));
+                        sqlPrepareStatementStrategy.populateStatement(ps, iterator, expected);
+                        ps.addBatch();
+                    }
+
+                    LOG.trace("Execute batch query {} with {} rows", query, rows.size());
+                    return ps.executeBatch();
+                }
+            });
+
+            for (int i = 0; i < rows.size(); i++) {
+                answer[rows.get(i)] = counts != null && i < counts.length ? counts[i] : 0;
+            }
+        }
+        return answer;
+    }
+
     @Override
     public int commitBatchComplete(final DefaultSqlEndpoint endpoint, final JdbcTemplate jdbcTemplate, final String query)
             throws Exception {
@@ -59,6 +59,16 @@ public final class SqlConstants {
      */
     public static final String SQL_PARAMETERS = "CamelSqlParameters";
 
+    /**
+     * The index of the partition being polled, when the consumer is using partitions
+     */
+    public static final String SQL_PARTITION_INDEX = "CamelSqlPartitionIndex";
+
+    /**
+     * The total number of partitions, when the consumer is using partitions
+     */
+    public static final String SQL_PARTITION_COUNT = "CamelSqlPartitionCount";
+
     private SqlConstants() {
         // Utility class
     }
@@ -19,10 +19,16 @@ package org.apache.camel.component.sql;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
@@ -47,6 +53,7 @@ import static org.springframework.jdbc.support.JdbcUtils.closeResultSet;
 public class SqlConsumer extends ScheduledBatchPollingConsumer {
 
     private static final Logger LOG = LoggerFactory.getLogger(SqlConsumer.class);
+    private static final Pattern ORDER_BY = Pattern.compile("\\border\\s+by\\b", Pattern.CASE_INSENSITIVE);
 
     private final String query;
     private String resolvedQuery;
@@ -65,6 +72,10 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
     private boolean breakBatchOnConsumeFail;
     private int parametersCount;
     private boolean alwaysPopulateStatement;
+    private boolean batchOnConsume;
+    private int partitions;
+    private String partitionColumn;
+    private ExecutorService partitionExecutorService;
 
     private static final class DataHolder {
         private Exchange exchange;
@@ -121,6 +132,43 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
             String placeholder = getEndpoint().isUsePlaceholder() ? getEndpoint().getPlaceholder() : null;
             resolvedQuery = SqlHelper.resolveQuery(getEndpoint().getCamelContext(), query, placeholder);
         }
+
+        if (batchOnConsume && namedJdbcTemplate != null) {
+            throw new IllegalArgumentException(
+                    "The batchOnConsume option cannot be used together with named parameters from the parametersSource option"
+                                               + " on endpoint: " + getEndpoint());
+        }
+        if (partitions > 1) {
+            if (getEndpoint().isTransacted()) {
+                throw new IllegalArgumentException(
+                        "The partitions option cannot be used together with transacted on endpoint: " + getEndpoint());
+            }
+            if (getEndpoint().getOutputType() != SqlOutputType.SelectList) {
+                throw new IllegalArgumentException(
+                        "The partitions option can only be used with outputType=SelectList on endpoint: " + getEndpoint());
+            }
+            if (partitionColumn != null && ORDER_BY.matcher(resolvedQuery).find()) {
+                // the query is wrapped in a sub select which cannot be ordered on all databases
+                throw new IllegalArgumentException(
+                        "The partitionColumn option cannot be used with a query which has ORDER BY on endpoint: "
+                                                   + getEndpoint()
+                                                   + ". Remove the ORDER BY or select the partition in the query using the"
+                                                   + " named parameters :#" + SqlConstants.SQL_PARTITION_INDEX + " and :#"
+                                                   + SqlConstants.SQL_PARTITION_COUNT + " instead.");
+            }
+            partitionExecutorService = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newFixedThreadPool(this, "SqlConsumerPartition", partitions);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (partitionExecutorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(partitionExecutorService);
+            partitionExecutorService = null;
+        }
+
+        super.doStop();
     }
 
     @Override
@@ -129,6 +177,10 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
         shutdownRunningTask = null;
         pendingExchanges = 0;
 
+        if (partitionExecutorService != null) {
+            return pollPartitions();
+        }
+
         final Exchange dummy = getEndpoint().createExchange();
         final String preparedQuery
                 = sqlPrepareStatementStrategy.prepareQuery(resolvedQuery, getEndpoint().isAllowNamedParameters(), dummy);
@@ -139,14 +191,7 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
             public Integer doInPreparedStatement(PreparedStatement ps) throws SQLException, DataAccessException {
                 Queue<DataHolder> answer = new LinkedList<>();
 
-                int expected = parametersCount > 0 ? parametersCount : ps.getParameterMetaData().getParameterCount();
-
-                // only populate if really needed
-                if (alwaysPopulateStatement || expected > 0) {
-                    Iterator<?> i = sqlPrepareStatementStrategy.createPopulateIterator(resolvedQuery, preparedQuery, expected,
-                            dummy, null);
-                    sqlPrepareStatementStrategy.populateStatement(ps, i, expected);
-                }
+                populateStatement(ps, resolvedQuery, preparedQuery, dummy);
 
                 LOG.debug("Executing query: {}", preparedQuery);
                 ResultSet rs = ps.executeQuery();
@@ -205,6 +250,95 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
         return messagePolled;
     }
 
+    /**
+     * Fetches the rows of each partition concurrently, and each on their own connection, and then process all the rows
+     * as a single batch from this thread, the same way as when not partitioned.
+     */
+    private int pollPartitions() throws Exception {
+        List<Future<List<?>>> futures = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            final int partition = i;
+            futures.add(partitionExecutorService.submit(() -> fetchPartition(partition)));
+        }
+
+        List<Object> rows = new ArrayList<>();
+        Exception cause = null;
+        for (Future<List<?>> future : futures) {
+            try {
+                rows.addAll(future.get());
+            } catch (ExecutionException e) {
+                // wait for all partitions to complete, and rethrow the first failure
+                if (cause == null) {
+                    cause = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                }
+            }
+        }
+        if (cause != null) {
+            throw cause;
+        }
+
+        if (maxMessagesPerPoll > 0 && rows.size() > maxMessagesPerPoll) {
+            // the remaining rows are polled again on the next poll
+            rows = rows.subList(0, maxMessagesPerPoll);
+        }
+
+        Queue<DataHolder> answer = new LinkedList<>();
+        addListToQueue(rows, answer);
+        if (answer.isEmpty()) {
+            // no data
+            return 0;
+        }
+        return processBatch(CastUtils.cast(answer));
+    }
+
+    /**
+     * Fetches the rows of the given partition of the query.
+     *
+     * @param  partition the partition index
+     * @return           the rows
+     */
+    protected List<?> fetchPartition(int partition) throws SQLException {
+        final Exchange dummy = getEndpoint().createExchange();
+        dummy.getIn().setHeader(SqlConstants.SQL_PARTITION_INDEX, partition);
+        dummy.getIn().setHeader(SqlConstants.SQL_PARTITION_COUNT, partitions);
+        final String partitionQuery = partitionColumn != null
+                ? "select * from (" + resolvedQuery + ") camel_partition where mod(camel_partition." + partitionColumn
+                  + ", " + partitions + ") = " + partition
+                : resolvedQuery;
+        final String preparedQuery
+                = sqlPrepareStatementStrategy.prepareQuery(partitionQuery, getEndpoint().isAllowNamedParameters(), dummy);
+
+        LOG.trace("poll partition {}: {}", partition, preparedQuery);
+        final PreparedStatementCallback<List<?>> callback = ps -> {
+            populateStatement(ps, partitionQuery, preparedQuery, dummy);
+
+            LOG.debug("Executing query: {}", preparedQuery);
+            ResultSet rs = ps.executeQuery();
+            try {
+                return getEndpoint().queryForList(rs, true);
+            } finally {
+                closeResultSet(rs);
+            }
+        };
+
+        if (namedJdbcTemplate != null) {
+            return namedJdbcTemplate.execute(preparedQuery, parameterSource, callback);
+        } else {
+            return jdbcTemplate.execute(preparedQuery, callback);
+        }
+    }
+
+    private void populateStatement(PreparedStatement ps, String query, String preparedQuery, Exchange dummy)
+            throws SQLException {
+        int expected = parametersCount > 0 ? parametersCount : ps.getParameterMetaData().getParameterCount();
+
+        // only populate if really needed
+        if (alwaysPopulateStatement || expected > 0) {
+            Iterator<?> i = sqlPrepareStatementStrategy.createPopulateIterator(query, preparedQuery, expected, dummy, null);
+            sqlPrepareStatementStrategy.populateStatement(ps, i, expected);
+        }
+    }
+
     private void addListToQueue(Object data, Queue<DataHolder> answer) {
         if (data instanceof List) {
             // create a list of exchange objects with the data
@@ -250,66 +384,99 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
                     total);
         }
 
-        for (int index = 0; index < total && isBatchAllowed(); index++) {
-            // only loop if we are started (allowed to run)
-            DataHolder holder = ObjectHelper.cast(DataHolder.class, exchanges.poll());
-            Exchange exchange = holder.exchange;
-            Object data = holder.data;
+        // the processed rows pending to be committed when using batchOnConsume
+        final boolean batch = batchOnConsume;
+        final List<Exchange> consumed = batch ? new ArrayList<>(total) : null;
+        final List<Object> consumedData = batch ? new ArrayList<>(total) : null;
+        final List<Exchange> failed = batch ? new ArrayList<>() : null;
+        final List<Object> failedData = batch ? new ArrayList<>() : null;
 
-            // add current index and total as properties
-            exchange.setProperty(ExchangePropertyKey.BATCH_INDEX, index);
-            exchange.setProperty(ExchangePropertyKey.BATCH_SIZE, total);
-            exchange.setProperty(ExchangePropertyKey.BATCH_COMPLETE, index == total - 1);
+        try {
+            for (int index = 0; index < total && isBatchAllowed(); index++) {
+                // only loop if we are started (allowed to run)
+                DataHolder holder = ObjectHelper.cast(DataHolder.class, exchanges.poll());
+                Exchange exchange = holder.exchange;
+                Object data = holder.data;
 
-            // update pending number of exchanges
-            pendingExchanges = total - index - 1;
+                // add current index and total as properties
+                exchange.setProperty(ExchangePropertyKey.BATCH_INDEX, index);
+                exchange.setProperty(ExchangePropertyKey.BATCH_SIZE, total);
+                exchange.setProperty(ExchangePropertyKey.BATCH_COMPLETE, index == total - 1);
 
-            // process the current exchange
-            try {
-                getProcessor().process(exchange);
-            } catch (Exception e) {
-                exchange.setException(e);
-            }
+                // update pending number of exchanges
+                pendingExchanges = total - index - 1;
 
-            if (getEndpoint().isTransacted() && exchange.isFailed()) {
-                // break out as we are transacted and should rollback
-                Exception cause = exchange.getException();
-                // must release exchange
-                releaseExchange(exchange, false);
-                if (cause != null) {
-                    throw cause;
-                } else {
-                    throw new RollbackExchangeException("Rollback transaction due error processing exchange", null);
+                // process the current exchange
+                try {
+                    getProcessor().process(exchange);
+                } catch (Exception e) {
+                    exchange.setException(e);
                 }
-            }
 
-            // pick the on consume to use
-            String sql = exchange.isFailed() ? onConsumeFailed : onConsume;
-            try {
-                // we can only run on consume if there was data
-                if (data != null && sql != null) {
-                    int updateCount;
-                    if (namedJdbcTemplate != null && sqlProcessingStrategy instanceof SqlNamedProcessingStrategy) {
-                        SqlNamedProcessingStrategy namedProcessingStrategy = (SqlNamedProcessingStrategy) sqlProcessingStrategy;
-                        updateCount = namedProcessingStrategy.commit(getEndpoint(), exchange, data, namedJdbcTemplate,
-                                parameterSource, sql);
+                if (getEndpoint().isTransacted() && exchange.isFailed()) {
+                    // break out as we are transacted and should rollback
+                    Exception cause = exchange.getException();
+                    // must release exchange
+                    releaseExchange(exchange, false);
+                    if (cause != null) {
+                        throw cause;
                     } else {
-                        updateCount = sqlProcessingStrategy.commit(getEndpoint(), exchange, data, jdbcTemplate, sql);
+                        throw new RollbackExchangeException("Rollback transaction due error processing exchange", null);
                     }
-                    if (expectedUpdateCount > -1 && updateCount != expectedUpdateCount) {
-                        String msg = "Expected update count " + expectedUpdateCount + " but was " + updateCount
-                                     + " executing query: " + sql;
-                        throw new SQLException(msg);
+                }
+
+                // pick the on consume to use
+                String sql = exchange.isFailed() ? onConsumeFailed : onConsume;
+                if (batch && data != null && sql != null) {
+                    // defer to be executed as batch when all the rows has been processed
+                    if (exchange.isFailed()) {
+                        failed.add(exchange);
+                        failedData.add(data);
+                    } else {
+                        consumed.add(exchange);
+                        consumedData.add(data);
                     }
+                    continue;
                 }
-            } catch (Exception e) {
-                if (breakBatchOnConsumeFail) {
-                    throw e;
-                } else {
-                    handleException("Error executing onConsume/onConsumeFailed query " + sql, e);
+                try {
+                    // we can only run on consume if there was data
+                    if (data != null && sql != null) {
+                        int updateCount;
+                        if (namedJdbcTemplate != null && sqlProcessingStrategy instanceof SqlNamedProcessingStrategy) {
+                            SqlNamedProcessingStrategy namedProcessingStrategy
+                                    = (SqlNamedProcessingStrategy) sqlProcessingStrategy;
+                            updateCount = namedProcessingStrategy.commit(getEndpoint(), exchange, data, namedJdbcTemplate,
+                                    parameterSource, sql);
+                        } else {
+                            updateCount = sqlProcessingStrategy.commit(getEndpoint(), exchange, data, jdbcTemplate, sql);
+                        }
+                        if (expectedUpdateCount > -1 && updateCount != expectedUpdateCount) {
+                            String msg = "Expected update count " + expectedUpdateCount + " but was " + updateCount
+                                         + " executing query: " + sql;
+                            throw new SQLException(msg);
+                        }
+                    }
+                } catch (Exception e) {
+                    if (breakBatchOnConsumeFail) {
+                        throw e;
+                    } else {
+                        handleException("Error executing onConsume/onConsumeFailed query " + sql, e);
+                    }
+                } finally {
+                    releaseExchange(exchange, false);
                 }
-            } finally {
-                releaseExchange(exchange, false);
+            }
+
+            if (batch) {
+                commitBatch(consumed, consumedData, onConsume);
+                commitBatch(failed, failedData, onConsumeFailed);
+            }
+        } finally {
+            // release the exchanges which are not processed or committed when breaking out of the batch
+            releaseRemaining(exchanges);
+            if (batch) {
+                consumed.forEach(e -> releaseExchange(e, false));
+                failed.forEach(e -> releaseExchange(e, false));
             }
         }
 
@@ -337,6 +504,43 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
         return total;
     }
 
+    private void commitBatch(List<Exchange> exchanges, List<Object> data, String sql) throws Exception {
+        if (exchanges.isEmpty()) {
+            return;
+        }
+        try {
+            int[] updateCounts = sqlProcessingStrategy.commitBatch(getEndpoint(), exchanges, data, jdbcTemplate, sql);
+            if (expectedUpdateCount > -1) {
+                for (int updateCount : updateCounts) {
+                    // some JDBC drivers do not report the update count for each statement in the batch
+                    if (updateCount != Statement.SUCCESS_NO_INFO && updateCount != expectedUpdateCount) {
+                        String msg = "Expected update count " + expectedUpdateCount + " but was " + updateCount
+                                     + " executing batch query: " + sql;
+                        throw new SQLException(msg);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            if (breakBatchOnConsumeFail) {
+                throw e;
+            } else {
+                handleException("Error executing batch onConsume/onConsumeFailed query " + sql, e);
+            }
+        } finally {
+            for (Exchange exchange : exchanges) {
+                releaseExchange(exchange, false);
+            }
+            exchanges.clear();
+        }
+    }
+
+    private void releaseRemaining(Queue<Object> exchanges) {
+        Object holder;
+        while ((holder = exchanges.poll()) != null) {
+            releaseExchange(((DataHolder) holder).exchange, false);
+        }
+    }
+
     public String getOnConsume() {
         return onConsume;
     }
@@ -429,4 +633,39 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
     public void setAlwaysPopulateStatement(boolean alwaysPopulateStatement) {
         this.alwaysPopulateStatement = alwaysPopulateStatement;
     }
+
+    public boolean isBatchOnConsume() {
+        return batchOnConsume;
+    }
+
+    /**
+     * Sets whether onConsume and onConsumeFailed queries are executed as JDBC batch statements once all rows from the
+     * poll have been processed, instead of one statement per row.
+     */
+    public void setBatchOnConsume(boolean batchOnConsume) {
+        this.batchOnConsume = batchOnConsume;
+    }
+
+    public int getPartitions() {
+        return partitions;
+    }
+
+    /**
+     * Number of partitions the query is split into, where the rows of each partition are fetched concurrently on its
+     * own thread and database connection, and then processed as a single batch.
+     */
+    public void setPartitions(int partitions) {
+        this.partitions = partitions;
+    }
+
+    public String getPartitionColumn() {
+        return partitionColumn;
+    }
+
+    /**
+     * The numeric column to use for splitting the query into partitions using MOD(partitionColumn, partitions).
+     */
+    public void setPartitionColumn(String partitionColumn) {
+        this.partitionColumn = partitionColumn;
+    }
 }
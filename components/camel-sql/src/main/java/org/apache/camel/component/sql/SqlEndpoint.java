@@ -61,6 +61,9 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
         consumer.setRouteEmptyResultSet(isRouteEmptyResultSet());
         consumer.setParametersCount(getParametersCount());
         consumer.setAlwaysPopulateStatement(isAlwaysPopulateStatement());
+        consumer.setBatchOnConsume(isBatchOnConsume());
+        consumer.setPartitions(getPartitions());
+        consumer.setPartitionColumn(getPartitionColumn());
         configureConsumer(consumer);
         return consumer;
     }
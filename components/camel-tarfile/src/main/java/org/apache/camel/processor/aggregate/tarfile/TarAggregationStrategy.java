@@ -16,6 +16,7 @@
  */
 package org.apache.camel.processor.aggregate.tarfile;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -23,10 +24,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.camel.AggregationStrategy;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedExchange;
+import org.apache.camel.Service;
 import org.apache.camel.WrappedFile;
 import org.apache.camel.component.file.FileConsumer;
 import org.apache.camel.component.file.GenericFile;
@@ -34,6 +38,7 @@ import org.apache.camel.component.file.GenericFileMessage;
 import org.apache.camel.component.file.GenericFileOperationFailedException;
 import org.apache.camel.spi.Synchronization;
 import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
 import org.apache.commons.compress.archivers.ArchiveEntry;
 import org.apache.commons.compress.archivers.ArchiveException;
 import org.apache.commons.compress.archivers.ArchiveStreamFactory;
@@ -56,12 +61,14 @@ import org.slf4j.LoggerFactory;
  * </p>
  *
  * <p>
- * <b>NOTE 2:</b> This implementation is very inefficient especially on big files since the tar file is completely
- * rewritten for each file that is added to it. Investigate if the files can be collected and at completion stored to
- * tar file.
+ * <b>NOTE 2:</b> By default this implementation is very inefficient especially on big files since the tar file is
+ * completely rewritten for each file that is added to it. When streaming is enabled, then the tar file is kept open
+ * while aggregating, and the messages are appended to the tar file as they arrive, and the tar file is finished when
+ * the aggregation is completed. The tar file is then only written once, but it is not a valid tar file until the
+ * aggregation is completed.
  * </p>
  */
-public class TarAggregationStrategy implements AggregationStrategy {
+public class TarAggregationStrategy implements AggregationStrategy, Service {
 
     private static final Logger LOG = LoggerFactory.getLogger(TarAggregationStrategy.class);
 
@@ -69,7 +76,9 @@ public class TarAggregationStrategy implements AggregationStrategy {
     private String fileSuffix = ".tar";
     private boolean preserveFolderStructure;
     private boolean useFilenameHeader;
+    private boolean streaming;
     private File parentDir = new File(System.getProperty("java.io.tmpdir"));
+    private final Map<File, TarArchiveOutputStream> streams = new ConcurrentHashMap<>();
 
     public TarAggregationStrategy() {
         this(false, false);
@@ -134,6 +143,18 @@ public class TarAggregationStrategy implements AggregationStrategy {
         this.parentDir = new File(parentDir);
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Sets whether to keep the TAR file open while aggregating, and append the messages to the TAR file as they arrive,
+     * instead of rewriting the TAR file for each message. The TAR file is finished when the aggregation is completed.
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     @Override
     public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
         File tarFile;
@@ -149,6 +170,9 @@ public class TarAggregationStrategy implements AggregationStrategy {
             try {
                 tarFile = FileUtil.createTempFile(this.filePrefix, this.fileSuffix, this.parentDir);
                 LOG.trace("Created temporary file: {}", tarFile);
+                if (streaming) {
+                    newTarStream(tarFile);
+                }
             } catch (IOException e) {
                 throw new GenericFileOperationFailedException(e.getMessage(), e);
             }
@@ -171,7 +195,11 @@ public class TarAggregationStrategy implements AggregationStrategy {
                     String entryName = preserveFolderStructure
                             ? newExchange.getIn().getHeader(Exchange.FILE_NAME, String.class)
                             : newExchange.getIn().getMessageId();
-                    addFileToTar(tarFile, appendFile, this.preserveFolderStructure ? entryName : null);
+                    if (streaming) {
+                        addFileToTarStream(tarFile, appendFile, this.preserveFolderStructure ? entryName : null);
+                    } else {
+                        addFileToTar(tarFile, appendFile, this.preserveFolderStructure ? entryName : null);
+                    }
                     GenericFile<File> genericFile = FileConsumer.asGenericFile(
                             tarFile.getParent(), tarFile, Charset.defaultCharset().toString(), false);
                     genericFile.bindToExchange(answer);
@@ -188,7 +216,11 @@ public class TarAggregationStrategy implements AggregationStrategy {
                     String entryName = useFilenameHeader
                             ? newExchange.getIn().getHeader(Exchange.FILE_NAME, String.class)
                             : newExchange.getIn().getMessageId();
-                    addEntryToTar(tarFile, entryName, buffer, buffer.length);
+                    if (streaming) {
+                        createNewEntry(entryName, buffer, buffer.length, getTarStream(tarFile));
+                    } else {
+                        addEntryToTar(tarFile, entryName, buffer, buffer.length);
+                    }
                     GenericFile<File> genericFile = FileConsumer.asGenericFile(
                             tarFile.getParent(), tarFile, Charset.defaultCharset().toString(), false);
                     genericFile.bindToExchange(answer);
@@ -200,6 +232,68 @@ public class TarAggregationStrategy implements AggregationStrategy {
         return answer;
     }
 
+    @Override
+    public void onCompletion(Exchange exchange) {
+        if (streaming && exchange != null) {
+            File tarFile = exchange.getIn().getBody(File.class);
+            if (tarFile != null) {
+                try {
+                    closeTarStream(tarFile);
+                } catch (IOException e) {
+                    throw new GenericFileOperationFailedException(e.getMessage(), e);
+                }
+                // bind the file again as the length of the file has changed
+                GenericFile<File> genericFile = FileConsumer.asGenericFile(
+                        tarFile.getParent(), tarFile, Charset.defaultCharset().toString(), false);
+                genericFile.bindToExchange(exchange);
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        // noop
+    }
+
+    @Override
+    public void stop() {
+        // close the TAR files of the aggregations which was not completed
+        for (File tarFile : streams.keySet()) {
+            IOHelper.close(streams.remove(tarFile), tarFile.getName(), LOG);
+        }
+    }
+
+    private void newTarStream(File tarFile) throws IOException {
+        TarArchiveOutputStream tos = new TarArchiveOutputStream(new BufferedOutputStream(new FileOutputStream(tarFile)));
+        tos.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+        tos.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
+        streams.put(tarFile, tos);
+    }
+
+    private TarArchiveOutputStream getTarStream(File tarFile) throws IOException {
+        TarArchiveOutputStream tos = streams.get(tarFile);
+        if (tos == null) {
+            throw new IOException("Cannot append to TAR file " + tarFile + " as the TAR file is not open");
+        }
+        return tos;
+    }
+
+    private void closeTarStream(File tarFile) throws IOException {
+        TarArchiveOutputStream tos = streams.remove(tarFile);
+        if (tos != null) {
+            // writes the end of archive records
+            tos.finish();
+            tos.close();
+        }
+    }
+
+    private void addFileToTarStream(File tarFile, File file, String fileName) throws IOException {
+        TarArchiveOutputStream tos = getTarStream(tarFile);
+        try (InputStream in = new FileInputStream(file)) {
+            addNewEntry(file, fileName, tos, in);
+        }
+    }
+
     private void addFileToTar(File source, File file, String fileName) throws IOException, ArchiveException {
         File tmpTar = Files.createTempFile(parentDir.toPath(), source.getName(), null).toFile();
         tmpTar.delete();
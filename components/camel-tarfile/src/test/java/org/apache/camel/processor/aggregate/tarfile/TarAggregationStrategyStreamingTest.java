@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate.tarfile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.apache.camel.util.IOHelper;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.test.junit5.TestSupport.deleteDirectory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class TarAggregationStrategyStreamingTest extends CamelTestSupport {
+
+    private static final int EXPECTED_NO_FILES = 50;
+    private static final String TEST_DIR = "target/out_TarAggregationStrategyStreamingTest";
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        deleteDirectory(TEST_DIR);
+        super.setUp();
+    }
+
+    @Test
+    public void testStreaming() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:aggregateToTarEntry");
+        mock.expectedMessageCount(1);
+
+        for (int i = 0; i < EXPECTED_NO_FILES; i++) {
+            template.sendBodyAndHeader("direct:start", "Hello " + i, Exchange.FILE_NAME, "hello" + i + ".txt");
+        }
+
+        assertMockEndpointsSatisfied();
+
+        File resultFile = new File(TEST_DIR, "hello.tar");
+        TarArchiveInputStream tin = new TarArchiveInputStream(new FileInputStream(resultFile));
+        try {
+            for (int i = 0; i < EXPECTED_NO_FILES; i++) {
+                TarArchiveEntry te = tin.getNextTarEntry();
+                assertNotNull(te);
+                assertEquals("hello" + i + ".txt", te.getName());
+                assertEquals("Hello " + i, readEntry(tin));
+            }
+            assertNull(tin.getNextTarEntry());
+        } finally {
+            IOHelper.close(tin);
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                TarAggregationStrategy tar = new TarAggregationStrategy(false, true);
+                tar.setStreaming(true);
+
+                from("direct:start")
+                        .aggregate(constant(true), tar)
+                        .completionSize(EXPECTED_NO_FILES)
+                        .setHeader(Exchange.FILE_NAME, constant("hello.tar"))
+                        .to("file:" + TEST_DIR)
+                        .to("mock:aggregateToTarEntry");
+            }
+        };
+    }
+
+    private static String readEntry(InputStream in) throws IOException {
+        // the stream must not be closed as it contains the next entries
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        IOHelper.copy(in, bos);
+        return bos.toString();
+    }
+}
@@ -41,6 +41,8 @@ public class ValidatorEndpointConfigurer extends PropertyConfigurerSupport imple
         case "schemaLanguage": target.setSchemaLanguage(property(camelContext, java.lang.String.class, value)); return true;
         case "usesharedschema":
         case "useSharedSchema": target.setUseSharedSchema(property(camelContext, boolean.class, value)); return true;
+        case "validatorpoolsize":
+        case "validatorPoolSize": target.setValidatorPoolSize(property(camelContext, int.class, value)); return true;
         default: return false;
         }
     }
@@ -68,6 +70,8 @@ public class ValidatorEndpointConfigurer extends PropertyConfigurerSupport imple
         case "schemaLanguage": return java.lang.String.class;
         case "usesharedschema":
         case "useSharedSchema": return boolean.class;
+        case "validatorpoolsize":
+        case "validatorPoolSize": return int.class;
         default: return null;
         }
     }
@@ -96,6 +100,8 @@ public class ValidatorEndpointConfigurer extends PropertyConfigurerSupport imple
         case "schemaLanguage": return target.getSchemaLanguage();
         case "usesharedschema":
         case "useSharedSchema": return target.isUseSharedSchema();
+        case "validatorpoolsize":
+        case "validatorPoolSize": return target.getValidatorPoolSize();
         default: return null;
         }
     }
@@ -20,7 +20,8 @@ public class ValidatorEndpointUriFactory extends org.apache.camel.support.compon
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(11);
+        Set<String> props = new HashSet<>(12);
+        props.add("validatorPoolSize");
         props.add("lazyStartProducer");
         props.add("headerName");
         props.add("resourceResolver");
@@ -18,6 +18,7 @@ package org.apache.camel.component.validator;
 
 import javax.xml.XMLConstants;
 import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.Validator;
 
 import org.w3c.dom.ls.LSResourceResolver;
 
@@ -26,6 +27,7 @@ import org.apache.camel.Component;
 import org.apache.camel.Consumer;
 import org.apache.camel.Processor;
 import org.apache.camel.Producer;
+import org.apache.camel.api.management.ManagedAttribute;
 import org.apache.camel.api.management.ManagedOperation;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.spi.Metadata;
@@ -33,6 +35,7 @@ import org.apache.camel.spi.UriEndpoint;
 import org.apache.camel.spi.UriParam;
 import org.apache.camel.spi.UriPath;
 import org.apache.camel.support.DefaultEndpoint;
+import org.apache.camel.support.builder.xml.PooledXmlObjectFactory;
 import org.apache.camel.support.processor.validation.DefaultValidationErrorHandler;
 import org.apache.camel.support.processor.validation.SchemaReader;
 import org.apache.camel.support.processor.validation.ValidatingProcessor;
@@ -61,6 +64,10 @@ public class ValidatorEndpoint extends DefaultEndpoint {
     @UriParam(defaultValue = "true", label = "advanced",
               description = "Whether the Schema instance should be shared or not. This option is introduced to work around a JDK 1.6.x bug. Xerces should not have this issue.")
     private boolean useSharedSchema = true;
+    @UriParam(label = "advanced",
+              description = "The number of javax.xml.validation.Validator objects that are pooled for reuse to avoid calls to Schema.newValidator()."
+                            + " The pool is filled up when the producer is started. This requires the shared schema to be in use.")
+    private int validatorPoolSize;
     @UriParam(label = "advanced",
               description = "To use a custom LSResourceResolver.  Do not use together with resourceResolverFactory")
     private LSResourceResolver resourceResolver;
@@ -98,6 +105,30 @@ public class ValidatorEndpoint extends DefaultEndpoint {
         schemaReader.setSchema(null);
     }
 
+    @ManagedAttribute(description = "Number of validators currently in the validator pool")
+    public int getValidatorPoolCurrentSize() {
+        PooledXmlObjectFactory<Validator> pool = schemaReader.getValidatorPool();
+        return pool != null ? pool.getSize() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of times a validator was reused from the validator pool")
+    public long getValidatorPoolHits() {
+        PooledXmlObjectFactory<Validator> pool = schemaReader.getValidatorPool();
+        return pool != null ? pool.getStatistics().getAcquiredCounter() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of times a validator was not available in the validator pool")
+    public long getValidatorPoolMisses() {
+        PooledXmlObjectFactory<Validator> pool = schemaReader.getValidatorPool();
+        return pool != null ? pool.getMissedCounter() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of validators created for the validator pool")
+    public long getValidatorPoolCreated() {
+        PooledXmlObjectFactory<Validator> pool = schemaReader.getValidatorPool();
+        return pool != null ? pool.getStatistics().getCreatedCounter() : 0;
+    }
+
     @Override
     public Producer createProducer() throws Exception {
         if (!schemaReaderConfigured) {
@@ -138,6 +169,7 @@ public class ValidatorEndpoint extends DefaultEndpoint {
     protected void configureValidator(ValidatingProcessor validator) throws Exception {
         validator.setErrorHandler(getErrorHandler());
         validator.setUseSharedSchema(isUseSharedSchema());
+        validator.setValidatorPoolSize(getValidatorPoolSize());
         validator.setFailOnNullBody(isFailOnNullBody());
         validator.setFailOnNullHeader(isFailOnNullHeader());
         validator.setHeaderName(getHeaderName());
@@ -202,6 +234,19 @@ public class ValidatorEndpoint extends DefaultEndpoint {
         this.useSharedSchema = useSharedSchema;
     }
 
+    public int getValidatorPoolSize() {
+        return validatorPoolSize;
+    }
+
+    /**
+     * The number of javax.xml.validation.Validator objects that are pooled for reuse to avoid calls to
+     * Schema.newValidator(). The pool is filled up when the producer is started. This requires the shared schema to be
+     * in use.
+     */
+    public void setValidatorPoolSize(int validatorPoolSize) {
+        this.validatorPoolSize = validatorPoolSize;
+    }
+
     public LSResourceResolver getResourceResolver() {
         return resourceResolver;
     }
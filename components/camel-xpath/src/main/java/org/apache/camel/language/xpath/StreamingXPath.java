@@ -0,0 +1,557 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.xpath;
+
+import java.io.Closeable;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.xpath.XPathExpressionException;
+
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.converter.jaxp.StaxConverter;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * A forward-only subset of XPath which is evaluated on StAX events, so the XML document is never loaded into memory as
+ * a whole.
+ * <p/>
+ * The supported syntax is a location path of child (<tt>/</tt>) and descendant (<tt>//</tt>) steps, where each step is
+ * an element name (optionally with a namespace prefix) or <tt>*</tt>, followed by any number of attribute predicates
+ * such as <tt>[@id]</tt>, <tt>[@type='book']</tt> or <tt>[@type!='book']</tt>. The path can end with <tt>/@name</tt> to
+ * select an attribute, or <tt>/text()</tt> to select the text of the element.
+ */
+final class StreamingXPath {
+
+    private static final int MAX_STEPS = 63;
+
+    private final String text;
+    private final Step[] steps;
+    private final String attributeUri;
+    private final String attributeName;
+    private final boolean selectText;
+
+    private StreamingXPath(String text, Step[] steps, String attributeUri, String attributeName, boolean selectText) {
+        this.text = text;
+        this.steps = steps;
+        this.attributeUri = attributeUri;
+        this.attributeName = attributeName;
+        this.selectText = selectText;
+    }
+
+    /**
+     * Compiles the xpath expression
+     *
+     * @param  text                  the xpath expression
+     * @param  namespaces            the namespace prefixes which can be used in the expression
+     * @return                       the compiled expression
+     * @throws InvalidXPathException if the expression is not supported in streaming mode
+     */
+    static StreamingXPath compile(String text, Map<String, String> namespaces) {
+        String path = text.trim();
+        if (!path.startsWith("/")) {
+            // a relative path is relative to the document
+            path = "/" + path;
+        }
+        List<Step> steps = new ArrayList<>();
+        String attributeUri = null;
+        String attributeName = null;
+        boolean selectText = false;
+
+        int i = 0;
+        while (i < path.length()) {
+            boolean descendant = path.startsWith("//", i);
+            i += descendant ? 2 : 1;
+            int end = stepEnd(text, path, i);
+            String token = path.substring(i, end);
+            i = end;
+
+            boolean last = i == path.length();
+            if ("text()".equals(token) && last && !descendant) {
+                selectText = true;
+            } else if (token.startsWith("@") && last && !descendant) {
+                String[] name = resolveName(text, token.substring(1), namespaces, false);
+                attributeUri = name[0];
+                attributeName = name[1];
+            } else {
+                steps.add(parseStep(text, token, descendant, namespaces));
+            }
+        }
+        if (steps.isEmpty() || steps.size() > MAX_STEPS) {
+            throw invalid(text, "must select between 1 and " + MAX_STEPS + " elements");
+        }
+        return new StreamingXPath(text, steps.toArray(new Step[0]), attributeUri, attributeName, selectText);
+    }
+
+    /**
+     * Evaluates the expression on the given XML.
+     *
+     * @param  in    the XML to read
+     * @param  asXml whether matched elements should be returned as XML fragments, or as their text content
+     * @return       an iterator with the matched values, which must be closed after use
+     */
+    StreamingXPathIterator evaluate(Reader in, boolean asXml) throws XMLStreamException {
+        return new StreamingXPathIterator(in, asXml);
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+
+    private static int stepEnd(String text, String path, int start) {
+        char quote = 0;
+        int brackets = 0;
+        for (int i = start; i < path.length(); i++) {
+            char ch = path.charAt(i);
+            if (quote != 0) {
+                if (ch == quote) {
+                    quote = 0;
+                }
+            } else if (ch == '\'' || ch == '"') {
+                quote = ch;
+            } else if (ch == '[') {
+                brackets++;
+            } else if (ch == ']') {
+                brackets--;
+            } else if (ch == '/' && brackets == 0) {
+                if (i == start) {
+                    throw invalid(text, "empty location step");
+                }
+                return i;
+            }
+        }
+        if (quote != 0 || brackets != 0) {
+            throw invalid(text, "unbalanced quotes or brackets");
+        }
+        if (start == path.length()) {
+            throw invalid(text, "empty location step");
+        }
+        return path.length();
+    }
+
+    private static Step parseStep(String text, String token, boolean descendant, Map<String, String> namespaces) {
+        int pos = token.indexOf('[');
+        String name = pos == -1 ? token : token.substring(0, pos);
+        String[] qname = "*".equals(name) ? null : resolveName(text, name, namespaces, true);
+
+        List<AttributePredicate> predicates = new ArrayList<>();
+        while (pos != -1) {
+            int end = token.indexOf(']', pos);
+            int next = token.indexOf('[', end);
+            // predicates must follow each other and end the step
+            boolean valid = next == -1 ? end == token.length() - 1 : next == end + 1;
+            if (!valid) {
+                throw invalid(text, "unsupported location step " + token);
+            }
+            predicates.add(parsePredicate(text, token.substring(pos + 1, end).trim(), namespaces));
+            pos = next;
+        }
+        return new Step(descendant, qname, predicates.toArray(new AttributePredicate[0]));
+    }
+
+    private static AttributePredicate parsePredicate(String text, String predicate, Map<String, String> namespaces) {
+        if (!predicate.startsWith("@")) {
+            throw invalid(text, "only attribute predicates are supported but was [" + predicate + "]");
+        }
+        int pos = predicate.indexOf('=');
+        if (pos == -1) {
+            String[] name = resolveName(text, predicate.substring(1).trim(), namespaces, false);
+            return new AttributePredicate(name[0], name[1], null, false);
+        }
+        boolean negate = predicate.charAt(pos - 1) == '!';
+        String[] name = resolveName(text, predicate.substring(1, negate ? pos - 1 : pos).trim(), namespaces, false);
+        String value = predicate.substring(pos + 1).trim();
+        if (value.length() < 2 || value.charAt(0) != value.charAt(value.length() - 1)
+                || value.charAt(0) != '\'' && value.charAt(0) != '"') {
+            throw invalid(text, "attribute values must be quoted but was [" + predicate + "]");
+        }
+        return new AttributePredicate(name[0], name[1], value.substring(1, value.length() - 1), negate);
+    }
+
+    private static String[] resolveName(String text, String name, Map<String, String> namespaces, boolean element) {
+        String prefix = "";
+        String local = name;
+        int pos = name.indexOf(':');
+        if (pos != -1) {
+            prefix = name.substring(0, pos);
+            local = name.substring(pos + 1);
+        }
+        if (!isName(prefix, true) || !isName(local, false)) {
+            throw invalid(text, "unsupported " + (element ? "element" : "attribute") + " name " + name);
+        }
+        String uri = "";
+        if (!prefix.isEmpty()) {
+            uri = namespaces != null ? namespaces.get(prefix) : null;
+            if (uri == null) {
+                throw invalid(text, "unknown namespace prefix " + prefix);
+            }
+        }
+        return new String[] { uri, local };
+    }
+
+    private static boolean isName(String name, boolean allowEmpty) {
+        if (name.isEmpty()) {
+            return allowEmpty;
+        }
+        if (!Character.isLetter(name.charAt(0)) && name.charAt(0) != '_') {
+            return false;
+        }
+        for (int i = 1; i < name.length(); i++) {
+            char ch = name.charAt(i);
+            if (!Character.isLetterOrDigit(ch) && ch != '_' && ch != '-' && ch != '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static InvalidXPathException invalid(String text, String reason) {
+        return new InvalidXPathException(
+                text, new XPathExpressionException("Not supported in streaming mode due " + reason));
+    }
+
+    private static String nullToEmpty(String s) {
+        return s != null ? s : "";
+    }
+
+    private static final class Step {
+        private final boolean descendant;
+        private final String uri;
+        private final String localName;
+        private final AttributePredicate[] predicates;
+
+        Step(boolean descendant, String[] qname, AttributePredicate[] predicates) {
+            this.descendant = descendant;
+            this.uri = qname != null ? qname[0] : null;
+            this.localName = qname != null ? qname[1] : null;
+            this.predicates = predicates;
+        }
+
+        boolean matches(XMLStreamReader reader) {
+            if (localName != null
+                    && (!localName.equals(reader.getLocalName()) || !uri.equals(nullToEmpty(reader.getNamespaceURI())))) {
+                return false;
+            }
+            for (AttributePredicate predicate : predicates) {
+                if (!predicate.matches(reader)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class AttributePredicate {
+        private final String uri;
+        private final String localName;
+        private final String value;
+        private final boolean negate;
+
+        AttributePredicate(String uri, String localName, String value, boolean negate) {
+            this.uri = uri;
+            this.localName = localName;
+            this.value = value;
+            this.negate = negate;
+        }
+
+        boolean matches(XMLStreamReader reader) {
+            String actual = attributeValue(reader, uri, localName);
+            if (actual == null) {
+                return false;
+            }
+            return value == null || value.equals(actual) != negate;
+        }
+    }
+
+    private static String attributeValue(XMLStreamReader reader, String uri, String localName) {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            if (localName.equals(reader.getAttributeLocalName(i))
+                    && uri.equals(nullToEmpty(reader.getAttributeNamespace(i)))) {
+                return reader.getAttributeValue(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Iterates the values matched by the expression while reading the XML.
+     * <p/>
+     * Only the current match is kept in memory. Elements nested inside an element which has already been matched are
+     * not matched again.
+     */
+    final class StreamingXPathIterator implements Iterator<String>, Closeable {
+        private final Reader in;
+        private final XMLStreamReader reader;
+        private final boolean asXml;
+        // the steps which are candidates to match at each depth as a bit mask
+        private long[] states = new long[16];
+        private int depth;
+        // the namespace declarations in scope (prefix and uri pairs) and how many there are per depth
+        private final List<String> namespaces = new ArrayList<>();
+        private int[] namespaceCounts = new int[16];
+        private String next;
+        private boolean done;
+
+        StreamingXPathIterator(Reader in, boolean asXml) throws XMLStreamException {
+            this.in = in;
+            this.reader = new StaxConverter().createXMLStreamReader(in);
+            this.asXml = asXml;
+            // the document node is where the first step is matched from
+            this.states[0] = 1L;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                try {
+                    next = fetchNext();
+                } catch (XMLStreamException e) {
+                    close();
+                    throw RuntimeCamelException.wrapRuntimeCamelException(e);
+                }
+                if (next == null) {
+                    close();
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String answer = next;
+            next = null;
+            return answer;
+        }
+
+        @Override
+        public void close() {
+            done = true;
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                // ignore
+            }
+            IOHelper.close(in);
+        }
+
+        private String fetchNext() throws XMLStreamException {
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    boolean matched = push();
+                    if (matched) {
+                        String answer = select();
+                        if (answer != null) {
+                            return answer;
+                        }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    pop();
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Enters the current element and returns whether the element is matched by the last step
+         */
+        private boolean push() {
+            long parent = states[depth];
+            depth++;
+            if (depth == states.length) {
+                states = Arrays.copyOf(states, depth * 2);
+                namespaceCounts = Arrays.copyOf(namespaceCounts, depth * 2);
+            }
+            int count = reader.getNamespaceCount();
+            for (int i = 0; i < count; i++) {
+                namespaces.add(nullToEmpty(reader.getNamespacePrefix(i)));
+                namespaces.add(nullToEmpty(reader.getNamespaceURI(i)));
+            }
+            namespaceCounts[depth] = count;
+
+            long state = 0;
+            boolean matched = false;
+            for (int k = 0; k < steps.length && parent != 0; k++) {
+                if ((parent & 1L << k) == 0) {
+                    continue;
+                }
+                Step step = steps[k];
+                if (step.descendant) {
+                    // a descendant step can still match deeper down
+                    state |= 1L << k;
+                }
+                if (step.matches(reader)) {
+                    if (k == steps.length - 1) {
+                        matched = true;
+                    } else {
+                        state |= 1L << (k + 1);
+                    }
+                }
+            }
+            states[depth] = state;
+            return matched;
+        }
+
+        private void pop() {
+            int count = namespaceCounts[depth] * 2;
+            for (int i = 0; i < count; i++) {
+                namespaces.remove(namespaces.size() - 1);
+            }
+            depth--;
+        }
+
+        /**
+         * Selects the value of the matched element, which is either an attribute, its text, or the element itself
+         */
+        private String select() throws XMLStreamException {
+            if (attributeName != null) {
+                // the element can have nested matches so we continue from here
+                return attributeValue(reader, attributeUri, attributeName);
+            }
+            String answer;
+            if (selectText) {
+                answer = readText(true);
+            } else if (asXml) {
+                answer = readXml();
+            } else {
+                answer = readText(false);
+            }
+            // the element has been read so we have left it
+            pop();
+            return answer;
+        }
+
+        private String readText(boolean childrenOnly) throws XMLStreamException {
+            StringBuilder sb = null;
+            int level = 0;
+            while (true) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    level++;
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if (level == 0) {
+                        break;
+                    }
+                    level--;
+                } else if (isText(event) && (level == 0 || !childrenOnly)) {
+                    if (sb == null) {
+                        sb = new StringBuilder();
+                    }
+                    sb.append(reader.getText());
+                }
+            }
+            if (sb != null) {
+                return sb.toString();
+            }
+            // an element without text has an empty string value, but there is no text node to select
+            return childrenOnly ? null : "";
+        }
+
+        private String readXml() throws XMLStreamException {
+            StringWriter sw = new StringWriter();
+            XMLStreamWriter writer = new StaxConverter().createXMLStreamWriter(sw);
+            // declare all the namespaces in scope so the fragment is standalone
+            Map<String, String> scope = new LinkedHashMap<>();
+            for (int i = 0; i < namespaces.size(); i += 2) {
+                scope.put(namespaces.get(i), namespaces.get(i + 1));
+            }
+            writeStartElement(writer, scope);
+
+            int level = 0;
+            while (level >= 0) {
+                int event = reader.next();
+                switch (event) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        level++;
+                        Map<String, String> declared = new LinkedHashMap<>();
+                        for (int i = 0; i < reader.getNamespaceCount(); i++) {
+                            declared.put(nullToEmpty(reader.getNamespacePrefix(i)), nullToEmpty(reader.getNamespaceURI(i)));
+                        }
+                        writeStartElement(writer, declared);
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        level--;
+                        writer.writeEndElement();
+                        break;
+                    case XMLStreamConstants.CDATA:
+                        writer.writeCData(reader.getText());
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.SPACE:
+                        writer.writeCharacters(reader.getText());
+                        break;
+                    case XMLStreamConstants.COMMENT:
+                        writer.writeComment(reader.getText());
+                        break;
+                    case XMLStreamConstants.PROCESSING_INSTRUCTION:
+                        writer.writeProcessingInstruction(reader.getPITarget(), reader.getPIData());
+                        break;
+                    default:
+                        break;
+                }
+            }
+            writer.flush();
+            writer.close();
+            return sw.toString();
+        }
+
+        private void writeStartElement(XMLStreamWriter writer, Map<String, String> declared) throws XMLStreamException {
+            writer.writeStartElement(nullToEmpty(reader.getPrefix()), reader.getLocalName(),
+                    nullToEmpty(reader.getNamespaceURI()));
+            for (Map.Entry<String, String> entry : declared.entrySet()) {
+                if (XMLConstants.XML_NS_PREFIX.equals(entry.getKey())) {
+                    continue;
+                }
+                if (entry.getKey().isEmpty()) {
+                    writer.writeDefaultNamespace(entry.getValue());
+                } else {
+                    writer.writeNamespace(entry.getKey(), entry.getValue());
+                }
+            }
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                String prefix = nullToEmpty(reader.getAttributePrefix(i));
+                if (prefix.isEmpty()) {
+                    writer.writeAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+                } else {
+                    writer.writeAttribute(prefix, nullToEmpty(reader.getAttributeNamespace(i)),
+                            reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+                }
+            }
+        }
+
+        private boolean isText(int event) {
+            return event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+                    || event == XMLStreamConstants.SPACE;
+        }
+    }
+}
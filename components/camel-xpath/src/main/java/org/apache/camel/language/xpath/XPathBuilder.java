@@ -18,14 +18,15 @@ package org.apache.camel.language.xpath;
 
 import java.io.File;
 import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
-import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.xml.namespace.QName;
 import javax.xml.parsers.ParserConfigurationException;
@@ -63,11 +64,14 @@ import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.MessageHelper;
 import org.apache.camel.support.builder.Namespaces;
+import org.apache.camel.support.builder.xml.PooledXmlObjectFactory;
 import org.apache.camel.support.builder.xml.XMLConverterHelper;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.StringHelper;
+import org.apache.camel.util.function.ThrowingSupplier;
+import org.apache.camel.xml.io.util.XmlStreamReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -96,17 +100,25 @@ public class XPathBuilder extends ServiceSupport
     private static final String SAXON_FACTORY_CLASS_NAME = "net.sf.saxon.xpath.XPathFactoryImpl";
     private static final String OBTAIN_ALL_NS_XPATH = "//*/namespace::*";
 
+    private static final int DEFAULT_POOL_SIZE = 100;
+
     private static volatile XPathFactory defaultXPathFactory;
 
     private CamelContext camelContext;
-    private final Queue<XPathExpression> pool = new ConcurrentLinkedQueue<>();
-    private final Queue<XPathExpression> poolLogNamespaces = new ConcurrentLinkedQueue<>();
+    private volatile PooledXmlObjectFactory<XPathExpression> pool
+            = createPool(DEFAULT_POOL_SIZE, this::createXPathExpression);
+    private final PooledXmlObjectFactory<XPathExpression> poolLogNamespaces
+            = createPool(DEFAULT_POOL_SIZE, this::createTraceNamespaceExpression);
+    private int poolPreWarm = 1;
     private final String text;
     private final ThreadLocal<Exchange> exchange = new ThreadLocal<>();
     private final MessageVariableResolver variableResolver = new MessageVariableResolver(exchange);
     private final Map<String, String> namespaces = new ConcurrentHashMap<>();
     private boolean preCompile = true;
     private boolean threadSafety;
+    private boolean cacheDocument;
+    private boolean streaming;
+    private volatile StreamingXPath streamingXPath;
     private volatile XPathFactory xpathFactory;
     private volatile Class<?> documentType = Document.class;
     // For some reason the default expression of "a/b" on a document such as
@@ -163,12 +175,15 @@ public class XPathBuilder extends ServiceSupport
 
     @Override
     public void init(CamelContext context) {
-        if (preCompile) {
-            LOG.trace("PreCompiling new XPathExpression and adding to pool during initialization");
+        if (streaming) {
+            // fail fast if the expression is not supported in streaming mode
+            getStreamingXPath();
+        } else if (preCompile) {
+            LOG.trace("PreCompiling {} new XPathExpression and adding to pool during initialization", poolPreWarm);
             try {
-                XPathExpression xpathExpression = createXPathExpression();
-                pool.add(xpathExpression);
-            } catch (XPathExpressionException e) {
+                pool.setPreWarm(poolPreWarm);
+                pool.preWarm();
+            } catch (Exception e) {
                 throw RuntimeCamelException.wrapRuntimeException(e);
             }
         }
@@ -203,7 +218,13 @@ public class XPathBuilder extends ServiceSupport
     @Override
     public <T> T evaluate(Exchange exchange, Class<T> type) {
         try {
-            Object result = evaluate(exchange);
+            Object result;
+            if (streaming && resultType == null && isStreamingValueType(type)) {
+                // evaluate as the desired type directly as the streamed node-set cannot be converted afterwards
+                result = evaluateAs(exchange, streamingResultQName(type));
+            } else {
+                result = evaluate(exchange);
+            }
             return exchange.getContext().getTypeConverter().convertTo(type, exchange, result);
         } finally {
             // remove the thread local after usage
@@ -502,6 +523,40 @@ public class XPathBuilder extends ServiceSupport
         return this;
     }
 
+    /**
+     * Whether to cache the DOM document of the message body on the exchange, so other xpath expressions with this
+     * option enabled, and evaluated on the same exchange, can reuse the document instead of parsing the message body
+     * again. For example when using multiple xpath predicates in a Content Based Router.
+     * <p/>
+     * The cached document is invalidated when the message body is changed, and released when the exchange is done.
+     * <p/>
+     * Caching is disabled by default
+     *
+     * @return the current builder.
+     */
+    public XPathBuilder cacheDocument(boolean cacheDocument) {
+        setCacheDocument(cacheDocument);
+        return this;
+    }
+
+    /**
+     * Whether to evaluate the xpath in streaming mode, which reads the message body as StAX events instead of parsing
+     * it into a DOM document, so large XML messages can be processed with bounded memory.
+     * <p/>
+     * Only a forward-only subset of XPath is supported: child and descendant element steps with optional namespace
+     * prefixes and attribute predicates (such as <tt>//order[@type='book']</tt>), optionally ending with an attribute
+     * (<tt>/@id</tt>) or <tt>/text()</tt>. As a node-set, the matched elements are returned as a lazy iterator of XML
+     * fragments, which the splitter can consume while streaming.
+     * <p/>
+     * Streaming is disabled by default
+     *
+     * @return the current builder.
+     */
+    public XPathBuilder streaming(boolean streaming) {
+        setStreaming(streaming);
+        return this;
+    }
+
     /**
      * Whether to enable pre-compiling the xpath expression during initialization phase. pre-compile is enabled by
      * default.
@@ -517,6 +572,33 @@ public class XPathBuilder extends ServiceSupport
         return this;
     }
 
+    /**
+     * The maximum number of pre-compiled xpath expressions to keep in the pool for reuse. When more threads evaluate
+     * the expression concurrently, then additional expressions are compiled and discarded after use.
+     * <p/>
+     * The pool size is 100 by default.
+     *
+     * @return the current builder.
+     */
+    public XPathBuilder poolSize(int poolSize) {
+        setPoolSize(poolSize);
+        return this;
+    }
+
+    /**
+     * The number of xpath expressions to pre-compile into the pool during initialization, which can be set to the
+     * expected number of concurrent threads, so they do not have to compile expressions on the first messages. This
+     * requires pre-compile to be enabled.
+     * <p/>
+     * One expression is pre-compiled by default.
+     *
+     * @return the current builder.
+     */
+    public XPathBuilder poolPreWarm(int poolPreWarm) {
+        setPoolPreWarm(poolPreWarm);
+        return this;
+    }
+
     // Properties
     // -------------------------------------------------------------------------
 
@@ -572,6 +654,22 @@ public class XPathBuilder extends ServiceSupport
         this.threadSafety = threadSafety;
     }
 
+    public boolean isCacheDocument() {
+        return cacheDocument;
+    }
+
+    public void setCacheDocument(boolean cacheDocument) {
+        this.cacheDocument = cacheDocument;
+    }
+
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     public boolean isPreCompile() {
         return preCompile;
     }
@@ -580,6 +678,29 @@ public class XPathBuilder extends ServiceSupport
         this.preCompile = preCompile;
     }
 
+    public int getPoolSize() {
+        return pool.getCapacity();
+    }
+
+    public void setPoolSize(int poolSize) {
+        this.pool = createPool(poolSize, this::createXPathExpression);
+    }
+
+    public int getPoolPreWarm() {
+        return poolPreWarm;
+    }
+
+    public void setPoolPreWarm(int poolPreWarm) {
+        this.poolPreWarm = poolPreWarm;
+    }
+
+    /**
+     * Gets the pool of pre-compiled xpath expressions, which has the pool statistics.
+     */
+    public PooledXmlObjectFactory<XPathExpression> getExpressionPool() {
+        return pool;
+    }
+
     /**
      * Gets the namespace context, can be <tt>null</tt> if no custom context has been assigned.
      * <p/>
@@ -894,20 +1015,18 @@ public class XPathBuilder extends ServiceSupport
      * Evaluates the expression as the given result type
      */
     protected Object evaluateAs(Exchange exchange, QName resultQName) {
-        // pool a pre compiled expression from pool
-        XPathExpression xpathExpression = pool.poll();
-        if (xpathExpression == null) {
-            LOG.trace("Creating new XPathExpression as none was available from pool");
-            // no avail in pool then create one
-            try {
-                xpathExpression = createXPathExpression();
-            } catch (XPathExpressionException e) {
-                throw new InvalidXPathException(getText(), e);
-            } catch (Exception e) {
-                throw new RuntimeExpressionException("Cannot create xpath expression", e);
-            }
-        } else {
-            LOG.trace("Acquired XPathExpression from pool");
+        if (streaming) {
+            return doInEvaluateStreaming(exchange, resultQName);
+        }
+        // pool a pre compiled expression from pool, or create one if none available
+        PooledXmlObjectFactory<XPathExpression> pool = this.pool;
+        XPathExpression xpathExpression;
+        try {
+            xpathExpression = pool.acquireOrCreate();
+        } catch (XPathExpressionException e) {
+            throw new InvalidXPathException(getText(), e);
+        } catch (Exception e) {
+            throw new RuntimeExpressionException("Cannot create xpath expression", e);
         }
         try {
             if (logNamespaces && LOG.isInfoEnabled()) {
@@ -916,8 +1035,7 @@ public class XPathBuilder extends ServiceSupport
             return doInEvaluateAs(xpathExpression, exchange, resultQName);
         } finally {
             // release it back to the pool
-            pool.add(xpathExpression);
-            LOG.trace("Released XPathExpression back to pool");
+            pool.release(xpathExpression);
         }
     }
 
@@ -927,10 +1045,7 @@ public class XPathBuilder extends ServiceSupport
         XPathExpression xpathExpression = null;
 
         try {
-            xpathExpression = poolLogNamespaces.poll();
-            if (xpathExpression == null) {
-                xpathExpression = createTraceNamespaceExpression();
-            }
+            xpathExpression = poolLogNamespaces.acquireOrCreate();
 
             // prepare the input
             Object document;
@@ -966,7 +1081,7 @@ public class XPathBuilder extends ServiceSupport
         } finally {
             // IOHelper can handle if is is null
             IOHelper.close(is);
-            poolLogNamespaces.add(xpathExpression);
+            poolLogNamespaces.release(xpathExpression);
         }
 
         if (answer != null) {
@@ -1022,14 +1137,21 @@ public class XPathBuilder extends ServiceSupport
                     document = getDocument(exchange, headerObject);
                 }
             } else {
-                // only convert to input stream if really needed
-                if (isInputStreamNeeded(exchange)) {
+                Object body = exchange.getIn().getBody();
+                document = cacheDocument ? XPathDocumentCache.lookup(exchange, body) : null;
+                if (document != null) {
+                    LOG.trace("Using cached document of message body");
+                } else if (isInputStreamNeeded(exchange)) {
+                    // only convert to input stream if really needed
                     is = exchange.getIn().getBody(InputStream.class);
                     document = getDocument(exchange, is);
                 } else {
-                    Object body = exchange.getIn().getBody();
                     document = getDocument(exchange, body);
                 }
+                // only DOM nodes can be evaluated again, and there is no need to cache a body which is already DOM
+                if (cacheDocument && body != null && !(body instanceof Node) && document instanceof Node) {
+                    XPathDocumentCache.store(exchange, body, document);
+                }
             }
 
             if (resultQName != null) {
@@ -1098,6 +1220,105 @@ public class XPathBuilder extends ServiceSupport
         return answer;
     }
 
+    /**
+     * Evaluates the expression in streaming mode using StAX.
+     * <p/>
+     * A node-set result is returned as an iterator which reads the XML as its iterated, and must be closed after use.
+     * Any other result only reads the XML until the first match.
+     */
+    protected Object doInEvaluateStreaming(Exchange exchange, QName resultQName) {
+        LOG.trace("Evaluating exchange: {} as: {} in streaming mode", exchange, resultQName);
+
+        StreamingXPath xpath = getStreamingXPath();
+        boolean nodeSet = resultQName == null || XPathConstants.NODESET.equals(resultQName);
+        Reader reader = null;
+        StreamingXPath.StreamingXPathIterator it = null;
+        try {
+            if (ObjectHelper.isNotEmpty(getHeaderName())) {
+                String header = exchange.getIn().getHeader(getHeaderName(), String.class);
+                reader = header != null ? new StringReader(header) : null;
+            } else {
+                InputStream is = exchange.getIn().getBody(InputStream.class);
+                // use xml stream reader which is capable of handling reading the xml stream according to <xml encoding> charset
+                reader = is != null ? new XmlStreamReader(is) : null;
+            }
+
+            String value = null;
+            if (reader != null) {
+                it = xpath.evaluate(reader, nodeSet || XPathConstants.NODE.equals(resultQName));
+                if (nodeSet) {
+                    return it;
+                }
+                value = it.hasNext() ? it.next() : null;
+            } else if (nodeSet) {
+                // no xml to evaluate
+                return Collections.emptyIterator();
+            }
+
+            if (XPathConstants.BOOLEAN.equals(resultQName)) {
+                return value != null;
+            } else if (XPathConstants.NUMBER.equals(resultQName)) {
+                return value != null ? toNumber(value) : Double.NaN;
+            } else if (XPathConstants.STRING.equals(resultQName)) {
+                return value != null ? value : "";
+            }
+            return value;
+        } catch (Exception e) {
+            IOHelper.close(reader);
+            String message = getText();
+            if (ObjectHelper.isNotEmpty(getHeaderName())) {
+                message = message + " with headerName " + getHeaderName();
+            }
+            throw new RuntimeCamelException(message, e);
+        } finally {
+            if (!nodeSet) {
+                IOHelper.close(it, reader);
+                // call the reset if the in message body is StreamCache
+                MessageHelper.resetStreamCache(exchange.getIn());
+            }
+        }
+    }
+
+    private static Double toNumber(String value) {
+        try {
+            return Double.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static boolean isStreamingValueType(Class<?> type) {
+        Class<?> wrapper = ObjectHelper.convertPrimitiveTypeToWrapperType(type);
+        return String.class == wrapper || Boolean.class == wrapper || Number.class.isAssignableFrom(wrapper);
+    }
+
+    private static QName streamingResultQName(Class<?> type) {
+        Class<?> wrapper = ObjectHelper.convertPrimitiveTypeToWrapperType(type);
+        if (String.class == wrapper) {
+            return XPathConstants.STRING;
+        } else if (Boolean.class == wrapper) {
+            return XPathConstants.BOOLEAN;
+        }
+        return XPathConstants.NUMBER;
+    }
+
+    private StreamingXPath getStreamingXPath() {
+        StreamingXPath answer = streamingXPath;
+        if (answer == null) {
+            answer = StreamingXPath.compile(text, namespaces);
+            streamingXPath = answer;
+        }
+        return answer;
+    }
+
+    private PooledXmlObjectFactory<XPathExpression> createPool(
+            int poolSize, ThrowingSupplier<XPathExpression, Exception> factory) {
+        PooledXmlObjectFactory<XPathExpression> answer = new PooledXmlObjectFactory<>(this, poolSize, factory, null);
+        answer.setStatisticsEnabled(true);
+        answer.build();
+        return answer;
+    }
+
     /**
      * Creates a new xpath expression as there we no available in the pool.
      * <p/>
@@ -1347,8 +1568,8 @@ public class XPathBuilder extends ServiceSupport
 
     @Override
     public void doStop() throws Exception {
-        pool.clear();
-        poolLogNamespaces.clear();
+        pool.purge();
+        poolLogNamespaces.purge();
     }
 
     protected synchronized XPathFactory createXPathFactory() throws XPathFactoryConfigurationException {
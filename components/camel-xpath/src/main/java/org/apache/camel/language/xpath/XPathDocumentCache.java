@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.xpath;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.support.SynchronizationAdapter;
+
+/**
+ * Holds the DOM document of the message body on the exchange, so several xpath evaluations on the same exchange (such
+ * as the predicates of a content based router) only parse the message body once.
+ * <p/>
+ * The cached document is bound to the identity of the exchange and the message body, and is therefore not used when the
+ * message body has been changed, or by copies of the exchange. The cache is released when the unit of work of the
+ * exchange is done.
+ */
+final class XPathDocumentCache {
+
+    /**
+     * Exchange property holding the cached document
+     */
+    static final String DOCUMENT_CACHE = "CamelXPathDocumentCache";
+
+    private final Exchange exchange;
+    private final Object body;
+    private final Object document;
+
+    private XPathDocumentCache(Exchange exchange, Object body, Object document) {
+        this.exchange = exchange;
+        this.body = body;
+        this.document = document;
+    }
+
+    /**
+     * Gets the cached document for the given message body, or <tt>null</tt> if not cached
+     */
+    static Object lookup(Exchange exchange, Object body) {
+        if (body == null) {
+            return null;
+        }
+        Object value = exchange.getProperty(DOCUMENT_CACHE);
+        if (value instanceof XPathDocumentCache) {
+            XPathDocumentCache cache = (XPathDocumentCache) value;
+            if (cache.exchange == exchange && cache.body == body) {
+                return cache.document;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Caches the document of the given message body, replacing any document cached for a previous body
+     */
+    static void store(Exchange exchange, Object body, Object document) {
+        Object old = exchange.getProperty(DOCUMENT_CACHE);
+        if (old instanceof XPathDocumentCache && ((XPathDocumentCache) old).document == document) {
+            return;
+        }
+        exchange.setProperty(DOCUMENT_CACHE, new XPathDocumentCache(exchange, body, document));
+
+        boolean registered = old instanceof XPathDocumentCache && ((XPathDocumentCache) old).exchange == exchange;
+        if (!registered) {
+            exchange.adapt(ExtendedExchange.class).addOnCompletion(new SynchronizationAdapter() {
+                @Override
+                public void onDone(Exchange exchange) {
+                    exchange.removeProperty(DOCUMENT_CACHE);
+                }
+            });
+        }
+    }
+
+}
@@ -42,6 +42,8 @@ public class XPathLanguage extends LanguageSupport implements PropertyConfigurer
     private Boolean logNamespaces;
     private String headerName;
     private Boolean preCompile;
+    private Boolean cacheDocument;
+    private Boolean streaming;
 
     @Override
     public Predicate createPredicate(String expression) {
@@ -155,6 +157,22 @@ public class XPathLanguage extends LanguageSupport implements PropertyConfigurer
         this.preCompile = preCompile;
     }
 
+    public Boolean getCacheDocument() {
+        return cacheDocument;
+    }
+
+    public void setCacheDocument(Boolean cacheDocument) {
+        this.cacheDocument = cacheDocument;
+    }
+
+    public Boolean getStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(Boolean streaming) {
+        this.streaming = streaming;
+    }
+
     protected void configureBuilder(XPathBuilder builder, Object[] properties) {
         Class<?> clazz = property(Class.class, properties, 0, documentType);
         if (clazz != null) {
@@ -202,6 +220,12 @@ public class XPathLanguage extends LanguageSupport implements PropertyConfigurer
         if (str != null) {
             builder.setHeaderName(str);
         }
+        if (cacheDocument != null) {
+            builder.setCacheDocument(cacheDocument);
+        }
+        if (streaming != null) {
+            builder.setStreaming(streaming);
+        }
     }
 
     @Override
@@ -250,6 +274,13 @@ public class XPathLanguage extends LanguageSupport implements PropertyConfigurer
             case "precompile":
                 setPreCompile(PropertyConfigurerSupport.property(camelContext, Boolean.class, value));
                 return true;
+            case "cacheDocument":
+            case "cachedocument":
+                setCacheDocument(PropertyConfigurerSupport.property(camelContext, Boolean.class, value));
+                return true;
+            case "streaming":
+                setStreaming(PropertyConfigurerSupport.property(camelContext, Boolean.class, value));
+                return true;
             default:
                 return false;
         }
@@ -169,6 +169,8 @@ public class XsltSaxonEndpoint extends XsltEndpoint {
         if (!ResourceHelper.isClasspathUri(getResourceUri())) {
             loadResource(getResourceUri(), getXslt());
         }
+        // the stylesheet may have been re-loaded so create the cached transformers again
+        getXslt().preWarmTransformers();
     }
 
     protected XsltSaxonBuilder createXsltBuilder() throws Exception {
@@ -23,8 +23,6 @@ import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 
 import javax.xml.transform.ErrorListener;
 import javax.xml.transform.Result;
@@ -45,6 +43,7 @@ import org.apache.camel.Message;
 import org.apache.camel.Processor;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.SynchronizationAdapter;
+import org.apache.camel.support.builder.xml.PooledXmlObjectFactory;
 import org.apache.camel.support.builder.xml.XMLConverterHelper;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.IOHelper;
@@ -66,7 +65,7 @@ public class XsltBuilder implements Processor {
     private Map<String, Object> parameters = new HashMap<>();
     private XMLConverterHelper converter = new XMLConverterHelper();
     private Templates template;
-    private volatile BlockingQueue<Transformer> transformers;
+    private volatile PooledXmlObjectFactory<Transformer> transformers;
     private volatile SourceHandlerFactory sourceHandlerFactory;
     private ResultHandlerFactory resultHandlerFactory = new StringResultHandlerFactory();
     private boolean failOnNullBody = true;
@@ -240,13 +239,18 @@ public class XsltBuilder implements Processor {
     /**
      * Used for caching {@link Transformer}s.
      * <p/>
-     * By default no caching is in use.
+     * By default no caching is in use. The cache is filled up with new transformers by {@link #preWarmTransformers()}.
      *
      * @param numberToCache the maximum number of transformers to cache
      */
     public XsltBuilder transformerCacheSize(int numberToCache) {
         if (numberToCache > 0) {
-            transformers = new ArrayBlockingQueue<>(numberToCache);
+            PooledXmlObjectFactory<Transformer> pool
+                    = new PooledXmlObjectFactory<>(this, numberToCache, this::createTransformer, Transformer::reset);
+            pool.setPreWarm(numberToCache);
+            pool.setStatisticsEnabled(true);
+            pool.build();
+            transformers = pool;
         } else {
             transformers = null;
         }
@@ -275,7 +279,7 @@ public class XsltBuilder implements Processor {
     public void setTemplate(Templates template) {
         this.template = template;
         if (transformers != null) {
-            transformers.clear();
+            transformers.purge();
         }
     }
 
@@ -283,6 +287,25 @@ public class XsltBuilder implements Processor {
         return template;
     }
 
+    /**
+     * Gets the pool of cached {@link Transformer}s which has the cache statistics.
+     *
+     * @return the pool, or <tt>null</tt> if no caching is in use
+     */
+    public PooledXmlObjectFactory<Transformer> getTransformerPool() {
+        return transformers;
+    }
+
+    /**
+     * Creates new transformers from the current template to fill up the cache, so the first messages do not have to
+     * wait for new transformers to be created.
+     */
+    public void preWarmTransformers() throws Exception {
+        if (transformers != null && template != null) {
+            transformers.preWarm();
+        }
+    }
+
     public boolean isFailOnNullBody() {
         return failOnNullBody;
     }
@@ -412,23 +435,16 @@ public class XsltBuilder implements Processor {
 
     private void releaseTransformer(Transformer transformer) {
         if (transformers != null) {
-            transformer.reset();
-            boolean result = transformers.offer(transformer);
-            if (!result) {
-                LOG.error("failed to offer() a transform");
-            }
+            // the transformer is discarded if the cache is full
+            transformers.release(transformer);
         }
     }
 
     private Transformer getTransformer() throws Exception {
-        Transformer t = null;
         if (transformers != null) {
-            t = transformers.poll();
-        }
-        if (t == null) {
-            t = createTransformer();
+            return transformers.acquireOrCreate();
         }
-        return t;
+        return createTransformer();
     }
 
     protected Transformer createTransformer() throws Exception {
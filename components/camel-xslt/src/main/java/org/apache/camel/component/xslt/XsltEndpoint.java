@@ -22,6 +22,7 @@ import java.util.Map;
 
 import javax.xml.transform.ErrorListener;
 import javax.xml.transform.Source;
+import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.URIResolver;
@@ -42,6 +43,7 @@ import org.apache.camel.spi.UriParam;
 import org.apache.camel.spi.UriPath;
 import org.apache.camel.support.ProcessorEndpoint;
 import org.apache.camel.support.ResourceHelper;
+import org.apache.camel.support.builder.xml.PooledXmlObjectFactory;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
@@ -103,6 +105,30 @@ public class XsltEndpoint extends ProcessorEndpoint {
         return contentCache;
     }
 
+    @ManagedAttribute(description = "Number of transformers currently in the transformer cache")
+    public int getTransformerCacheCurrentSize() {
+        PooledXmlObjectFactory<Transformer> pool = xslt != null ? xslt.getTransformerPool() : null;
+        return pool != null ? pool.getSize() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of times a transformer was reused from the transformer cache")
+    public long getTransformerCacheHits() {
+        PooledXmlObjectFactory<Transformer> pool = xslt != null ? xslt.getTransformerPool() : null;
+        return pool != null ? pool.getStatistics().getAcquiredCounter() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of times a transformer was not available in the transformer cache")
+    public long getTransformerCacheMisses() {
+        PooledXmlObjectFactory<Transformer> pool = xslt != null ? xslt.getTransformerPool() : null;
+        return pool != null ? pool.getMissedCounter() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of transformers created for the transformer cache")
+    public long getTransformerCacheCreated() {
+        PooledXmlObjectFactory<Transformer> pool = xslt != null ? xslt.getTransformerPool() : null;
+        return pool != null ? pool.getStatistics().getCreatedCounter() : 0;
+    }
+
     public XsltEndpoint findOrCreateEndpoint(String uri, String newResourceUri) {
         String newUri = uri.replace(resourceUri, newResourceUri);
         LOG.trace("Getting endpoint with URI: {}", newUri);
@@ -350,6 +376,8 @@ public class XsltEndpoint extends ProcessorEndpoint {
         if (!ResourceHelper.isClasspathUri(resourceUri)) {
             loadResource(resourceUri, xslt);
         }
+        // create the cached transformers up front
+        xslt.preWarmTransformers();
     }
 
     protected XsltBuilder createXsltBuilder() throws Exception {
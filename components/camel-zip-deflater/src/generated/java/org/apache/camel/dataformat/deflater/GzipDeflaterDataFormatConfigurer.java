@@ -18,6 +18,12 @@ public class GzipDeflaterDataFormatConfigurer extends PropertyConfigurerSupport
     public boolean configure(CamelContext camelContext, Object target, String name, Object value, boolean ignoreCase) {
         GzipDeflaterDataFormat dataformat = (GzipDeflaterDataFormat) target;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "compressionlevel":
+        case "compressionLevel": dataformat.setCompressionLevel(property(camelContext, int.class, value)); return true;
+        case "parallel": dataformat.setParallel(property(camelContext, boolean.class, value)); return true;
+        case "blocksize":
+        case "blockSize": dataformat.setBlockSize(property(camelContext, int.class, value)); return true;
+        case "parallelism": dataformat.setParallelism(property(camelContext, int.class, value)); return true;
         default: return false;
         }
     }
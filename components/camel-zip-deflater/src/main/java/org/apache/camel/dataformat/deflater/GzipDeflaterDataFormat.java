@@ -16,11 +16,16 @@
  */
 package org.apache.camel.dataformat.deflater;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.DataFormatName;
@@ -28,23 +33,110 @@ import org.apache.camel.spi.annotations.Dataformat;
 import org.apache.camel.support.builder.OutputStreamBuilder;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
 
 /**
  * GZip {@link org.apache.camel.spi.DataFormat} for reading/writing data using gzip.
  */
 @Dataformat("gzipdeflater")
-public class GzipDeflaterDataFormat extends ServiceSupport implements DataFormat, DataFormatName {
+public class GzipDeflaterDataFormat extends ServiceSupport implements DataFormat, DataFormatName, CamelContextAware {
+
+    private CamelContext camelContext;
+    private int compressionLevel = Deflater.DEFAULT_COMPRESSION;
+    private boolean parallel;
+    private int blockSize = 128 * 1024;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private ExecutorService executorService;
+    private boolean shutdownExecutorService;
+    private ParallelGzipCompressor compressor;
 
     @Override
     public String getDataFormatName() {
         return "gzipdeflater";
     }
 
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    /**
+     * To specify a specific compression between 0-9. -1 is default compression, 0 is no compression, and 9 is best
+     * compression.
+     */
+    public void setCompressionLevel(int compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Whether to split the data into blocks which are compressed in parallel when marshalling. The output is still a
+     * standard gzip stream.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * The size (in bytes) of the blocks which are compressed in parallel.
+     */
+    public void setBlockSize(int blockSize) {
+        this.blockSize = blockSize;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * The number of threads which compress the blocks in parallel. By default the number of available processors.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * To use a custom thread pool to compress the blocks in parallel. By default a thread pool with the given
+     * parallelism is created, and shutdown when this data format is stopped.
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
     @Override
     public void marshal(final Exchange exchange, final Object graph, final OutputStream stream) throws Exception {
         InputStream is = exchange.getContext().getTypeConverter().mandatoryConvertTo(InputStream.class, exchange, graph);
 
-        GZIPOutputStream zipOutput = new GZIPOutputStream(stream);
+        if (compressor != null) {
+            try {
+                compressor.compress(is, stream);
+            } finally {
+                IOHelper.close(is);
+            }
+            return;
+        }
+
+        GZIPOutputStream zipOutput = new LevelGZIPOutputStream(stream, compressionLevel);
         try {
             IOHelper.copy(is, zipOutput);
         } finally {
@@ -70,11 +162,41 @@ public class GzipDeflaterDataFormat extends ServiceSupport implements DataFormat
 
     @Override
     protected void doStart() throws Exception {
-        // noop
+        if (parallel) {
+            if (blockSize <= 0) {
+                throw new IllegalArgumentException("BlockSize must be a positive number, was: " + blockSize);
+            }
+            if (parallelism <= 0) {
+                throw new IllegalArgumentException("Parallelism must be a positive number, was: " + parallelism);
+            }
+            if (executorService == null) {
+                ObjectHelper.notNull(camelContext, "camelContext");
+                executorService = camelContext.getExecutorServiceManager().newFixedThreadPool(this, "GzipDeflater",
+                        parallelism);
+                shutdownExecutorService = true;
+            }
+            compressor = new ParallelGzipCompressor(executorService, parallelism, compressionLevel, blockSize);
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
-        // noop
+        compressor = null;
+        if (shutdownExecutorService && executorService != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(executorService);
+            executorService = null;
+            shutdownExecutorService = false;
+        }
+    }
+
+    /**
+     * A {@link GZIPOutputStream} which uses the given compression level.
+     */
+    private static final class LevelGZIPOutputStream extends GZIPOutputStream {
+
+        LevelGZIPOutputStream(OutputStream out, int compressionLevel) throws IOException {
+            super(out);
+            def.setLevel(compressionLevel);
+        }
     }
 }
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.deflater;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Compresses a stream into the gzip format using several threads, the same way as <a href="https://zlib.net/pigz/">
+ * pigz</a>.
+ * <p/>
+ * The input is split into blocks which are deflated in parallel. Each block (but the first) uses the last 32 KB of the
+ * previous block as the dictionary, so the compression ratio is close to the one of a single stream, and each block
+ * (but the last) ends with a sync flush, so the compressed blocks can be concatenated into a single deflate stream. The
+ * output is therefore a standard gzip stream with a single member, which can be read by any gzip implementation.
+ * <p/>
+ * The number of blocks which are read ahead is bounded, so the memory used does not depend on the size of the input.
+ */
+final class ParallelGzipCompressor {
+
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+    private static final byte[] HEADER = {
+            0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+
+    private final ExecutorService executorService;
+    private final int parallelism;
+    private final int compressionLevel;
+    private final int blockSize;
+
+    ParallelGzipCompressor(ExecutorService executorService, int parallelism, int compressionLevel, int blockSize) {
+        this.executorService = executorService;
+        this.parallelism = parallelism;
+        this.compressionLevel = compressionLevel;
+        this.blockSize = blockSize;
+    }
+
+    void compress(InputStream in, OutputStream out) throws IOException {
+        // the blocks which are compressed (or waiting to be compressed), in the order of the input
+        Deque<Future<byte[]>> pending = new ArrayDeque<>();
+        Deque<Block> pendingBlocks = new ArrayDeque<>();
+        // the blocks which can be reused to read the input
+        Deque<Block> free = new ArrayDeque<>();
+        CRC32 crc = new CRC32();
+        long size = 0;
+
+        out.write(HEADER);
+        try {
+            Block previous = null;
+            // a block is used as the dictionary of the next block, so it can only be reused when both are compressed
+            Block released = null;
+            Block block = read(in, new Block(blockSize));
+            while (true) {
+                Block next = null;
+                if (block.length == blockSize) {
+                    next = read(in, free.isEmpty() ? new Block(blockSize) : free.poll());
+                }
+                boolean last = next == null || next.length == 0;
+
+                crc.update(block.data, 0, block.length);
+                size += block.length;
+                Block dictionary = previous;
+                Block data = block;
+                pending.add(executorService.submit(() -> deflate(data, dictionary, last)));
+                pendingBlocks.add(block);
+
+                // wait for the oldest block when enough blocks are read ahead
+                while (pending.size() > parallelism * 2 || last && !pending.isEmpty()) {
+                    out.write(pending.poll().get());
+                    if (released != null) {
+                        free.add(released);
+                    }
+                    released = pendingBlocks.poll();
+                }
+                if (last) {
+                    break;
+                }
+                previous = block;
+                block = next;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while compressing", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Error compressing block", e.getCause());
+        } finally {
+            for (Future<byte[]> future : pending) {
+                future.cancel(true);
+            }
+        }
+
+        writeInt(out, (int) crc.getValue());
+        // the size of the input modulo 2^32
+        writeInt(out, (int) size);
+        out.flush();
+    }
+
+    /**
+     * Reads the next block of the input, which is only shorter than the block size at the end of the input.
+     */
+    private static Block read(InputStream in, Block block) throws IOException {
+        int length = 0;
+        while (length < block.data.length) {
+            int count = in.read(block.data, length, block.data.length - length);
+            if (count == -1) {
+                break;
+            }
+            length += count;
+        }
+        block.length = length;
+        return block;
+    }
+
+    private byte[] deflate(Block block, Block previous, boolean last) {
+        Deflater deflater = new Deflater(compressionLevel, true);
+        try {
+            if (previous != null) {
+                int length = Math.min(DICTIONARY_SIZE, previous.length);
+                deflater.setDictionary(previous.data, previous.length - length, length);
+            }
+            deflater.setInput(block.data, 0, block.length);
+            ByteArrayOutputStream bos = new ByteArrayOutputStream(block.length / 2 + 64);
+            byte[] buffer = new byte[Math.max(block.length / 4, 512)];
+            if (last) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    int count = deflater.deflate(buffer);
+                    bos.write(buffer, 0, count);
+                }
+            } else {
+                // a sync flush ends the block on a byte boundary without ending the deflate stream
+                int count;
+                do {
+                    count = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                    bos.write(buffer, 0, count);
+                } while (count == buffer.length);
+            }
+            return bos.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static void writeInt(OutputStream out, int value) throws IOException {
+        byte[] bytes = new byte[4];
+        for (int i = 0; i < 4; i++) {
+            bytes[i] = (byte) (value >>> (i * 8));
+        }
+        out.write(bytes);
+    }
+
+    /**
+     * A block of the input, where the buffer is reused for the following blocks once it has been compressed.
+     */
+    private static final class Block {
+        private final byte[] data;
+        private int length;
+
+        private Block(int size) {
+            this.data = new byte[size];
+        }
+    }
+}
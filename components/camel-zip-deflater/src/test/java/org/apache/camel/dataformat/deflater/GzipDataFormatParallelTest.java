@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.deflater;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.model.dataformat.GzipDataFormat;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.apache.camel.util.IOHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit test of the gzip data format with parallel compression.
+ */
+public class GzipDataFormatParallelTest extends CamelTestSupport {
+
+    @Test
+    public void testMarshalParallel() throws Exception {
+        // compressible data which is much bigger than the block size
+        byte[] input = createInput(1024 * 1024);
+
+        byte[] output = template.requestBody("direct:marshal", input, byte[].class);
+
+        // the output is a standard gzip stream
+        assertArrayEquals(input, gunzip(output));
+
+        // and the compression ratio is close to the one of a sequential compression
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bos)) {
+            gzip.write(input);
+        }
+        assertTrue(output.length < bos.size() * 1.1, "Compressed size: " + output.length + " vs " + bos.size());
+    }
+
+    @Test
+    public void testMarshalAndUnmarshalParallel() throws Exception {
+        for (int size : new int[] { 0, 1, 16 * 1024, 16 * 1024 + 1, 100000 }) {
+            byte[] input = createInput(size);
+            byte[] output = template.requestBody("direct:roundtrip", input, byte[].class);
+            assertArrayEquals(input, output, "Size: " + size);
+        }
+    }
+
+    @Test
+    public void testMarshalParallelShortReads() throws Exception {
+        byte[] input = createInput(100000);
+        // a stream which returns fewer bytes than requested, such as a network stream
+        InputStream is = new FilterInputStream(new ByteArrayInputStream(input)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, 1000));
+            }
+        };
+
+        byte[] output = template.requestBody("direct:marshal", is, byte[].class);
+
+        assertArrayEquals(input, gunzip(output));
+    }
+
+    @Test
+    public void testInvalidOptions() throws Exception {
+        GzipDeflaterDataFormat gzip = new GzipDeflaterDataFormat();
+        gzip.setParallel(true);
+        gzip.setBlockSize(0);
+        assertThrows(IllegalArgumentException.class, gzip::start);
+
+        gzip = new GzipDeflaterDataFormat();
+        gzip.setParallel(true);
+        gzip.setParallelism(-1);
+        assertThrows(IllegalArgumentException.class, gzip::start);
+    }
+
+    private static byte[] createInput(int size) {
+        Random random = new Random(size);
+        String[] words = { "camel", "route", "exchange", "message", "endpoint", "processor", "component" };
+        StringBuilder sb = new StringBuilder(size + 16);
+        while (sb.length() < size) {
+            sb.append(words[random.nextInt(words.length)]).append(random.nextInt(100)).append(' ');
+        }
+        sb.setLength(size);
+        return sb.toString().getBytes();
+    }
+
+    private static byte[] gunzip(byte[] data) throws Exception {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            IOHelper.copy(gzip, bos);
+        }
+        return bos.toByteArray();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                // use small blocks so the data is split into many blocks
+                GzipDataFormat gzip = new GzipDataFormat().parallel(true).blockSize(16 * 1024).parallelism(4);
+
+                from("direct:marshal").marshal(gzip);
+                from("direct:roundtrip").marshal(gzip).unmarshal(gzip);
+            }
+        };
+    }
+}
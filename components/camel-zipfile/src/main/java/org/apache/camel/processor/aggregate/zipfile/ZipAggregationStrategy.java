@@ -16,10 +16,13 @@
  */
 package org.apache.camel.processor.aggregate.zipfile;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.Charset;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
@@ -28,10 +31,14 @@ import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.apache.camel.AggregationStrategy;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedExchange;
+import org.apache.camel.Service;
 import org.apache.camel.WrappedFile;
 import org.apache.camel.component.file.FileConsumer;
 import org.apache.camel.component.file.GenericFile;
@@ -40,6 +47,7 @@ import org.apache.camel.component.file.GenericFileOperationFailedException;
 import org.apache.camel.spi.Synchronization;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
 
 /**
  * This aggregation strategy will aggregate all incoming messages into a ZIP file.
@@ -51,15 +59,24 @@ import org.apache.camel.util.FileUtil;
  * <p>
  * <b>Note:</b> Please note that this aggregation strategy requires eager completion check to work properly.
  * </p>
+ * <p>
+ * By default the ZIP file is opened and rewritten for each message that is added to it, which is slow when aggregating
+ * many messages. When streaming is enabled, then the ZIP file is kept open while aggregating, and the messages are
+ * appended to the ZIP file as they arrive, and the ZIP file is finished when the aggregation is completed. The ZIP file
+ * is then only written once, but it is not a valid ZIP file until the aggregation is completed, and the entries must
+ * have unique names.
+ * </p>
  */
-public class ZipAggregationStrategy implements AggregationStrategy {
+public class ZipAggregationStrategy implements AggregationStrategy, Service {
 
     private String filePrefix;
     private String fileSuffix = ".zip";
     private boolean preserveFolderStructure;
     private boolean useFilenameHeader;
     private boolean useTempFile;
+    private boolean streaming;
     private File parentDir = new File(System.getProperty("java.io.tmpdir"));
+    private final Map<File, ZipOutputStream> streams = new ConcurrentHashMap<>();
 
     public ZipAggregationStrategy() {
         this(false);
@@ -151,6 +168,18 @@ public class ZipAggregationStrategy implements AggregationStrategy {
         this.parentDir = new File(parentDir);
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Sets whether to keep the ZIP file open while aggregating, and append the messages to the ZIP file as they arrive,
+     * instead of rewriting the ZIP file for each message. The ZIP file is finished when the aggregation is completed.
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     @Override
     public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
         File zipFile;
@@ -161,11 +190,17 @@ public class ZipAggregationStrategy implements AggregationStrategy {
             return oldExchange;
         }
 
+        String charset = ExchangeHelper.getCharsetName(newExchange, true);
+
         // First time for this aggregation
         if (oldExchange == null) {
             try {
                 zipFile = FileUtil.createTempFile(this.filePrefix, this.fileSuffix, this.parentDir);
-                newZipFile(zipFile);
+                if (streaming) {
+                    newZipStream(zipFile, charset);
+                } else {
+                    newZipFile(zipFile);
+                }
             } catch (IOException | URISyntaxException e) {
                 throw new GenericFileOperationFailedException(e.getMessage(), e);
             }
@@ -179,8 +214,6 @@ public class ZipAggregationStrategy implements AggregationStrategy {
             body = ((WrappedFile) body).getFile();
         }
 
-        String charset = ExchangeHelper.getCharsetName(newExchange, true);
-
         if (body instanceof File) {
             try {
                 File appendFile = (File) body;
@@ -189,7 +222,11 @@ public class ZipAggregationStrategy implements AggregationStrategy {
                     String entryName = preserveFolderStructure
                             ? newExchange.getIn().getHeader(Exchange.FILE_NAME, String.class)
                             : newExchange.getIn().getMessageId();
-                    addFileToZip(zipFile, appendFile, this.preserveFolderStructure ? entryName : null);
+                    if (streaming) {
+                        addFileToZipStream(zipFile, appendFile, this.preserveFolderStructure ? entryName : null);
+                    } else {
+                        addFileToZip(zipFile, appendFile, this.preserveFolderStructure ? entryName : null);
+                    }
                 }
             } catch (Exception e) {
                 throw new GenericFileOperationFailedException(e.getMessage(), e);
@@ -203,7 +240,11 @@ public class ZipAggregationStrategy implements AggregationStrategy {
                     String entryName = useFilenameHeader
                             ? newExchange.getIn().getHeader(Exchange.FILE_NAME, String.class)
                             : newExchange.getIn().getMessageId();
-                    addEntryToZip(zipFile, entryName, buffer, charset);
+                    if (streaming) {
+                        addEntryToZipStream(zipFile, entryName, buffer);
+                    } else {
+                        addEntryToZip(zipFile, entryName, buffer, charset);
+                    }
                 }
             } catch (Exception e) {
                 throw new GenericFileOperationFailedException(e.getMessage(), e);
@@ -216,6 +257,73 @@ public class ZipAggregationStrategy implements AggregationStrategy {
         return answer;
     }
 
+    @Override
+    public void onCompletion(Exchange exchange) {
+        if (streaming && exchange != null) {
+            File zipFile = exchange.getIn().getBody(File.class);
+            if (zipFile != null) {
+                try {
+                    closeZipStream(zipFile);
+                } catch (IOException e) {
+                    throw new GenericFileOperationFailedException(e.getMessage(), e);
+                }
+                // bind the file again as the length of the file has changed
+                String charset = ExchangeHelper.getCharsetName(exchange, true);
+                GenericFile<File> genericFile = FileConsumer.asGenericFile(zipFile.getParent(), zipFile, charset, false);
+                genericFile.bindToExchange(exchange);
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        // noop
+    }
+
+    @Override
+    public void stop() {
+        // close the ZIP files of the aggregations which was not completed
+        for (File zipFile : streams.keySet()) {
+            IOHelper.close(streams.remove(zipFile), zipFile.getName());
+        }
+    }
+
+    private void newZipStream(File zipFile, String charset) throws IOException {
+        Charset cs = charset != null ? Charset.forName(charset) : Charset.defaultCharset();
+        ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(zipFile)), cs);
+        streams.put(zipFile, zos);
+    }
+
+    private ZipOutputStream getZipStream(File zipFile) throws IOException {
+        ZipOutputStream zos = streams.get(zipFile);
+        if (zos == null) {
+            throw new IOException("Cannot append to ZIP file " + zipFile + " as the ZIP file is not open");
+        }
+        return zos;
+    }
+
+    private void closeZipStream(File zipFile) throws IOException {
+        ZipOutputStream zos = streams.remove(zipFile);
+        if (zos != null) {
+            // writes the central directory of the ZIP file
+            zos.close();
+        }
+    }
+
+    private void addFileToZipStream(File zipFile, File file, String fileName) throws IOException {
+        ZipOutputStream zos = getZipStream(zipFile);
+        zos.putNextEntry(new ZipEntry(fileName == null ? file.getName() : fileName));
+        Files.copy(file.toPath(), zos);
+        zos.closeEntry();
+    }
+
+    private void addEntryToZipStream(File zipFile, String entryName, byte[] buffer) throws IOException {
+        ZipOutputStream zos = getZipStream(zipFile);
+        zos.putNextEntry(new ZipEntry(entryName));
+        zos.write(buffer);
+        zos.closeEntry();
+    }
+
     private static void newZipFile(File zipFile) throws URISyntaxException, IOException {
         if (zipFile.exists() && !zipFile.delete()) { //Delete, because ZipFileSystem needs to create file on its own (with correct END bytes in the file)
             throw new IOException("Cannot delete file " + zipFile);
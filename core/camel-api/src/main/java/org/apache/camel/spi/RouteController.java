@@ -42,6 +42,32 @@ public interface RouteController extends CamelContextAware, StaticService {
      */
     void setLoggingLevel(LoggingLevel loggingLevel);
 
+    /**
+     * Gets the number of routes which can be started concurrently, when starting multiple routes such as when Camel is
+     * starting up. The default is 1, which means the routes are started one by one.
+     */
+    default int getStartupConcurrency() {
+        return 1;
+    }
+
+    /**
+     * Sets the number of routes which can be started concurrently, when starting multiple routes such as when Camel is
+     * starting up. The default is 1, which means the routes are started one by one.
+     * <p/>
+     * When starting routes concurrently, then routes which have been configured with an explicit startup order are
+     * started before and after the other routes according to their order, and routes which share endpoints are started
+     * one by one by the same thread. This can speed up starting Camel when routes use components which connect to
+     * remote systems when starting, such as JMS, Kafka, or FTP.
+     * <p/>
+     * A supervising route controller only uses this option to warm up the routes, as it starts the supervised routes
+     * itself after Camel has been started.
+     *
+     * @throws UnsupportedOperationException if this route controller cannot start routes concurrently
+     */
+    default void setStartupConcurrency(int startupConcurrency) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Whether this route controller is a regular or supervising controller.
      */
@@ -16,6 +16,9 @@
  */
 package org.apache.camel.spi;
 
+import java.util.Collections;
+import java.util.Map;
+
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.LoggingLevel;
 import org.apache.camel.StaticService;
@@ -61,6 +64,30 @@ public interface TypeConverterRegistry extends StaticService, CamelContextAware
          */
         long getFailedCounter();
 
+        /**
+         * Number of bytes the type converters had to copy, per conversion pair, such as
+         * <tt>java.io.InputStream->byte[]</tt>.
+         * <p/>
+         * Only type converters which cannot convert by wrapping the data, and which have access to the current
+         * exchange, report the bytes copied.
+         *
+         * @return the bytes copied per conversion pair
+         */
+        default Map<String, Long> getBytesCopiedCounters() {
+            return Collections.emptyMap();
+        }
+
+        /**
+         * Records that a type converter copied the given number of bytes when converting between the two types.
+         *
+         * @param from  the type converted from
+         * @param to    the type converted to
+         * @param bytes the number of bytes copied
+         */
+        default void recordBytesCopied(Class<?> from, Class<?> to, long bytes) {
+            // noop
+        }
+
         /**
          * Reset the counters
          */
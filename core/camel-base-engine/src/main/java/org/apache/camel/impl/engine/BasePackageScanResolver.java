@@ -16,15 +16,20 @@
  */
 package org.apache.camel.impl.engine;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.StartupStep;
+import org.apache.camel.spi.StartupStepRecorder;
 import org.apache.camel.support.service.ServiceSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,6 +42,7 @@ public abstract class BasePackageScanResolver extends ServiceSupport implements
     protected String[] acceptableSchemes = {};
     private final Set<ClassLoader> classLoaders = new LinkedHashSet<>();
     private CamelContext camelContext;
+    private PackageScanIndex packageScanIndex = new PackageScanIndex();
 
     public BasePackageScanResolver() {
         try {
@@ -64,6 +70,18 @@ public abstract class BasePackageScanResolver extends ServiceSupport implements
         this.camelContext = camelContext;
     }
 
+    public PackageScanIndex getPackageScanIndex() {
+        return packageScanIndex;
+    }
+
+    /**
+     * To use an index of the entries in the JARs on the classpath, which can be shared with other package scan
+     * resolvers, and which can be stored in a directory to avoid reading the JARs when starting again.
+     */
+    public void setPackageScanIndex(PackageScanIndex packageScanIndex) {
+        this.packageScanIndex = packageScanIndex;
+    }
+
     public void addClassLoader(ClassLoader classLoader) {
         classLoaders.add(classLoader);
     }
@@ -94,6 +112,36 @@ public abstract class BasePackageScanResolver extends ServiceSupport implements
         return Collections.unmodifiableSet(new LinkedHashSet<>(classLoaders));
     }
 
+    /**
+     * Gets the names of all the entries (except directories) in the given JAR file, from the package scan index if
+     * possible.
+     */
+    protected List<String> getJarEntries(File jar) throws IOException {
+        if (packageScanIndex != null) {
+            return packageScanIndex.getEntries(jar);
+        }
+        return new PackageScanIndex().getEntries(jar);
+    }
+
+    /**
+     * Begins a startup step to record the time spent scanning.
+     */
+    protected StartupStep beginScanStep(Class<?> type, String name, String description) {
+        if (camelContext != null) {
+            StartupStepRecorder recorder = camelContext.adapt(ExtendedCamelContext.class).getStartupStepRecorder();
+            if (recorder != null) {
+                return recorder.beginStep(type, name, description);
+            }
+        }
+        return null;
+    }
+
+    protected void endScanStep(StartupStep step) {
+        if (step != null) {
+            camelContext.adapt(ExtendedCamelContext.class).getStartupStepRecorder().endStep(step);
+        }
+    }
+
     // We can override this method to support the custom ResourceLocator
     protected URL customResourceLocator(URL url) throws IOException {
         // Do nothing here
@@ -122,4 +170,11 @@ public abstract class BasePackageScanResolver extends ServiceSupport implements
         return loader.getResources(packageName);
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        if (packageScanIndex != null) {
+            packageScanIndex.save();
+        }
+    }
+
 }
@@ -38,6 +38,7 @@ import java.util.jar.JarEntry;
 import java.util.jar.JarInputStream;
 
 import org.apache.camel.NonManagedService;
+import org.apache.camel.StartupStep;
 import org.apache.camel.impl.scan.AnnotatedWithAnyPackageScanFilter;
 import org.apache.camel.impl.scan.AnnotatedWithPackageScanFilter;
 import org.apache.camel.impl.scan.AssignableToPackageScanFilter;
@@ -152,12 +153,17 @@ public class DefaultPackageScanClassResolver extends BasePackageScanResolver
     }
 
     protected void find(PackageScanFilter test, String packageName, Set<Class<?>> classes) {
-        packageName = packageName.replace('.', '/');
+        StartupStep step = beginScanStep(PackageScanClassResolver.class, packageName, "Scan Package");
+        try {
+            packageName = packageName.replace('.', '/');
 
-        Set<ClassLoader> set = getClassLoaders();
+            Set<ClassLoader> set = getClassLoaders();
 
-        for (ClassLoader classLoader : set) {
-            find(test, packageName, classLoader, classes);
+            for (ClassLoader classLoader : set) {
+                find(test, packageName, classLoader, classes);
+            }
+        } finally {
+            endScanStep(step);
         }
     }
 
@@ -232,6 +238,9 @@ public class DefaultPackageScanClassResolver extends BasePackageScanResolver
                 if (file.isDirectory()) {
                     log.trace("Loading from directory using file: {}", file);
                     loadImplementationsInDirectory(test, packageName, file, classes);
+                } else if (file.isFile() && getPackageScanIndex() != null) {
+                    log.trace("Loading from jar using package scan index: {}", file);
+                    doLoadImplementationsInJar(test, packageName, getJarEntries(file), classes);
                 } else {
                     InputStream stream = null;
                     try {
@@ -390,7 +399,7 @@ public class DefaultPackageScanClassResolver extends BasePackageScanResolver
     private void doLoadImplementationsInJar(
             PackageScanFilter test, String parent, List<String> entries, Set<Class<?>> classes) {
         for (String entry : entries) {
-            if (entry.startsWith(parent)) {
+            if (entry.startsWith(parent) && entry.endsWith(".class")) {
                 addIfMatching(test, entry, classes);
             }
         }
@@ -450,10 +459,14 @@ public class DefaultPackageScanClassResolver extends BasePackageScanResolver
             jarCache.clear();
             jarCache = null;
         }
+        if (getPackageScanIndex() != null) {
+            getPackageScanIndex().clear();
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
+        super.doStop();
         clearCache();
     }
 
@@ -39,6 +39,7 @@ import java.util.jar.JarInputStream;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.NonManagedService;
+import org.apache.camel.StartupStep;
 import org.apache.camel.spi.PackageScanResourceResolver;
 import org.apache.camel.spi.Resource;
 import org.apache.camel.spi.ResourceLoader;
@@ -58,7 +59,12 @@ public class DefaultPackageScanResourceResolver extends BasePackageScanResolver
     @Override
     public Collection<Resource> findResources(String location) throws Exception {
         Set<Resource> answer = new HashSet<>();
-        doFindResources(location, answer);
+        StartupStep step = beginScanStep(PackageScanResourceResolver.class, location, "Scan Resources");
+        try {
+            doFindResources(location, answer);
+        } finally {
+            endScanStep(step);
+        }
 
         return answer;
     }
@@ -196,6 +202,16 @@ public class DefaultPackageScanResourceResolver extends BasePackageScanResolver
                 if (file.isDirectory()) {
                     log.trace("Loading from directory using file: {}", file);
                     loadImplementationsInDirectory(subPattern, packageName, file, resources);
+                } else if (file.isFile() && getPackageScanIndex() != null) {
+                    log.trace("Loading from jar using package scan index: {}", file);
+                    List<String> entries = new ArrayList<>();
+                    for (String name : getJarEntries(file)) {
+                        // name is FQN so it must start with package name
+                        if (name.startsWith(packageName) && !name.endsWith(".class")) {
+                            entries.add(name);
+                        }
+                    }
+                    loadImplementationsInJar(packageName, subPattern, entries, resources);
                 } else {
                     InputStream stream;
                     if (urlPath.startsWith("http:") || urlPath.startsWith("https:")
@@ -241,6 +257,15 @@ public class DefaultPackageScanResourceResolver extends BasePackageScanResolver
             Set<Resource> resources) {
 
         List<String> entries = doLoadImplementationsInJar(packageName, stream, urlPath);
+        loadImplementationsInJar(packageName, subPattern, entries, resources);
+    }
+
+    private void loadImplementationsInJar(
+            String packageName,
+            String subPattern,
+            List<String> entries,
+            Set<Resource> resources) {
+
         for (String name : entries) {
             String shortName = name.substring(packageName.length());
             boolean match = PATH_MATCHER.match(subPattern, shortName);
@@ -337,8 +362,4 @@ public class DefaultPackageScanResourceResolver extends BasePackageScanResolver
         ObjectHelper.notNull(getCamelContext(), "CamelContext", this);
     }
 
-    @Override
-    protected void doStop() throws Exception {
-        // noop
-    }
 }
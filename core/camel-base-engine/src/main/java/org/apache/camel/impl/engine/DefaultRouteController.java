@@ -43,6 +43,7 @@ public class DefaultRouteController extends ServiceSupport implements RouteContr
     private ExtendedCamelContext camelContext;
 
     private LoggingLevel loggingLevel = LoggingLevel.DEBUG;
+    private int startupConcurrency = 1;
 
     public DefaultRouteController() {
         this(null);
@@ -76,6 +77,16 @@ public class DefaultRouteController extends ServiceSupport implements RouteContr
         this.loggingLevel = loggingLevel;
     }
 
+    @Override
+    public int getStartupConcurrency() {
+        return startupConcurrency;
+    }
+
+    @Override
+    public void setStartupConcurrency(int startupConcurrency) {
+        this.startupConcurrency = startupConcurrency;
+    }
+
     @Override
     public boolean isSupervising() {
         return this instanceof SupervisingRouteController;
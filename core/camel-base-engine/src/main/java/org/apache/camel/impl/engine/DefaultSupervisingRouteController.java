@@ -63,6 +63,10 @@ import org.slf4j.LoggerFactory;
  * A supervising capable {@link RouteController} that delays the startup of the routes after the camel context startup
  * and takes control of starting the routes in a safe manner. This controller is able to retry starting failing routes,
  * and have various options to configure settings for backoff between restarting routes.
+ * <p/>
+ * The {@link #setStartupConcurrency(int) startup concurrency} is only used to warm up the routes, as the supervised
+ * routes are started one by one after the camel context startup, using the threads configured with
+ * {@link #setThreadPoolSize(int)}.
  *
  * @see DefaultRouteController
  */
@@ -19,10 +19,17 @@ package org.apache.camel.impl.engine;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.camel.Consumer;
 import org.apache.camel.Endpoint;
@@ -41,6 +48,7 @@ import org.apache.camel.spi.RouteStartupOrder;
 import org.apache.camel.support.OrderedComparator;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.URISupport;
+import org.apache.camel.util.function.ThrowingConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -283,7 +291,24 @@ class InternalRouteStartupManager {
         return true;
     }
 
-    void doWarmUpRoutes(Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup) throws FailedToStartRouteException {
+    void doWarmUpRoutes(Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup) throws Exception {
+        int concurrency = getStartupConcurrency();
+        if (concurrency > 1 && inputs.size() > 1) {
+            // ensure all routes are setup before warmup, as the endpoints of the routes are needed
+            // to figure out which routes can be warmed up concurrently
+            for (DefaultRouteStartupOrder order : inputs.values()) {
+                RouteService routeService = order.getRouteService();
+                try {
+                    setupRoute.set(routeService.getRoute());
+                    routeService.setUp();
+                } finally {
+                    setupRoute.remove();
+                }
+            }
+            doInParallel(inputs.values(), concurrency, order -> doWarmUpRoute(order.getRouteService(), autoStartup));
+            return;
+        }
+
         // now prepare the routes by starting its services before we start the
         // input
         for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
@@ -295,19 +320,22 @@ class InternalRouteStartupManager {
             // routes as all routes
             // will then be prepared in time before we start inputs which will
             // consume messages to be routed
-            RouteService routeService = entry.getValue().getRouteService();
-            StartupStep step = abstractCamelContext.getStartupStepRecorder().beginStep(Route.class, routeService.getId(),
-                    "Warump Route");
-            try {
-                LOG.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
-                setupRoute.set(routeService.getRoute());
-                // ensure we setup before warmup
-                routeService.setUp();
-                routeService.warmUp();
-            } finally {
-                setupRoute.remove();
-                abstractCamelContext.getStartupStepRecorder().endStep(step);
-            }
+            doWarmUpRoute(entry.getValue().getRouteService(), autoStartup);
+        }
+    }
+
+    private void doWarmUpRoute(RouteService routeService, boolean autoStartup) throws FailedToStartRouteException {
+        StartupStep step = abstractCamelContext.getStartupStepRecorder().beginStep(Route.class, routeService.getId(),
+                "Warump Route");
+        try {
+            LOG.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
+            setupRoute.set(routeService.getRoute());
+            // ensure we setup before warmup
+            routeService.setUp();
+            routeService.warmUp();
+        } finally {
+            setupRoute.remove();
+            abstractCamelContext.getStartupStepRecorder().endStep(step);
         }
     }
 
@@ -326,11 +354,13 @@ class InternalRouteStartupManager {
     private void doStartOrResumeRouteConsumers(
             Map<Integer, DefaultRouteStartupOrder> inputs, boolean resumeOnly, boolean addingRoute)
             throws Exception {
+        int concurrency = getStartupConcurrency();
+        boolean parallel = !resumeOnly && concurrency > 1 && inputs.size() > 1;
+
         List<Endpoint> routeInputs = new ArrayList<>();
+        List<DefaultRouteStartupOrder> routesToStart = new ArrayList<>();
 
         for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
-            Integer order = entry.getKey();
-            Route route = entry.getValue().getRoute();
             RouteService routeService = entry.getValue().getRouteService();
 
             // if we are starting camel, then skip routes which are configured
@@ -343,109 +373,244 @@ class InternalRouteStartupManager {
                 continue;
             }
 
-            StartupStep step = abstractCamelContext.getStartupStepRecorder().beginStep(Route.class, route.getRouteId(),
-                    "Start Route");
-
-            // do some preparation before starting the consumer on the route
+            // check multiple consumer violation before starting the consumer on the route
             Consumer consumer = routeService.getInput();
             if (consumer != null) {
-                Endpoint endpoint = consumer.getEndpoint();
+                doCheckMultipleConsumers(routeService, consumer.getEndpoint(), routeInputs);
+                routeInputs.add(consumer.getEndpoint());
+            }
 
-                // check multiple consumer violation, with the other routes to be started
-                if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
-                    throw new FailedToStartRouteException(
-                            routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
-                }
+            if (parallel) {
+                // the routes are started afterwards when all of them have been checked
+                routesToStart.add(entry.getValue());
+            } else {
+                doStartOrResumeRouteConsumer(entry.getValue(), resumeOnly);
+            }
+        }
 
-                // check for multiple consumer violations with existing routes
-                // which have already been started, or is currently starting
-                List<Endpoint> existingEndpoints = new ArrayList<>();
-                for (Route existingRoute : abstractCamelContext.getRoutes()) {
-                    if (route.getId().equals(existingRoute.getId())) {
-                        // skip ourselves
-                        continue;
-                    }
-                    Endpoint existing = existingRoute.getEndpoint();
-                    ServiceStatus status = abstractCamelContext.getRouteStatus(existingRoute.getId());
-                    if (status != null && (status.isStarted() || status.isStarting())) {
-                        existingEndpoints.add(existing);
-                    }
-                }
-                if (!doCheckMultipleConsumerSupportClash(endpoint, existingEndpoints)) {
-                    throw new FailedToStartRouteException(
-                            routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
-                }
+        if (!routesToStart.isEmpty()) {
+            doInParallel(routesToStart, concurrency, order -> doStartOrResumeRouteConsumer(order, false));
+            // the routes may have been started in any order, so keep the startup order sorted
+            List<RouteStartupOrder> routeStartupOrder = abstractCamelContext.getRouteStartupOrder();
+            synchronized (routeStartupOrder) {
+                routeStartupOrder.sort(Comparator.comparingInt(RouteStartupOrder::getStartupOrder));
+            }
+        }
+    }
 
-                // start the consumer on the route
-                LOG.debug("Route: {} >>> {}", route.getId(), route);
-                if (resumeOnly) {
-                    LOG.debug("Resuming consumer (order: {}) on route: {}", order, route.getId());
-                } else {
-                    LOG.debug("Starting consumer (order: {}) on route: {}", order, route.getId());
-                }
+    private void doCheckMultipleConsumers(RouteService routeService, Endpoint endpoint, List<Endpoint> routeInputs)
+            throws FailedToStartRouteException {
+        Route route = routeService.getRoute();
 
-                if (resumeOnly && route.supportsSuspension()) {
-                    // if we are resuming and the route can be resumed
-                    ServiceHelper.resumeService(consumer);
-                    // use basic endpoint uri to not log verbose details or potential sensitive data
-                    String uri = endpoint.getEndpointBaseUri();
-                    uri = URISupport.sanitizeUri(uri);
-                    routeLogger.log("Route: " + route.getId() + " resumed and consuming from: " + uri,
-                            getRouteLoggerLogLevel());
-                } else {
-                    // when starting we should invoke the lifecycle strategies
-                    for (LifecycleStrategy strategy : abstractCamelContext.getLifecycleStrategies()) {
-                        strategy.onServiceAdd(abstractCamelContext.getCamelContextReference(), consumer, route);
-                    }
-                    try {
-                        abstractCamelContext.startService(consumer);
-                        route.getProperties().remove("route.start.exception");
-                    } catch (Exception e) {
-                        route.getProperties().put("route.start.exception", e);
-                        throw e;
-                    }
+        // check multiple consumer violation, with the other routes to be started
+        if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
+            throw new FailedToStartRouteException(
+                    routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+        }
+
+        // check for multiple consumer violations with existing routes
+        // which have already been started, or is currently starting
+        List<Endpoint> existingEndpoints = new ArrayList<>();
+        for (Route existingRoute : abstractCamelContext.getRoutes()) {
+            if (route.getId().equals(existingRoute.getId())) {
+                // skip ourselves
+                continue;
+            }
+            Endpoint existing = existingRoute.getEndpoint();
+            ServiceStatus status = abstractCamelContext.getRouteStatus(existingRoute.getId());
+            if (status != null && (status.isStarted() || status.isStarting())) {
+                existingEndpoints.add(existing);
+            }
+        }
+        if (!doCheckMultipleConsumerSupportClash(endpoint, existingEndpoints)) {
+            throw new FailedToStartRouteException(
+                    routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+        }
+    }
+
+    private void doStartOrResumeRouteConsumer(DefaultRouteStartupOrder startupOrder, boolean resumeOnly)
+            throws Exception {
+        int order = startupOrder.getStartupOrder();
+        Route route = startupOrder.getRoute();
+        RouteService routeService = startupOrder.getRouteService();
+
+        StartupStep step = abstractCamelContext.getStartupStepRecorder().beginStep(Route.class, route.getRouteId(),
+                "Start Route");
 
-                    // use basic endpoint uri to not log verbose details or potential sensitive data
-                    String uri = endpoint.getEndpointBaseUri();
-                    uri = URISupport.sanitizeUri(uri);
-                    routeLogger.log("Route: " + route.getId() + " started and consuming from: " + uri,
-                            getRouteLoggerLogLevel());
+        // do some preparation before starting the consumer on the route
+        Consumer consumer = routeService.getInput();
+        if (consumer != null) {
+            Endpoint endpoint = consumer.getEndpoint();
+
+            // start the consumer on the route
+            LOG.debug("Route: {} >>> {}", route.getId(), route);
+            if (resumeOnly) {
+                LOG.debug("Resuming consumer (order: {}) on route: {}", order, route.getId());
+            } else {
+                LOG.debug("Starting consumer (order: {}) on route: {}", order, route.getId());
+            }
+
+            if (resumeOnly && route.supportsSuspension()) {
+                // if we are resuming and the route can be resumed
+                ServiceHelper.resumeService(consumer);
+                // use basic endpoint uri to not log verbose details or potential sensitive data
+                String uri = endpoint.getEndpointBaseUri();
+                uri = URISupport.sanitizeUri(uri);
+                routeLogger.log("Route: " + route.getId() + " resumed and consuming from: " + uri,
+                        getRouteLoggerLogLevel());
+            } else {
+                // when starting we should invoke the lifecycle strategies
+                for (LifecycleStrategy strategy : abstractCamelContext.getLifecycleStrategies()) {
+                    strategy.onServiceAdd(abstractCamelContext.getCamelContextReference(), consumer, route);
+                }
+                try {
+                    abstractCamelContext.startService(consumer);
+                    route.getProperties().remove("route.start.exception");
+                } catch (Exception e) {
+                    route.getProperties().put("route.start.exception", e);
+                    throw e;
                 }
 
-                routeInputs.add(endpoint);
+                // use basic endpoint uri to not log verbose details or potential sensitive data
+                String uri = endpoint.getEndpointBaseUri();
+                uri = URISupport.sanitizeUri(uri);
+                routeLogger.log("Route: " + route.getId() + " started and consuming from: " + uri,
+                        getRouteLoggerLogLevel());
+            }
 
-                // add to the order which they was started, so we know how to
-                // stop them in reverse order
-                // but only add if we haven't already registered it before (we
-                // dont want to double add when restarting)
+            // add to the order which they was started, so we know how to
+            // stop them in reverse order
+            // but only add if we haven't already registered it before (we
+            // dont want to double add when restarting)
+            List<RouteStartupOrder> routeStartupOrder = abstractCamelContext.getRouteStartupOrder();
+            synchronized (routeStartupOrder) {
                 boolean found = false;
-                for (RouteStartupOrder other : abstractCamelContext.getRouteStartupOrder()) {
+                for (RouteStartupOrder other : routeStartupOrder) {
                     if (other.getRoute().getId().equals(route.getId())) {
                         found = true;
                         break;
                     }
                 }
                 if (!found) {
-                    abstractCamelContext.getRouteStartupOrder().add(entry.getValue());
+                    routeStartupOrder.add(startupOrder);
                 }
             }
+        }
 
-            if (resumeOnly) {
-                routeService.resume();
-            } else {
-                // and start the route service (no need to start children as
-                // they are already warmed up)
-                try {
-                    routeService.start();
-                    route.getProperties().remove("route.start.exception");
-                } catch (Exception e) {
-                    route.getProperties().put("route.start.exception", e);
-                    throw e;
+        if (resumeOnly) {
+            routeService.resume();
+        } else {
+            // and start the route service (no need to start children as
+            // they are already warmed up)
+            try {
+                routeService.start();
+                route.getProperties().remove("route.start.exception");
+            } catch (Exception e) {
+                route.getProperties().put("route.start.exception", e);
+                throw e;
+            }
+        }
+
+        abstractCamelContext.getStartupStepRecorder().endStep(step);
+    }
+
+    private int getStartupConcurrency() {
+        return abstractCamelContext.getRouteController().getStartupConcurrency();
+    }
+
+    /**
+     * Performs the task on the given routes concurrently, using a bounded thread pool.
+     * <p/>
+     * The routes are split into stages, where a route with an explicit startup order is a stage of its own, and the
+     * routes in-between are grouped in the same stage. A stage is only started when the previous stage is complete. The
+     * routes in a stage are grouped by the endpoints they use, so routes which share endpoints are handled one by one
+     * in startup order by the same thread, and the other groups are handled concurrently.
+     */
+    private void doInParallel(
+            Collection<DefaultRouteStartupOrder> routes, int concurrency,
+            ThrowingConsumer<DefaultRouteStartupOrder, Exception> task)
+            throws Exception {
+        ExecutorService executor = abstractCamelContext.getExecutorServiceManager()
+                .newFixedThreadPool(this, "RouteStartup", Math.min(concurrency, routes.size()));
+        try {
+            for (List<DefaultRouteStartupOrder> stage : doSplitIntoStages(routes)) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (List<DefaultRouteStartupOrder> group : doGroupBySharedEndpoints(stage)) {
+                    futures.add(executor.submit(() -> {
+                        // the routes are started by this thread
+                        abstractCamelContext.setStartingRoutes(true);
+                        try {
+                            for (DefaultRouteStartupOrder order : group) {
+                                task.accept(order);
+                            }
+                        } finally {
+                            abstractCamelContext.setStartingRoutes(false);
+                        }
+                        return null;
+                    }));
+                }
+                // wait for all the routes in the stage, and fail with the first error
+                Throwable cause = null;
+                for (Future<?> future : futures) {
+                    try {
+                        future.get();
+                    } catch (ExecutionException e) {
+                        if (cause == null) {
+                            cause = e.getCause();
+                        }
+                    }
+                }
+                if (cause instanceof Exception) {
+                    throw (Exception) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
                 }
             }
+        } finally {
+            abstractCamelContext.getExecutorServiceManager().shutdown(executor);
+        }
+    }
 
-            abstractCamelContext.getStartupStepRecorder().endStep(step);
+    private static List<List<DefaultRouteStartupOrder>> doSplitIntoStages(Collection<DefaultRouteStartupOrder> routes) {
+        List<List<DefaultRouteStartupOrder>> answer = new ArrayList<>();
+        List<DefaultRouteStartupOrder> stage = null;
+        for (DefaultRouteStartupOrder order : routes) {
+            // routes with an explicit startup order must be started after the routes before them
+            boolean explicit = order.getRoute().getStartupOrder() != null;
+            if (explicit || stage == null) {
+                stage = new ArrayList<>();
+                answer.add(stage);
+            }
+            stage.add(order);
+            if (explicit) {
+                stage = null;
+            }
+        }
+        return answer;
+    }
+
+    private static List<List<DefaultRouteStartupOrder>> doGroupBySharedEndpoints(List<DefaultRouteStartupOrder> stage) {
+        List<List<DefaultRouteStartupOrder>> groups = new ArrayList<>();
+        List<Set<Endpoint>> groupEndpoints = new ArrayList<>();
+        for (DefaultRouteStartupOrder order : stage) {
+            List<DefaultRouteStartupOrder> group = new ArrayList<>();
+            group.add(order);
+            Set<Endpoint> endpoints = new LinkedHashSet<>();
+            endpoints.add(order.getRoute().getEndpoint());
+            endpoints.addAll(order.getRouteService().gatherEndpoints());
+
+            // merge with the groups which uses any of the same endpoints
+            for (int i = groups.size() - 1; i >= 0; i--) {
+                if (!Collections.disjoint(groupEndpoints.get(i), endpoints)) {
+                    group.addAll(groups.remove(i));
+                    endpoints.addAll(groupEndpoints.remove(i));
+                }
+            }
+            group.sort(Comparator.comparingInt(DefaultRouteStartupOrder::getStartupOrder));
+            groups.add(group);
+            groupEndpoints.add(endpoints);
         }
+        return groups;
     }
 
     private boolean doCheckMultipleConsumerSupportClash(Endpoint endpoint, List<Endpoint> routeInputs) {
@@ -0,0 +1,285 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An index of the entries in the JARs on the classpath, which is used by the package scan resolvers so they do not have
+ * to read the JARs again when scanning other packages, or when starting again.
+ * <p/>
+ * The entries of a JAR are read from its central directory (which does not require reading the content of the JAR), and
+ * are cached in memory together with the size and last modified timestamp of the JAR, so the entries are read again if
+ * the JAR has been changed. When an index directory is configured, then the index is loaded from a file in the
+ * directory, which is keyed by a hash of the classpath, and the index is saved to the file when it has been changed, so
+ * the JARs are not read at all when starting with the same classpath.
+ * <p/>
+ * Directories on the classpath are not indexed, as their content is likely to change (such as during development).
+ */
+public class PackageScanIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PackageScanIndex.class);
+    private static final String JAR_PREFIX = "@";
+    private static final char ENTRY_PREFIX = '\t';
+
+    private final Map<String, JarEntries> jars = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private String indexDirectory;
+    private volatile boolean loaded;
+    private volatile boolean dirty;
+
+    public PackageScanIndex() {
+    }
+
+    public PackageScanIndex(String indexDirectory) {
+        this.indexDirectory = indexDirectory;
+    }
+
+    public String getIndexDirectory() {
+        return indexDirectory;
+    }
+
+    /**
+     * Directory to store the index, so the index can be loaded when starting again with the same classpath. If no
+     * directory is configured then the index is only kept in memory.
+     */
+    public void setIndexDirectory(String indexDirectory) {
+        this.indexDirectory = indexDirectory;
+    }
+
+    /**
+     * Number of times the entries of a JAR was found in the index
+     */
+    public long getHits() {
+        return hits.longValue();
+    }
+
+    /**
+     * Number of times the entries of a JAR had to be read from the JAR
+     */
+    public long getMisses() {
+        return misses.longValue();
+    }
+
+    /**
+     * The file with the index for the current classpath, or <tt>null</tt> if no index directory is configured.
+     */
+    public File getIndexFile() {
+        if (indexDirectory == null) {
+            return null;
+        }
+        String classpath = System.getProperty("java.class.path", "");
+        return new File(indexDirectory, "camel-package-scan-" + hash(classpath) + ".idx");
+    }
+
+    /**
+     * Gets the names of all the entries (except directories) in the given JAR.
+     *
+     * @param  jar         the JAR file
+     * @return             the entry names
+     * @throws IOException is thrown if error reading the JAR
+     */
+    public List<String> getEntries(File jar) throws IOException {
+        if (!loaded) {
+            load();
+        }
+
+        String key = jar.getAbsolutePath();
+        long length = jar.length();
+        long lastModified = jar.lastModified();
+
+        JarEntries answer = jars.get(key);
+        if (answer != null && answer.length == length && answer.lastModified == lastModified) {
+            hits.increment();
+            return answer.entries;
+        }
+
+        misses.increment();
+        List<String> entries = new ArrayList<>();
+        try (ZipFile zip = new ZipFile(jar)) {
+            Enumeration<? extends ZipEntry> it = zip.entries();
+            while (it.hasMoreElements()) {
+                ZipEntry entry = it.nextElement();
+                String name = entry.getName();
+                if (name != null) {
+                    name = name.trim();
+                    // the manifest is not a regular entry when reading JARs as a stream
+                    if (!entry.isDirectory() && !name.isEmpty() && !"META-INF/MANIFEST.MF".equalsIgnoreCase(name)) {
+                        entries.add(name);
+                    }
+                }
+            }
+        }
+        answer = new JarEntries(length, lastModified, Collections.unmodifiableList(entries));
+        jars.put(key, answer);
+        dirty = true;
+        LOG.trace("Indexed JAR: {} with {} entries", jar, entries.size());
+        return answer.entries;
+    }
+
+    /**
+     * Loads the index from the index directory (if not already loaded).
+     */
+    public synchronized void load() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+
+        File file = getIndexFile();
+        if (file == null || !file.isFile()) {
+            return;
+        }
+
+        int count = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            String key = null;
+            long length = 0;
+            long lastModified = 0;
+            List<String> entries = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(JAR_PREFIX)) {
+                    if (key != null) {
+                        addJar(key, length, lastModified, entries);
+                        count++;
+                    }
+                    // @length:lastModified:path
+                    int pos = line.indexOf(':');
+                    int pos2 = line.indexOf(':', pos + 1);
+                    length = Long.parseLong(line.substring(1, pos));
+                    lastModified = Long.parseLong(line.substring(pos + 1, pos2));
+                    key = line.substring(pos2 + 1);
+                    entries = new ArrayList<>();
+                } else if (key != null && !line.isEmpty() && line.charAt(0) == ENTRY_PREFIX) {
+                    entries.add(line.substring(1));
+                }
+            }
+            if (key != null) {
+                addJar(key, length, lastModified, entries);
+                count++;
+            }
+            LOG.debug("Loaded package scan index: {} with {} JARs", file, count);
+        } catch (Exception e) {
+            // the index is only a cache so we can scan the JARs instead
+            LOG.warn("Cannot load package scan index: {} due to: {}. This exception is ignored.", file, e.getMessage());
+            jars.clear();
+        }
+    }
+
+    private void addJar(String key, long length, long lastModified, List<String> entries) {
+        // do not override JARs which has been indexed in the meantime
+        jars.putIfAbsent(key, new JarEntries(length, lastModified, Collections.unmodifiableList(entries)));
+    }
+
+    /**
+     * Saves the index to the index directory, if the index has been changed.
+     */
+    public synchronized void save() {
+        File file = getIndexFile();
+        if (file == null || !dirty) {
+            return;
+        }
+
+        try {
+            Path dir = file.getParentFile().toPath();
+            Files.createDirectories(dir);
+            Path tmp = Files.createTempFile(dir, file.getName(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                writer.write("# Camel package scan index - do NOT edit this file!");
+                writer.newLine();
+                for (Map.Entry<String, JarEntries> entry : jars.entrySet()) {
+                    JarEntries value = entry.getValue();
+                    writer.write(JAR_PREFIX + value.length + ":" + value.lastModified + ":" + entry.getKey());
+                    writer.newLine();
+                    for (String name : value.entries) {
+                        writer.write(ENTRY_PREFIX);
+                        writer.write(name);
+                        writer.newLine();
+                    }
+                }
+            }
+            Files.move(tmp, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            dirty = false;
+            LOG.debug("Saved package scan index: {} with {} JARs", file, jars.size());
+        } catch (Exception e) {
+            LOG.warn("Cannot save package scan index: {} due to: {}. This exception is ignored.", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Clears the index in memory, after saving the index to the index directory (if configured), so the index can be
+     * loaded again if needed.
+     */
+    public synchronized void clear() {
+        save();
+        jars.clear();
+        loaded = false;
+    }
+
+    private static String hash(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] bytes = digest.digest(text.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 8; i++) {
+                sb.append(String.format("%02x", bytes[i]));
+            }
+            return sb.toString();
+        } catch (Exception e) {
+            return Integer.toHexString(text.hashCode());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PackageScanIndex[" + (indexDirectory != null ? indexDirectory : "memory") + "]";
+    }
+
+    private static final class JarEntries {
+        private final long length;
+        private final long lastModified;
+        private final List<String> entries;
+
+        private JarEntries(long length, long lastModified, List<String> entries) {
+            this.length = length;
+            this.lastModified = lastModified;
+            this.entries = entries;
+        }
+    }
+}
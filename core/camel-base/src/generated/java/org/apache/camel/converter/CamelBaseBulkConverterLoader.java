@@ -42,7 +42,7 @@ public final class CamelBaseBulkConverterLoader implements TypeConverterLoader,
 
     @Override
     public int size() {
-        return 109;
+        return 110;
     }
 
     @Override
@@ -69,7 +69,7 @@ public final class CamelBaseBulkConverterLoader implements TypeConverterLoader,
     private Object doConvertTo(Class<?> from, Class<?> to, Exchange exchange, Object value) throws Exception {
         if (to == byte[].class) {
             if (value instanceof java.nio.ByteBuffer) {
-                return org.apache.camel.converter.NIOConverter.toByteArray((java.nio.ByteBuffer) value);
+                return org.apache.camel.converter.NIOConverter.toByteArray((java.nio.ByteBuffer) value, exchange);
             }
             if (value instanceof org.apache.camel.spi.Resource) {
                 return org.apache.camel.converter.ResourceConverter.toByteArray((org.apache.camel.spi.Resource) value, camelContext);
@@ -87,10 +87,10 @@ public final class CamelBaseBulkConverterLoader implements TypeConverterLoader,
                 return org.apache.camel.converter.IOConverter.toByteArray((java.lang.String) value, exchange);
             }
             if (value instanceof java.io.InputStream) {
-                return org.apache.camel.converter.IOConverter.toBytes((java.io.InputStream) value);
+                return org.apache.camel.converter.IOConverter.toBytes((java.io.InputStream) value, exchange);
             }
             if (value instanceof java.io.ByteArrayOutputStream) {
-                return org.apache.camel.converter.IOConverter.toByteArray((java.io.ByteArrayOutputStream) value);
+                return org.apache.camel.converter.IOConverter.toByteArray((java.io.ByteArrayOutputStream) value, exchange);
             }
         } else if (to == char[].class) {
             if (value instanceof java.lang.String) {
@@ -142,6 +142,9 @@ public final class CamelBaseBulkConverterLoader implements TypeConverterLoader,
             if (value instanceof java.lang.StringBuffer) {
                 return org.apache.camel.converter.IOConverter.toInputStream((java.lang.StringBuffer) value, exchange);
             }
+            if (value instanceof java.nio.ByteBuffer[]) {
+                return org.apache.camel.converter.NIOConverter.toInputStream((java.nio.ByteBuffer[]) value);
+            }
             if (value instanceof java.lang.StringBuilder) {
                 return org.apache.camel.converter.IOConverter.toInputStream((java.lang.StringBuilder) value, exchange);
             }
@@ -152,7 +155,7 @@ public final class CamelBaseBulkConverterLoader implements TypeConverterLoader,
                 return org.apache.camel.converter.IOConverter.toInputStream((byte[]) value);
             }
             if (value instanceof java.io.ByteArrayOutputStream) {
-                return org.apache.camel.converter.IOConverter.toInputStream((java.io.ByteArrayOutputStream) value);
+                return org.apache.camel.converter.IOConverter.toInputStream((java.io.ByteArrayOutputStream) value, exchange);
             }
         } else if (to == java.io.ObjectInput.class) {
             if (value instanceof java.io.InputStream) {
@@ -347,7 +350,7 @@ public final class CamelBaseBulkConverterLoader implements TypeConverterLoader,
                 return org.apache.camel.converter.NIOConverter.toByteBuffer((byte[]) value);
             }
             if (value instanceof java.io.ByteArrayOutputStream) {
-                return org.apache.camel.converter.NIOConverter.toByteBuffer((java.io.ByteArrayOutputStream) value);
+                return org.apache.camel.converter.NIOConverter.toByteBuffer((java.io.ByteArrayOutputStream) value, exchange);
             }
             if (value instanceof java.io.File) {
                 return org.apache.camel.converter.NIOConverter.toByteBuffer((java.io.File) value);
@@ -371,7 +374,7 @@ public final class CamelBaseBulkConverterLoader implements TypeConverterLoader,
                 return org.apache.camel.converter.NIOConverter.toByteBuffer((java.lang.Double) value);
             }
             if (value instanceof java.io.InputStream) {
-                return org.apache.camel.converter.IOConverter.covertToByteBuffer((java.io.InputStream) value);
+                return org.apache.camel.converter.IOConverter.covertToByteBuffer((java.io.InputStream) value, exchange);
             }
         } else if (to == java.sql.Timestamp.class) {
             if (value instanceof java.lang.Long) {
@@ -542,6 +545,9 @@ public final class CamelBaseBulkConverterLoader implements TypeConverterLoader,
             if (from == java.lang.StringBuffer.class) {
                 return this;
             }
+            if (from == java.nio.ByteBuffer[].class) {
+                return this;
+            }
             if (from == java.lang.StringBuilder.class) {
                 return this;
             }
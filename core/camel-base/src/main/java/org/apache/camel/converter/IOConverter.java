@@ -45,6 +45,7 @@ import java.util.stream.Stream;
 
 import org.apache.camel.Converter;
 import org.apache.camel.Exchange;
+import org.apache.camel.spi.TypeConverterRegistry;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.InputStreamIterator;
 import org.apache.camel.util.IOHelper;
@@ -248,26 +249,44 @@ public final class IOConverter {
         }
     }
 
-    @Converter(order = 29)
     public static byte[] toBytes(InputStream stream) throws IOException {
+        return toBytes(stream, null);
+    }
+
+    @Converter(order = 29)
+    public static byte[] toBytes(InputStream stream, Exchange exchange) throws IOException {
         ByteArrayOutputStream bos = new ByteArrayOutputStream();
         IOHelper.copy(IOHelper.buffered(stream), bos);
 
         // no need to close the ByteArrayOutputStream as it's close()
         // implementation is noop
-        return bos.toByteArray();
+        byte[] answer = bos.toByteArray();
+        recordBytesCopied(exchange, InputStream.class, byte[].class, answer.length);
+        return answer;
     }
 
-    @Converter(order = 30)
     public static byte[] toByteArray(ByteArrayOutputStream os) {
-        return os.toByteArray();
+        return toByteArray(os, null);
+    }
+
+    @Converter(order = 30)
+    public static byte[] toByteArray(ByteArrayOutputStream os, Exchange exchange) {
+        byte[] answer = os.toByteArray();
+        recordBytesCopied(exchange, ByteArrayOutputStream.class, byte[].class, answer.length);
+        return answer;
     }
 
-    @Converter(order = 31)
     public static ByteBuffer covertToByteBuffer(InputStream is) throws IOException {
+        return covertToByteBuffer(is, null);
+    }
+
+    @Converter(order = 31)
+    public static ByteBuffer covertToByteBuffer(InputStream is, Exchange exchange) throws IOException {
         ByteArrayOutputStream os = new ByteArrayOutputStream();
         IOHelper.copyAndCloseInput(is, os);
-        return ByteBuffer.wrap(os.toByteArray());
+        byte[] data = os.toByteArray();
+        recordBytesCopied(exchange, InputStream.class, ByteBuffer.class, data.length);
+        return ByteBuffer.wrap(data);
     }
 
     @Converter(order = 32)
@@ -275,11 +294,17 @@ public final class IOConverter {
         return os.toString(ExchangeHelper.getCharsetName(exchange));
     }
 
-    @Converter(order = 33)
     public static InputStream toInputStream(ByteArrayOutputStream os) {
+        return toInputStream(os, null);
+    }
+
+    @Converter(order = 33)
+    public static InputStream toInputStream(ByteArrayOutputStream os, Exchange exchange) {
         // no buffering required as the complete byte array input is already
         // passed over as a whole
-        return new ByteArrayInputStream(os.toByteArray());
+        byte[] data = os.toByteArray();
+        recordBytesCopied(exchange, ByteArrayOutputStream.class, InputStream.class, data.length);
+        return new ByteArrayInputStream(data);
     }
 
     @Converter(order = 34)
@@ -309,4 +334,16 @@ public final class IOConverter {
         return prop;
     }
 
+    /**
+     * Records the number of bytes a type converter had to copy in the type converter statistics (if enabled).
+     */
+    static void recordBytesCopied(Exchange exchange, Class<?> from, Class<?> to, long bytes) {
+        if (exchange != null) {
+            TypeConverterRegistry.Statistics statistics
+                    = exchange.getContext().getTypeConverterRegistry().getStatistics();
+            if (statistics != null && statistics.isStatisticsEnabled()) {
+                statistics.recordBytesCopied(from, to, bytes);
+            }
+        }
+    }
 }
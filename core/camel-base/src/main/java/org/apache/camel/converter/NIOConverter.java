@@ -18,16 +18,18 @@ package org.apache.camel.converter;
 
 import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
 
 import org.apache.camel.Converter;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
-import org.apache.camel.util.IOHelper;
+import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.util.ByteBufferInputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,16 +49,32 @@ public final class NIOConverter {
     private NIOConverter() {
     }
 
-    @Converter(order = 1)
     public static byte[] toByteArray(ByteBuffer buffer) {
-        byte[] bArray = new byte[buffer.limit()];
+        return toByteArray(buffer, null);
+    }
+
+    @Converter(order = 1)
+    public static byte[] toByteArray(ByteBuffer buffer, Exchange exchange) {
+        // always copy as the backing array is still in use by the owner of the buffer
+        int length = buffer.remaining();
+        byte[] bArray = new byte[length];
         buffer.get(bArray);
+        IOConverter.recordBytesCopied(exchange, ByteBuffer.class, byte[].class, length);
         return bArray;
     }
 
     @Converter(order = 2)
     public static String toString(ByteBuffer buffer, Exchange exchange) throws IOException {
-        return IOConverter.toString(toByteArray(buffer), exchange);
+        Charset charset = Charset.forName(ExchangeHelper.getCharsetName(exchange));
+        String answer;
+        if (buffer.hasArray()) {
+            // decode straight from the backing array
+            answer = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), charset);
+            cast(buffer).position(buffer.limit());
+        } else {
+            answer = charset.decode(buffer).toString();
+        }
+        return answer;
     }
 
     @Converter(order = 3)
@@ -64,28 +82,19 @@ public final class NIOConverter {
         return ByteBuffer.wrap(data);
     }
 
-    @Converter(order = 4)
     public static ByteBuffer toByteBuffer(ByteArrayOutputStream baos) {
-        return ByteBuffer.wrap(baos.toByteArray());
+        return toByteBuffer(baos, null);
+    }
+
+    @Converter(order = 4)
+    public static ByteBuffer toByteBuffer(ByteArrayOutputStream baos, Exchange exchange) {
+        return ByteBuffer.wrap(IOConverter.toByteArray(baos, exchange));
     }
 
     @Converter(order = 5)
     public static ByteBuffer toByteBuffer(File file) throws IOException {
-        InputStream in = null;
-        try {
-            byte[] buf = new byte[(int) file.length()];
-            in = IOHelper.buffered(new FileInputStream(file));
-            int sizeLeft = (int) file.length();
-            int offset = 0;
-            while (sizeLeft > 0) {
-                int readSize = in.read(buf, offset, sizeLeft);
-                sizeLeft -= readSize;
-                offset += readSize;
-            }
-            return ByteBuffer.wrap(buf);
-        } finally {
-            IOHelper.close(in, "Failed to close file stream: " + file.getPath(), LOG);
-        }
+        // read the file directly into the buffer
+        return ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
     }
 
     @Converter(order = 6)
@@ -149,7 +158,20 @@ public final class NIOConverter {
 
     @Converter(order = 12)
     public static InputStream toInputStream(ByteBuffer bufferbuffer) {
-        return IOConverter.toInputStream(toByteArray(bufferbuffer));
+        // read from a read-only view of the buffer, so the stream cannot expose the backing array
+        InputStream answer = new ByteBufferInputStream(bufferbuffer.asReadOnlyBuffer());
+        // the buffer is consumed
+        cast(bufferbuffer).position(bufferbuffer.limit());
+        return answer;
+    }
+
+    @Converter(order = 13)
+    public static InputStream toInputStream(ByteBuffer[] buffers) {
+        InputStream answer = new ByteBufferInputStream(buffers);
+        for (ByteBuffer buffer : buffers) {
+            cast(buffer).position(buffer.limit());
+        }
+        return answer;
     }
 
 }
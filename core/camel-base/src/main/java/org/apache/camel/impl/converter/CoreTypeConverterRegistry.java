@@ -18,6 +18,9 @@ package org.apache.camel.impl.converter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -73,6 +76,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
     protected final LongAdder missCounter = new LongAdder();
     protected final LongAdder hitCounter = new LongAdder();
     protected final LongAdder failedCounter = new LongAdder();
+    protected final Map<Class<?>, Map<Class<?>, LongAdder>> bytesCopiedCounters = new ConcurrentHashMap<>();
 
     protected TypeConverterExists typeConverterExists = TypeConverterExists.Override;
     protected LoggingLevel typeConverterExistsLoggingLevel = LoggingLevel.WARN;
@@ -797,6 +801,37 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             return failedCounter.longValue();
         }
 
+        @Override
+        public Map<String, Long> getBytesCopiedCounters() {
+            Map<String, Long> answer = new TreeMap<>();
+            bytesCopiedCounters.forEach((from, counters) -> counters.forEach(
+                    (to, counter) -> answer.put(typeName(from) + "->" + typeName(to), counter.longValue())));
+            return answer;
+        }
+
+        @Override
+        public void recordBytesCopied(Class<?> from, Class<?> to, long bytes) {
+            if (statisticsEnabled && bytes > 0) {
+                bytesCopiedCounters.computeIfAbsent(from, k -> new ConcurrentHashMap<>())
+                        .computeIfAbsent(to, k -> new LongAdder()).add(bytes);
+            }
+        }
+
+        private long getBytesCopiedCounter() {
+            long answer = 0;
+            for (Map<Class<?>, LongAdder> counters : bytesCopiedCounters.values()) {
+                for (LongAdder counter : counters.values()) {
+                    answer += counter.longValue();
+                }
+            }
+            return answer;
+        }
+
+        private String typeName(Class<?> type) {
+            String name = type.getCanonicalName();
+            return name != null ? name : type.getName();
+        }
+
         @Override
         public void reset() {
             noopCounter.reset();
@@ -804,6 +839,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             hitCounter.reset();
             missCounter.reset();
             failedCounter.reset();
+            bytesCopiedCounters.clear();
         }
 
         @Override
@@ -818,8 +854,10 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
 
         @Override
         public String toString() {
-            return String.format("TypeConverterRegistry utilization[noop=%s, attempts=%s, hits=%s, misses=%s, failures=%s]",
-                    getNoopCounter(), getAttemptCounter(), getHitCounter(), getMissCounter(), getFailedCounter());
+            return String.format(
+                    "TypeConverterRegistry utilization[noop=%s, attempts=%s, hits=%s, misses=%s, failures=%s, bytesCopied=%s]",
+                    getNoopCounter(), getAttemptCounter(), getHitCounter(), getMissCounter(), getFailedCounter(),
+                    getBytesCopiedCounter());
         }
     }
 
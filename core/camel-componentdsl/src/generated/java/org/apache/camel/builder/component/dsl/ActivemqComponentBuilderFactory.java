@@ -1129,6 +1129,28 @@ public interface ActivemqComponentBuilderFactory {
             doSetProperty("replyToCacheLevelName", replyToCacheLevelName);
             return this;
         }
+        /**
+         * Specifies the number of shards the correlation map of pending replies
+         * is divided into when using request/reply over JMS. The correlation
+         * ids are assigned to a shard by their hash code, which reduces lock
+         * contention when many request/reply messages are in-flight. When using
+         * a shared reply queue with a dynamic message selector, then a reply
+         * listener is created per shard which only selects the replies for the
+         * correlation ids of its shard.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: producer (advanced)
+         * 
+         * @param replyToCorrelationShards the value to set
+         * @return the dsl builder
+         */
+        default ActivemqComponentBuilder replyToCorrelationShards(
+                int replyToCorrelationShards) {
+            doSetProperty("replyToCorrelationShards", replyToCorrelationShards);
+            return this;
+        }
         /**
          * Sets the JMS Selector using the fixed name to be used so you can
          * filter out your own replies from the others when using a shared queue
@@ -2088,6 +2110,7 @@ public interface ActivemqComponentBuilderFactory {
             case "forceSendOriginalMessage": getOrCreateConfiguration((ActiveMQComponent) component).setForceSendOriginalMessage((boolean) value); return true;
             case "includeSentJMSMessageID": getOrCreateConfiguration((ActiveMQComponent) component).setIncludeSentJMSMessageID((boolean) value); return true;
             case "replyToCacheLevelName": getOrCreateConfiguration((ActiveMQComponent) component).setReplyToCacheLevelName((java.lang.String) value); return true;
+            case "replyToCorrelationShards": getOrCreateConfiguration((ActiveMQComponent) component).setReplyToCorrelationShards((int) value); return true;
             case "replyToDestinationSelectorName": getOrCreateConfiguration((ActiveMQComponent) component).setReplyToDestinationSelectorName((java.lang.String) value); return true;
             case "streamMessageTypeEnabled": getOrCreateConfiguration((ActiveMQComponent) component).setStreamMessageTypeEnabled((boolean) value); return true;
             case "allowAutoWiredConnectionFactory": ((ActiveMQComponent) component).setAllowAutoWiredConnectionFactory((boolean) value); return true;
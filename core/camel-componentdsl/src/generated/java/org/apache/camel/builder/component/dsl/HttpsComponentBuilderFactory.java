@@ -186,6 +186,26 @@ public interface HttpsComponentBuilderFactory {
             doSetProperty("allowJavaSerializedObject", allowJavaSerializedObject);
             return this;
         }
+        /**
+         * To use a custom and shared NHttpClientConnectionManager to manage the
+         * connections of the async client (useAsyncClient=true). If this has
+         * not been configured then one is created on demand, which is shared by
+         * all the endpoints using the async client with the connection options
+         * of the component.
+         * 
+         * The option is a:
+         * &lt;code&gt;org.apache.http.nio.conn.NHttpClientConnectionManager&lt;/code&gt; type.
+         * 
+         * Group: advanced
+         * 
+         * @param asyncClientConnectionManager the value to set
+         * @return the dsl builder
+         */
+        default HttpsComponentBuilder asyncClientConnectionManager(
+                org.apache.http.nio.conn.NHttpClientConnectionManager asyncClientConnectionManager) {
+            doSetProperty("asyncClientConnectionManager", asyncClientConnectionManager);
+            return this;
+        }
         /**
          * Disables authentication scheme caching.
          * 
@@ -711,6 +731,7 @@ public interface HttpsComponentBuilderFactory {
             case "skipRequestHeaders": ((HttpComponent) component).setSkipRequestHeaders((boolean) value); return true;
             case "skipResponseHeaders": ((HttpComponent) component).setSkipResponseHeaders((boolean) value); return true;
             case "allowJavaSerializedObject": ((HttpComponent) component).setAllowJavaSerializedObject((boolean) value); return true;
+            case "asyncClientConnectionManager": ((HttpComponent) component).setAsyncClientConnectionManager((org.apache.http.nio.conn.NHttpClientConnectionManager) value); return true;
             case "authCachingDisabled": ((HttpComponent) component).setAuthCachingDisabled((boolean) value); return true;
             case "automaticRetriesDisabled": ((HttpComponent) component).setAutomaticRetriesDisabled((boolean) value); return true;
             case "autowiredEnabled": ((HttpComponent) component).setAutowiredEnabled((boolean) value); return true;
@@ -564,6 +564,7 @@ public final class SimpleExpressionBuilder {
             private ClassResolver classResolver;
             private Expression exp;
             private Language bean;
+            private SimpleOgnlGetterChain chain;
 
             public Object evaluate(Exchange exchange) {
                 String text = exp.evaluate(exchange, String.class);
@@ -579,6 +580,9 @@ public final class SimpleExpressionBuilder {
                 } catch (InvalidPayloadException e) {
                     throw CamelExecutionException.wrapCamelExecutionException(exchange, e);
                 }
+                if (chain != null) {
+                    return chain.evaluate(exchange, body, bean);
+                }
                 Expression ognlExp = bean.createExpression(null, new Object[] { body, ognl });
                 ognlExp.init(exchange.getContext());
                 return ognlExp.evaluate(exchange, Object.class);
@@ -590,6 +594,7 @@ public final class SimpleExpressionBuilder {
                 exp = ExpressionBuilder.simpleExpression(name);
                 exp.init(context);
                 bean = context.resolveLanguage("bean");
+                chain = SimpleOgnlGetterChain.compile(ognl);
             }
 
             @Override
@@ -645,6 +650,7 @@ public final class SimpleExpressionBuilder {
             private ClassResolver classResolver;
             private Expression exp;
             private Language bean;
+            private SimpleOgnlGetterChain chain;
 
             public Object evaluate(Exchange exchange) {
                 String text = exp.evaluate(exchange, String.class);
@@ -656,6 +662,9 @@ public final class SimpleExpressionBuilder {
                 }
                 Object body = exchange.getIn().getBody(type);
                 if (body != null) {
+                    if (chain != null) {
+                        return chain.evaluate(exchange, body, bean);
+                    }
                     // ognl is able to evaluate method name if it contains nested functions
                     // so we should not eager evaluate ognl as a string
                     Expression ognlExp = bean.createExpression(null, new Object[] { body, ognl });
@@ -672,6 +681,7 @@ public final class SimpleExpressionBuilder {
                 exp = ExpressionBuilder.simpleExpression(name);
                 exp.init(context);
                 bean = context.resolveLanguage("bean");
+                chain = SimpleOgnlGetterChain.compile(ognl);
             }
 
             @Override
@@ -746,12 +756,16 @@ public final class SimpleExpressionBuilder {
     public static Expression bodyOgnlExpression(final String ognl) {
         return new ExpressionAdapter() {
             private Language bean;
+            private SimpleOgnlGetterChain chain;
 
             public Object evaluate(Exchange exchange) {
                 Object body = exchange.getIn().getBody();
                 if (body == null) {
                     return null;
                 }
+                if (chain != null) {
+                    return chain.evaluate(exchange, body, bean);
+                }
                 Expression ognlExp = bean.createExpression(null, new Object[] { body, ognl });
                 ognlExp.init(exchange.getContext());
                 return ognlExp.evaluate(exchange, Object.class);
@@ -760,6 +774,7 @@ public final class SimpleExpressionBuilder {
             @Override
             public void init(CamelContext context) {
                 bean = context.resolveLanguage("bean");
+                chain = SimpleOgnlGetterChain.compile(ognl);
             }
 
             @Override
@@ -909,6 +924,7 @@ public final class SimpleExpressionBuilder {
         private Expression keyExpression;
         private Expression ognlExpression;
         private Language beanLanguage;
+        private SimpleOgnlGetterChain methodChain;
 
         KeyedOgnlExpressionAdapter(String ognl, String toStringValue,
                                    KeyedEntityRetrievalStrategy keyedEntityRetrievalStrategy) {
@@ -937,6 +953,7 @@ public final class SimpleExpressionBuilder {
         @Override
         public void init(CamelContext context) {
             beanLanguage = context.resolveLanguage("bean");
+            methodChain = SimpleOgnlGetterChain.compile(method);
             ognlExpression = ExpressionBuilder.simpleExpression(ognl);
             ognlExpression.init(context);
             // key must be lazy eval as it only used in special situations
@@ -960,7 +977,9 @@ public final class SimpleExpressionBuilder {
             if (property == null) {
                 return null;
             }
-            if (method != null) {
+            if (methodChain != null) {
+                return methodChain.evaluate(exchange, property, beanLanguage);
+            } else if (method != null) {
                 Expression exp = beanLanguage.createExpression(null, new Object[] { property, method });
                 exp.init(exchange.getContext());
                 return exp.evaluate(exchange, Object.class);
@@ -189,12 +189,28 @@ public class SimpleExpressionParser extends BaseSimpleParser {
 
     private List<Expression> createExpressions() {
         List<Expression> answer = new ArrayList<>();
+        // adjacent literals are folded into a single constant
+        StringBuilder literal = null;
         for (SimpleNode token : nodes) {
+            if (token instanceof LiteralNode) {
+                if (literal == null) {
+                    literal = new StringBuilder();
+                }
+                literal.append(((LiteralNode) token).getText());
+                continue;
+            }
+            if (literal != null) {
+                answer.add(ExpressionBuilder.constantExpression(literal.toString()));
+                literal = null;
+            }
             Expression exp = token.createExpression(camelContext, expression);
             if (exp != null) {
                 answer.add(exp);
             }
         }
+        if (literal != null) {
+            answer.add(ExpressionBuilder.constantExpression(literal.toString()));
+        }
         return answer;
     }
 
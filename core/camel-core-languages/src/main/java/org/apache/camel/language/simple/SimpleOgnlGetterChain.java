@@ -0,0 +1,307 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.RuntimeExpressionException;
+import org.apache.camel.spi.Language;
+import org.apache.camel.util.OgnlHelper;
+
+/**
+ * A pre-compiled simple OGNL chain which only consists of property getters, such as <tt>.address.city</tt> or
+ * <tt>?.address?.city</tt>.
+ * <p/>
+ * The getters are resolved as method handles and cached per receiver class, so evaluating the chain does not need to go
+ * through the bean language on every call. Getters the chain cannot resolve on its own (unknown or overloaded methods)
+ * are delegated to the bean language. A getter which throws an exception, or a null value in the middle of the chain,
+ * is reported with the same <tt>RuntimeBeanExpressionException</tt> as the bean language would throw, without invoking
+ * any of the getters again.
+ */
+final class SimpleOgnlGetterChain {
+
+    // only keep a limited number of receiver types per getter so the cache cannot grow unbounded
+    private static final int MAX_CACHED_TYPES = 32;
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    // marker for receiver types where the getter cannot be resolved
+    private static final MethodHandle NO_GETTER = MethodHandles.identity(Object.class);
+    // the exception of the bean language, which is in the camel-bean JAR
+    private static final String BEAN_EXCEPTION = "org.apache.camel.language.bean.RuntimeBeanExpressionException";
+
+    private final String ognl;
+    private final Getter[] getters;
+
+    private SimpleOgnlGetterChain(String ognl, Getter[] getters) {
+        this.ognl = ognl;
+        this.getters = getters;
+    }
+
+    /**
+     * Compiles the OGNL expression into a chain of getters.
+     *
+     * @param  ognl the OGNL expression, eg <tt>.address.city</tt>
+     * @return      the chain, or <tt>null</tt> if the expression is not a plain chain of getters (such as using method
+     *              calls with parameters, index lookups or nested functions)
+     */
+    static SimpleOgnlGetterChain compile(String ognl) {
+        if (ognl == null || ognl.isEmpty()) {
+            return null;
+        }
+        List<String> methods;
+        try {
+            methods = OgnlHelper.splitOgnl(ognl);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (methods.isEmpty()) {
+            return null;
+        }
+        Getter[] getters = new Getter[methods.size()];
+        for (int i = 0; i < getters.length; i++) {
+            String text = methods.get(i);
+            String name = OgnlHelper.removeLeadingOperators(text);
+            if (!isPropertyName(name)) {
+                return null;
+            }
+            getters[i] = new Getter(text, name, OgnlHelper.isNullSafeOperator(text));
+        }
+        return new SimpleOgnlGetterChain(ognl, getters);
+    }
+
+    /**
+     * Evaluates the chain on the given root object.
+     *
+     * @param exchange the current exchange
+     * @param root     the object to invoke the first getter on (not null)
+     * @param bean     the bean language to fallback to
+     */
+    Object evaluate(Exchange exchange, Object root, Language bean) {
+        Object current = root;
+        for (int i = 0; i < getters.length; i++) {
+            Getter getter = getters[i];
+            if (current == null) {
+                // report the null in the middle of the chain the same way as the bean language
+                String message = "last method returned null and therefore cannot continue to invoke method "
+                                 + getter.text + " on a null instance";
+                throw beanExpressionException(exchange, root.getClass().getCanonicalName(), ognl, String.class, message);
+            }
+            MethodHandle handle = getter.resolve(current.getClass());
+            if (handle == NO_GETTER) {
+                return fallback(exchange, current, remainder(i), bean);
+            }
+            Object answer;
+            try {
+                answer = (Object) handle.invokeExact(current);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                // the getter has been invoked so it must not be invoked again via the bean language
+                throw beanExpressionException(exchange, null, getter.name, Throwable.class, e);
+            }
+            if (answer == null && getter.nullSafe) {
+                return null;
+            }
+            current = answer;
+        }
+        return current;
+    }
+
+    private String remainder(int index) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = index; i < getters.length; i++) {
+            sb.append(getters[i].text);
+        }
+        return sb.toString();
+    }
+
+    private static Object fallback(Exchange exchange, Object target, String ognl, Language bean) {
+        Expression exp = bean.createExpression(null, new Object[] { target, ognl });
+        exp.init(exchange.getContext());
+        return exp.evaluate(exchange, Object.class);
+    }
+
+    /**
+     * Creates the exception the bean language throws when invoking a method fails, which is created by its name as the
+     * bean language is not a dependency of the simple language.
+     */
+    private static RuntimeException beanExpressionException(
+            Exchange exchange, String beanName, String method, Class<?> causeType, Object cause) {
+        Class<?> type = exchange.getContext().getClassResolver().resolveClass(BEAN_EXCEPTION);
+        if (type != null) {
+            try {
+                return (RuntimeException) type.getConstructor(Exchange.class, String.class, String.class, causeType)
+                        .newInstance(exchange, beanName, method, cause);
+            } catch (Exception e) {
+                // ignore and use the general exception
+            }
+        }
+        String message = "Failed to invoke method: " + method + " on " + beanName;
+        return cause instanceof Throwable
+                ? new RuntimeExpressionException(message + " due to: " + cause, (Throwable) cause)
+                : new RuntimeExpressionException(message + " due " + cause);
+    }
+
+    private static boolean isPropertyName(String name) {
+        if (name == null || name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < name.length(); i++) {
+            if (!Character.isJavaIdentifierPart(name.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return ognl;
+    }
+
+    private static final class Getter {
+        private final String text;
+        private final String name;
+        private final boolean nullSafe;
+        private final Map<Class<?>, MethodHandle> handles = new ConcurrentHashMap<>();
+
+        Getter(String text, String name, boolean nullSafe) {
+            this.text = text;
+            this.name = name;
+            this.nullSafe = nullSafe;
+        }
+
+        MethodHandle resolve(Class<?> type) {
+            MethodHandle answer = handles.get(type);
+            if (answer == null) {
+                answer = doResolve(type, name);
+                if (handles.size() < MAX_CACHED_TYPES) {
+                    handles.put(type, answer);
+                }
+            }
+            return answer;
+        }
+    }
+
+    private static MethodHandle doResolve(Class<?> type, String name) {
+        if (Proxy.isProxyClass(type)) {
+            return NO_GETTER;
+        }
+        Method method = findGetter(type, name);
+        if (method == null) {
+            return NO_GETTER;
+        }
+        try {
+            return MethodHandles.publicLookup().unreflect(method).asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            return NO_GETTER;
+        }
+    }
+
+    /**
+     * Finds the method the bean component would invoke for the given name, which is either a method with that exact
+     * name, or a getter using the shorthand name (eg <tt>name</tt> for <tt>getName</tt>). Only unambiguous methods
+     * without parameters are returned.
+     */
+    private static Method findGetter(Class<?> type, String name) {
+        Method[] methods = type.getMethods();
+        if (hasMethod(methods, name)) {
+            Method answer = uniqueMethod(methods, name);
+            return answer != null && isCandidate(answer) ? answer : null;
+        }
+        Method answer = null;
+        for (Method method : methods) {
+            if (isGetter(method) && name.equals(getterShorthandName(method))) {
+                if (answer != null && !answer.getName().equals(method.getName())) {
+                    // both a getXXX and isXXX method
+                    return null;
+                }
+                answer = method;
+            }
+        }
+        if (answer == null || uniqueMethod(methods, answer.getName()) == null) {
+            return null;
+        }
+        return isCandidate(answer) ? answer : null;
+    }
+
+    private static boolean hasMethod(Method[] methods, String name) {
+        for (Method method : methods) {
+            if (method.getName().equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Method uniqueMethod(Method[] methods, String name) {
+        Method answer = null;
+        for (Method method : methods) {
+            if (method.getName().equals(name)) {
+                if (answer != null) {
+                    // overloaded methods must be chosen by the bean component
+                    return null;
+                }
+                answer = method;
+            }
+        }
+        return answer;
+    }
+
+    private static boolean isCandidate(Method method) {
+        if (method.getParameterCount() != 0 || method.isBridge() || Modifier.isStatic(method.getModifiers())
+                || method.getDeclaringClass() == Object.class) {
+            return false;
+        }
+        // the bean component has special handling for these return types
+        Class<?> returnType = method.getReturnType();
+        return returnType != Void.TYPE && !Exchange.class.isAssignableFrom(returnType)
+                && !Future.class.isAssignableFrom(returnType) && !CompletionStage.class.isAssignableFrom(returnType);
+    }
+
+    private static boolean isGetter(Method method) {
+        String name = method.getName();
+        if (method.getParameterCount() != 0) {
+            return false;
+        }
+        if (name.startsWith("get") && name.length() >= 4 && Character.isUpperCase(name.charAt(3))) {
+            return method.getReturnType() != Void.TYPE;
+        }
+        if (name.startsWith("is") && name.length() >= 3 && Character.isUpperCase(name.charAt(2))) {
+            return method.getReturnType().getSimpleName().equalsIgnoreCase("boolean");
+        }
+        return false;
+    }
+
+    private static String getterShorthandName(Method method) {
+        String name = method.getName();
+        name = name.startsWith("get") ? name.substring(3) : name.substring(2);
+        return name.substring(0, 1).toLowerCase(Locale.ENGLISH) + name.substring(1);
+    }
+}
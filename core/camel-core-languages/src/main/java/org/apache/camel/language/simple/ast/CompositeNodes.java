@@ -61,13 +61,44 @@ public class CompositeNodes extends BaseSimpleNode {
             return children.get(0).createExpression(camelContext, expression);
         } else {
             List<Expression> answer = new ArrayList<>();
+            // adjacent literals are folded into a single constant
+            StringBuilder literal = null;
             for (SimpleNode child : children) {
+                if (child instanceof LiteralNode) {
+                    if (literal == null) {
+                        literal = new StringBuilder();
+                    }
+                    literal.append(((LiteralNode) child).getText());
+                    continue;
+                }
+                if (literal != null) {
+                    answer.add(ExpressionBuilder.constantExpression(literal.toString()));
+                    literal = null;
+                }
                 answer.add(child.createExpression(camelContext, expression));
             }
+            if (literal != null) {
+                answer.add(ExpressionBuilder.constantExpression(literal.toString()));
+            }
+            if (answer.size() == 1) {
+                return answer.get(0);
+            }
             return ExpressionBuilder.concatExpression(answer);
         }
     }
 
+    /**
+     * Whether this block only contains literals, and therefore is a constant
+     */
+    public boolean isConstant() {
+        for (SimpleNode child : children) {
+            if (!(child instanceof LiteralNode)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public String createCode(String expression) throws SimpleParserException {
         if (children.isEmpty()) {
@@ -76,9 +76,18 @@ public class SimpleFunctionStart extends BaseSimpleNode implements BlockStart {
 
     private Expression doCreateCompositeExpression(CamelContext camelContext, String expression) {
         final SimpleToken token = getToken();
+        // when the nested nodes are all static then the function only needs to be resolved once
+        final boolean constant = isConstantBlock();
         return new Expression() {
+            private volatile Expression folded;
+
             @Override
             public <T> T evaluate(Exchange exchange, Class<T> type) {
+                Expression answer = folded;
+                if (answer != null) {
+                    return doEvaluate(answer, exchange, type);
+                }
+
                 StringBuilder sb = new StringBuilder();
                 boolean quoteEmbeddedFunctions = false;
 
@@ -122,7 +131,20 @@ public class SimpleFunctionStart extends BaseSimpleNode implements BlockStart {
                 SimpleFunctionExpression function = new SimpleFunctionExpression(token, cacheExpression);
                 function.addText(exp);
                 try {
-                    return function.createExpression(camelContext, exp).evaluate(exchange, type);
+                    answer = function.createExpression(camelContext, exp);
+                } catch (SimpleParserException e) {
+                    // must rethrow parser exception as illegal syntax with details about the location
+                    throw new SimpleIllegalSyntaxException(expression, e.getIndex(), e.getMessage(), e);
+                }
+                if (constant) {
+                    folded = answer;
+                }
+                return doEvaluate(answer, exchange, type);
+            }
+
+            private <T> T doEvaluate(Expression function, Exchange exchange, Class<T> type) {
+                try {
+                    return function.evaluate(exchange, type);
                 } catch (SimpleParserException e) {
                     // must rethrow parser exception as illegal syntax with details about the location
                     throw new SimpleIllegalSyntaxException(expression, e.getIndex(), e.getMessage(), e);
@@ -136,6 +158,24 @@ public class SimpleFunctionStart extends BaseSimpleNode implements BlockStart {
         };
     }
 
+    /**
+     * Whether the nested nodes always produce the same function, which is the case for literals, quoted literals, type
+     * references (which are static), and inlined functions (which are embedded as text to be evaluated lazy).
+     */
+    private boolean isConstantBlock() {
+        for (SimpleNode child : block.getChildren()) {
+            if (child instanceof SingleQuoteStart && !((SingleQuoteStart) child).getBlock().isConstant()) {
+                return false;
+            } else if (child instanceof DoubleQuoteStart && !((DoubleQuoteStart) child).getBlock().isConstant()) {
+                return false;
+            } else if (child instanceof SimpleFunctionStart && !lazyEval(child)
+                    && !((SimpleFunctionStart) child).getBlock().isConstant()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public boolean acceptAndAddNode(SimpleNode node) {
         // only accept literals, quotes or embedded functions
@@ -35,8 +35,9 @@ import org.apache.camel.util.ObjectHelper;
  * <li>pair - using both start and end tokens</li>
  * <li>xml - using both start and end tokens in XML mode, support inheriting namespaces</li>
  * </ul>
- * The default mode supports the <tt>headerName</tt> and <tt>regex</tt> options. Where as the pair mode only supports
- * <tt>token</tt> and <tt>endToken</tt>. And the <tt>xml</tt> mode supports the <tt>inheritNamespaceTagName</tt> option.
+ * The default mode supports the <tt>headerName</tt>, <tt>regex</tt> and <tt>memoryMapped</tt> options. Where as the
+ * pair mode only supports <tt>token</tt> and <tt>endToken</tt>. And the <tt>xml</tt> mode supports the
+ * <tt>inheritNamespaceTagName</tt> option.
  */
 @org.apache.camel.spi.annotations.Language("tokenize")
 public class TokenizeLanguage extends LanguageSupport implements PropertyConfigurer {
@@ -51,6 +52,7 @@ public class TokenizeLanguage extends LanguageSupport implements PropertyConfigu
     private String group;
     private String groupDelimiter;
     private boolean skipFirst;
+    private boolean memoryMapped;
 
     @Deprecated
     public static Expression tokenize(String token) {
@@ -139,6 +141,10 @@ public class TokenizeLanguage extends LanguageSupport implements PropertyConfigu
             case "skipFirst":
                 setSkipFirst(PropertyConfigurerSupport.property(camelContext, Boolean.class, value));
                 return true;
+            case "memorymapped":
+            case "memoryMapped":
+                setMemoryMapped(PropertyConfigurerSupport.property(camelContext, Boolean.class, value));
+                return true;
             default:
                 return false;
         }
@@ -177,7 +183,7 @@ public class TokenizeLanguage extends LanguageSupport implements PropertyConfigu
             if (regex) {
                 answer = ExpressionBuilder.regexTokenizeExpression(exp, token);
             } else {
-                answer = ExpressionBuilder.tokenizeExpression(exp, token);
+                answer = ExpressionBuilder.tokenizeExpression(exp, token, memoryMapped);
             }
             if (group == null && skipFirst) {
                 // wrap in skip first (if group then it has its own skip first logic)
@@ -228,6 +234,7 @@ public class TokenizeLanguage extends LanguageSupport implements PropertyConfigu
         answer.setIncludeTokens(property(boolean.class, properties, 7, includeTokens));
         answer.setGroup(property(String.class, properties, 8, group));
         answer.setSkipFirst(property(boolean.class, properties, 9, skipFirst));
+        answer.setMemoryMapped(property(boolean.class, properties, 10, memoryMapped));
         return answer.createExpression(expression);
     }
 
@@ -311,4 +318,12 @@ public class TokenizeLanguage extends LanguageSupport implements PropertyConfigu
         this.skipFirst = skipFirst;
     }
 
+    public boolean isMemoryMapped() {
+        return memoryMapped;
+    }
+
+    public void setMemoryMapped(boolean memoryMapped) {
+        this.memoryMapped = memoryMapped;
+    }
+
 }
@@ -51,6 +51,7 @@ import org.apache.camel.model.dataformat.JsonLibrary;
 import org.apache.camel.model.dataformat.LZFDataFormat;
 import org.apache.camel.model.dataformat.MimeMultipartDataFormat;
 import org.apache.camel.model.dataformat.PGPDataFormat;
+import org.apache.camel.model.dataformat.ParquetAvroDataFormat;
 import org.apache.camel.model.dataformat.ProtobufDataFormat;
 import org.apache.camel.model.dataformat.ProtobufLibrary;
 import org.apache.camel.model.dataformat.RssDataFormat;
@@ -419,6 +420,27 @@ public class DataFormatClause<T extends ProcessorDefinition<?>> {
         return dataFormat(mm);
     }
 
+    /**
+     * Uses the Parquet Avro data format
+     */
+    public T parquetAvro() {
+        return dataFormat(new ParquetAvroDataFormat());
+    }
+
+    /**
+     * Uses the Parquet Avro data format with given unmarshalType
+     */
+    public T parquetAvro(String unmarshalType) {
+        return dataFormat(new ParquetAvroDataFormat(unmarshalType));
+    }
+
+    /**
+     * Uses the Parquet Avro data format with given unmarshalType
+     */
+    public T parquetAvro(Class<?> unmarshalType) {
+        return dataFormat(new ParquetAvroDataFormat(unmarshalType));
+    }
+
     /**
      * Uses the MIME Multipart data format
      *
@@ -47,6 +47,7 @@ import org.apache.camel.model.dataformat.JsonDataFormat;
 import org.apache.camel.model.dataformat.LZFDataFormat;
 import org.apache.camel.model.dataformat.MimeMultipartDataFormat;
 import org.apache.camel.model.dataformat.PGPDataFormat;
+import org.apache.camel.model.dataformat.ParquetAvroDataFormat;
 import org.apache.camel.model.dataformat.ProtobufDataFormat;
 import org.apache.camel.model.dataformat.RssDataFormat;
 import org.apache.camel.model.dataformat.SoapJaxbDataFormat;
@@ -98,6 +99,7 @@ public class UnmarshalDefinition extends NoOutputDefinition<UnmarshalDefinition>
             @XmlElement(required = false, name = "jsonApi", type = JsonApiDataFormat.class),
             @XmlElement(required = false, name = "lzf", type = LZFDataFormat.class),
             @XmlElement(required = false, name = "mimeMultipart", type = MimeMultipartDataFormat.class),
+            @XmlElement(required = false, name = "parquetAvro", type = ParquetAvroDataFormat.class),
             @XmlElement(required = false, name = "protobuf", type = ProtobufDataFormat.class),
             @XmlElement(required = false, name = "rss", type = RssDataFormat.class),
             @XmlElement(required = false, name = "secureXML", type = XMLSecurityDataFormat.class),
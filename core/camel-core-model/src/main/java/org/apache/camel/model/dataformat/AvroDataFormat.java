@@ -65,6 +65,9 @@ public class AvroDataFormat extends DataFormatDefinition {
     @Metadata(javaType = "java.lang.Boolean")
     private String useList;
     @XmlAttribute
+    @Metadata(javaType = "java.lang.Boolean")
+    private String lazyLoad;
+    @XmlAttribute
     private String moduleClassNames;
     @XmlAttribute
     private String moduleRefs;
@@ -90,6 +93,12 @@ public class AvroDataFormat extends DataFormatDefinition {
     @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean", defaultValue = "true")
     private String autoDiscoverSchemaResolver;
+    @XmlAttribute
+    @Metadata(javaType = "java.lang.Boolean", defaultValue = "false")
+    private String containerFile;
+    @XmlAttribute
+    @Metadata(enums = "null,deflate,snappy,bzip2,xz,zstandard")
+    private String codec;
 
     public AvroDataFormat() {
         super("avro");
@@ -266,6 +275,18 @@ public class AvroDataFormat extends DataFormatDefinition {
         this.useList = useList;
     }
 
+    public String getLazyLoad() {
+        return lazyLoad;
+    }
+
+    /**
+     * Whether the unmarshalling should produce an iterator that reads a sequence of objects on the fly, instead of
+     * reading all the objects into memory. This is only supported when using Jackson.
+     */
+    public void setLazyLoad(String lazyLoad) {
+        this.lazyLoad = lazyLoad;
+    }
+
     public String getModuleClassNames() {
         return moduleClassNames;
     }
@@ -389,6 +410,32 @@ public class AvroDataFormat extends DataFormatDefinition {
         this.autoDiscoverSchemaResolver = autoDiscoverSchemaResolver;
     }
 
+    public String getContainerFile() {
+        return containerFile;
+    }
+
+    /**
+     * Whether to marshal and unmarshal Avro object container files, which contains the schema and the records in
+     * blocks, instead of a single record. When unmarshalling an iterator is returned which reads the records block by
+     * block, such as when using the splitter in streaming mode. When marshalling the message body can be a single
+     * record, or a collection or iterator of records.
+     */
+    public void setContainerFile(String containerFile) {
+        this.containerFile = containerFile;
+    }
+
+    public String getCodec() {
+        return codec;
+    }
+
+    /**
+     * The compression codec to use when marshalling Avro object container files. Snappy and zstandard requires
+     * additional libraries on the classpath.
+     */
+    public void setCodec(String codec) {
+        this.codec = codec;
+    }
+
     //
     // Fluent builders
     //
@@ -446,6 +493,15 @@ public class AvroDataFormat extends DataFormatDefinition {
         return this;
     }
 
+    public AvroDataFormat lazyLoad(boolean lazyLoad) {
+        return lazyLoad(Boolean.toString(lazyLoad));
+    }
+
+    public AvroDataFormat lazyLoad(String lazyLoad) {
+        this.lazyLoad = lazyLoad;
+        return this;
+    }
+
     public AvroDataFormat moduleClassNames(String moduleClassNames) {
         this.moduleClassNames = moduleClassNames;
         return this;
@@ -483,4 +539,18 @@ public class AvroDataFormat extends DataFormatDefinition {
         this.autoDiscoverObjectMapper = autoDiscoverObjectMapper;
         return this;
     }
+
+    public AvroDataFormat containerFile(boolean containerFile) {
+        return containerFile(Boolean.toString(containerFile));
+    }
+
+    public AvroDataFormat containerFile(String containerFile) {
+        this.containerFile = containerFile;
+        return this;
+    }
+
+    public AvroDataFormat codec(String codec) {
+        this.codec = codec;
+        return this;
+    }
 }
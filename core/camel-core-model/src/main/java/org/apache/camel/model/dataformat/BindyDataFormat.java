@@ -48,6 +48,9 @@ public class BindyDataFormat extends DataFormatDefinition {
     @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean", defaultValue = "false")
     private String allowEmptyStream;
+    @XmlAttribute
+    @Metadata(javaType = "java.lang.Boolean", defaultValue = "false")
+    private String lazyLoad;
     @XmlTransient
     private Class<?> clazz;
 
@@ -143,6 +146,18 @@ public class BindyDataFormat extends DataFormatDefinition {
         this.allowEmptyStream = allowEmptyStream;
     }
 
+    public String getLazyLoad() {
+        return lazyLoad;
+    }
+
+    /**
+     * Whether the unmarshalling should produce an iterator that reads the records on the fly, instead of reading all
+     * the records into memory. This allows to unmarshal big files, such as when using the splitter in streaming mode.
+     */
+    public void setLazyLoad(String lazyLoad) {
+        this.lazyLoad = lazyLoad;
+    }
+
     //
     // Fluent builder api
     //
@@ -206,4 +221,13 @@ public class BindyDataFormat extends DataFormatDefinition {
         return this;
     }
 
+    public BindyDataFormat lazyLoad(boolean lazyLoad) {
+        return lazyLoad(Boolean.toString(lazyLoad));
+    }
+
+    public BindyDataFormat lazyLoad(String lazyLoad) {
+        this.lazyLoad = lazyLoad;
+        return this;
+    }
+
 }
@@ -110,6 +110,9 @@ public class CsvDataFormat extends DataFormatDefinition {
     @Metadata(javaType = "java.lang.Boolean")
     private String useOrderedMaps;
     @XmlAttribute
+    @Metadata(javaType = "java.lang.Boolean")
+    private String useFlyweightRows;
+    @XmlAttribute
     private String recordConverterRef;
     @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean")
@@ -407,6 +410,20 @@ public class CsvDataFormat extends DataFormatDefinition {
         this.useOrderedMaps = useOrderedMaps;
     }
 
+    public String getUseFlyweightRows() {
+        return useFlyweightRows;
+    }
+
+    /**
+     * Whether the unmarshalling should produce an iterator of reusable rows (CsvRow) instead of lists or maps. The
+     * values are read into a buffer which is reused for all the lines, and can be read as CharSequence or parsed as
+     * numbers without creating Strings. The same row is updated with the next lines, so its values must be copied if
+     * they must be kept.
+     */
+    public void setUseFlyweightRows(String useFlyweightRows) {
+        this.useFlyweightRows = useFlyweightRows;
+    }
+
     public String getRecordConverterRef() {
         return recordConverterRef;
     }
@@ -63,6 +63,7 @@ public class DataFormatsDefinition {
             @XmlElement(required = false, name = "jsonApi", type = JsonApiDataFormat.class),
             @XmlElement(required = false, name = "lzf", type = LZFDataFormat.class),
             @XmlElement(required = false, name = "mimeMultipart", type = MimeMultipartDataFormat.class),
+            @XmlElement(required = false, name = "parquetAvro", type = ParquetAvroDataFormat.class),
             @XmlElement(required = false, name = "protobuf", type = ProtobufDataFormat.class),
             @XmlElement(required = false, name = "rss", type = RssDataFormat.class),
             @XmlElement(required = false, name = "secureXML", type = XMLSecurityDataFormat.class),
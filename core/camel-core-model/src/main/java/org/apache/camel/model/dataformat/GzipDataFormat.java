@@ -16,6 +16,9 @@
  */
 package org.apache.camel.model.dataformat;
 
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlRootElement;
 
 import org.apache.camel.model.DataFormatDefinition;
@@ -26,10 +29,109 @@ import org.apache.camel.spi.Metadata;
  */
 @Metadata(firstVersion = "2.0.0", label = "dataformat,transformation", title = "GZip Deflater")
 @XmlRootElement(name = "gzipdeflater")
+@XmlAccessorType(XmlAccessType.FIELD)
 public class GzipDataFormat extends DataFormatDefinition {
+    @XmlAttribute
+    @Metadata(javaType = "java.lang.Integer", defaultValue = "-1")
+    private String compressionLevel;
+    @XmlAttribute
+    @Metadata(javaType = "java.lang.Boolean")
+    private String parallel;
+    @XmlAttribute
+    @Metadata(javaType = "java.lang.Integer", defaultValue = "131072")
+    private String blockSize;
+    @XmlAttribute
+    @Metadata(javaType = "java.lang.Integer")
+    private String parallelism;
 
     public GzipDataFormat() {
         super("gzipdeflater");
     }
 
+    public String getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    /**
+     * To specify a specific compression between 0-9. -1 is default compression, 0 is no compression, and 9 is best
+     * compression.
+     */
+    public void setCompressionLevel(String compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    public String getParallel() {
+        return parallel;
+    }
+
+    /**
+     * Whether to split the data into blocks which are compressed in parallel when marshalling (the same way as pigz).
+     * The output is still a standard gzip stream which can be decompressed by any gzip implementation. This allows to
+     * use several cores to compress big messages.
+     */
+    public void setParallel(String parallel) {
+        this.parallel = parallel;
+    }
+
+    public String getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * The size (in bytes) of the blocks which are compressed in parallel. Each block uses the end of the previous block
+     * as dictionary, so the compression ratio is close to the one of the sequential compression.
+     */
+    public void setBlockSize(String blockSize) {
+        this.blockSize = blockSize;
+    }
+
+    public String getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * The number of threads which compress the blocks in parallel. By default the number of available processors.
+     */
+    public void setParallelism(String parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    // Fluent builders
+    // -------------------------------------------------------------------------
+
+    public GzipDataFormat compressionLevel(int compressionLevel) {
+        return compressionLevel(Integer.toString(compressionLevel));
+    }
+
+    public GzipDataFormat compressionLevel(String compressionLevel) {
+        this.compressionLevel = compressionLevel;
+        return this;
+    }
+
+    public GzipDataFormat parallel(boolean parallel) {
+        return parallel(Boolean.toString(parallel));
+    }
+
+    public GzipDataFormat parallel(String parallel) {
+        this.parallel = parallel;
+        return this;
+    }
+
+    public GzipDataFormat blockSize(int blockSize) {
+        return blockSize(Integer.toString(blockSize));
+    }
+
+    public GzipDataFormat blockSize(String blockSize) {
+        this.blockSize = blockSize;
+        return this;
+    }
+
+    public GzipDataFormat parallelism(int parallelism) {
+        return parallelism(Integer.toString(parallelism));
+    }
+
+    public GzipDataFormat parallelism(String parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
 }
@@ -59,6 +59,9 @@ public class JacksonXMLDataFormat extends DataFormatDefinition implements Conten
     private String useList;
     @XmlAttribute
     @Metadata(defaultValue = "false", javaType = "java.lang.Boolean")
+    private String lazyLoad;
+    @XmlAttribute
+    @Metadata(defaultValue = "false", javaType = "java.lang.Boolean")
     private String enableJaxbAnnotationModule;
     @XmlAttribute
     private String moduleClassNames;
@@ -206,6 +209,19 @@ public class JacksonXMLDataFormat extends DataFormatDefinition implements Conten
         this.useList = useList;
     }
 
+    public String getLazyLoad() {
+        return lazyLoad;
+    }
+
+    /**
+     * Whether the unmarshalling should produce an iterator that reads the child elements of the root element on the
+     * fly, instead of reading all the elements into memory. This allows to unmarshal big documents, such as when using
+     * the splitter in streaming mode.
+     */
+    public void setLazyLoad(String lazyLoad) {
+        this.lazyLoad = lazyLoad;
+    }
+
     public String getEnableJaxbAnnotationModule() {
         return enableJaxbAnnotationModule;
     }
@@ -83,6 +83,10 @@ public class JaxbDataFormat extends DataFormatDefinition implements ContentTypeH
               description = "Whether the data format should set the Content-Type header with the type from the data format."
                             + " For example application/xml for data formats marshalling to XML, or application/json for data formats marshalling to JSON")
     private String contentTypeHeader;
+    @XmlAttribute
+    private String streamingElement;
+    @XmlAttribute
+    private String streamingRootElement;
 
     public JaxbDataFormat() {
         super("jaxb");
@@ -317,4 +321,31 @@ public class JaxbDataFormat extends DataFormatDefinition implements ContentTypeH
         this.contentTypeHeader = contentTypeHeader;
     }
 
+    public String getStreamingElement() {
+        return streamingElement;
+    }
+
+    /**
+     * The name of the repeating element to unmarshal one element at a time, such as {http://acme.com}order (the
+     * namespace is optional). When set, the unmarshalling returns an iterator which reads the document with StAX and
+     * unmarshals each element on demand, so big documents can be split in streaming mode without loading the whole
+     * document into memory.
+     */
+    public void setStreamingElement(String streamingElement) {
+        this.streamingElement = streamingElement;
+    }
+
+    public String getStreamingRootElement() {
+        return streamingRootElement;
+    }
+
+    /**
+     * The name of the root element which wraps the elements when marshalling in streaming mode, such as
+     * {http://acme.com}orders (the namespace is optional). When set, the message body can be an iterator or a
+     * collection, and its elements are marshalled one at a time between the start and the end of the root element.
+     */
+    public void setStreamingRootElement(String streamingRootElement) {
+        this.streamingRootElement = streamingRootElement;
+    }
+
 }
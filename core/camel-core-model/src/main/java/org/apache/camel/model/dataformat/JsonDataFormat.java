@@ -66,6 +66,9 @@ public class JsonDataFormat extends DataFormatDefinition implements ContentTypeH
     @Metadata(javaType = "java.lang.Boolean")
     private String useList;
     @XmlAttribute
+    @Metadata(javaType = "java.lang.Boolean")
+    private String lazyLoad;
+    @XmlAttribute
     private String moduleClassNames;
     @XmlAttribute
     private String moduleRefs;
@@ -260,6 +263,19 @@ public class JsonDataFormat extends DataFormatDefinition implements ContentTypeH
         this.useList = useList;
     }
 
+    public String getLazyLoad() {
+        return lazyLoad;
+    }
+
+    /**
+     * Whether the unmarshalling should produce an iterator that reads the elements of a JSON array (or a sequence of
+     * JSON documents) on the fly, instead of reading all the elements into memory. This allows to unmarshal big
+     * documents, such as when using the splitter in streaming mode.
+     */
+    public void setLazyLoad(String lazyLoad) {
+        this.lazyLoad = lazyLoad;
+    }
+
     public String getModuleClassNames() {
         return moduleClassNames;
     }
@@ -512,6 +528,15 @@ public class JsonDataFormat extends DataFormatDefinition implements ContentTypeH
         return this;
     }
 
+    public JsonDataFormat lazyLoad(boolean lazyLoad) {
+        return lazyLoad(Boolean.toString(lazyLoad));
+    }
+
+    public JsonDataFormat lazyLoad(String lazyLoad) {
+        this.lazyLoad = lazyLoad;
+        return this;
+    }
+
     public JsonDataFormat moduleClassNames(String moduleClassNames) {
         this.moduleClassNames = moduleClassNames;
         return this;
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.model.dataformat;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlTransient;
+
+import org.apache.camel.model.DataFormatDefinition;
+import org.apache.camel.spi.Metadata;
+
+/**
+ * Parquet Avro serialization and de-serialization.
+ */
+@Metadata(firstVersion = "3.12.0", label = "dataformat,transformation,file", title = "Parquet File")
+@XmlRootElement(name = "parquetAvro")
+@XmlAccessorType(XmlAccessType.FIELD)
+public class ParquetAvroDataFormat extends DataFormatDefinition {
+    @XmlAttribute(name = "unmarshalType")
+    private String unmarshalTypeName;
+    @XmlTransient
+    private Class<?> unmarshalType;
+    @XmlAttribute
+    @Metadata(defaultValue = "GZIP", enums = "UNCOMPRESSED,SNAPPY,GZIP,LZO,BROTLI,LZ4,ZSTD")
+    private String compressionCodecName;
+    @XmlAttribute
+    @Metadata(javaType = "java.lang.Integer", defaultValue = "134217728")
+    private String rowGroupSize;
+    @XmlAttribute
+    @Metadata(javaType = "java.lang.Boolean")
+    private String lazyLoad;
+    @XmlAttribute
+    private String columns;
+
+    public ParquetAvroDataFormat() {
+        super("parquetAvro");
+    }
+
+    public ParquetAvroDataFormat(String unmarshalTypeName) {
+        this();
+        setUnmarshalTypeName(unmarshalTypeName);
+    }
+
+    public ParquetAvroDataFormat(Class<?> unmarshalType) {
+        this();
+        setUnmarshalType(unmarshalType);
+    }
+
+    public String getUnmarshalTypeName() {
+        return unmarshalTypeName;
+    }
+
+    /**
+     * Class name of the java type to use when unmarshalling. By default the records are unmarshalled as Avro generic
+     * records. If the type is a Map then the records are unmarshalled as maps of the column names and values.
+     */
+    public void setUnmarshalTypeName(String unmarshalTypeName) {
+        this.unmarshalTypeName = unmarshalTypeName;
+    }
+
+    public Class<?> getUnmarshalType() {
+        return unmarshalType;
+    }
+
+    /**
+     * Class of the java type to use when unmarshalling
+     */
+    public void setUnmarshalType(Class<?> unmarshalType) {
+        this.unmarshalType = unmarshalType;
+    }
+
+    public String getCompressionCodecName() {
+        return compressionCodecName;
+    }
+
+    /**
+     * Compression codec to use when marshalling.
+     */
+    public void setCompressionCodecName(String compressionCodecName) {
+        this.compressionCodecName = compressionCodecName;
+    }
+
+    public String getRowGroupSize() {
+        return rowGroupSize;
+    }
+
+    /**
+     * The size of a row group (in bytes) when marshalling. The records are buffered in memory until a row group is
+     * complete, which is then written to the output.
+     */
+    public void setRowGroupSize(String rowGroupSize) {
+        this.rowGroupSize = rowGroupSize;
+    }
+
+    public String getLazyLoad() {
+        return lazyLoad;
+    }
+
+    /**
+     * Whether the unmarshalling should produce an iterator that reads the records on the fly (one row group at a time),
+     * instead of reading all the records into memory. This allows to unmarshal big files, such as when using the
+     * splitter in streaming mode.
+     */
+    public void setLazyLoad(String lazyLoad) {
+        this.lazyLoad = lazyLoad;
+    }
+
+    public String getColumns() {
+        return columns;
+    }
+
+    /**
+     * The names of the columns to read when unmarshalling (column projection), separated by comma. Only these columns
+     * are read and decoded. By default all the columns are read.
+     */
+    public void setColumns(String columns) {
+        this.columns = columns;
+    }
+
+    // Fluent builders
+    // -------------------------------------------------------------------------
+
+    public ParquetAvroDataFormat unmarshalType(Class<?> unmarshalType) {
+        this.unmarshalType = unmarshalType;
+        return this;
+    }
+
+    public ParquetAvroDataFormat unmarshalType(String unmarshalType) {
+        this.unmarshalTypeName = unmarshalType;
+        return this;
+    }
+
+    public ParquetAvroDataFormat compressionCodecName(String compressionCodecName) {
+        this.compressionCodecName = compressionCodecName;
+        return this;
+    }
+
+    public ParquetAvroDataFormat rowGroupSize(int rowGroupSize) {
+        return rowGroupSize(Integer.toString(rowGroupSize));
+    }
+
+    public ParquetAvroDataFormat rowGroupSize(String rowGroupSize) {
+        this.rowGroupSize = rowGroupSize;
+        return this;
+    }
+
+    public ParquetAvroDataFormat lazyLoad(boolean lazyLoad) {
+        return lazyLoad(Boolean.toString(lazyLoad));
+    }
+
+    public ParquetAvroDataFormat lazyLoad(String lazyLoad) {
+        this.lazyLoad = lazyLoad;
+        return this;
+    }
+
+    public ParquetAvroDataFormat columns(String columns) {
+        this.columns = columns;
+        return this;
+    }
+}
@@ -42,6 +42,9 @@ public class ProtobufDataFormat extends DataFormatDefinition implements ContentT
               description = "Whether the data format should set the Content-Type header with the type from the data format."
                             + " For example application/xml for data formats marshalling to XML, or application/json for data formats marshalling to JSON")
     private String contentTypeHeader;
+    @XmlAttribute
+    @Metadata(javaType = "java.lang.Boolean")
+    private String delimited;
     @XmlTransient
     private Object defaultInstance;
     @XmlAttribute
@@ -73,6 +76,9 @@ public class ProtobufDataFormat extends DataFormatDefinition implements ContentT
     @Metadata(javaType = "java.lang.Boolean")
     private String useList;
     @XmlAttribute
+    @Metadata(javaType = "java.lang.Boolean")
+    private String lazyLoad;
+    @XmlAttribute
     private String moduleClassNames;
     @XmlAttribute
     private String moduleRefs;
@@ -146,6 +152,20 @@ public class ProtobufDataFormat extends DataFormatDefinition implements ContentT
         this.contentTypeHeader = contentTypeHeader;
     }
 
+    public String getDelimited() {
+        return delimited;
+    }
+
+    /**
+     * Whether to marshal and unmarshal a stream of length-delimited messages (each message is prefixed with its size)
+     * instead of a single message. When unmarshalling, the messages are read on the fly by an iterator, which can be
+     * used with the splitter in streaming mode. When marshalling, the body can be a single message or a collection of
+     * messages, which are appended to the output. This is only supported with the native content type format.
+     */
+    public void setDelimited(String delimited) {
+        this.delimited = delimited;
+    }
+
     public Object getDefaultInstance() {
         return defaultInstance;
     }
@@ -288,6 +308,18 @@ public class ProtobufDataFormat extends DataFormatDefinition implements ContentT
         this.useList = useList;
     }
 
+    public String getLazyLoad() {
+        return lazyLoad;
+    }
+
+    /**
+     * Whether the unmarshalling should produce an iterator that reads a sequence of objects on the fly, instead of
+     * reading all the objects into memory. This is only supported when using Jackson.
+     */
+    public void setLazyLoad(String lazyLoad) {
+        this.lazyLoad = lazyLoad;
+    }
+
     public String getModuleClassNames() {
         return moduleClassNames;
     }
@@ -468,6 +500,24 @@ public class ProtobufDataFormat extends DataFormatDefinition implements ContentT
         return this;
     }
 
+    public ProtobufDataFormat delimited(boolean delimited) {
+        return delimited(Boolean.toString(delimited));
+    }
+
+    public ProtobufDataFormat delimited(String delimited) {
+        this.delimited = delimited;
+        return this;
+    }
+
+    public ProtobufDataFormat lazyLoad(boolean lazyLoad) {
+        return lazyLoad(Boolean.toString(lazyLoad));
+    }
+
+    public ProtobufDataFormat lazyLoad(String lazyLoad) {
+        this.lazyLoad = lazyLoad;
+        return this;
+    }
+
     public ProtobufDataFormat moduleClassNames(String moduleClassNames) {
         this.moduleClassNames = moduleClassNames;
         return this;
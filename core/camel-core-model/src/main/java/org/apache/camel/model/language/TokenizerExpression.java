@@ -56,6 +56,9 @@ public class TokenizerExpression extends ExpressionDefinition {
     @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean")
     private String skipFirst;
+    @XmlAttribute
+    @Metadata(javaType = "java.lang.Boolean")
+    private String memoryMapped;
 
     public TokenizerExpression() {
     }
@@ -187,6 +190,21 @@ public class TokenizerExpression extends ExpressionDefinition {
         this.skipFirst = skipFirst;
     }
 
+    public String getMemoryMapped() {
+        return memoryMapped;
+    }
+
+    /**
+     * To tokenize files by scanning the bytes of the file which is memory mapped, instead of reading the file as a
+     * stream of characters. The tokens are only decoded when they are used, so this is faster with big files. This is
+     * only used when the token is not a regular expression and the file is encoded in UTF-8 or in a single byte
+     * charset, otherwise the file is read as a stream of characters. Notice that a memory mapped file may not be
+     * deleted or moved on Windows until the garbage collector has released the mapped memory.
+     */
+    public void setMemoryMapped(String memoryMapped) {
+        this.memoryMapped = memoryMapped;
+    }
+
     @Override
     public String toString() {
         if (endToken != null) {
@@ -42,6 +42,8 @@ public class AvroDataFormatReifier extends DataFormatReifier<AvroDataFormat> {
                 properties.put("instanceClassName", definition.getInstanceClassName());
             }
             properties.put("schema", definition.getSchema());
+            properties.put("containerFile", definition.getContainerFile());
+            properties.put("codec", definition.getCodec());
         } else if (definition.getLibrary() == AvroLibrary.Jackson) {
             properties.put("objectMapper", asRef(definition.getObjectMapper()));
             if (definition.getUseDefaultObjectMapper() == null) {
@@ -58,6 +60,7 @@ public class AvroDataFormatReifier extends DataFormatReifier<AvroDataFormat> {
             properties.put("allowJmsType", definition.getAllowJmsType());
             properties.put("collectionType", or(definition.getCollectionType(), definition.getCollectionTypeName()));
             properties.put("useList", definition.getUseList());
+            properties.put("lazyLoad", definition.getLazyLoad());
             properties.put("moduleClassNames", definition.getModuleClassNames());
             properties.put("moduleRefs", definition.getModuleRefs());
             properties.put("enableFeatures", definition.getEnableFeatures());
@@ -30,6 +30,10 @@ public class GzipDataFormatReifier extends DataFormatReifier<GzipDataFormat> {
 
     @Override
     protected void prepareDataFormatConfig(Map<String, Object> properties) {
+        properties.put("compressionLevel", definition.getCompressionLevel());
+        properties.put("parallel", definition.getParallel());
+        properties.put("blockSize", definition.getBlockSize());
+        properties.put("parallelism", definition.getParallelism());
     }
 
 }
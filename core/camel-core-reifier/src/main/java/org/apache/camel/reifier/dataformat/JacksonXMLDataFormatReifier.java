@@ -38,6 +38,7 @@ public class JacksonXMLDataFormatReifier extends DataFormatReifier<JacksonXMLDat
         properties.put("allowJmsType", definition.getAllowJmsType());
         properties.put("collectionType", or(definition.getCollectionType(), definition.getCollectionTypeName()));
         properties.put("useList", definition.getUseList());
+        properties.put("lazyLoad", definition.getLazyLoad());
         properties.put("enableJaxbAnnotationModule", definition.getEnableJaxbAnnotationModule());
         properties.put("modulesClassNames", definition.getModuleClassNames());
         properties.put("moduleRefs", definition.getModuleRefs());
@@ -48,6 +48,8 @@ public class JaxbDataFormatReifier extends DataFormatReifier<JaxbDataFormat> {
         properties.put("schemaLocation", definition.getSchemaLocation());
         properties.put("noNamespaceSchemaLocation", definition.getNoNamespaceSchemaLocation());
         properties.put("jaxbProviderProperties", definition.getJaxbProviderProperties());
+        properties.put("streamingElement", definition.getStreamingElement());
+        properties.put("streamingRootElement", definition.getStreamingRootElement());
     }
 
 }
@@ -54,6 +54,9 @@ public class JsonDataFormatReifier extends DataFormatReifier<JsonDataFormat> {
             properties.put("collectionType", or(definition.getCollectionType(), definition.getCollectionTypeName()));
         }
         properties.put("useList", definition.getUseList());
+        if (definition.getLibrary() == JsonLibrary.Jackson) {
+            properties.put("lazyLoad", definition.getLazyLoad());
+        }
         properties.put("moduleClassNames", definition.getModuleClassNames());
         properties.put("moduleRefs", definition.getModuleRefs());
         properties.put("enableFeatures", definition.getEnableFeatures());
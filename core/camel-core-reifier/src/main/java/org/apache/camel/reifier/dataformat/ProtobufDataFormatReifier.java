@@ -42,6 +42,7 @@ public class ProtobufDataFormatReifier extends DataFormatReifier<ProtobufDataFor
                 properties.put("instanceClass", definition.getInstanceClass());
             }
             properties.put("contentTypeFormat", definition.getContentTypeFormat());
+            properties.put("delimited", definition.getDelimited());
             properties.put("defaultInstance", definition.getDefaultInstance());
         } else if (definition.getLibrary() == ProtobufLibrary.Jackson) {
             properties.put("objectMapper", asRef(definition.getObjectMapper()));
@@ -59,6 +60,7 @@ public class ProtobufDataFormatReifier extends DataFormatReifier<ProtobufDataFor
             properties.put("allowJmsType", definition.getAllowJmsType());
             properties.put("collectionType", or(definition.getCollectionType(), definition.getCollectionTypeName()));
             properties.put("useList", definition.getUseList());
+            properties.put("lazyLoad", definition.getLazyLoad());
             properties.put("moduleClassNames", definition.getModuleClassNames());
             properties.put("moduleRefs", definition.getModuleRefs());
             properties.put("enableFeatures", definition.getEnableFeatures());
@@ -31,7 +31,7 @@ public class TokenizerExpressionReifier extends ExpressionReifier<TokenizerExpre
     }
 
     protected Object[] createProperties() {
-        Object[] properties = new Object[10];
+        Object[] properties = new Object[11];
         // special for new line tokens, if defined from XML then its 2
         // characters, so we replace that back to a single char
         String token = definition.getToken();
@@ -48,6 +48,7 @@ public class TokenizerExpressionReifier extends ExpressionReifier<TokenizerExpre
         properties[7] = parseBoolean(definition.getIncludeTokens());
         properties[8] = parseString(definition.getGroup());
         properties[9] = parseBoolean(definition.getSkipFirst());
+        properties[10] = parseBoolean(definition.getMemoryMapped());
         return properties;
     }
 
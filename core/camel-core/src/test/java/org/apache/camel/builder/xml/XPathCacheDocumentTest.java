@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.builder.xml;
+
+import java.io.ByteArrayInputStream;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.language.xpath.XPathBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class XPathCacheDocumentTest extends ContextTestSupport {
+
+    @Test
+    public void testCachedInputStream() throws Exception {
+        getMockEndpoint("mock:london").expectedMessageCount(0);
+        getMockEndpoint("mock:paris").expectedMessageCount(1);
+        getMockEndpoint("mock:other").expectedMessageCount(0);
+
+        // the input stream can only be read once, so the 2nd predicate must use the cached document
+        byte[] data = "<person><city>Paris</city></person>".getBytes();
+        Exchange out = template.send("direct:start", e -> e.getIn().setBody(new ByteArrayInputStream(data)));
+
+        assertMockEndpointsSatisfied();
+        // the cache is released when the exchange is done
+        assertNull(out.getProperty("CamelXPathDocumentCache"));
+    }
+
+    @Test
+    public void testBodyChanged() throws Exception {
+        getMockEndpoint("mock:result").expectedHeaderReceived("city", "Paris");
+        getMockEndpoint("mock:result").expectedHeaderReceived("city2", "London");
+
+        template.sendBody("direct:change", "<person><city>Paris</city></person>");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .choice()
+                        .when(XPathBuilder.xpath("/person/city = 'London'").cacheDocument(true)).to("mock:london")
+                        .when(XPathBuilder.xpath("/person/city = 'Paris'").cacheDocument(true)).to("mock:paris")
+                        .otherwise().to("mock:other");
+
+                from("direct:change")
+                        .setHeader("city", XPathBuilder.xpath("/person/city/text()", String.class).cacheDocument(true))
+                        .setBody(constant("<person><city>London</city></person>"))
+                        .setHeader("city2", XPathBuilder.xpath("/person/city/text()", String.class).cacheDocument(true))
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.builder.xml;
+
+import javax.xml.xpath.XPathExpression;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.language.xpath.XPathBuilder;
+import org.apache.camel.support.builder.xml.PooledXmlObjectFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class XPathPoolTest extends ContextTestSupport {
+
+    @Test
+    public void testPreWarm() throws Exception {
+        XPathBuilder builder = XPathBuilder.xpath("/foo/bar", String.class).poolPreWarm(3);
+        builder.init(context);
+
+        PooledXmlObjectFactory<XPathExpression> pool = builder.getExpressionPool();
+        assertEquals(3, pool.getSize());
+        assertEquals(3, pool.getStatistics().getCreatedCounter());
+
+        assertEquals("cheese", builder.evaluate(context, "<foo><bar>cheese</bar></foo>"));
+        assertEquals("wine", builder.evaluate(context, "<foo><bar>wine</bar></foo>"));
+
+        assertEquals(2, pool.getStatistics().getAcquiredCounter());
+        assertEquals(0, pool.getMissedCounter());
+        assertEquals(3, pool.getStatistics().getCreatedCounter());
+        assertEquals(3, pool.getSize());
+    }
+
+    @Test
+    public void testNoPreCompile() throws Exception {
+        XPathBuilder builder = XPathBuilder.xpath("/foo/bar", String.class).preCompile(false).poolPreWarm(3);
+        builder.init(context);
+
+        PooledXmlObjectFactory<XPathExpression> pool = builder.getExpressionPool();
+        assertEquals(0, pool.getSize());
+
+        assertEquals("cheese", builder.evaluate(context, "<foo><bar>cheese</bar></foo>"));
+
+        assertEquals(1, pool.getMissedCounter());
+        assertEquals(1, pool.getSize());
+    }
+
+    @Test
+    public void testPoolSize() throws Exception {
+        XPathBuilder builder = XPathBuilder.xpath("/foo/bar", String.class).poolSize(2).poolPreWarm(5);
+        builder.init(context);
+
+        // will not pre-warm more than the pool size
+        assertEquals(2, builder.getPoolSize());
+        assertEquals(2, builder.getExpressionPool().getSize());
+    }
+}
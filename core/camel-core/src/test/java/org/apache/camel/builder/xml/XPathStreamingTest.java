@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.builder.xml;
+
+import java.io.ByteArrayInputStream;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.language.xpath.InvalidXPathException;
+import org.apache.camel.language.xpath.XPathBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class XPathStreamingTest extends ContextTestSupport {
+
+    private static final String ORDERS = "<orders xmlns:c=\"http://acme.com/cheese\">"
+                                         + "<order id=\"1\" type=\"book\"><title>Camel in Action</title></order>"
+                                         + "<order id=\"2\" type=\"dvd\"><title>Matrix</title></order>"
+                                         + "<group><order id=\"3\" type=\"book\"><title>ActiveMQ in Action</title></order></group>"
+                                         + "<c:cheese c:name=\"gouda\">Yellow</c:cheese>"
+                                         + "</orders>";
+
+    @Test
+    public void testSplit() throws Exception {
+        getMockEndpoint("mock:split").expectedBodiesReceived(
+                "<order xmlns:c=\"http://acme.com/cheese\" id=\"1\" type=\"book\"><title>Camel in Action</title></order>",
+                "<order xmlns:c=\"http://acme.com/cheese\" id=\"3\" type=\"book\"><title>ActiveMQ in Action</title></order>");
+
+        template.sendBody("direct:split", new ByteArrayInputStream(ORDERS.getBytes()));
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testFilter() throws Exception {
+        getMockEndpoint("mock:dvd").expectedMessageCount(1);
+
+        template.sendBody("direct:filter", ORDERS);
+        template.sendBody("direct:filter", "<orders><order type=\"book\"/></orders>");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testExpression() throws Exception {
+        getMockEndpoint("mock:result").expectedHeaderReceived("title", "Matrix");
+        getMockEndpoint("mock:result").expectedHeaderReceived("id", "3");
+        getMockEndpoint("mock:result").expectedHeaderReceived("cheese", "Yellow");
+        getMockEndpoint("mock:result").expectedHeaderReceived("firstId", 1);
+
+        template.sendBody("direct:expression", ORDERS);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testEvaluate() throws Exception {
+        assertEquals("gouda", XPathBuilder.xpath("/orders/c:cheese/@c:name").namespace("c", "http://acme.com/cheese")
+                .streaming(true).evaluate(context, ORDERS, String.class));
+        assertEquals("Camel in Action", XPathBuilder.xpath("//title").streaming(true).evaluate(context, ORDERS, String.class));
+        assertEquals("", XPathBuilder.xpath("//unknown").streaming(true).evaluate(context, ORDERS, String.class));
+        assertTrue(XPathBuilder.xpath("//order[@type!='book']").streaming(true).matches(context, ORDERS));
+        assertFalse(XPathBuilder.xpath("/order").streaming(true).matches(context, ORDERS));
+        assertFalse(XPathBuilder.xpath("/orders").streaming(true).matches(context, null));
+    }
+
+    @Test
+    public void testNotSupported() throws Exception {
+        assertThrows(InvalidXPathException.class,
+                () -> XPathBuilder.xpath("/orders/order[1]").streaming(true).init(context));
+        assertThrows(InvalidXPathException.class,
+                () -> XPathBuilder.xpath("count(/orders/order)").streaming(true).init(context));
+        assertThrows(InvalidXPathException.class,
+                () -> XPathBuilder.xpath("/orders/../order").streaming(true).init(context));
+        assertThrows(InvalidXPathException.class,
+                () -> XPathBuilder.xpath("/orders/x:order").streaming(true).init(context));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:split")
+                        .split(XPathBuilder.xpath("//order[@type='book']").streaming(true)).streaming()
+                        .to("mock:split");
+
+                from("direct:filter")
+                        .filter(XPathBuilder.xpath("/orders/order[@type='dvd']").streaming(true))
+                        .to("mock:dvd");
+
+                from("direct:expression")
+                        .convertBodyTo(String.class)
+                        .setHeader("title", XPathBuilder.xpath("/orders/order[@id='2']/title/text()", String.class)
+                                .streaming(true))
+                        .setHeader("id", XPathBuilder.xpath("/orders/group/order/@id", String.class).streaming(true))
+                        .setHeader("cheese", XPathBuilder.xpath("//c:cheese", String.class)
+                                .namespace("c", "http://acme.com/cheese").streaming(true))
+                        .setHeader("firstId", XPathBuilder.xpath("/orders/order/@id", Integer.class).streaming(true))
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Header;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.util.StopWatch;
+import org.apache.camel.util.TimeUtils;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares invoking a bean method using reflection with using the method handle based invoker, and measures a route
+ * calling a bean with body and header parameters.
+ */
+@Disabled("Test manually")
+public class BeanMethodInvocationPerformanceTest extends ContextTestSupport {
+
+    private static final AtomicLong INVOKED = new AtomicLong();
+    private final int warmup = 200000;
+    private final int times = 5000000;
+    private final int routeTimes = 200000;
+
+    public static class MyBean {
+        public String doSomething(String payload, @Header("foo") Integer foo) {
+            INVOKED.incrementAndGet();
+            return payload;
+        }
+    }
+
+    @Test
+    public void testReflectionVsMethodHandle() throws Exception {
+        INVOKED.set(0);
+        MyBean bean = new MyBean();
+        Method method = MyBean.class.getMethod("doSomething", String.class, Integer.class);
+        MethodHandleInvoker invoker = MethodHandleInvoker.create(method);
+        Object[] args = new Object[] { "Hello World", 123 };
+
+        for (int i = 0; i < warmup; i++) {
+            method.invoke(bean, args);
+            invoker.invoke(bean, args);
+        }
+
+        StopWatch watch = new StopWatch();
+        for (int i = 0; i < times; i++) {
+            method.invoke(bean, args);
+        }
+        log.info("Took {} to invoke the bean {} times using reflection", TimeUtils.printDuration(watch.taken()), times);
+
+        watch.restart();
+        for (int i = 0; i < times; i++) {
+            if (invoker.canInvoke(bean, args)) {
+                invoker.invoke(bean, args);
+            }
+        }
+        log.info("Took {} to invoke the bean {} times using method handle", TimeUtils.printDuration(watch.taken()), times);
+
+        assertEquals((warmup + times) * 2L, INVOKED.get());
+    }
+
+    @Test
+    public void testBeanRoutePerformance() throws Exception {
+        INVOKED.set(0);
+        StopWatch watch = new StopWatch();
+
+        log.info("Invoking a bean with body and header parameters in a route {} times", routeTimes);
+        for (int i = 0; i < routeTimes; i++) {
+            template.sendBodyAndHeader("direct:start", "Hello World", "foo", 123);
+        }
+        log.info("Took {} to invoke the bean {} times", TimeUtils.printDuration(watch.taken()), routeTimes);
+
+        assertEquals(routeTimes, INVOKED.get());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").bean(MyBean.class, "doSomething");
+            }
+        };
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.validator;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.ValidationException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ValidatorPoolTest extends ContextTestSupport {
+
+    private static final String URI = "validator:org/apache/camel/component/validator/schema.xsd?validatorPoolSize=2";
+
+    @Test
+    public void testValidatorPool() throws Exception {
+        getMockEndpoint("mock:valid").expectedMessageCount(2);
+        getMockEndpoint("mock:invalid").expectedMessageCount(1);
+
+        template.sendBody("direct:start",
+                "<mail xmlns='http://foo.com/bar'><subject>Hey</subject><body>Hello world!</body></mail>");
+        template.sendBody("direct:start", "<mail xmlns='http://foo.com/bar'><body>Hello world!</body></mail>");
+        template.sendBody("direct:start",
+                "<mail xmlns='http://foo.com/bar'><subject>Hey</subject><body>Bye world!</body></mail>");
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        // pre-warmed when started and then reused
+        ValidatorEndpoint endpoint = context.getEndpoint(URI, ValidatorEndpoint.class);
+        assertEquals(2, endpoint.getValidatorPoolCurrentSize());
+        assertEquals(2, endpoint.getValidatorPoolCreated());
+        assertEquals(3, endpoint.getValidatorPoolHits());
+        assertEquals(0, endpoint.getValidatorPoolMisses());
+    }
+
+    @Test
+    public void testClearCachedSchema() throws Exception {
+        ValidatorEndpoint endpoint = context.getEndpoint(URI, ValidatorEndpoint.class);
+        assertEquals(2, endpoint.getValidatorPoolCurrentSize());
+
+        endpoint.clearCachedSchema();
+
+        getMockEndpoint("mock:valid").expectedMessageCount(1);
+        template.sendBody("direct:start",
+                "<mail xmlns='http://foo.com/bar'><subject>Hey</subject><body>Hello world!</body></mail>");
+        MockEndpoint.assertIsSatisfied(context);
+
+        // a new pool is used for the re-loaded schema
+        assertEquals(1, endpoint.getValidatorPoolCurrentSize());
+        assertEquals(1, endpoint.getValidatorPoolCreated());
+        assertEquals(1, endpoint.getValidatorPoolMisses());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .doTry()
+                            .to(URI).to("mock:valid")
+                        .doCatch(ValidationException.class)
+                            .to("mock:invalid")
+                        .end();
+            }
+        };
+    }
+}
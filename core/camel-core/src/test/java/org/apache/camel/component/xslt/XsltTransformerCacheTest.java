@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.xslt;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class XsltTransformerCacheTest extends ContextTestSupport {
+
+    @Test
+    public void testTransformerCache() throws Exception {
+        XsltEndpoint endpoint = context.getEndpoint(
+                "xslt:org/apache/camel/component/xslt/example.xsl?transformerCacheSize=3", XsltEndpoint.class);
+
+        // pre-warmed when started
+        assertEquals(3, endpoint.getTransformerCacheCurrentSize());
+        assertEquals(3, endpoint.getTransformerCacheCreated());
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(5);
+        mock.allMessages().body().isEqualTo("<?xml version=\"1.0\" encoding=\"UTF-8\"?><goodbye>world!</goodbye>");
+
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("direct:start", "<hello>world!</hello>");
+        }
+
+        assertMockEndpointsSatisfied();
+
+        assertEquals(5, endpoint.getTransformerCacheHits());
+        assertEquals(0, endpoint.getTransformerCacheMisses());
+        assertEquals(3, endpoint.getTransformerCacheCreated());
+        assertEquals(3, endpoint.getTransformerCacheCurrentSize());
+    }
+
+    @Test
+    public void testNoTransformerCache() throws Exception {
+        XsltEndpoint endpoint
+                = context.getEndpoint("xslt:org/apache/camel/component/xslt/example.xsl", XsltEndpoint.class);
+        assertNull(endpoint.getXslt().getTransformerPool());
+        assertEquals(0, endpoint.getTransformerCacheCurrentSize());
+        assertEquals(0, endpoint.getTransformerCacheHits());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .to("xslt:org/apache/camel/component/xslt/example.xsl?transformerCacheSize=3")
+                        .to("mock:result");
+
+                from("direct:noCache")
+                        .to("xslt:org/apache/camel/component/xslt/example.xsl")
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -25,7 +25,9 @@ import org.apache.camel.Exchange;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 
 public class NIOConverterTest extends ContextTestSupport {
 
@@ -147,4 +149,81 @@ public class NIOConverterTest extends ContextTestSupport {
         assertEquals("Hello", IOConverter.toString(is, null));
     }
 
+    @Test
+    public void testToByteArrayCopies() {
+        byte[] data = "Hello".getBytes();
+        ByteBuffer bb = ByteBuffer.wrap(data);
+
+        // the buffer wraps the entire array which must not be shared with the owner of the buffer
+        byte[] out = NIOConverter.toByteArray(bb);
+        assertNotSame(data, out);
+        assertEquals("Hello", new String(out));
+        assertFalse(bb.hasRemaining());
+    }
+
+    @Test
+    public void testToInputStreamReadOnly() throws Exception {
+        ByteBuffer bb = ByteBuffer.wrap("Hello".getBytes());
+
+        InputStream is = NIOConverter.toInputStream(bb);
+        assertFalse(bb.hasRemaining());
+        assertEquals("Hello", IOConverter.toString(is, null));
+    }
+
+    @Test
+    public void testToByteArrayRemaining() {
+        ByteBuffer bb = ByteBuffer.wrap("Hello World".getBytes());
+        bb.position(6);
+
+        assertEquals("World", new String(NIOConverter.toByteArray(bb)));
+    }
+
+    @Test
+    public void testToByteArrayDirect() {
+        ByteBuffer bb = ByteBuffer.allocateDirect(16);
+        bb.put("Hello".getBytes());
+        bb.flip();
+
+        assertEquals("Hello", new String(NIOConverter.toByteArray(bb)));
+    }
+
+    @Test
+    public void testToStringDirectAndReadOnly() throws Exception {
+        ByteBuffer bb = ByteBuffer.allocateDirect(16);
+        bb.put("Hello".getBytes());
+        bb.flip();
+        assertEquals("Hello", NIOConverter.toString(bb, null));
+
+        ByteBuffer ro = ByteBuffer.wrap("Hello World".getBytes()).asReadOnlyBuffer();
+        ro.position(6);
+        assertEquals("World", NIOConverter.toString(ro, null));
+    }
+
+    @Test
+    public void testToInputStreamSlice() throws Exception {
+        ByteBuffer bb = ByteBuffer.wrap("Hello World".getBytes());
+        bb.position(6);
+
+        InputStream is = NIOConverter.toInputStream(bb.slice());
+        assertEquals("World", IOConverter.toString(is, null));
+    }
+
+    @Test
+    public void testToInputStreamDirect() throws Exception {
+        ByteBuffer bb = ByteBuffer.allocateDirect(16);
+        bb.put("Hello".getBytes());
+        bb.flip();
+
+        InputStream is = NIOConverter.toInputStream(bb);
+        assertEquals("Hello", IOConverter.toString(is, null));
+    }
+
+    @Test
+    public void testByteBufferArrayToInputStream() throws Exception {
+        ByteBuffer[] buffers = new ByteBuffer[] {
+                ByteBuffer.wrap("Hello ".getBytes()), ByteBuffer.allocate(0), ByteBuffer.wrap("World".getBytes()) };
+
+        InputStream is = context.getTypeConverter().convertTo(InputStream.class, buffers);
+        assertEquals("Hello World", IOConverter.toString(is, null));
+    }
 }
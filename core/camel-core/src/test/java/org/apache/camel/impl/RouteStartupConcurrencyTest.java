@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.Processor;
+import org.apache.camel.StartupStep;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.support.startup.DefaultStartupStepRecorder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RouteStartupConcurrencyTest extends ContextTestSupport {
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+    private final List<String> started = new CopyOnWriteArrayList<>();
+    private final List<StartupStep> steps = new CopyOnWriteArrayList<>();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getRouteController().setStartupConcurrency(4);
+        DefaultStartupStepRecorder recorder = new DefaultStartupStepRecorder() {
+            @Override
+            protected void onEndStep(StartupStep step) {
+                steps.add(step);
+            }
+        };
+        recorder.setEnabled(true);
+        context.adapt(ExtendedCamelContext.class).setStartupStepRecorder(recorder);
+        return context;
+    }
+
+    @Test
+    public void testStartRoutesConcurrently() throws Exception {
+        assertEquals(6, context.getRoutesSize());
+        assertTrue(maxActive.get() > 1, "Routes should be started concurrently");
+
+        // the route with an explicit startup order is started first
+        assertEquals("first", started.get(0));
+
+        // the routes sharing an endpoint are started one by one in startup order
+        assertTrue(started.indexOf("shared1") < started.indexOf("shared2"));
+
+        List<String> ids = new ArrayList<>();
+        for (RouteStartupOrder order : context.adapt(ExtendedCamelContext.class).getRouteStartupOrder()) {
+            ids.add(order.getRoute().getId());
+        }
+        assertEquals("[first, a, b, c, shared1, shared2]", ids.toString());
+
+        getMockEndpoint("mock:shared").expectedMessageCount(2);
+        template.sendBody("direct:shared1", "Hello");
+        template.sendBody("direct:shared2", "World");
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testRecordStepPerRoute() throws Exception {
+        for (String id : new String[] { "first", "a", "b", "c", "shared1", "shared2" }) {
+            assertEquals(1, countSteps(id, "Warump Route"));
+            assertEquals(1, countSteps(id, "Start Route"));
+        }
+
+        // the steps of the routes started concurrently should have the same parent
+        StartupStep a = findStep("a", "Warump Route");
+        StartupStep b = findStep("b", "Warump Route");
+        assertEquals(a.getParentId(), b.getParentId());
+        assertEquals(a.getLevel(), b.getLevel());
+    }
+
+    private long countSteps(String name, String description) {
+        return steps.stream().filter(s -> name.equals(s.getName()) && description.equals(s.getDescription())).count();
+    }
+
+    private StartupStep findStep(String name, String description) {
+        return steps.stream().filter(s -> name.equals(s.getName()) && description.equals(s.getDescription()))
+                .findFirst().get();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:a").routeId("a").process(new SlowStartProcessor("a"));
+                from("direct:b").routeId("b").process(new SlowStartProcessor("b"));
+                from("direct:c").routeId("c").process(new SlowStartProcessor("c"));
+                from("direct:shared1").routeId("shared1")
+                        .process(new SlowStartProcessor("shared1")).to("mock:shared");
+                from("direct:shared2").routeId("shared2")
+                        .process(new SlowStartProcessor("shared2")).to("mock:shared");
+                from("direct:first").routeId("first").startupOrder(1).process(new SlowStartProcessor("first"));
+            }
+        };
+    }
+
+    private class SlowStartProcessor extends ServiceSupport implements Processor {
+
+        private final String name;
+
+        SlowStartProcessor(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void process(Exchange exchange) throws Exception {
+            // noop
+        }
+
+        @Override
+        protected void doStart() throws Exception {
+            started.add(name);
+            int count = active.incrementAndGet();
+            maxActive.accumulateAndGet(count, Math::max);
+            try {
+                Thread.sleep(200);
+            } finally {
+                active.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TypeConverterRegistryBytesCopiedTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setTypeConverterStatisticsEnabled(true);
+        return context;
+    }
+
+    @Test
+    public void testBytesCopied() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        TypeConverterRegistry.Statistics statistics = context.getTypeConverterRegistry().getStatistics();
+
+        // reads the buffer in place so nothing is copied
+        context.getTypeConverter().convertTo(InputStream.class, exchange, ByteBuffer.wrap("Hello".getBytes()));
+        assertTrue(statistics.getBytesCopiedCounters().isEmpty());
+
+        ByteBuffer buffer = ByteBuffer.allocate(100);
+        buffer.put("Hello World".getBytes());
+        buffer.flip();
+        context.getTypeConverter().convertTo(byte[].class, exchange, buffer);
+        context.getTypeConverter().convertTo(byte[].class, exchange, new ByteArrayInputStream("Bye".getBytes()));
+        context.getTypeConverter().convertTo(byte[].class, exchange, new ByteArrayInputStream("Bye World".getBytes()));
+
+        Map<String, Long> copied = statistics.getBytesCopiedCounters();
+        assertEquals(2, copied.size());
+        assertEquals(11, copied.get("java.nio.ByteBuffer->byte[]").longValue());
+        assertEquals(12, copied.get("java.io.InputStream->byte[]").longValue());
+
+        statistics.reset();
+        assertTrue(statistics.getBytesCopiedCounters().isEmpty());
+    }
+
+    @Test
+    public void testStatisticsDisabled() throws Exception {
+        TypeConverterRegistry.Statistics statistics = context.getTypeConverterRegistry().getStatistics();
+        statistics.setStatisticsEnabled(false);
+
+        Exchange exchange = new DefaultExchange(context);
+        context.getTypeConverter().convertTo(byte[].class, exchange, new ByteArrayInputStream("Bye".getBytes()));
+        assertTrue(statistics.getBytesCopiedCounters().isEmpty());
+    }
+}
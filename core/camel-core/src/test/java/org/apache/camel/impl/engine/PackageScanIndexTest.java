@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PackageScanIndexTest {
+
+    @TempDir
+    File dir;
+
+    @Test
+    public void testIndexEntries() throws Exception {
+        File jar = createJar("foo.jar", "foo/bar/a.xml", "foo/bar/b.txt", "foo/Baz.class");
+
+        PackageScanIndex index = new PackageScanIndex();
+        List<String> entries = index.getEntries(jar);
+        assertThat(entries).containsExactly("foo/bar/a.xml", "foo/bar/b.txt", "foo/Baz.class");
+        assertEquals(0, index.getHits());
+        assertEquals(1, index.getMisses());
+
+        // use the index
+        assertThat(index.getEntries(jar)).isSameAs(entries);
+        assertEquals(1, index.getHits());
+
+        // the jar has been changed so read it again
+        jar = createJar("foo.jar", "foo/bar/c.xml");
+        assertTrue(jar.setLastModified(jar.lastModified() + 2000));
+        assertThat(index.getEntries(jar)).containsExactly("foo/bar/c.xml");
+        assertEquals(2, index.getMisses());
+    }
+
+    @Test
+    public void testSaveAndLoadIndex() throws Exception {
+        File jar = createJar("foo.jar", "foo/bar/a.xml", "foo/Baz.class");
+        File indexDir = new File(dir, "index");
+
+        PackageScanIndex index = new PackageScanIndex(indexDir.getPath());
+        index.getEntries(jar);
+        index.save();
+        assertTrue(index.getIndexFile().isFile());
+
+        // starting again should use the saved index
+        PackageScanIndex index2 = new PackageScanIndex(indexDir.getPath());
+        assertThat(index2.getEntries(jar)).containsExactly("foo/bar/a.xml", "foo/Baz.class");
+        assertEquals(1, index2.getHits());
+        assertEquals(0, index2.getMisses());
+    }
+
+    @Test
+    public void testFindResourcesUsingIndex() throws Exception {
+        File jar = createJar("routes.jar", "myroutes/a.xml", "myroutes/b.xml", "myroutes/c.txt");
+
+        DefaultCamelContext context = new DefaultCamelContext();
+        DefaultPackageScanResourceResolver resolver
+                = (DefaultPackageScanResourceResolver) context.getPackageScanResourceResolver();
+        PackageScanIndex index = new PackageScanIndex();
+        resolver.setPackageScanIndex(index);
+        try (URLClassLoader cl = new URLClassLoader(new URL[] { jar.toURI().toURL() }, null)) {
+            resolver.addClassLoader(cl);
+
+            assertThat(resolver.findResources("classpath:myroutes/*.xml")).hasSize(2);
+            assertEquals(1, index.getMisses());
+            assertThat(resolver.findResources("classpath:myroutes/*.txt")).hasSize(1);
+            assertEquals(1, index.getHits());
+        }
+        context.stop();
+    }
+
+    private File createJar(String name, String... entries) throws Exception {
+        File file = new File(dir, name);
+        try (JarOutputStream jos = new JarOutputStream(new FileOutputStream(file), new Manifest())) {
+            Set<String> dirs = new HashSet<>();
+            for (String entry : entries) {
+                // add the directory entries, which are not included in the index
+                String parent = entry.substring(0, entry.lastIndexOf('/') + 1);
+                if (dirs.add(parent)) {
+                    jos.putNextEntry(new JarEntry(parent));
+                    jos.closeEntry();
+                }
+                jos.putNextEntry(new JarEntry(entry));
+                jos.write(entry.getBytes(StandardCharsets.UTF_8));
+                jos.closeEntry();
+            }
+        }
+        return file;
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.LanguageTestSupport;
+import org.apache.camel.language.bean.RuntimeBeanExpressionException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SimpleOgnlGetterChainTest extends LanguageTestSupport {
+
+    @Override
+    protected String getLanguageName() {
+        return "simple";
+    }
+
+    @Test
+    public void testCompile() throws Exception {
+        assertNotNull(SimpleOgnlGetterChain.compile(".address.city"));
+        assertNotNull(SimpleOgnlGetterChain.compile("?.address?.city"));
+        assertNotNull(SimpleOgnlGetterChain.compile(".getAddress.getCity"));
+
+        // only plain getters are compiled
+        assertNull(SimpleOgnlGetterChain.compile(null));
+        assertNull(SimpleOgnlGetterChain.compile(""));
+        assertNull(SimpleOgnlGetterChain.compile(".address.city('foo')"));
+        assertNull(SimpleOgnlGetterChain.compile(".lines[0]"));
+        assertNull(SimpleOgnlGetterChain.compile(".address.${header.foo}"));
+    }
+
+    @Test
+    public void testGetterChain() throws Exception {
+        exchange.getIn().setBody(new Person("Claus", new Address("Copenhagen")));
+
+        assertExpression("${body.name}", "Claus");
+        assertExpression("${body.address.city}", "Copenhagen");
+        assertExpression("${body.getAddress.getCity}", "Copenhagen");
+        assertExpression("${body.address.local}", true);
+        assertExpression("${bodyAs(" + Person.class.getName() + ").address.city}", "Copenhagen");
+        assertExpression("${mandatoryBodyAs(" + Person.class.getName() + ").address.city}", "Copenhagen");
+
+        // and again to use the cached getters
+        exchange.getIn().setBody(new Person("Jonathan", new Address("Paris")));
+        assertExpression("${body.address.city}", "Paris");
+    }
+
+    @Test
+    public void testDifferentReceiverTypes() throws Exception {
+        exchange.getIn().setBody(new Person("Claus", new Address("Copenhagen")));
+        assertExpression("${body.address.city}", "Copenhagen");
+
+        exchange.getIn().setBody(new Company("Acme", new Address("Boston")));
+        assertExpression("${body.address.city}", "Boston");
+
+        exchange.getIn().setBody(new Person("Claus", new Address("Copenhagen")));
+        assertExpression("${body.address.city}", "Copenhagen");
+    }
+
+    @Test
+    public void testHeaderAndPropertyGetterChain() throws Exception {
+        exchange.getIn().setHeader("person", new Person("Claus", new Address("Copenhagen")));
+        exchange.setProperty("company", new Company("Acme", new Address("Boston")));
+
+        assertExpression("${header.person.address.city}", "Copenhagen");
+        assertExpression("${headers.person.name}", "Claus");
+        assertExpression("${exchangeProperty.company.address.city}", "Boston");
+    }
+
+    @Test
+    public void testNullSafe() throws Exception {
+        Person person = new Person("Claus", null);
+        exchange.getIn().setBody(person);
+
+        assertExpression("${body?.address?.city}", null);
+        RuntimeBeanExpressionException e
+                = assertThrows(RuntimeBeanExpressionException.class, () -> assertExpression("${body.address.city}", null));
+        // the same error as the bean language, without invoking the getters again
+        assertEquals(2, person.getAddressCalls());
+        assertEquals(evaluateWithBeanLanguage(person, ".address.city").getMessage(), e.getMessage());
+    }
+
+    @Test
+    public void testFallbackToBeanLanguage() throws Exception {
+        exchange.getIn().setBody(new Person("Claus", new Address("Copenhagen")));
+
+        // methods with parameters are left to the bean language
+        assertExpression("${body.address.city.substring(4)}", "nhagen");
+        assertExpression("${body.address.city.length}", 10);
+        // unknown methods are reported by the bean language
+        assertThrows(RuntimeBeanExpressionException.class, () -> assertExpression("${body.address.country}", null));
+    }
+
+    @Test
+    public void testGetterThrowsException() throws Exception {
+        Address address = new Address(null);
+        exchange.getIn().setBody(new Person("Claus", address));
+
+        RuntimeBeanExpressionException e
+                = assertThrows(RuntimeBeanExpressionException.class, () -> assertExpression("${body.address.city}", null));
+        assertIsInstanceOf(IllegalStateException.class, e.getCause());
+        // the getter is not invoked again when it fails
+        assertEquals(1, address.getCityCalls());
+        assertEquals(evaluateWithBeanLanguage(address, ".city").getMessage(), e.getMessage());
+    }
+
+    @Test
+    public void testNestedConstantFunction() throws Exception {
+        Expression exp
+                = context.resolveLanguage("simple").createExpression("${header.${type:org.apache.camel.Exchange.FILE_NAME}}");
+        exp.init(context);
+
+        exchange.getIn().setHeader(Exchange.FILE_NAME, "hello.txt");
+        assertEquals("hello.txt", exp.evaluate(exchange, String.class));
+
+        // the nested type is folded so the same function is evaluated again
+        exchange.getIn().setHeader(Exchange.FILE_NAME, "bye.txt");
+        assertEquals("bye.txt", exp.evaluate(exchange, String.class));
+    }
+
+    private RuntimeBeanExpressionException evaluateWithBeanLanguage(Object bean, String ognl) {
+        Expression exp = context.resolveLanguage("bean").createExpression(null, new Object[] { bean, ognl });
+        exp.init(context);
+        return assertThrows(RuntimeBeanExpressionException.class, () -> exp.evaluate(exchange, Object.class));
+    }
+
+    public static class Person {
+        private final String name;
+        private final Address address;
+        private int addressCalls;
+
+        public Person(String name, Address address) {
+            this.name = name;
+            this.address = address;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Address getAddress() {
+            addressCalls++;
+            return address;
+        }
+
+        public int getAddressCalls() {
+            return addressCalls;
+        }
+    }
+
+    public static class Company {
+        private final String name;
+        private final Address address;
+
+        public Company(String name, Address address) {
+            this.name = name;
+            this.address = address;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+    }
+
+    public static class Address {
+        private final String city;
+        private int cityCalls;
+
+        public Address(String city) {
+            this.city = city;
+        }
+
+        public String getCity() {
+            cityCalls++;
+            if (city == null) {
+                throw new IllegalStateException("No city");
+            }
+            return city;
+        }
+
+        public int getCityCalls() {
+            return cityCalls;
+        }
+
+        public boolean isLocal() {
+            return "Copenhagen".equals(city);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.model.language.TokenizerExpression;
+import org.junit.jupiter.api.Test;
+
+public class SplitTokenizerMemoryMappedTest extends ContextTestSupport {
+
+    @Test
+    public void testSplitLines() throws Exception {
+        getMockEndpoint("mock:line").expectedBodiesReceived("A", "", "B", "\u00A3C");
+
+        template.sendBodyAndHeader(fileUri("lines"), "A\n\nB\n\u00A3C\n", Exchange.FILE_NAME, "lines.txt");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSplitGroupSkipFirst() throws Exception {
+        getMockEndpoint("mock:group").expectedBodiesReceived("ABC\nDEF\nGHI", "JKL\nMN");
+
+        template.sendBodyAndHeader(fileUri("group"), "##comment\nABC\nDEF\nGHI\nJKL\nMN\n", Exchange.FILE_NAME,
+                "group.txt");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSplitGroupDelimiter() throws Exception {
+        getMockEndpoint("mock:delimiter").expectedBodiesReceived("ABC;DEF", "GHI;JKL", "MN");
+
+        template.sendBodyAndHeader(fileUri("delimiter"), "ABC\nDEF\nGHI\nJKL\nMN\n", Exchange.FILE_NAME,
+                "delimiter.txt");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                TokenizerExpression lines = new TokenizerExpression("\n");
+                lines.setMemoryMapped("true");
+                from(fileUri("lines?initialDelay=0&delay=10&charset=UTF-8"))
+                        .split(lines).streaming().to("mock:line");
+
+                TokenizerExpression group = new TokenizerExpression("\n");
+                group.setGroup("3");
+                group.setSkipFirst("true");
+                group.setMemoryMapped("true");
+                from(fileUri("group?initialDelay=0&delay=10"))
+                        .split(group).streaming().to("mock:group");
+
+                // the group delimiter is not the token so the tokens cannot be grouped from the mapped bytes
+                TokenizerExpression delimiter = new TokenizerExpression("\n");
+                delimiter.setGroup("2");
+                delimiter.setGroupDelimiter("${header.sep}");
+                delimiter.setMemoryMapped("true");
+                from(fileUri("delimiter?initialDelay=0&delay=10"))
+                        .setHeader("sep", constant(";"))
+                        .split(delimiter).streaming().to("mock:delimiter");
+            }
+        };
+    }
+
+}
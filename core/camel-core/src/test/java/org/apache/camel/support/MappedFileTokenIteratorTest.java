@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.File;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.TestSupport;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.Scanner;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MappedFileTokenIteratorTest extends TestSupport {
+
+    private int counter;
+
+    @Test
+    public void testSameTokensAsScanner() throws Exception {
+        String[] contents = {
+                "", "\n", "abc", "a\nb\n", "a\n\nb", "\na\nb", "\n\na", "a\n\n\n", "a\r\nb\r\n",
+                "the first line\nthe second line which is longer than the window\n\nend" };
+        for (String content : contents) {
+            for (int windowSize : new int[] { 1, 3, 8, 16, MappedFileTokenIterator.DEFAULT_WINDOW_SIZE }) {
+                assertSameTokens(content, "\n", StandardCharsets.UTF_8, windowSize);
+            }
+        }
+        assertSameTokens("x,,y,", ",", StandardCharsets.UTF_8, 2);
+        assertSameTokens("a\r\nb\r\n\r\nc\rd\r\n", "\r\n", StandardCharsets.UTF_8, 3);
+        assertSameTokens("a##b#c####d", "##", StandardCharsets.ISO_8859_1, 5);
+    }
+
+    @Test
+    public void testMultiByteCharacters() throws Exception {
+        String content = "\u00A3100\n\u20AC200\n\u00E6\u00F8\u00E5\n";
+        for (int windowSize : new int[] { 1, 4, 8 }) {
+            assertSameTokens(content, "\n", StandardCharsets.UTF_8, windowSize);
+        }
+        assertSameTokens(content, "\u20AC", StandardCharsets.UTF_8, 4);
+        assertSameTokens("\u00A31\n\u00E62\n", "\n", StandardCharsets.ISO_8859_1, 4);
+    }
+
+    @Test
+    public void testGroup() throws Exception {
+        File file = createFile("ABC\nDEF\nGHI\nJKL\nMNO\nPQR\nSTU\nVW", StandardCharsets.UTF_8);
+
+        MappedFileTokenIterator it = new MappedFileTokenIterator(file, StandardCharsets.UTF_8, "\n", 5).group(3, false);
+        assertTrue(it.hasNext());
+        assertEquals("ABC\nDEF\nGHI", it.next());
+        assertEquals("JKL\nMNO\nPQR", it.next());
+        assertEquals("STU\nVW", it.next());
+        assertFalse(it.hasNext());
+
+        IOHelper.close(it);
+    }
+
+    @Test
+    public void testGroupSkipFirst() throws Exception {
+        File file = createFile("##comment\nABC\nDEF\nGHI\nJKL\nMN\n", StandardCharsets.UTF_8);
+
+        MappedFileTokenIterator it = new MappedFileTokenIterator(file, StandardCharsets.UTF_8, "\n").group(3, true);
+        assertTrue(it.hasNext());
+        assertEquals("ABC\nDEF\nGHI", it.next());
+        assertEquals("JKL\nMN", it.next());
+        assertFalse(it.hasNext());
+
+        // content with the header only
+        file = createFile("##comment\n", StandardCharsets.UTF_8);
+        it = new MappedFileTokenIterator(file, StandardCharsets.UTF_8, "\n").group(3, true);
+        assertTrue(it.hasNext());
+        assertEquals("", it.next());
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void testIsSupported() throws Exception {
+        assertTrue(MappedFileTokenIterator.isSupported(StandardCharsets.UTF_8, "\n"));
+        assertTrue(MappedFileTokenIterator.isSupported(StandardCharsets.ISO_8859_1, "\r\n"));
+        assertTrue(MappedFileTokenIterator.isSupported(StandardCharsets.US_ASCII, ";"));
+
+        // regular expressions
+        assertFalse(MappedFileTokenIterator.isSupported(StandardCharsets.UTF_8, "\\n"));
+        assertFalse(MappedFileTokenIterator.isSupported(StandardCharsets.UTF_8, "a|b"));
+        assertFalse(MappedFileTokenIterator.isSupported(StandardCharsets.UTF_8, ""));
+        // the bytes of the delimiter may be found inside a character
+        assertFalse(MappedFileTokenIterator.isSupported(StandardCharsets.UTF_16, "\n"));
+        // the delimiter cannot be encoded
+        assertFalse(MappedFileTokenIterator.isSupported(StandardCharsets.US_ASCII, "\u20AC"));
+    }
+
+    private void assertSameTokens(String content, String delimiter, Charset charset, int windowSize) throws Exception {
+        File file = createFile(content, charset);
+
+        List<String> expected = new ArrayList<>();
+        try (Scanner scanner = new Scanner(file, charset.name(), delimiter)) {
+            while (scanner.hasNext()) {
+                expected.add(scanner.next());
+            }
+        }
+
+        List<String> actual = new ArrayList<>();
+        try (MappedFileTokenIterator it = new MappedFileTokenIterator(file, charset, delimiter, windowSize)) {
+            while (it.hasNext()) {
+                actual.add(it.next());
+            }
+        }
+
+        assertEquals(expected, actual, "Content: " + content + " with window size: " + windowSize);
+    }
+
+    private File createFile(String content, Charset charset) throws Exception {
+        Files.createDirectories(testDirectory());
+        File file = testFile("tokens" + counter++ + ".txt").toFile();
+        Files.write(file.toPath(), content.getBytes(charset));
+        return file;
+    }
+}
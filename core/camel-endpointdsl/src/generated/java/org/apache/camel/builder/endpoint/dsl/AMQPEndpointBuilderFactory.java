@@ -3764,6 +3764,50 @@ public interface AMQPEndpointBuilderFactory {
             doSetProperty("replyToCacheLevelName", replyToCacheLevelName);
             return this;
         }
+        /**
+         * Specifies the number of shards the correlation map of pending replies
+         * is divided into when using request/reply over JMS. The correlation
+         * ids are assigned to a shard by their hash code, which reduces lock
+         * contention when many request/reply messages are in-flight. When using
+         * a shared reply queue with a dynamic message selector, then a reply
+         * listener is created per shard which only selects the replies for the
+         * correlation ids of its shard.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: producer (advanced)
+         * 
+         * @param replyToCorrelationShards the value to set
+         * @return the dsl builder
+         */
+        default AdvancedAMQPEndpointProducerBuilder replyToCorrelationShards(
+                int replyToCorrelationShards) {
+            doSetProperty("replyToCorrelationShards", replyToCorrelationShards);
+            return this;
+        }
+        /**
+         * Specifies the number of shards the correlation map of pending replies
+         * is divided into when using request/reply over JMS. The correlation
+         * ids are assigned to a shard by their hash code, which reduces lock
+         * contention when many request/reply messages are in-flight. When using
+         * a shared reply queue with a dynamic message selector, then a reply
+         * listener is created per shard which only selects the replies for the
+         * correlation ids of its shard.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: producer (advanced)
+         * 
+         * @param replyToCorrelationShards the value to set
+         * @return the dsl builder
+         */
+        default AdvancedAMQPEndpointProducerBuilder replyToCorrelationShards(
+                String replyToCorrelationShards) {
+            doSetProperty("replyToCorrelationShards", replyToCorrelationShards);
+            return this;
+        }
         /**
          * Sets the JMS Selector using the fixed name to be used so you can
          * filter out your own replies from the others when using a shared queue
@@ -82,6 +82,51 @@ public interface DisruptorVmEndpointBuilderFactory {
             doSetProperty("size", size);
             return this;
         }
+        /**
+         * Whether the consumer routes the exchanges of a Disruptor batch as a
+         * single exchange, with a java.util.List message body containing the
+         * message bodies of the exchanges in the batch. The exchange property
+         * CamelBatchSize is set with the number of exchanges in the batch. This
+         * option is intended for InOnly exchanges, as the result of routing the
+         * batch is not set as reply on the individual exchanges, however any
+         * failure is.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param aggregateBatch the value to set
+         * @return the dsl builder
+         */
+        default DisruptorVmEndpointConsumerBuilder aggregateBatch(
+                boolean aggregateBatch) {
+            doSetProperty("aggregateBatch", aggregateBatch);
+            return this;
+        }
+        /**
+         * Whether the consumer routes the exchanges of a Disruptor batch as a
+         * single exchange, with a java.util.List message body containing the
+         * message bodies of the exchanges in the batch. The exchange property
+         * CamelBatchSize is set with the number of exchanges in the batch. This
+         * option is intended for InOnly exchanges, as the result of routing the
+         * batch is not set as reply on the individual exchanges, however any
+         * failure is.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param aggregateBatch the value to set
+         * @return the dsl builder
+         */
+        default DisruptorVmEndpointConsumerBuilder aggregateBatch(
+                String aggregateBatch) {
+            doSetProperty("aggregateBatch", aggregateBatch);
+            return this;
+        }
         /**
          * Allows for bridging the consumer to the Camel routing Error Handler,
          * which mean any exceptions occurred while the consumer is trying to
@@ -159,6 +204,47 @@ public interface DisruptorVmEndpointBuilderFactory {
             doSetProperty("concurrentConsumers", concurrentConsumers);
             return this;
         }
+        /**
+         * Whether the consumer routes the exchanges of a Disruptor batch
+         * together. When enabled the exchanges are routed at the end of each
+         * batch, with the exchange properties CamelBatchIndex, CamelBatchSize
+         * and CamelBatchComplete set, which for example allows a downstream
+         * transactional or bulk producer to flush once per batch.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param consumeBatch the value to set
+         * @return the dsl builder
+         */
+        default DisruptorVmEndpointConsumerBuilder consumeBatch(
+                boolean consumeBatch) {
+            doSetProperty("consumeBatch", consumeBatch);
+            return this;
+        }
+        /**
+         * Whether the consumer routes the exchanges of a Disruptor batch
+         * together. When enabled the exchanges are routed at the end of each
+         * batch, with the exchange properties CamelBatchIndex, CamelBatchSize
+         * and CamelBatchComplete set, which for example allows a downstream
+         * transactional or bulk producer to flush once per batch.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param consumeBatch the value to set
+         * @return the dsl builder
+         */
+        default DisruptorVmEndpointConsumerBuilder consumeBatch(
+                String consumeBatch) {
+            doSetProperty("consumeBatch", consumeBatch);
+            return this;
+        }
         /**
          * Specifies whether multiple consumers are allowed. If enabled, you can
          * use Disruptor for Publish-Subscribe messaging. That is, you can send
@@ -1223,6 +1223,48 @@ public interface HttpEndpointBuilderFactory {
             doSetProperty("skipResponseHeaders", skipResponseHeaders);
             return this;
         }
+        /**
+         * Whether the producer should use the non-blocking HttpAsyncClient to
+         * send the HTTP requests. The producer then processes the exchanges
+         * asynchronously, so the calling thread is not blocked while waiting
+         * for the response, which allows many concurrent requests using only a
+         * few IO threads. Notice that the httpClientConfigurer is not in use
+         * for the async client.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param useAsyncClient the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder useAsyncClient(
+                boolean useAsyncClient) {
+            doSetProperty("useAsyncClient", useAsyncClient);
+            return this;
+        }
+        /**
+         * Whether the producer should use the non-blocking HttpAsyncClient to
+         * send the HTTP requests. The producer then processes the exchanges
+         * asynchronously, so the calling thread is not blocked while waiting
+         * for the response, which allows many concurrent requests using only a
+         * few IO threads. Notice that the httpClientConfigurer is not in use
+         * for the async client.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param useAsyncClient the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder useAsyncClient(String useAsyncClient) {
+            doSetProperty("useAsyncClient", useAsyncClient);
+            return this;
+        }
         /**
          * To set a custom HTTP User-Agent request header.
          * 
@@ -2988,6 +2988,60 @@ public interface NettyEndpointBuilderFactory {
             doSetProperty("lazyChannelCreation", lazyChannelCreation);
             return this;
         }
+        /**
+         * Sets the number of long-lived channels which are shared by the
+         * producer to pipeline many concurrent request/reply messages on the
+         * same channels, instead of borrowing a channel from the producer pool
+         * per request. Important: This requires to have a correlation id in
+         * both the request and reply messages, and to configure a
+         * NettyCamelStateCorrelationManager via the correlationManager option,
+         * so the replies can be correlated to the Camel callback that is
+         * responsible for continue processing the message in Camel. We
+         * recommend extending the TimeoutCorrelationManagerSupport which also
+         * handles timeout of the individual requests, as the requestTimeout is
+         * enforced per request by the correlation manager, and not on the
+         * shared channels. When this option is set to 1 or higher then the
+         * producerPoolEnabled option is not in use.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param producerPipelinedChannels the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyEndpointProducerBuilder producerPipelinedChannels(
+                int producerPipelinedChannels) {
+            doSetProperty("producerPipelinedChannels", producerPipelinedChannels);
+            return this;
+        }
+        /**
+         * Sets the number of long-lived channels which are shared by the
+         * producer to pipeline many concurrent request/reply messages on the
+         * same channels, instead of borrowing a channel from the producer pool
+         * per request. Important: This requires to have a correlation id in
+         * both the request and reply messages, and to configure a
+         * NettyCamelStateCorrelationManager via the correlationManager option,
+         * so the replies can be correlated to the Camel callback that is
+         * responsible for continue processing the message in Camel. We
+         * recommend extending the TimeoutCorrelationManagerSupport which also
+         * handles timeout of the individual requests, as the requestTimeout is
+         * enforced per request by the correlation manager, and not on the
+         * shared channels. When this option is set to 1 or higher then the
+         * producerPoolEnabled option is not in use.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param producerPipelinedChannels the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyEndpointProducerBuilder producerPipelinedChannels(
+                String producerPipelinedChannels) {
+            doSetProperty("producerPipelinedChannels", producerPipelinedChannels);
+            return this;
+        }
         /**
          * Whether producer pool is enabled or not. Important: If you turn this
          * off then a single shared connection is used for the producer, also if
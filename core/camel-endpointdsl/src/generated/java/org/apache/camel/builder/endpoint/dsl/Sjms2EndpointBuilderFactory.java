@@ -1949,6 +1949,48 @@ public interface Sjms2EndpointBuilderFactory {
             doSetProperty("preserveMessageQos", preserveMessageQos);
             return this;
         }
+        /**
+         * Number of shards to split the correlation map used by the reply
+         * manager into, when doing request/reply over JMS. Outstanding requests
+         * are routed to a shard by the hash of their correlation id, which
+         * reduces contention when many requests are in-flight. The reply
+         * listener uses at least as many concurrent consumers as there are
+         * shards.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: producer (advanced)
+         * 
+         * @param replyToCorrelationShards the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSjms2EndpointProducerBuilder replyToCorrelationShards(
+                int replyToCorrelationShards) {
+            doSetProperty("replyToCorrelationShards", replyToCorrelationShards);
+            return this;
+        }
+        /**
+         * Number of shards to split the correlation map used by the reply
+         * manager into, when doing request/reply over JMS. Outstanding requests
+         * are routed to a shard by the hash of their correlation id, which
+         * reduces contention when many requests are in-flight. The reply
+         * listener uses at least as many concurrent consumers as there are
+         * shards.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: producer (advanced)
+         * 
+         * @param replyToCorrelationShards the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSjms2EndpointProducerBuilder replyToCorrelationShards(
+                String replyToCorrelationShards) {
+            doSetProperty("replyToCorrelationShards", replyToCorrelationShards);
+            return this;
+        }
         /**
          * Whether to startup the consumer message listener asynchronously, when
          * starting a route. For example if a JmsConsumer cannot get a
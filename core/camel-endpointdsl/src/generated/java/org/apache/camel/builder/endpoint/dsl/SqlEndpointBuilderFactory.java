@@ -1048,6 +1048,43 @@ public interface SqlEndpointBuilderFactory {
         default SqlEndpointConsumerBuilder basic() {
             return (SqlEndpointConsumerBuilder) this;
         }
+        /**
+         * Sets whether onConsume and onConsumeFailed queries are executed as
+         * JDBC batch statements once all rows from the poll have been
+         * processed, instead of one statement per row.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param batchOnConsume the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointConsumerBuilder batchOnConsume(
+                boolean batchOnConsume) {
+            doSetProperty("batchOnConsume", batchOnConsume);
+            return this;
+        }
+        /**
+         * Sets whether onConsume and onConsumeFailed queries are executed as
+         * JDBC batch statements once all rows from the poll have been
+         * processed, instead of one statement per row.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param batchOnConsume the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointConsumerBuilder batchOnConsume(
+                String batchOnConsume) {
+            doSetProperty("batchOnConsume", batchOnConsume);
+            return this;
+        }
         /**
          * To let the consumer use a custom ExceptionHandler. Notice if the
          * option bridgeErrorHandler is enabled then this option is not in use.
@@ -1118,6 +1155,63 @@ public interface SqlEndpointBuilderFactory {
             doSetProperty("exchangePattern", exchangePattern);
             return this;
         }
+        /**
+         * The numeric column to use for splitting the consumer query into
+         * partitions, when the partitions option is in use. The query cannot
+         * have an ORDER BY clause when using this option.
+         * 
+         * The option is a: &lt;code&gt;java.lang.String&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param partitionColumn the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointConsumerBuilder partitionColumn(
+                String partitionColumn) {
+            doSetProperty("partitionColumn", partitionColumn);
+            return this;
+        }
+        /**
+         * Number of partitions the consumer query is split into. When set to 2
+         * or more then the rows of each partition are fetched concurrently on
+         * its own thread and database connection, and then processed as a
+         * single batch. The query is partitioned by the partitionColumn option
+         * using MOD(partitionColumn, partitions), or if no column is configured
+         * then the query can refer to the partition using the named parameters
+         * :#CamelSqlPartitionIndex and :#CamelSqlPartitionCount.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param partitions the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointConsumerBuilder partitions(int partitions) {
+            doSetProperty("partitions", partitions);
+            return this;
+        }
+        /**
+         * Number of partitions the consumer query is split into. When set to 2
+         * or more then the rows of each partition are fetched concurrently on
+         * its own thread and database connection, and then processed as a
+         * single batch. The query is partitioned by the partitionColumn option
+         * using MOD(partitionColumn, partitions), or if no column is configured
+         * then the query can refer to the partition using the named parameters
+         * :#CamelSqlPartitionIndex and :#CamelSqlPartitionCount.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param partitions the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointConsumerBuilder partitions(String partitions) {
+            doSetProperty("partitions", partitions);
+            return this;
+        }
         /**
          * A pluggable org.apache.camel.PollingConsumerPollingStrategy allowing
          * you to provide your custom implementation to control error handling
@@ -368,6 +368,42 @@ public interface ValidatorEndpointBuilderFactory {
             doSetProperty("useSharedSchema", useSharedSchema);
             return this;
         }
+        /**
+         * The number of javax.xml.validation.Validator objects that are pooled
+         * for reuse to avoid calls to Schema.newValidator(). The pool is filled
+         * up when the producer is started. This requires the shared schema to
+         * be in use.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: advanced
+         * 
+         * @param validatorPoolSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedValidatorEndpointBuilder validatorPoolSize(
+                int validatorPoolSize) {
+            doSetProperty("validatorPoolSize", validatorPoolSize);
+            return this;
+        }
+        /**
+         * The number of javax.xml.validation.Validator objects that are pooled
+         * for reuse to avoid calls to Schema.newValidator(). The pool is filled
+         * up when the producer is started. This requires the shared schema to
+         * be in use.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: advanced
+         * 
+         * @param validatorPoolSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedValidatorEndpointBuilder validatorPoolSize(
+                String validatorPoolSize) {
+            doSetProperty("validatorPoolSize", validatorPoolSize);
+            return this;
+        }
     }
 
     public interface ValidatorBuilders {
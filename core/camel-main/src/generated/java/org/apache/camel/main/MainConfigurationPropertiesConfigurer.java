@@ -29,6 +29,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "AutoConfigurationEnvironmentVariablesEnabled": target.setAutoConfigurationEnvironmentVariablesEnabled(property(camelContext, boolean.class, value)); return true;
         case "autoconfigurationfailfast":
         case "AutoConfigurationFailFast": target.setAutoConfigurationFailFast(property(camelContext, boolean.class, value)); return true;
+        case "autoconfigurationlazy":
+        case "AutoConfigurationLazy": target.setAutoConfigurationLazy(property(camelContext, boolean.class, value)); return true;
         case "autoconfigurationlogsummary":
         case "AutoConfigurationLogSummary": target.setAutoConfigurationLogSummary(property(camelContext, boolean.class, value)); return true;
         case "autoconfigurationsystempropertiesenabled":
@@ -79,6 +81,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "ExchangeFactoryStatisticsEnabled": target.setExchangeFactoryStatisticsEnabled(property(camelContext, boolean.class, value)); return true;
         case "fileconfigurations":
         case "FileConfigurations": target.setFileConfigurations(property(camelContext, java.lang.String.class, value)); return true;
+        case "generatedroutesenabled":
+        case "GeneratedRoutesEnabled": target.setGeneratedRoutesEnabled(property(camelContext, boolean.class, value)); return true;
+        case "generatedrouteslocation":
+        case "GeneratedRoutesLocation": target.setGeneratedRoutesLocation(property(camelContext, java.lang.String.class, value)); return true;
         case "globaloptions":
         case "GlobalOptions": target.setGlobalOptions(property(camelContext, java.util.Map.class, value)); return true;
         case "inflightrepositorybrowseenabled":
@@ -109,6 +115,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "MessageHistory": target.setMessageHistory(property(camelContext, boolean.class, value)); return true;
         case "name":
         case "Name": target.setName(property(camelContext, java.lang.String.class, value)); return true;
+        case "packagescanindexdir":
+        case "PackageScanIndexDir": target.setPackageScanIndexDir(property(camelContext, java.lang.String.class, value)); return true;
         case "packagescanroutebuilders":
         case "PackageScanRouteBuilders": target.setPackageScanRouteBuilders(property(camelContext, java.lang.String.class, value)); return true;
         case "producertemplatecachesize":
@@ -131,6 +139,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RouteControllerInitialDelay": target.setRouteControllerInitialDelay(property(camelContext, long.class, value)); return true;
         case "routecontrollerlogginglevel":
         case "RouteControllerLoggingLevel": target.setRouteControllerLoggingLevel(property(camelContext, org.apache.camel.LoggingLevel.class, value)); return true;
+        case "routecontrollerstartupconcurrency":
+        case "RouteControllerStartupConcurrency": target.setRouteControllerStartupConcurrency(property(camelContext, int.class, value)); return true;
         case "routecontrollersuperviseenabled":
         case "RouteControllerSuperviseEnabled": target.setRouteControllerSuperviseEnabled(property(camelContext, boolean.class, value)); return true;
         case "routecontrollerthreadpoolsize":
@@ -224,6 +234,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "AutoConfigurationEnvironmentVariablesEnabled": return boolean.class;
         case "autoconfigurationfailfast":
         case "AutoConfigurationFailFast": return boolean.class;
+        case "autoconfigurationlazy":
+        case "AutoConfigurationLazy": return boolean.class;
         case "autoconfigurationlogsummary":
         case "AutoConfigurationLogSummary": return boolean.class;
         case "autoconfigurationsystempropertiesenabled":
@@ -274,6 +286,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "ExchangeFactoryStatisticsEnabled": return boolean.class;
         case "fileconfigurations":
         case "FileConfigurations": return java.lang.String.class;
+        case "generatedroutesenabled":
+        case "GeneratedRoutesEnabled": return boolean.class;
+        case "generatedrouteslocation":
+        case "GeneratedRoutesLocation": return java.lang.String.class;
         case "globaloptions":
         case "GlobalOptions": return java.util.Map.class;
         case "inflightrepositorybrowseenabled":
@@ -304,6 +320,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "MessageHistory": return boolean.class;
         case "name":
         case "Name": return java.lang.String.class;
+        case "packagescanindexdir":
+        case "PackageScanIndexDir": return java.lang.String.class;
         case "packagescanroutebuilders":
         case "PackageScanRouteBuilders": return java.lang.String.class;
         case "producertemplatecachesize":
@@ -326,6 +344,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RouteControllerInitialDelay": return long.class;
         case "routecontrollerlogginglevel":
         case "RouteControllerLoggingLevel": return org.apache.camel.LoggingLevel.class;
+        case "routecontrollerstartupconcurrency":
+        case "RouteControllerStartupConcurrency": return int.class;
         case "routecontrollersuperviseenabled":
         case "RouteControllerSuperviseEnabled": return boolean.class;
         case "routecontrollerthreadpoolsize":
@@ -420,6 +440,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "AutoConfigurationEnvironmentVariablesEnabled": return target.isAutoConfigurationEnvironmentVariablesEnabled();
         case "autoconfigurationfailfast":
         case "AutoConfigurationFailFast": return target.isAutoConfigurationFailFast();
+        case "autoconfigurationlazy":
+        case "AutoConfigurationLazy": return target.isAutoConfigurationLazy();
         case "autoconfigurationlogsummary":
         case "AutoConfigurationLogSummary": return target.isAutoConfigurationLogSummary();
         case "autoconfigurationsystempropertiesenabled":
@@ -470,6 +492,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "ExchangeFactoryStatisticsEnabled": return target.isExchangeFactoryStatisticsEnabled();
         case "fileconfigurations":
         case "FileConfigurations": return target.getFileConfigurations();
+        case "generatedroutesenabled":
+        case "GeneratedRoutesEnabled": return target.isGeneratedRoutesEnabled();
+        case "generatedrouteslocation":
+        case "GeneratedRoutesLocation": return target.getGeneratedRoutesLocation();
         case "globaloptions":
         case "GlobalOptions": return target.getGlobalOptions();
         case "inflightrepositorybrowseenabled":
@@ -500,6 +526,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "MessageHistory": return target.isMessageHistory();
         case "name":
         case "Name": return target.getName();
+        case "packagescanindexdir":
+        case "PackageScanIndexDir": return target.getPackageScanIndexDir();
         case "packagescanroutebuilders":
         case "PackageScanRouteBuilders": return target.getPackageScanRouteBuilders();
         case "producertemplatecachesize":
@@ -522,6 +550,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RouteControllerInitialDelay": return target.getRouteControllerInitialDelay();
         case "routecontrollerlogginglevel":
         case "RouteControllerLoggingLevel": return target.getRouteControllerLoggingLevel();
+        case "routecontrollerstartupconcurrency":
+        case "RouteControllerStartupConcurrency": return target.getRouteControllerStartupConcurrency();
         case "routecontrollersuperviseenabled":
         case "RouteControllerSuperviseEnabled": return target.isRouteControllerSuperviseEnabled();
         case "routecontrollerthreadpoolsize":
@@ -45,6 +45,7 @@ import org.apache.camel.health.HealthCheck;
 import org.apache.camel.health.HealthCheckConfiguration;
 import org.apache.camel.health.HealthCheckRegistry;
 import org.apache.camel.health.HealthCheckRepository;
+import org.apache.camel.impl.engine.AbstractCamelContext;
 import org.apache.camel.saga.CamelSagaService;
 import org.apache.camel.spi.AutowiredLifecycleStrategy;
 import org.apache.camel.spi.CamelBeanPostProcessor;
@@ -59,6 +60,7 @@ import org.apache.camel.support.PropertyBindingSupport;
 import org.apache.camel.support.ResourceHelper;
 import org.apache.camel.support.service.BaseService;
 import org.apache.camel.support.startup.LoggingStartupStepRecorder;
+import org.apache.camel.support.startup.ReportingStartupStepRecorder;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.OrderedProperties;
@@ -403,6 +405,10 @@ public abstract class BaseMainSupport extends BaseService {
         loadConfigurations(camelContext);
 
         if (mainConfigurationProperties.isAutoConfigurationEnabled()) {
+            if (mainConfigurationProperties.isAutoConfigurationLazy() && camelContext instanceof AbstractCamelContext) {
+                // do not initialize the standard services upfront
+                ((AbstractCamelContext) camelContext).setInitialization(AbstractCamelContext.Initialization.Lazy);
+            }
             autoConfigurationFromProperties(camelContext, autoConfiguredProperties);
             autowireWildcardProperties(camelContext);
         }
@@ -478,6 +484,8 @@ public abstract class BaseMainSupport extends BaseService {
             camelContext.adapt(ExtendedCamelContext.class).getStartupStepRecorder().setEnabled(false);
         } else if ("logging".equals(mainConfigurationProperties.getStartupRecorder())) {
             camelContext.adapt(ExtendedCamelContext.class).setStartupStepRecorder(new LoggingStartupStepRecorder());
+        } else if ("report".equals(mainConfigurationProperties.getStartupRecorder())) {
+            camelContext.adapt(ExtendedCamelContext.class).setStartupStepRecorder(new ReportingStartupStepRecorder());
         } else if ("jfr".equals(mainConfigurationProperties.getStartupRecorder())
                 || "java-flight-recorder".equals(mainConfigurationProperties.getStartupRecorder())
                 || mainConfigurationProperties.getStartupRecorder() == null) {
@@ -511,6 +519,11 @@ public abstract class BaseMainSupport extends BaseService {
         configurer.setJavaRoutesIncludePattern(mainConfigurationProperties.getJavaRoutesIncludePattern());
         configurer.setRoutesExcludePattern(mainConfigurationProperties.getRoutesExcludePattern());
         configurer.setRoutesIncludePattern(mainConfigurationProperties.getRoutesIncludePattern());
+        if (mainConfigurationProperties.isGeneratedRoutesEnabled()) {
+            configurer.setGeneratedRoutesLocation(mainConfigurationProperties.getGeneratedRoutesLocation());
+        } else {
+            configurer.setGeneratedRoutesLocation(null);
+        }
         configurer.configureRoutes(camelContext);
     }
 
@@ -1233,6 +1246,12 @@ public abstract class BaseMainSupport extends BaseService {
             prop.remove(key);
         }
 
+        if (mainConfigurationProperties.isAutoConfigurationLazy()) {
+            // the components, dataformats and languages are configured when they are used
+            autowireLazyProperties(camelContext, prop);
+            return;
+        }
+
         for (String key : prop.stringPropertyNames()) {
             computeProperties("camel.component.", key, prop, properties, name -> {
                 // its an existing component name
@@ -1319,6 +1338,79 @@ public abstract class BaseMainSupport extends BaseService {
         });
     }
 
+    protected void autowireLazyProperties(CamelContext camelContext, Properties prop) {
+        if (prop.isEmpty()) {
+            return;
+        }
+
+        // configure any pre-existing components and languages as they have been added before we are invoked
+        for (String name : camelContext.getComponentNames()) {
+            doAutowireLazyProperties("camel.component.", name, camelContext.getComponent(name), prop);
+        }
+        for (String name : camelContext.getLanguageNames()) {
+            doAutowireLazyProperties("camel.language.", name, camelContext.resolveLanguage(name), prop);
+        }
+
+        // and configure the components, dataformats and languages when they are used for the first time
+        camelContext.addLifecycleStrategy(new LifecycleStrategySupport() {
+            @Override
+            public void onComponentAdd(String name, Component component) {
+                doAutowireLazyProperties("camel.component.", name, component, prop);
+            }
+
+            @Override
+            public void onDataFormatCreated(String name, DataFormat dataFormat) {
+                doAutowireLazyProperties("camel.dataformat.", name, dataFormat, prop);
+            }
+
+            @Override
+            public void onLanguageCreated(String name, Language language) {
+                doAutowireLazyProperties("camel.language.", name, language, prop);
+            }
+        });
+    }
+
+    protected void doAutowireLazyProperties(String prefix, String name, Object target, Properties prop) {
+        Map<PropertyOptionKey, Map<String, Object>> properties = new LinkedHashMap<>();
+        Map<String, String> autoConfiguredProperties = new LinkedHashMap<>();
+        String match = prefix + name + ".";
+
+        for (String key : prop.stringPropertyNames()) {
+            if (key.startsWith(match)) {
+                computeProperties(prefix, key, prop, properties, s -> Collections.singleton(target));
+            }
+        }
+        if (properties.isEmpty()) {
+            return;
+        }
+
+        try {
+            for (Map.Entry<PropertyOptionKey, Map<String, Object>> entry : properties.entrySet()) {
+                setPropertiesOnTarget(
+                        camelContext,
+                        entry.getKey().getInstance(),
+                        entry.getValue(),
+                        entry.getKey().getOptionPrefix(),
+                        mainConfigurationProperties.isAutoConfigurationFailFast(),
+                        true,
+                        autoConfiguredProperties);
+            }
+            // log summary of configurations
+            if (mainConfigurationProperties.isAutoConfigurationLogSummary() && !autoConfiguredProperties.isEmpty()) {
+                LOG.info("Auto-configuration {} {} summary", prefix.substring(6, prefix.length() - 1), name);
+                autoConfiguredProperties.forEach((k, v) -> {
+                    if (SensitiveUtils.containsSensitive(k)) {
+                        LOG.info("    {}=xxxxxx", k);
+                    } else {
+                        LOG.info("    {}={}", k, v);
+                    }
+                });
+            }
+        } catch (Exception e) {
+            throw RuntimeCamelException.wrapRuntimeException(e);
+        }
+    }
+
     protected void doAutowireWildcardProperties(String name, Component component) {
         Map<PropertyOptionKey, Map<String, Object>> properties = new LinkedHashMap<>();
         Map<String, String> autoConfiguredProperties = new LinkedHashMap<>();
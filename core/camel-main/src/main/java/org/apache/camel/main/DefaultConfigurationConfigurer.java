@@ -32,6 +32,8 @@ import org.apache.camel.cluster.CamelClusterService;
 import org.apache.camel.health.HealthCheckRegistry;
 import org.apache.camel.health.HealthCheckRepository;
 import org.apache.camel.impl.debugger.BacklogTracer;
+import org.apache.camel.impl.engine.BasePackageScanResolver;
+import org.apache.camel.impl.engine.PackageScanIndex;
 import org.apache.camel.impl.engine.PooledExchangeFactory;
 import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
 import org.apache.camel.impl.engine.PrototypeExchangeFactory;
@@ -79,6 +81,7 @@ import org.apache.camel.support.ShortUuidGenerator;
 import org.apache.camel.support.SimpleUuidGenerator;
 import org.apache.camel.support.jsse.GlobalSSLContextParametersSupplier;
 import org.apache.camel.support.startup.LoggingStartupStepRecorder;
+import org.apache.camel.support.startup.ReportingStartupStepRecorder;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -110,6 +113,10 @@ public final class DefaultConfigurationConfigurer {
                 if (!(ecc.getStartupStepRecorder() instanceof LoggingStartupStepRecorder)) {
                     ecc.setStartupStepRecorder(new LoggingStartupStepRecorder());
                 }
+            } else if ("report".equals(config.getStartupRecorder())) {
+                if (!(ecc.getStartupStepRecorder() instanceof ReportingStartupStepRecorder)) {
+                    ecc.setStartupStepRecorder(new ReportingStartupStepRecorder());
+                }
             } else if ("java-flight-recorder".equals(config.getStartupRecorder())) {
                 if (!ecc.getStartupStepRecorder().getClass().getName().startsWith("org.apache.camel.startup.jfr")) {
                     throw new IllegalArgumentException(
@@ -123,6 +130,17 @@ public final class DefaultConfigurationConfigurer {
         ecc.getStartupStepRecorder().setRecordingDir(config.getStartupRecorderDir());
         ecc.getStartupStepRecorder().setRecordingProfile(config.getStartupRecorderProfile());
 
+        if (config.getPackageScanIndexDir() != null) {
+            // share the index between the package scan resolvers
+            PackageScanIndex index = new PackageScanIndex(config.getPackageScanIndexDir());
+            if (ecc.getPackageScanClassResolver() instanceof BasePackageScanResolver) {
+                ((BasePackageScanResolver) ecc.getPackageScanClassResolver()).setPackageScanIndex(index);
+            }
+            if (ecc.getPackageScanResourceResolver() instanceof BasePackageScanResolver) {
+                ((BasePackageScanResolver) ecc.getPackageScanResourceResolver()).setPackageScanIndex(index);
+            }
+        }
+
         ecc.setLightweight(config.isLightweight());
         ecc.getBeanPostProcessor().setEnabled(config.isBeanPostProcessorEnabled());
         ecc.getBeanIntrospection().setExtendedStatistics(config.isBeanIntrospectionExtendedStatistics());
@@ -298,6 +316,9 @@ public final class DefaultConfigurationConfigurer {
         if (config.getRouteControllerLoggingLevel() != null) {
             camelContext.getRouteController().setLoggingLevel(config.getRouteControllerLoggingLevel());
         }
+        if (config.getRouteControllerStartupConcurrency() > 1) {
+            camelContext.getRouteController().setStartupConcurrency(config.getRouteControllerStartupConcurrency());
+        }
     }
 
     /**
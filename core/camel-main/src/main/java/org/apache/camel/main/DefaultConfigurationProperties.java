@@ -91,6 +91,9 @@ public abstract class DefaultConfigurationProperties<T> {
     private String javaRoutesExcludePattern;
     private String routesIncludePattern = "classpath:camel/*,classpath:camel-template/*,classpath:camel-rest/*";
     private String routesExcludePattern;
+    private boolean generatedRoutesEnabled = true;
+    private String generatedRoutesLocation = "META-INF/services/org/apache/camel/generated-routes";
+    private String packageScanIndexDir;
     private boolean lightweight;
     private boolean eagerClassloading;
     @Metadata(defaultValue = "default", enums = "default,prototype,pooled")
@@ -114,8 +117,9 @@ public abstract class DefaultConfigurationProperties<T> {
     private long routeControllerBackOffMaxAttempts;
     private double routeControllerBackOffMultiplier;
     private boolean routeControllerUnhealthyOnExhausted;
+    private int routeControllerStartupConcurrency = 1;
     // startup recorder
-    @Metadata(enums = "false,off,java-flight-recorder,jfr,logging")
+    @Metadata(enums = "false,off,java-flight-recorder,jfr,logging,report")
     private String startupRecorder;
     private int startupRecorderMaxDepth = -1;
     private boolean startupRecorderRecording;
@@ -939,6 +943,47 @@ public abstract class DefaultConfigurationProperties<T> {
         this.routesExcludePattern = routesExcludePattern;
     }
 
+    public boolean isGeneratedRoutesEnabled() {
+        return generatedRoutesEnabled;
+    }
+
+    /**
+     * Whether to use the route builders which are generated at build time from XML routes (by the camel-maven-plugin),
+     * instead of loading and parsing the XML routes they were generated from.
+     *
+     * The generated route builders are only used for the XML routes which are included by the routesIncludePattern (and
+     * not excluded by the routesExcludePattern), and when the routes collector is enabled.
+     */
+    public void setGeneratedRoutesEnabled(boolean generatedRoutesEnabled) {
+        this.generatedRoutesEnabled = generatedRoutesEnabled;
+    }
+
+    public String getGeneratedRoutesLocation() {
+        return generatedRoutesLocation;
+    }
+
+    /**
+     * Location on the classpath of the index of the route builders which are generated at build time from XML routes.
+     */
+    public void setGeneratedRoutesLocation(String generatedRoutesLocation) {
+        this.generatedRoutesLocation = generatedRoutesLocation;
+    }
+
+    public String getPackageScanIndexDir() {
+        return packageScanIndexDir;
+    }
+
+    /**
+     * Directory to store an index of the entries in the JARs on the classpath, which is used when scanning the
+     * classpath for classes (such as type converters and route builders) and resources (such as XML routes).
+     *
+     * The index is keyed by a hash of the classpath, and is created on the first run, so the JARs are not read again
+     * when starting with the same classpath. JARs which have been changed since the index was created are read again.
+     */
+    public void setPackageScanIndexDir(String packageScanIndexDir) {
+        this.packageScanIndexDir = packageScanIndexDir;
+    }
+
     public boolean isLightweight() {
         return lightweight;
     }
@@ -1195,13 +1240,34 @@ public abstract class DefaultConfigurationProperties<T> {
         this.routeControllerUnhealthyOnExhausted = routeControllerUnhealthyOnExhausted;
     }
 
+    public int getRouteControllerStartupConcurrency() {
+        return routeControllerStartupConcurrency;
+    }
+
+    /**
+     * The number of routes which can be started concurrently when Camel is starting up. The default is 1, which means
+     * the routes are started one by one.
+     *
+     * Routes configured with an explicit startup order are started before or after the other routes according to their
+     * order, and routes which share endpoints are started one by one. Starting routes concurrently can speed up
+     * starting Camel when the routes use components which connect to remote systems when starting, such as JMS, Kafka,
+     * or FTP.
+     *
+     * When the supervising route controller is enabled, then this option is only used to warm up the routes, as the
+     * supervised routes are started by the supervising route controller.
+     */
+    public void setRouteControllerStartupConcurrency(int routeControllerStartupConcurrency) {
+        this.routeControllerStartupConcurrency = routeControllerStartupConcurrency;
+    }
+
     public String getStartupRecorder() {
         return startupRecorder;
     }
 
     /**
      * To use startup recorder for capturing execution time during starting Camel. The recorder can be one of: false (or
-     * off), logging, java-flight-recorder (or jfr).
+     * off), logging, report, java-flight-recorder (or jfr). The report recorder logs a report when Camel has been
+     * started, which ranks the components, data formats and languages loaded during startup, and the slowest steps.
      */
     public void setStartupRecorder(String startupRecorder) {
         this.startupRecorder = startupRecorder;
@@ -1874,6 +1940,38 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Directory to store an index of the entries in the JARs on the classpath, which is used when scanning the
+     * classpath for classes (such as type converters and route builders) and resources (such as XML routes).
+     *
+     * The index is keyed by a hash of the classpath, and is created on the first run, so the JARs are not read again
+     * when starting with the same classpath. JARs which have been changed since the index was created are read again.
+     */
+    /**
+     * Whether to use the route builders which are generated at build time from XML routes (by the camel-maven-plugin),
+     * instead of loading and parsing the XML routes they were generated from.
+     *
+     * The generated route builders are only used for the XML routes which are included by the routesIncludePattern (and
+     * not excluded by the routesExcludePattern), and when the routes collector is enabled.
+     */
+    public T withGeneratedRoutesEnabled(boolean generatedRoutesEnabled) {
+        this.generatedRoutesEnabled = generatedRoutesEnabled;
+        return (T) this;
+    }
+
+    /**
+     * Location on the classpath of the index of the route builders which are generated at build time from XML routes.
+     */
+    public T withGeneratedRoutesLocation(String generatedRoutesLocation) {
+        this.generatedRoutesLocation = generatedRoutesLocation;
+        return (T) this;
+    }
+
+    public T withPackageScanIndexDir(String packageScanIndexDir) {
+        this.packageScanIndexDir = packageScanIndexDir;
+        return (T) this;
+    }
+
     /**
      * Configure the context to be lightweight. This will trigger some optimizations and memory reduction options.
      * <p/>
@@ -2087,9 +2185,27 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * The number of routes which can be started concurrently when Camel is starting up. The default is 1, which means
+     * the routes are started one by one.
+     *
+     * Routes configured with an explicit startup order are started before or after the other routes according to their
+     * order, and routes which share endpoints are started one by one. Starting routes concurrently can speed up
+     * starting Camel when the routes use components which connect to remote systems when starting, such as JMS, Kafka,
+     * or FTP.
+     *
+     * When the supervising route controller is enabled, then this option is only used to warm up the routes, as the
+     * supervised routes are started by the supervising route controller.
+     */
+    public T withRouteControllerStartupConcurrency(int routeControllerStartupConcurrency) {
+        this.routeControllerStartupConcurrency = routeControllerStartupConcurrency;
+        return (T) this;
+    }
+
     /**
      * To use startup recorder for capturing execution time during starting Camel. The recorder can be one of: false (or
-     * off), logging, java-flight-recorder (or jfr).
+     * off), logging, report, java-flight-recorder (or jfr). The report recorder logs a report when Camel has been
+     * started, which ranks the components, data formats and languages loaded during startup, and the slowest steps.
      *
      * The default is false.
      */
@@ -37,6 +37,7 @@ public class MainConfigurationProperties extends DefaultConfigurationProperties<
     private boolean autoConfigurationSystemPropertiesEnabled = true;
     private boolean autoConfigurationFailFast = true;
     private boolean autoConfigurationLogSummary = true;
+    private boolean autoConfigurationLazy;
     private int durationHitExitCode;
     private String packageScanRouteBuilders;
 
@@ -303,6 +304,27 @@ public class MainConfigurationProperties extends DefaultConfigurationProperties<
         this.autoConfigurationLogSummary = autoConfigurationLogSummary;
     }
 
+    public boolean isAutoConfigurationLazy() {
+        return autoConfigurationLazy;
+    }
+
+    /**
+     * Whether auto configuration of components, data formats and languages should be lazy. When enabled then the
+     * components, data formats and languages configured with camel.component, camel.dataformat and camel.language
+     * properties are not resolved during startup, but are configured when they are used for the first time. This
+     * reduces the startup time when the configuration includes components, data formats or languages which are not in
+     * use by the routes. This also turns on lazy initialization of CamelContext, which does not initialize standard
+     * services (such as the simple language) upfront.
+     * <p/>
+     * Note that when enabled then properties for unknown components, data formats or languages are not reported as an
+     * error, but are never used.
+     * <p/>
+     * This option is default disabled.
+     */
+    public void setAutoConfigurationLazy(boolean autoConfigurationLazy) {
+        this.autoConfigurationLazy = autoConfigurationLazy;
+    }
+
     public String getPackageScanRouteBuilders() {
         return packageScanRouteBuilders;
     }
@@ -515,6 +537,24 @@ public class MainConfigurationProperties extends DefaultConfigurationProperties<
         return this;
     }
 
+    /**
+     * Whether auto configuration of components, data formats and languages should be lazy. When enabled then the
+     * components, data formats and languages configured with camel.component, camel.dataformat and camel.language
+     * properties are not resolved during startup, but are configured when they are used for the first time. This
+     * reduces the startup time when the configuration includes components, data formats or languages which are not in
+     * use by the routes. This also turns on lazy initialization of CamelContext, which does not initialize standard
+     * services (such as the simple language) upfront.
+     * <p/>
+     * Note that when enabled then properties for unknown components, data formats or languages are not reported as an
+     * error, but are never used.
+     * <p/>
+     * This option is default disabled.
+     */
+    public MainConfigurationProperties withAutoConfigurationLazy(boolean autoConfigurationLazy) {
+        this.autoConfigurationLazy = autoConfigurationLazy;
+        return this;
+    }
+
     /**
      * Sets the exit code for the application if duration was hit
      */
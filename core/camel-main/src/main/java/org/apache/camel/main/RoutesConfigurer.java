@@ -16,9 +16,13 @@
  */
 package org.apache.camel.main;
 
+import java.io.InputStream;
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Enumeration;
 import java.util.List;
+import java.util.Properties;
 import java.util.Set;
 
 import org.apache.camel.CamelContext;
@@ -27,6 +31,7 @@ import org.apache.camel.RoutesBuilder;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.spi.CamelBeanPostProcessor;
 import org.apache.camel.support.OrderedComparator;
+import org.apache.camel.util.AntPathMatcher;
 import org.apache.camel.util.StopWatch;
 import org.apache.camel.util.TimeUtils;
 import org.slf4j.Logger;
@@ -36,6 +41,12 @@ import org.slf4j.LoggerFactory;
  * To configure routes using {@link RoutesCollector} which collects the routes from various sources.
  */
 public class RoutesConfigurer {
+
+    /**
+     * The index of the route builders which are generated at build time from XML routes by the camel-maven-plugin.
+     */
+    public static final String GENERATED_ROUTES = "META-INF/services/org/apache/camel/generated-routes";
+
     private static final Logger LOG = LoggerFactory.getLogger(RoutesConfigurer.class);
 
     private RoutesCollector routesCollector;
@@ -47,6 +58,7 @@ public class RoutesConfigurer {
     private String javaRoutesIncludePattern;
     private String routesExcludePattern;
     private String routesIncludePattern;
+    private String generatedRoutesLocation = GENERATED_ROUTES;
 
     public List<RoutesBuilder> getRoutesBuilders() {
         return routesBuilders;
@@ -104,6 +116,18 @@ public class RoutesConfigurer {
         this.routesIncludePattern = routesIncludePattern;
     }
 
+    public String getGeneratedRoutesLocation() {
+        return generatedRoutesLocation;
+    }
+
+    /**
+     * Location on the classpath of the index of the route builders generated at build time, which are used instead of
+     * loading and parsing the XML routes they were generated from. Set to <tt>null</tt> to not use generated routes.
+     */
+    public void setGeneratedRoutesLocation(String generatedRoutesLocation) {
+        this.generatedRoutesLocation = generatedRoutesLocation;
+    }
+
     public RoutesCollector getRoutesCollector() {
         return routesCollector;
     }
@@ -168,6 +192,14 @@ public class RoutesConfigurer {
             try {
                 LOG.debug("RoutesCollectorEnabled: {}", getRoutesCollector());
 
+                // routes generated at build time are used instead of the xml files they were generated from
+                String routesExcludePattern = getRoutesExcludePattern();
+                List<String> generated = addGeneratedRoutes(camelContext, routes);
+                if (!generated.isEmpty()) {
+                    String excludes = String.join(",", generated);
+                    routesExcludePattern = routesExcludePattern != null ? routesExcludePattern + "," + excludes : excludes;
+                }
+
                 // add discovered routes from registry
                 Collection<RoutesBuilder> routesFromRegistry = getRoutesCollector().collectRoutesFromRegistry(
                         camelContext,
@@ -179,7 +211,7 @@ public class RoutesConfigurer {
                 StopWatch watch = new StopWatch();
                 Collection<RoutesBuilder> routesFromDirectory = getRoutesCollector().collectRoutesFromDirectory(
                         camelContext,
-                        getRoutesExcludePattern(),
+                        routesExcludePattern,
                         getRoutesIncludePattern());
                 routes.addAll(routesFromDirectory);
 
@@ -217,4 +249,57 @@ public class RoutesConfigurer {
             crt.configure(camelContext);
         }
     }
+
+    /**
+     * Adds the route builders listed in the indexes found at the {@link #getGeneratedRoutesLocation()} on the
+     * classpath, which are generated from routes files that are included by the {@link #getRoutesIncludePattern()} (and
+     * not excluded by the {@link #getRoutesExcludePattern()}).
+     *
+     * @return the locations of the routes files the added route builders were generated from
+     */
+    protected List<String> addGeneratedRoutes(CamelContext camelContext, List<RoutesBuilder> routes) throws Exception {
+        List<String> answer = new ArrayList<>();
+        String includePattern = getRoutesIncludePattern();
+        if (getGeneratedRoutesLocation() == null || includePattern == null || "false".equals(includePattern)) {
+            return answer;
+        }
+        String[] includes = includePattern.split(",");
+        String excludePattern = getRoutesExcludePattern();
+        String[] excludes = excludePattern != null && !"false".equals(excludePattern) ? excludePattern.split(",") : null;
+
+        Enumeration<URL> urls = camelContext.getClassResolver().loadAllResourcesAsURL(getGeneratedRoutesLocation());
+        while (urls != null && urls.hasMoreElements()) {
+            URL url = urls.nextElement();
+            Properties index = new Properties();
+            try (InputStream is = url.openStream()) {
+                index.load(is);
+            }
+
+            // the route builder at a given position is generated from the resource at the same position
+            String[] classes = index.getProperty("classes", "").split(",");
+            String[] resources = index.getProperty("resources", "").split(",");
+            if (classes.length != resources.length) {
+                throw new IllegalArgumentException(
+                        "The index of the generated routes: " + url + " must have a resource for each class");
+            }
+            for (int i = 0; i < classes.length; i++) {
+                if (classes[i].isEmpty()) {
+                    continue;
+                }
+                // the same location as the routes file has when it is loaded from the classpath
+                String location = "classpath:" + resources[i];
+                if (!AntPathMatcher.INSTANCE.anyMatch(includes, location)
+                        || excludes != null && AntPathMatcher.INSTANCE.anyMatch(excludes, location)) {
+                    LOG.debug("Skipping generated RoutesBuilder: {} as: {} is not included", classes[i], location);
+                    continue;
+                }
+                Class<RoutesBuilder> routeClazz
+                        = camelContext.getClassResolver().resolveMandatoryClass(classes[i], RoutesBuilder.class);
+                LOG.debug("Adding generated RoutesBuilder: {} from: {}", classes[i], url);
+                routes.add(camelContext.getInjector().newInstance(routeClazz));
+                answer.add(location);
+            }
+        }
+        return answer;
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.direct.DirectComponent;
+import org.apache.camel.component.seda.SedaComponent;
+import org.apache.camel.support.startup.ReportingStartupStepRecorder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MainAutoConfigurationLazyTest {
+
+    @Test
+    public void testLazyAutoConfiguration() throws Exception {
+        Main main = new Main();
+        main.configure().addRoutesBuilder(new MyRouteBuilder());
+        main.configure().withAutoConfigurationLazy(true);
+        // seda and direct are configured in application.properties
+        // unknown components are not resolved so they do not fail
+        main.addProperty("camel.component.unknown.foo", "bar");
+        main.start();
+
+        CamelContext camelContext = main.getCamelContext();
+
+        // seda is used by the route
+        SedaComponent seda = (SedaComponent) camelContext.hasComponent("seda");
+        assertEquals(2, seda.getConcurrentConsumers());
+
+        // direct is not used so it is configured when its used for the first time
+        assertNull(camelContext.hasComponent("direct"));
+        DirectComponent direct = camelContext.getComponent("direct", DirectComponent.class);
+        assertEquals(1234, direct.getTimeout());
+
+        main.stop();
+    }
+
+    @Test
+    public void testStartupReport() throws Exception {
+        Main main = new Main();
+        main.configure().addRoutesBuilder(new MyRouteBuilder());
+        main.configure().withStartupRecorder("report");
+        main.start();
+
+        ExtendedCamelContext ecc = main.getCamelContext().adapt(ExtendedCamelContext.class);
+        assertTrue(ecc.getStartupStepRecorder() instanceof ReportingStartupStepRecorder);
+        ReportingStartupStepRecorder recorder = (ReportingStartupStepRecorder) ecc.getStartupStepRecorder();
+        assertFalse(recorder.getSteps().isEmpty());
+
+        String report = recorder.createReport(0);
+        assertTrue(report.contains("Component seda"), report);
+        assertTrue(report.contains("Slowest steps:"), report);
+
+        main.stop();
+    }
+
+    public static class MyRouteBuilder extends RouteBuilder {
+        @Override
+        public void configure() throws Exception {
+            from("seda:start").to("mock:foo");
+        }
+    }
+
+}
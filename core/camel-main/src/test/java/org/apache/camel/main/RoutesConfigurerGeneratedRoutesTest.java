@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.model.ModelCamelContext;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class RoutesConfigurerGeneratedRoutesTest {
+
+    @Test
+    public void testGeneratedRoutes() throws Exception {
+        MyRoutesCollector collector = new MyRoutesCollector();
+
+        RoutesConfigurer configurer = new RoutesConfigurer();
+        configurer.setGeneratedRoutesLocation("org/apache/camel/main/generated-routes");
+        configurer.setRoutesCollector(collector);
+        configurer.setRoutesIncludePattern("classpath:camel/*.xml");
+        configurer.setRoutesExcludePattern("classpath:camel/other.xml");
+
+        CamelContext context = new DefaultCamelContext();
+        configurer.configureRoutes(context);
+
+        assertEquals(1, context.adapt(ModelCamelContext.class).getRouteDefinitions().size());
+        assertNotNull(context.adapt(ModelCamelContext.class).getRouteDefinition("generated"));
+        // the xml routes the routes were generated from are not loaded
+        assertEquals("classpath:camel/other.xml,classpath:camel/my-routes.xml", collector.excludePattern);
+    }
+
+    @Test
+    public void testGeneratedRoutesNotIncluded() throws Exception {
+        MyRoutesCollector collector = new MyRoutesCollector();
+
+        RoutesConfigurer configurer = new RoutesConfigurer();
+        configurer.setGeneratedRoutesLocation("org/apache/camel/main/generated-routes");
+        configurer.setRoutesCollector(collector);
+        configurer.setRoutesIncludePattern("classpath:routes/*.xml");
+
+        CamelContext context = new DefaultCamelContext();
+        configurer.configureRoutes(context);
+
+        assertEquals(0, context.adapt(ModelCamelContext.class).getRouteDefinitions().size());
+        assertNull(collector.excludePattern);
+    }
+
+    @Test
+    public void testGeneratedRoutesExcluded() throws Exception {
+        MyRoutesCollector collector = new MyRoutesCollector();
+
+        RoutesConfigurer configurer = new RoutesConfigurer();
+        configurer.setGeneratedRoutesLocation("org/apache/camel/main/generated-routes");
+        configurer.setRoutesCollector(collector);
+        configurer.setRoutesIncludePattern("classpath:camel/*.xml");
+        configurer.setRoutesExcludePattern("classpath:camel/my-*.xml");
+
+        CamelContext context = new DefaultCamelContext();
+        configurer.configureRoutes(context);
+
+        assertEquals(0, context.adapt(ModelCamelContext.class).getRouteDefinitions().size());
+        assertEquals("classpath:camel/my-*.xml", collector.excludePattern);
+    }
+
+    @Test
+    public void testGeneratedRoutesRoutesCollectorDisabled() throws Exception {
+        RoutesConfigurer configurer = new RoutesConfigurer();
+        configurer.setGeneratedRoutesLocation("org/apache/camel/main/generated-routes");
+        configurer.setRoutesIncludePattern("classpath:camel/*.xml");
+
+        CamelContext context = new DefaultCamelContext();
+        configurer.configureRoutes(context);
+
+        assertEquals(0, context.adapt(ModelCamelContext.class).getRouteDefinitions().size());
+    }
+
+    @Test
+    public void testNoGeneratedRoutes() throws Exception {
+        MyRoutesCollector collector = new MyRoutesCollector();
+
+        RoutesConfigurer configurer = new RoutesConfigurer();
+        configurer.setRoutesCollector(collector);
+        configurer.setRoutesIncludePattern("classpath:camel/*.xml");
+        configurer.setRoutesExcludePattern("classpath:camel/other.xml");
+
+        CamelContext context = new DefaultCamelContext();
+        configurer.configureRoutes(context);
+
+        assertEquals(0, context.adapt(ModelCamelContext.class).getRouteDefinitions().size());
+        assertEquals("classpath:camel/other.xml", collector.excludePattern);
+    }
+
+    private static class MyRoutesCollector extends DefaultRoutesCollector {
+        private String excludePattern;
+
+        @Override
+        public Collection<RoutesBuilder> collectRoutesFromDirectory(
+                CamelContext camelContext, String excludePattern, String includePattern) {
+            this.excludePattern = excludePattern;
+            return Collections.emptyList();
+        }
+    }
+
+    public static class MyGeneratedRoutes extends RouteBuilder {
+
+        @Override
+        public void configure() throws Exception {
+            from("direct:generated").routeId("generated").to("mock:generated");
+        }
+    }
+}
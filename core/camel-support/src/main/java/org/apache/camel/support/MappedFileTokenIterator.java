@@ -0,0 +1,291 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.util.IOHelper;
+
+import static org.apache.camel.util.BufferCaster.cast;
+
+/**
+ * An {@link Iterator} which splits a file by a delimiter, by scanning the bytes of the file which is memory mapped in
+ * windows, instead of decoding the whole file into characters and matching a regular expression as
+ * {@link org.apache.camel.util.Scanner} does.
+ * <p/>
+ * The tokens are the same as the ones returned by {@link org.apache.camel.util.Scanner} with the same (literal)
+ * delimiter. Each token is only decoded into a String when it is returned by {@link #next()}, directly from the mapped
+ * bytes. The tokens can also be grouped (see {@link #group(int, boolean)}), in which case a group is decoded at once
+ * from the mapped bytes, as the tokens of a group are contiguous in the file.
+ * <p/>
+ * Scanning the bytes is only possible when the encoded delimiter cannot be found in the middle of an encoded character,
+ * which is checked by {@link #isSupported(Charset, String)}.
+ */
+public final class MappedFileTokenIterator implements Iterator<String>, Closeable {
+
+    static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private static final String REGEX_CHARACTERS = "\\.[]{}()*+?^$|";
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGHS = 0x8080808080808080L;
+
+    private final FileChannel channel;
+    private final long size;
+    private final Charset charset;
+    private final String delimiter;
+    private final byte[] delim;
+    private final long pattern;
+    private final int windowSize;
+    private ByteBuffer buffer;
+    // the position in the file of the first byte of the buffer
+    private long offset;
+    // the position in the file from where the buffer must be mapped
+    private long mark;
+    private long position;
+    private int group = 1;
+    private boolean skipFirst;
+    private boolean closed;
+
+    public MappedFileTokenIterator(File file, Charset charset, String delimiter) throws IOException {
+        this(file, charset, delimiter, DEFAULT_WINDOW_SIZE);
+    }
+
+    MappedFileTokenIterator(File file, Charset charset, String delimiter, int windowSize) throws IOException {
+        if (!isSupported(charset, delimiter)) {
+            throw new IllegalArgumentException(
+                    "Cannot scan the bytes of a file in charset: " + charset + " for delimiter: " + delimiter);
+        }
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        this.size = channel.size();
+        this.charset = charset;
+        this.delimiter = delimiter;
+        this.delim = delimiter.getBytes(charset);
+        // the first byte of the delimiter repeated in each byte of a long
+        this.pattern = ONES * (delim[0] & 0xff);
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Whether the tokens of a file can be found by scanning its bytes for the given delimiter.
+     * <p/>
+     * This is the case when the delimiter is a literal (and not a regular expression), and the file is encoded in UTF-8
+     * or in a single byte charset, where the bytes of the delimiter can only be found at the start of a character.
+     *
+     * @param  charset   the charset of the file
+     * @param  delimiter the delimiter
+     * @return           <tt>true</tt> if the bytes of a file can be scanned, <tt>false</tt> otherwise
+     */
+    public static boolean isSupported(Charset charset, String delimiter) {
+        if (delimiter == null || delimiter.isEmpty() || charset == null || !charset.canEncode()) {
+            return false;
+        }
+        for (int i = 0; i < delimiter.length(); i++) {
+            if (REGEX_CHARACTERS.indexOf(delimiter.charAt(i)) != -1) {
+                return false;
+            }
+        }
+        if (!StandardCharsets.UTF_8.equals(charset) && charset.newEncoder().maxBytesPerChar() != 1) {
+            return false;
+        }
+        return charset.newEncoder().canEncode(delimiter);
+    }
+
+    /**
+     * Groups the tokens, the same way as {@link GroupTokenIterator} with the delimiter as token, but without copying
+     * the bytes of the tokens. This must be called before iterating.
+     *
+     * @param  group     number of tokens to group together
+     * @param  skipFirst whether to skip the very first token
+     * @return           this iterator
+     */
+    public MappedFileTokenIterator group(int group, boolean skipFirst) {
+        if (group <= 0) {
+            throw new IllegalArgumentException("Group must be a positive number, was: " + group);
+        }
+        this.group = group;
+        this.skipFirst = skipFirst;
+        return this;
+    }
+
+    public String getDelimiter() {
+        return delimiter;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        boolean answer = hasToken();
+        if (!answer) {
+            // auto close
+            IOHelper.close(this);
+        }
+        return answer;
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        mark = position;
+        if (skipFirst) {
+            skipFirst = false;
+            nextToken();
+            if (!hasToken()) {
+                // content with header only which is marked to skip
+                return "";
+            }
+            mark = position;
+        }
+
+        long start = nextToken();
+        for (int count = 1; count < group && hasToken(); count++) {
+            nextToken();
+        }
+        return decode(start, position);
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        // the mapped buffer is released when it is garbage collected
+        buffer = null;
+        channel.close();
+    }
+
+    private boolean hasToken() {
+        long start = position;
+        if (matches(start)) {
+            start += delim.length;
+        }
+        return start < size;
+    }
+
+    /**
+     * Moves to the end of the next token (which is the start of the following delimiter).
+     *
+     * @return the start of the token
+     */
+    private long nextToken() {
+        // skip the delimiter before the token
+        if (matches(position)) {
+            position += delim.length;
+        }
+        long start = position;
+        long end = indexOf(start);
+        position = end != -1 ? end : size;
+        return start;
+    }
+
+    private boolean matches(long index) {
+        if (index + delim.length > size) {
+            return false;
+        }
+        map(index, index + delim.length);
+        int i = (int) (index - offset);
+        for (byte b : delim) {
+            if (buffer.get(i++) != b) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long indexOf(long from) {
+        long index = from;
+        while (index < size) {
+            map(index, index + 1);
+            int found = indexOfFirstByte((int) (index - offset), buffer.limit());
+            if (found == -1) {
+                // continue in the next window
+                index = offset + buffer.limit();
+            } else {
+                long candidate = offset + found;
+                if (matches(candidate)) {
+                    return candidate;
+                }
+                index = candidate + 1;
+            }
+        }
+        return -1;
+    }
+
+    private int indexOfFirstByte(int from, int to) {
+        int i = from;
+        // compare eight bytes at a time (see "Determine if a word has a byte equal to n" in Bit Twiddling Hacks),
+        // as the buffer is little endian the lowest matching byte is the first one
+        for (; i <= to - Long.BYTES; i += Long.BYTES) {
+            long word = buffer.getLong(i) ^ pattern;
+            long found = (word - ONES) & ~word & HIGHS;
+            if (found != 0) {
+                return i + (Long.numberOfTrailingZeros(found) >>> 3);
+            }
+        }
+        for (; i < to; i++) {
+            if (buffer.get(i) == delim[0]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Ensures the bytes from the mark to the given end are mapped.
+     */
+    private void map(long from, long to) {
+        if (buffer != null && from >= offset && to <= offset + buffer.limit()) {
+            return;
+        }
+        long start = Math.min(mark, from);
+        // a token bigger than a window is mapped in a window twice as big
+        long length = Math.min(size - start, Math.max(windowSize, (to - start) * 2));
+        if (to - start > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Cannot map a token bigger than 2GB at position: " + start);
+        }
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(length, Integer.MAX_VALUE))
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            offset = start;
+        } catch (IOException e) {
+            throw new RuntimeCamelException(e);
+        }
+    }
+
+    private String decode(long start, long end) {
+        if (start == end) {
+            return "";
+        }
+        map(start, end);
+        ByteBuffer slice = buffer.duplicate();
+        cast(slice).limit((int) (end - offset));
+        cast(slice).position((int) (start - offset));
+        return charset.decode(slice).toString();
+    }
+}
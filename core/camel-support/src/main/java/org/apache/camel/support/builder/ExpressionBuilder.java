@@ -16,8 +16,11 @@
  */
 package org.apache.camel.support.builder;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
@@ -40,6 +43,7 @@ import org.apache.camel.Predicate;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.RuntimeExchangeException;
 import org.apache.camel.TypeConverter;
+import org.apache.camel.WrappedFile;
 import org.apache.camel.spi.ClassResolver;
 import org.apache.camel.spi.Language;
 import org.apache.camel.spi.PropertiesComponent;
@@ -50,6 +54,7 @@ import org.apache.camel.support.ExpressionAdapter;
 import org.apache.camel.support.GroupIterator;
 import org.apache.camel.support.GroupTokenIterator;
 import org.apache.camel.support.LanguageSupport;
+import org.apache.camel.support.MappedFileTokenIterator;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.InetAddressUtil;
 import org.apache.camel.util.ObjectHelper;
@@ -71,7 +76,26 @@ public class ExpressionBuilder {
      * @return an expression object which will return the header value
      */
     public static Expression headerExpression(final String headerName) {
-        return headerExpression(simpleExpression(headerName));
+        if (LanguageSupport.hasSimpleFunction(headerName)) {
+            return headerExpression(simpleExpression(headerName));
+        }
+        // the name is constant so the header can be looked up directly
+        return new ExpressionAdapter() {
+            @Override
+            public Object evaluate(Exchange exchange) {
+                Object header = exchange.getIn().getHeader(headerName);
+                if (header == null) {
+                    // fall back on a property
+                    header = exchange.getProperty(headerName);
+                }
+                return header;
+            }
+
+            @Override
+            public String toString() {
+                return "header(" + headerName + ")";
+            }
+        };
     }
 
     /**
@@ -466,7 +490,21 @@ public class ExpressionBuilder {
      * @return an expression object which will return the property value
      */
     public static Expression exchangePropertyExpression(final String propertyName) {
-        return exchangePropertyExpression(simpleExpression(propertyName));
+        if (LanguageSupport.hasSimpleFunction(propertyName)) {
+            return exchangePropertyExpression(simpleExpression(propertyName));
+        }
+        // the name is constant so the property can be looked up directly
+        return new ExpressionAdapter() {
+            @Override
+            public Object evaluate(Exchange exchange) {
+                return exchange.getProperty(propertyName);
+            }
+
+            @Override
+            public String toString() {
+                return "exchangeProperty(" + propertyName + ")";
+            }
+        };
     }
 
     /**
@@ -1202,17 +1240,49 @@ public class ExpressionBuilder {
         return tokenizeExpression(expression, simpleExpression(token));
     }
 
+    /**
+     * Returns a tokenize expression which will tokenize the string with the
+     * given token
+     *
+     * @param memoryMapped whether to tokenize files by scanning their memory
+     *                     mapped bytes when possible
+     * @see MappedFileTokenIterator
+     */
+    public static Expression tokenizeExpression(final Expression expression,
+                                                final String token, final boolean memoryMapped) {
+        return tokenizeExpression(expression, simpleExpression(token), memoryMapped);
+    }
+
     /**
      * Returns a tokenize expression which will tokenize the string with the
      * given token
      */
     public static Expression tokenizeExpression(final Expression expression,
                                                 final Expression token) {
+        return tokenizeExpression(expression, token, false);
+    }
+
+    /**
+     * Returns a tokenize expression which will tokenize the string with the
+     * given token
+     *
+     * @param memoryMapped whether to tokenize files by scanning their memory
+     *                     mapped bytes when possible
+     * @see MappedFileTokenIterator
+     */
+    public static Expression tokenizeExpression(final Expression expression,
+                                                final Expression token, final boolean memoryMapped) {
         return new ExpressionAdapter() {
             @Override
             public Object evaluate(Exchange exchange) {
                 String text = token.evaluate(exchange, String.class);
                 Object value = expression.evaluate(exchange, Object.class);
+                if (memoryMapped) {
+                    Iterator<String> it = createMappedFileTokenIterator(exchange, value, text);
+                    if (it != null) {
+                        return it;
+                    }
+                }
                 Scanner scanner = ExchangeHelper.getScanner(exchange, value, text);
                 return scanner;
             }
@@ -1230,6 +1300,27 @@ public class ExpressionBuilder {
         };
     }
 
+    private static Iterator<String> createMappedFileTokenIterator(Exchange exchange, Object value, String delimiter) {
+        if (value instanceof WrappedFile) {
+            WrappedFile<?> gf = (WrappedFile<?>) value;
+            value = gf.getBody() != null ? gf.getBody() : gf.getFile();
+        }
+        if (!(value instanceof File)) {
+            return null;
+        }
+        // use the same charset as when the file is scanned
+        String charsetName = exchange.getProperty(ExchangePropertyKey.CHARSET_NAME, String.class);
+        Charset charset = charsetName != null ? Charset.forName(charsetName) : Charset.defaultCharset();
+        if (!MappedFileTokenIterator.isSupported(charset, delimiter)) {
+            return null;
+        }
+        try {
+            return new MappedFileTokenIterator((File) value, charset, delimiter);
+        } catch (IOException e) {
+            throw new RuntimeCamelException(e);
+        }
+    }
+
     /**
      * Returns an expression that skips the first element
      */
@@ -1326,6 +1417,7 @@ public class ExpressionBuilder {
     public static Expression groupIteratorExpression(final Expression expression, final String token, final String group, final boolean skipFirst) {
         return new ExpressionAdapter() {
             private Expression groupExp;
+            private Expression tokenExp;
 
             public Object evaluate(Exchange exchange) {
                 // evaluate expression as iterator
@@ -1338,6 +1430,16 @@ public class ExpressionBuilder {
                 } else if (parts <= 0) {
                     throw new RuntimeExchangeException("Group must be a positive number, was: " + parts, exchange);
                 }
+                if (it instanceof MappedFileTokenIterator && token != null) {
+                    MappedFileTokenIterator mapped = (MappedFileTokenIterator) it;
+                    // the token can be a simple expression so evaluate it the same way as the delimiter was
+                    String delimiter = tokenExp.evaluate(exchange, String.class);
+                    // group the mapped bytes of the tokens directly when the token is the delimiter
+                    if (mapped.getDelimiter().equals(delimiter)) {
+                        return mapped.group(parts, skipFirst);
+                    }
+                    return new GroupTokenIterator(exchange, it, delimiter, parts, skipFirst);
+                }
                 if (token != null) {
                     return new GroupTokenIterator(exchange, it, token, parts, skipFirst);
                 } else {
@@ -1350,6 +1452,10 @@ public class ExpressionBuilder {
                 expression.init(context);
                 groupExp = context.resolveLanguage("simple").createExpression(group);
                 groupExp.init(context);
+                if (token != null) {
+                    tokenExp = simpleExpression(token);
+                    tokenExp.init(context);
+                }
             }
 
             @Override
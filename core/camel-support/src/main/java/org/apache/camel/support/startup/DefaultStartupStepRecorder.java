@@ -74,6 +74,9 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
 
     private final AtomicInteger stepCounter = new AtomicInteger();
     private final Deque<Integer> currentSteps = new ArrayDeque<>();
+    // steps begun by other threads than the thread starting Camel, such as when starting routes concurrently
+    private final ThreadLocal<ForkedSteps> forkedSteps = new ThreadLocal<>();
+    private volatile Thread startupThread;
 
     private boolean enabled;
     private int maxDepth = -1;
@@ -151,22 +154,28 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
     @Override
     public void doStop() throws Exception {
         enabled = false;
-        currentSteps.clear();
+        startupThread = null;
+        synchronized (currentSteps) {
+            currentSteps.clear();
+        }
     }
 
     public StartupStep beginStep(Class<?> type, String name, String description) {
         if (enabled) {
-            int level = currentSteps.size() - 1;
-            if (maxDepth != -1 && level >= maxDepth) {
-                return DISABLED_STEP;
+            Deque<Integer> steps = steps();
+            synchronized (steps) {
+                int level = steps.size() - 1;
+                if (maxDepth != -1 && level >= maxDepth) {
+                    return DISABLED_STEP;
+                }
+                int id = stepCounter.incrementAndGet();
+                Integer parent = steps.peekFirst();
+                int pid = parent != null ? parent : 0;
+                StartupStep step = createStartupStep(type.getSimpleName(), name, description, id, pid, level);
+                onBeginStep(step);
+                steps.offerFirst(id);
+                return step;
             }
-            int id = stepCounter.incrementAndGet();
-            Integer parent = currentSteps.peekFirst();
-            int pid = parent != null ? parent : 0;
-            StartupStep step = createStartupStep(type.getSimpleName(), name, description, id, pid, level);
-            onBeginStep(step);
-            currentSteps.offerFirst(id);
-            return step;
         } else {
             return DISABLED_STEP;
         }
@@ -174,12 +183,42 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
 
     public void endStep(StartupStep step) {
         if (step != DISABLED_STEP) {
-            currentSteps.pollFirst();
+            Deque<Integer> steps = steps();
+            synchronized (steps) {
+                steps.pollFirst();
+                ForkedSteps forked = forkedSteps.get();
+                if (forked != null && forked.steps == steps && steps.size() <= forked.size) {
+                    // the thread has ended the steps it has begun, so the next steps may have another parent
+                    forkedSteps.remove();
+                }
+            }
             step.endStep();
             onEndStep(step);
         }
     }
 
+    /**
+     * The current steps of the calling thread, where the steps of other threads than the thread starting Camel, are
+     * children of the current step of the thread starting Camel.
+     */
+    private Deque<Integer> steps() {
+        Thread thread = Thread.currentThread();
+        if (startupThread == null) {
+            startupThread = thread;
+        }
+        if (startupThread == thread) {
+            return currentSteps;
+        }
+        ForkedSteps answer = forkedSteps.get();
+        if (answer == null) {
+            synchronized (currentSteps) {
+                answer = new ForkedSteps(new ArrayDeque<>(currentSteps));
+            }
+            forkedSteps.set(answer);
+        }
+        return answer.steps;
+    }
+
     public StartupStep createStartupStep(String type, String name, String description, int id, int parentId, int level) {
         return new DefaultStartupStep(type, name, description, id, parentId, level, System.currentTimeMillis());
     }
@@ -192,4 +231,15 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
         // noop
     }
 
+    private static final class ForkedSteps {
+
+        private final Deque<Integer> steps;
+        private final int size;
+
+        private ForkedSteps(Deque<Integer> steps) {
+            this.steps = steps;
+            this.size = steps.size();
+        }
+    }
+
 }
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.startup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.camel.StartupStep;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link org.apache.camel.spi.StartupStepRecorder} that logs a report when Camel has been started, which ranks the
+ * components, data formats and languages that was resolved and started during startup, and the slowest steps, by how
+ * long it took. This can be used to find out where the startup time is spent, such as what is loaded eagerly.
+ */
+public class ReportingStartupStepRecorder extends DefaultStartupStepRecorder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReportingStartupStepRecorder.class);
+    private static final String START_CONTEXT = "Start CamelContext";
+
+    private final List<StepDuration> steps = new CopyOnWriteArrayList<>();
+    private int reportSize = 10;
+    private long beginTime;
+
+    public ReportingStartupStepRecorder() {
+        setEnabled(true);
+    }
+
+    public int getReportSize() {
+        return reportSize;
+    }
+
+    /**
+     * The maximum number of entries in each section of the report.
+     */
+    public void setReportSize(int reportSize) {
+        this.reportSize = reportSize;
+    }
+
+    /**
+     * The steps which has been recorded
+     */
+    public List<StepDuration> getSteps() {
+        return steps;
+    }
+
+    @Override
+    protected void onBeginStep(StartupStep step) {
+        if (beginTime == 0) {
+            beginTime = step.getBeginTime();
+        }
+    }
+
+    @Override
+    protected void onEndStep(StartupStep step) {
+        long delta = System.currentTimeMillis() - step.getBeginTime();
+        steps.add(new StepDuration(step, delta));
+
+        if (step.getLevel() == 0 && START_CONTEXT.equals(step.getDescription()) && LOG.isInfoEnabled()) {
+            LOG.info(createReport(System.currentTimeMillis() - beginTime));
+        }
+    }
+
+    /**
+     * Creates the report of the steps which has been recorded.
+     *
+     * @param  total the total startup time in millis
+     * @return       the report
+     */
+    public String createReport(long total) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Startup report (%s steps in %s ms)", steps.size(), total));
+
+        // the components, dataformats and languages with the time spent resolving and starting them
+        Map<String, Long> services = new LinkedHashMap<>();
+        for (StepDuration step : steps) {
+            String type = step.getStep().getType();
+            if (step.getStep().getName() != null
+                    && ("Component".equals(type) || "DataFormat".equals(type) || "Language".equals(type))) {
+                services.merge(type + " " + step.getStep().getName(), step.getDuration(), Long::sum);
+            }
+        }
+        if (!services.isEmpty()) {
+            sb.append(String.format("%n    Loaded %s components, dataformats and languages:", services.size()));
+            services.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long> comparingByValue().reversed())
+                    .limit(reportSize)
+                    .forEach(e -> sb.append(String.format("%n    %6s ms : %s", e.getValue(), e.getKey())));
+        }
+
+        // the slowest steps (the steps wrapping all the other steps are not included)
+        List<StepDuration> slowest = new ArrayList<>();
+        for (StepDuration step : steps) {
+            if (step.getStep().getLevel() > 0) {
+                slowest.add(step);
+            }
+        }
+        if (!slowest.isEmpty()) {
+            sb.append(String.format("%n    Slowest steps:"));
+            slowest.stream()
+                    .sorted(Comparator.comparingLong(StepDuration::getDuration).reversed())
+                    .limit(reportSize)
+                    .forEach(s -> sb.append(String.format("%n    %6s ms : %s - %s(%s)", s.getDuration(),
+                            s.getStep().getType(), s.getStep().getDescription(), s.getStep().getName())));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "report";
+    }
+
+    /**
+     * A recorded step with the time it took.
+     */
+    public static final class StepDuration {
+        private final StartupStep step;
+        private final long duration;
+
+        public StepDuration(StartupStep step, long duration) {
+            this.step = step;
+            this.duration = duration;
+        }
+
+        public StartupStep getStep() {
+            return step;
+        }
+
+        public long getDuration() {
+            return duration;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.apache.camel.util.BufferCaster.cast;
+
+/**
+ * An {@link InputStream} which reads the remaining bytes of one or more {@link ByteBuffer}s in sequence, without
+ * copying the buffers.
+ * <p/>
+ * The stream reads from read-only views of the buffers, so the position and limit of the given buffers are not changed.
+ * This implementation is not thread safe.
+ */
+public class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer[] buffers;
+    private int index;
+    private int markIndex;
+
+    public ByteBufferInputStream(ByteBuffer... buffers) {
+        this(Arrays.asList(buffers));
+    }
+
+    public ByteBufferInputStream(List<ByteBuffer> buffers) {
+        this.buffers = new ByteBuffer[buffers.size()];
+        for (int i = 0; i < this.buffers.length; i++) {
+            ByteBuffer view = buffers.get(i).asReadOnlyBuffer();
+            cast(view).mark();
+            this.buffers[i] = view;
+        }
+    }
+
+    @Override
+    public int read() {
+        ByteBuffer buffer = current();
+        if (buffer == null) {
+            return -1;
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        int total = 0;
+        while (total < len) {
+            ByteBuffer buffer = current();
+            if (buffer == null) {
+                break;
+            }
+            int count = Math.min(len - total, buffer.remaining());
+            buffer.get(b, off + total, count);
+            total += count;
+        }
+        return total == 0 ? -1 : total;
+    }
+
+    @Override
+    public long skip(long n) {
+        long total = 0;
+        while (total < n) {
+            ByteBuffer buffer = current();
+            if (buffer == null) {
+                break;
+            }
+            int count = (int) Math.min(n - total, buffer.remaining());
+            cast(buffer).position(buffer.position() + count);
+            total += count;
+        }
+        return total;
+    }
+
+    @Override
+    public int available() {
+        long answer = 0;
+        for (int i = index; i < buffers.length; i++) {
+            answer += buffers[i].remaining();
+        }
+        return (int) Math.min(answer, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public void mark(int readlimit) {
+        markIndex = index;
+        for (int i = index; i < buffers.length; i++) {
+            cast(buffers[i]).mark();
+        }
+    }
+
+    @Override
+    public void reset() {
+        for (int i = markIndex; i <= index && i < buffers.length; i++) {
+            cast(buffers[i]).reset();
+        }
+        index = markIndex;
+    }
+
+    /**
+     * The buffer to read from, or <tt>null</tt> if all buffers have been read
+     */
+    private ByteBuffer current() {
+        while (index < buffers.length) {
+            ByteBuffer buffer = buffers[index];
+            if (buffer.hasRemaining()) {
+                return buffer;
+            }
+            index++;
+        }
+        return null;
+    }
+}
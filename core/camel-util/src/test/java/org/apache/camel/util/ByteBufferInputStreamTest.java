@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ByteBufferInputStreamTest {
+
+    @Test
+    public void testRead() throws Exception {
+        ByteBuffer first = ByteBuffer.wrap("Hello ".getBytes());
+        ByteBuffer second = ByteBuffer.allocateDirect(8);
+        second.put("World".getBytes());
+        second.flip();
+
+        ByteBufferInputStream is = new ByteBufferInputStream(first, ByteBuffer.allocate(0), second);
+        assertEquals(11, is.available());
+        assertEquals('H', is.read());
+
+        byte[] data = new byte[20];
+        assertEquals(10, is.read(data, 0, 20));
+        assertEquals("ello World", new String(data, 0, 10));
+        assertEquals(-1, is.read());
+        assertEquals(-1, is.read(data, 0, 20));
+        assertEquals(0, is.available());
+
+        // the given buffers are not changed
+        assertEquals(6, first.remaining());
+        assertEquals(5, second.remaining());
+    }
+
+    @Test
+    public void testSkipAndMark() throws Exception {
+        ByteBufferInputStream is
+                = new ByteBufferInputStream(ByteBuffer.wrap("Hello ".getBytes()), ByteBuffer.wrap("World".getBytes()));
+
+        assertEquals(4, is.skip(4));
+        is.mark(100);
+        assertEquals("o World", IOHelper.loadText(is).trim());
+
+        is.reset();
+        assertEquals('o', is.read());
+        assertEquals(6, is.skip(100));
+        assertEquals(-1, is.read());
+    }
+}
@@ -1792,13 +1792,16 @@ public class ModelParser extends BaseParser {
                 case "allowUnmarshallType": def.setAllowUnmarshallType(val); break;
                 case "autoDiscoverObjectMapper": def.setAutoDiscoverObjectMapper(val); break;
                 case "autoDiscoverSchemaResolver": def.setAutoDiscoverSchemaResolver(val); break;
+                case "codec": def.setCodec(val); break;
                 case "collectionType": def.setCollectionTypeName(val); break;
+                case "containerFile": def.setContainerFile(val); break;
                 case "contentTypeHeader": def.setContentTypeHeader(val); break;
                 case "disableFeatures": def.setDisableFeatures(val); break;
                 case "enableFeatures": def.setEnableFeatures(val); break;
                 case "include": def.setInclude(val); break;
                 case "instanceClassName": def.setInstanceClassName(val); break;
                 case "jsonView": def.setJsonViewTypeName(val); break;
+                case "lazyLoad": def.setLazyLoad(val); break;
                 case "library": def.setLibrary(AvroLibrary.valueOf(val)); break;
                 case "moduleClassNames": def.setModuleClassNames(val); break;
                 case "moduleRefs": def.setModuleRefs(val); break;
@@ -1857,6 +1860,7 @@ public class ModelParser extends BaseParser {
             switch (key) {
                 case "allowEmptyStream": def.setAllowEmptyStream(val); break;
                 case "classType": def.setClassType(val); break;
+                case "lazyLoad": def.setLazyLoad(val); break;
                 case "locale": def.setLocale(val); break;
                 case "type": def.setType(val); break;
                 case "unwrapSingleInstance": def.setUnwrapSingleInstance(val); break;
@@ -1929,6 +1933,7 @@ public class ModelParser extends BaseParser {
                 case "skipHeaderRecord": def.setSkipHeaderRecord(val); break;
                 case "trailingDelimiter": def.setTrailingDelimiter(val); break;
                 case "trim": def.setTrim(val); break;
+                case "useFlyweightRows": def.setUseFlyweightRows(val); break;
                 case "useMaps": def.setUseMaps(val); break;
                 case "useOrderedMaps": def.setUseOrderedMaps(val); break;
                 default: return identifiedTypeAttributeHandler().accept(def, key, val);
@@ -2020,8 +2025,16 @@ public class ModelParser extends BaseParser {
         }, noElementHandler(), noValueHandler());
     }
     protected GzipDataFormat doParseGzipDataFormat() throws IOException, XmlPullParserException {
-        return doParse(new GzipDataFormat(),
-            identifiedTypeAttributeHandler(), noElementHandler(), noValueHandler());
+        return doParse(new GzipDataFormat(), (def, key, val) -> {
+            switch (key) {
+                case "blockSize": def.setBlockSize(val); break;
+                case "compressionLevel": def.setCompressionLevel(val); break;
+                case "parallel": def.setParallel(val); break;
+                case "parallelism": def.setParallelism(val); break;
+                default: return identifiedTypeAttributeHandler().accept(def, key, val);
+            }
+            return true;
+        }, noElementHandler(), noValueHandler());
     }
     protected HL7DataFormat doParseHL7DataFormat() throws IOException, XmlPullParserException {
         return doParse(new HL7DataFormat(), (def, key, val) -> {
@@ -2053,6 +2066,7 @@ public class ModelParser extends BaseParser {
                 case "enableJaxbAnnotationModule": def.setEnableJaxbAnnotationModule(val); break;
                 case "include": def.setInclude(val); break;
                 case "jsonView": def.setJsonViewTypeName(val); break;
+                case "lazyLoad": def.setLazyLoad(val); break;
                 case "moduleClassNames": def.setModuleClassNames(val); break;
                 case "moduleRefs": def.setModuleRefs(val); break;
                 case "prettyPrint": def.setPrettyPrint(val); break;
@@ -2085,6 +2099,8 @@ public class ModelParser extends BaseParser {
                 case "schema": def.setSchema(val); break;
                 case "schemaLocation": def.setSchemaLocation(val); break;
                 case "schemaSeverityLevel": def.setSchemaSeverityLevel(val); break;
+                case "streamingElement": def.setStreamingElement(val); break;
+                case "streamingRootElement": def.setStreamingRootElement(val); break;
                 case "xmlStreamWriterWrapper": def.setXmlStreamWriterWrapper(val); break;
                 default: return identifiedTypeAttributeHandler().accept(def, key, val);
             }
@@ -2115,6 +2131,7 @@ public class ModelParser extends BaseParser {
                 case "enableFeatures": def.setEnableFeatures(val); break;
                 case "include": def.setInclude(val); break;
                 case "jsonView": def.setJsonViewTypeName(val); break;
+                case "lazyLoad": def.setLazyLoad(val); break;
                 case "library": def.setLibrary(JsonLibrary.valueOf(val)); break;
                 case "moduleClassNames": def.setModuleClassNames(val); break;
                 case "moduleRefs": def.setModuleRefs(val); break;
@@ -2175,6 +2192,19 @@ public class ModelParser extends BaseParser {
             return true;
         }, noElementHandler(), noValueHandler());
     }
+    protected ParquetAvroDataFormat doParseParquetAvroDataFormat() throws IOException, XmlPullParserException {
+        return doParse(new ParquetAvroDataFormat(), (def, key, val) -> {
+            switch (key) {
+                case "columns": def.setColumns(val); break;
+                case "compressionCodecName": def.setCompressionCodecName(val); break;
+                case "lazyLoad": def.setLazyLoad(val); break;
+                case "rowGroupSize": def.setRowGroupSize(val); break;
+                case "unmarshalType": def.setUnmarshalTypeName(val); break;
+                default: return identifiedTypeAttributeHandler().accept(def, key, val);
+            }
+            return true;
+        }, noElementHandler(), noValueHandler());
+    }
     protected ProtobufDataFormat doParseProtobufDataFormat() throws IOException, XmlPullParserException {
         return doParse(new ProtobufDataFormat(), (def, key, val) -> {
             switch (key) {
@@ -2185,11 +2215,13 @@ public class ModelParser extends BaseParser {
                 case "collectionType": def.setCollectionTypeName(val); break;
                 case "contentTypeFormat": def.setContentTypeFormat(val); break;
                 case "contentTypeHeader": def.setContentTypeHeader(val); break;
+                case "delimited": def.setDelimited(val); break;
                 case "disableFeatures": def.setDisableFeatures(val); break;
                 case "enableFeatures": def.setEnableFeatures(val); break;
                 case "include": def.setInclude(val); break;
                 case "instanceClass": def.setInstanceClass(val); break;
                 case "jsonView": def.setJsonViewTypeName(val); break;
+                case "lazyLoad": def.setLazyLoad(val); break;
                 case "library": def.setLibrary(ProtobufLibrary.valueOf(val)); break;
                 case "moduleClassNames": def.setModuleClassNames(val); break;
                 case "moduleRefs": def.setModuleRefs(val); break;
@@ -2559,6 +2591,7 @@ public class ModelParser extends BaseParser {
                 case "headerName": def.setHeaderName(val); break;
                 case "includeTokens": def.setIncludeTokens(val); break;
                 case "inheritNamespaceTagName": def.setInheritNamespaceTagName(val); break;
+                case "memoryMapped": def.setMemoryMapped(val); break;
                 case "regex": def.setRegex(val); break;
                 case "skipFirst": def.setSkipFirst(val); break;
                 case "token": def.setToken(val); break;
@@ -3211,6 +3244,7 @@ public class ModelParser extends BaseParser {
             case "lzf": return doParseLZFDataFormat();
             case "mime-multipart": return doParseMimeMultipartDataFormat();
             case "pgp": return doParsePGPDataFormat();
+            case "parquetAvro": return doParseParquetAvroDataFormat();
             case "protobuf": return doParseProtobufDataFormat();
             case "rss": return doParseRssDataFormat();
             case "soapjaxb": return doParseSoapJaxbDataFormat();
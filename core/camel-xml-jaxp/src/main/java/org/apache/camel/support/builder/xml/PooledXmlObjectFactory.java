@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.builder.xml;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.apache.camel.support.PooledObjectFactorySupport;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.function.ThrowingSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bounded pool of compiled XML artifacts which are expensive to create and not thread-safe, such as
+ * {@link javax.xml.transform.Transformer}, {@link javax.xml.xpath.XPathExpression} and
+ * {@link javax.xml.validation.Validator}.
+ * <p/>
+ * A new object is created when the pool is empty, and objects which do not fit into the pool when released are
+ * discarded. The pool can be pre-warmed with a number of objects when it is started, so the first messages after
+ * startup do not pay the compilation costs.
+ * <p/>
+ * When statistics is enabled, then the acquired counter is the number of pool hits, {@link #getMissedCounter()} is the
+ * number of pool misses and the created counter is the number of objects created, which includes the objects created
+ * when pre-warming the pool.
+ */
+public class PooledXmlObjectFactory<T> extends PooledObjectFactorySupport<T> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PooledXmlObjectFactory.class);
+
+    private final ThrowingSupplier<T, Exception> factory;
+    private final Consumer<T> reset;
+    private final LongAdder missed = new LongAdder();
+    private int preWarm;
+
+    /**
+     * Creates a pool.
+     *
+     * @param source   the owner of the pool (used for logging)
+     * @param capacity the maximum number of objects kept in the pool
+     * @param factory  for creating new objects
+     * @param reset    for resetting objects before they are put back into the pool, can be <tt>null</tt>
+     */
+    public PooledXmlObjectFactory(Object source, int capacity, ThrowingSupplier<T, Exception> factory, Consumer<T> reset) {
+        super(source);
+        ObjectHelper.notNull(factory, "factory");
+        this.capacity = capacity;
+        this.factory = factory;
+        this.reset = reset;
+    }
+
+    /**
+     * Number of objects to create and add to the pool when the pool is started (will not exceed the capacity).
+     */
+    public int getPreWarm() {
+        return preWarm;
+    }
+
+    public void setPreWarm(int preWarm) {
+        this.preWarm = preWarm;
+    }
+
+    /**
+     * Number of times an object was not available in the pool and a new object had to be created (only counted when
+     * statistics is enabled).
+     */
+    public long getMissedCounter() {
+        return missed.longValue();
+    }
+
+    @Override
+    public void resetStatistics() {
+        super.resetStatistics();
+        missed.reset();
+    }
+
+    @Override
+    public T acquire() {
+        return pool != null ? pool.poll() : null;
+    }
+
+    /**
+     * Acquires an object from the pool, or creates a new object if the pool is empty.
+     */
+    public T acquireOrCreate() throws Exception {
+        T answer = acquire();
+        if (answer == null) {
+            if (statistics != null) {
+                missed.increment();
+            }
+            answer = create();
+        } else if (statistics != null) {
+            statistics.acquired.increment();
+        }
+        return answer;
+    }
+
+    @Override
+    public boolean release(T t) {
+        if (t == null) {
+            return false;
+        }
+        try {
+            if (reset != null) {
+                reset.accept(t);
+            }
+            boolean inserted = pool != null && pool.offer(t);
+            if (statistics != null) {
+                if (inserted) {
+                    statistics.released.increment();
+                } else {
+                    statistics.discarded.increment();
+                }
+            }
+            return inserted;
+        } catch (Throwable e) {
+            if (statistics != null) {
+                statistics.discarded.increment();
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Fills the pool up to the configured pre-warm size.
+     */
+    public void preWarm() throws Exception {
+        if (pool == null) {
+            return;
+        }
+        int count = Math.min(preWarm, capacity) - pool.size();
+        for (int i = 0; i < count; i++) {
+            if (!pool.offer(create())) {
+                break;
+            }
+        }
+        if (count > 0) {
+            LOG.debug("Pre-warmed {} with {} objects", this, count);
+        }
+    }
+
+    protected T create() throws Exception {
+        T answer = factory.get();
+        if (statistics != null) {
+            statistics.created.increment();
+        }
+        return answer;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        preWarm();
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        super.doShutdown();
+        missed.reset();
+    }
+
+    @Override
+    public String toString() {
+        if (source != null) {
+            return "PooledXmlObjectFactory[source: " + source + ", capacity: " + getCapacity() + "]";
+        } else {
+            return "PooledXmlObjectFactory[capacity: " + getCapacity() + "]";
+        }
+    }
+}
@@ -28,6 +28,7 @@ import javax.xml.transform.Source;
 import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.Validator;
 
 import org.w3c.dom.ls.LSResourceResolver;
 
@@ -35,6 +36,7 @@ import org.xml.sax.SAXException;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.support.ResourceHelper;
+import org.apache.camel.support.builder.xml.PooledXmlObjectFactory;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
@@ -65,6 +67,9 @@ public class SchemaReader {
     private byte[] schemaAsByteArray;
     private final String schemaResourceUri;
     private LSResourceResolver resourceResolver;
+    private int validatorPoolSize;
+    // the pooled validators belongs to the schema they were created from
+    private volatile ValidatorPool validatorPool;
 
     private final CamelContext camelContext;
 
@@ -173,6 +178,52 @@ public class SchemaReader {
         this.resourceResolver = resourceResolver;
     }
 
+    public int getValidatorPoolSize() {
+        return validatorPoolSize;
+    }
+
+    /**
+     * The number of {@link Validator}s to keep in a pool for reuse, to avoid creating a new validator from the schema
+     * for every message. The pool is discarded when the schema is re-loaded. By default no pooling is in use.
+     */
+    public void setValidatorPoolSize(int validatorPoolSize) {
+        this.validatorPoolSize = validatorPoolSize;
+    }
+
+    /**
+     * Gets the current pool of {@link Validator}s.
+     *
+     * @return the pool, or <tt>null</tt> if no pooling is in use or no validators has been pooled yet
+     */
+    public PooledXmlObjectFactory<Validator> getValidatorPool() {
+        ValidatorPool answer = validatorPool;
+        return answer != null ? answer.pool : null;
+    }
+
+    /**
+     * Gets the pool of {@link Validator}s created from the given schema. A new pool is created if the schema has been
+     * changed since the pool was created.
+     *
+     * @param  schema the schema
+     * @return        the pool, or <tt>null</tt> if no pooling is in use
+     */
+    public PooledXmlObjectFactory<Validator> getValidatorPool(Schema schema) {
+        if (validatorPoolSize <= 0 || schema == null) {
+            return null;
+        }
+        ValidatorPool answer = validatorPool;
+        if (answer == null || answer.schema != schema) {
+            synchronized (this) {
+                answer = validatorPool;
+                if (answer == null || answer.schema != schema) {
+                    answer = new ValidatorPool(schema, validatorPoolSize);
+                    validatorPool = answer;
+                }
+            }
+        }
+        return answer.pool;
+    }
+
     protected SchemaFactory createSchemaFactory() {
         SchemaFactory factory = SchemaFactory.newInstance(schemaLanguage);
         if (getResourceResolver() != null) {
@@ -246,6 +297,21 @@ public class SchemaReader {
         return bytes;
     }
 
+    private static final class ValidatorPool {
+        private final Schema schema;
+        private final PooledXmlObjectFactory<Validator> pool;
+
+        private ValidatorPool(Schema schema, int size) {
+            this.schema = schema;
+            // do not use Validator.reset() as the JDK validator then fails on the next validation,
+            // and the error handler is the only state which is changed per message
+            this.pool = new PooledXmlObjectFactory<>(schema, size, schema::newValidator, v -> v.setErrorHandler(null));
+            this.pool.setPreWarm(size);
+            this.pool.setStatisticsEnabled(true);
+            this.pool.build();
+        }
+    }
+
     private static byte[] getBytes(InputStream stream) throws IOException {
         ByteArrayOutputStream bos = new ByteArrayOutputStream();
         IOHelper.copy(IOHelper.buffered(stream), bos);
@@ -49,6 +49,7 @@ import org.apache.camel.ExpectedBodyTypeException;
 import org.apache.camel.RuntimeTransformException;
 import org.apache.camel.TypeConverter;
 import org.apache.camel.support.AsyncProcessorSupport;
+import org.apache.camel.support.builder.xml.PooledXmlObjectFactory;
 import org.apache.camel.support.builder.xml.XMLConverterHelper;
 import org.apache.camel.util.IOHelper;
 import org.slf4j.Logger;
@@ -101,7 +102,9 @@ public class ValidatingProcessor extends AsyncProcessorSupport {
             schema = createSchema();
         }
 
-        Validator validator = schema.newValidator();
+        // use a pooled validator if possible as creating a new validator is expensive
+        PooledXmlObjectFactory<Validator> validatorPool = isUseSharedSchema() ? schemaReader.getValidatorPool(schema) : null;
+        Validator validator = validatorPool != null ? validatorPool.acquireOrCreate() : schema.newValidator();
         // turn off access to external schema by default
         if (!Boolean.parseBoolean(exchange.getContext().getGlobalOptions().get(ACCESS_EXTERNAL_DTD))) {
             try {
@@ -175,6 +178,9 @@ public class ValidatingProcessor extends AsyncProcessorSupport {
             }
         } finally {
             IOHelper.close(is);
+            if (validatorPool != null) {
+                validatorPool.release(validator);
+            }
         }
     }
 
@@ -285,6 +291,14 @@ public class ValidatingProcessor extends AsyncProcessorSupport {
         schemaReader.setResourceResolver(resourceResolver);
     }
 
+    public int getValidatorPoolSize() {
+        return schemaReader.getValidatorPoolSize();
+    }
+
+    public void setValidatorPoolSize(int validatorPoolSize) {
+        schemaReader.setValidatorPoolSize(validatorPoolSize);
+    }
+
     public boolean isFailOnNullBody() {
         return failOnNullBody;
     }
@@ -312,6 +326,18 @@ public class ValidatingProcessor extends AsyncProcessorSupport {
     // Implementation methods
     // -----------------------------------------------------------------------
 
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (isUseSharedSchema() && getValidatorPoolSize() > 0) {
+            // create the pooled validators up front
+            PooledXmlObjectFactory<Validator> validatorPool = schemaReader.getValidatorPool(getSchema());
+            if (validatorPool != null) {
+                validatorPool.preWarm();
+            }
+        }
+    }
+
     protected SchemaFactory createSchemaFactory() {
         return schemaReader.createSchemaFactory();
     }
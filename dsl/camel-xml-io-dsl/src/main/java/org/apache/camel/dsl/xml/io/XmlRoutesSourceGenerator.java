@@ -0,0 +1,591 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dsl.xml.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.xml.namespace.QName;
+
+import org.apache.camel.model.RoutesDefinition;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.StringHelper;
+import org.apache.camel.xml.in.ModelParser;
+
+/**
+ * Generates the Java source code of a {@link org.apache.camel.builder.RouteBuilder} which creates the same route
+ * model as an XML routes file, so the XML can be parsed at build time instead of when Camel is starting.
+ * <p/>
+ * The generated route builder is equivalent to the route builder created by {@link XmlRoutesBuilderLoader}: the
+ * routes, route templates and rests are created by calling the setters of the model classes, in the same way as
+ * {@link ModelParser} does when parsing the XML. The model properties are discovered from the JAXB annotations of
+ * the model classes, so any element or attribute which can be parsed from XML is supported.
+ */
+public class XmlRoutesSourceGenerator {
+
+    private static final String XML_ANNOTATION = "javax.xml.bind.annotation.";
+    private static final String XML_TRANSIENT = XML_ANNOTATION + "XmlTransient";
+    private static final String XML_ACCESSOR_TYPE = XML_ANNOTATION + "XmlAccessorType";
+
+    private final Map<Class<?>, List<ModelProperty>> properties = new HashMap<>();
+    private final Map<Class<?>, Object> defaults = new HashMap<>();
+
+    public XmlRoutesSourceGenerator() {
+        // the model properties are discovered from the jaxb annotations which are only visible if the api is present
+        if (!isModel(RoutesDefinition.class)) {
+            throw new IllegalStateException(
+                    "Cannot find the JAXB annotations of the Camel model. Add the JAXB API to the classpath.");
+        }
+    }
+
+    /**
+     * Generates the source code of a route builder from the XML routes.
+     *
+     * @param  packageName the package of the generated class
+     * @param  className   the simple name of the generated class
+     * @param  location    the location of the XML file (used in the comments of the generated source)
+     * @param  xml         the XML routes, routes templates or rests
+     * @return             the source code, or <tt>null</tt> if the XML did not contain any routes, route templates or
+     *                     rests
+     */
+    public String generate(String packageName, String className, String location, InputStream xml) throws Exception {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        IOHelper.copy(xml, bos);
+        byte[] data = bos.toByteArray();
+
+        Object routes = parse(data, ModelParser::parseRoutesDefinition);
+        Object templates = parse(data, ModelParser::parseRouteTemplatesDefinition);
+        Object rests = parse(data, ModelParser::parseRestsDefinition);
+        if (routes == null && templates == null && rests == null) {
+            return null;
+        }
+
+        SourceWriter writer = new SourceWriter();
+        StringBuilder configure = new StringBuilder();
+        if (templates != null) {
+            configure.append("        setRouteTemplateCollection(").append(writer.method("routeTemplates", templates))
+                    .append("());\n");
+        }
+        if (rests != null) {
+            configure.append("        setRestCollection(").append(writer.method("rests", rests)).append("());\n");
+        }
+        if (routes != null) {
+            writer.addImports("org.apache.camel.model.RouteDefinition", "org.apache.camel.model.RouteDefinitionHelper",
+                    "org.apache.camel.model.RoutesDefinition");
+            String method = writer.method("routes", routes);
+            configure.append("        RoutesDefinition routes = ").append(method).append("();\n");
+            configure.append("        // xml routes must be marked as un-prepared as camel-core\n");
+            configure.append("        // must do special handling for XML DSL\n");
+            configure.append("        for (RouteDefinition route : routes.getRoutes()) {\n");
+            configure.append("            RouteDefinitionHelper.prepareRoute(getContext(), route);\n");
+            configure.append("            route.markPrepared();\n");
+            configure.append("        }\n");
+            configure.append("        setRouteCollection(routes);\n");
+        }
+        writer.addImports("org.apache.camel.builder.RouteBuilder");
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("/* Generated by camel build tools from ").append(location).append(" - do NOT edit this file! */\n");
+        if (packageName != null && !packageName.isEmpty()) {
+            sb.append("package ").append(packageName).append(";\n\n");
+        }
+        for (String name : writer.imports) {
+            sb.append("import ").append(name).append(";\n");
+        }
+        sb.append("\n");
+        sb.append("/**\n");
+        sb.append(" * Routes from ").append(location).append("\n");
+        sb.append(" */\n");
+        sb.append("public class ").append(className).append(" extends RouteBuilder {\n\n");
+        sb.append("    @Override\n");
+        sb.append("    public void configure() throws Exception {\n");
+        sb.append(configure);
+        sb.append("    }\n");
+        sb.append(writer.methods);
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private static Object parse(byte[] data, ParserFunction function) throws Exception {
+        // like the xml routes loader we support xml with and without the namespace
+        Optional<?> answer;
+        try (InputStream is = new ByteArrayInputStream(data)) {
+            answer = function.parse(new ModelParser(is, XmlRoutesBuilderLoader.NAMESPACE));
+        }
+        if (!answer.isPresent()) {
+            try (InputStream is = new ByteArrayInputStream(data)) {
+                answer = function.parse(new ModelParser(is));
+            }
+        }
+        return answer.orElse(null);
+    }
+
+    /**
+     * The properties of the given model class which are mapped to XML, in the order of the class hierarchy (super
+     * classes first) and sorted by name.
+     */
+    List<ModelProperty> properties(Class<?> type) {
+        List<ModelProperty> answer = properties.get(type);
+        if (answer != null) {
+            return answer;
+        }
+
+        answer = new ArrayList<>();
+        if (type.getSuperclass() != null && type.getSuperclass() != Object.class) {
+            answer.addAll(properties(type.getSuperclass()));
+        }
+        Collection<String> names = new TreeSet<>();
+        for (ModelProperty property : answer) {
+            names.add(property.name);
+        }
+        String access = accessType(type);
+
+        Map<String, ModelProperty> declared = new TreeMap<>();
+        for (Field field : type.getDeclaredFields()) {
+            int mod = field.getModifiers();
+            if (Modifier.isStatic(mod) || Modifier.isTransient(mod) || isXmlTransient(field)) {
+                continue;
+            }
+            boolean mapped = isXmlMapped(field)
+                    || "FIELD".equals(access)
+                    || "PUBLIC_MEMBER".equals(access) && Modifier.isPublic(mod);
+            if (mapped && !names.contains(field.getName())) {
+                field.setAccessible(true);
+                declared.put(field.getName(), new ModelProperty(type, field.getName(), field, null));
+            }
+        }
+        for (Method setter : type.getDeclaredMethods()) {
+            if (!isSetter(setter)) {
+                continue;
+            }
+            String name = decapitalize(setter.getName().substring(3));
+            Method getter = getter(type, name);
+            if (getter == null || isXmlTransient(setter) || isXmlTransient(getter)) {
+                continue;
+            }
+            boolean mapped = isXmlMapped(setter) || isXmlMapped(getter)
+                    || "PROPERTY".equals(access) || "PUBLIC_MEMBER".equals(access);
+            if (mapped && !names.contains(name) && !declared.containsKey(name)) {
+                declared.put(name, new ModelProperty(type, name, null, getter));
+            }
+        }
+        answer.addAll(declared.values());
+
+        properties.put(type, answer);
+        return answer;
+    }
+
+    private Object defaultValue(Class<?> type, ModelProperty property) throws Exception {
+        Object instance = defaults.get(type);
+        if (instance == null) {
+            instance = type.getConstructor().newInstance();
+            defaults.put(type, instance);
+        }
+        return property.read(instance);
+    }
+
+    private static boolean isSetter(Method method) {
+        String name = method.getName();
+        int mod = method.getModifiers();
+        return Modifier.isPublic(mod) && !Modifier.isStatic(mod) && !method.isBridge() && method.getParameterCount() == 1
+                && name.length() > 3 && name.startsWith("set");
+    }
+
+    private static Method getter(Class<?> type, String name) {
+        String suffix = StringHelper.capitalize(name);
+        for (String prefix : new String[] { "get", "is" }) {
+            try {
+                Method method = type.getMethod(prefix + suffix);
+                if (method.getReturnType() != void.class) {
+                    return method;
+                }
+            } catch (NoSuchMethodException e) {
+                // try next
+            }
+        }
+        return null;
+    }
+
+    private static Method setter(Class<?> type, String name, Class<?> valueType) {
+        String methodName = "set" + StringHelper.capitalize(name);
+        for (Method method : type.getMethods()) {
+            if (isSetter(method) && method.getName().equals(methodName)
+                    && method.getParameterTypes()[0].isAssignableFrom(valueType)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private static String accessType(Class<?> type) {
+        for (Annotation annotation : type.getAnnotations()) {
+            if (XML_ACCESSOR_TYPE.equals(annotation.annotationType().getName())) {
+                try {
+                    return annotation.annotationType().getMethod("value").invoke(annotation).toString();
+                } catch (Exception e) {
+                    // ignore
+                }
+            }
+        }
+        return "PUBLIC_MEMBER";
+    }
+
+    private static boolean isXmlTransient(AnnotatedElement element) {
+        for (Annotation annotation : element.getAnnotations()) {
+            if (XML_TRANSIENT.equals(annotation.annotationType().getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isXmlMapped(AnnotatedElement element) {
+        for (Annotation annotation : element.getAnnotations()) {
+            String name = annotation.annotationType().getName();
+            if (name.startsWith(XML_ANNOTATION) && !XML_TRANSIENT.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isModel(Class<?> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            return false;
+        }
+        boolean xml = false;
+        for (Annotation annotation : type.getAnnotations()) {
+            String name = annotation.annotationType().getName();
+            if ((XML_ANNOTATION + "XmlRootElement").equals(name) || (XML_ANNOTATION + "XmlType").equals(name)) {
+                xml = true;
+            }
+        }
+        try {
+            return xml && Modifier.isPublic(type.getConstructor().getModifiers());
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static String decapitalize(String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    static String literal(String text) {
+        StringBuilder sb = new StringBuilder(text.length() + 2);
+        sb.append('"');
+        for (char ch : text.toCharArray()) {
+            escape(sb, ch);
+        }
+        return sb.append('"').toString();
+    }
+
+    private static void escape(StringBuilder sb, char ch) {
+        switch (ch) {
+            case '"':
+                sb.append("\\\"");
+                break;
+            case '\\':
+                sb.append("\\\\");
+                break;
+            case '\n':
+                sb.append("\\n");
+                break;
+            case '\r':
+                sb.append("\\r");
+                break;
+            case '\t':
+                sb.append("\\t");
+                break;
+            default:
+                if (ch < 0x20 || ch > 0x7e) {
+                    sb.append(String.format("\\u%04x", (int) ch));
+                } else {
+                    sb.append(ch);
+                }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ParserFunction {
+        Optional<?> parse(ModelParser parser) throws Exception;
+    }
+
+    /**
+     * A property of a model class, which is read using its field or getter and written using its setter (or by adding
+     * to the collection or map returned by the getter).
+     */
+    static final class ModelProperty {
+        final Class<?> owner;
+        final String name;
+        final Field field;
+        final Method getter;
+
+        ModelProperty(Class<?> owner, String name, Field field, Method getter) {
+            this.owner = owner;
+            this.name = name;
+            this.field = field;
+            this.getter = getter;
+        }
+
+        Object read(Object instance) throws Exception {
+            return field != null ? field.get(instance) : getter.invoke(instance);
+        }
+
+        @Override
+        public String toString() {
+            return owner.getName() + "." + name;
+        }
+    }
+
+    /**
+     * Writes the statements which create the model, with one method per route, route template and rest so the
+     * generated methods do not become too large.
+     */
+    private final class SourceWriter {
+        private final Set<String> imports = new TreeSet<>();
+        private final Map<String, String> simpleNames = new HashMap<>();
+        private final StringBuilder methods = new StringBuilder();
+        private final Map<String, Integer> methodNames = new HashMap<>();
+        private StringBuilder body;
+        private int variables;
+
+        void addImports(String... names) {
+            for (String name : names) {
+                String simple = name.substring(name.lastIndexOf('.') + 1);
+                simpleNames.put(simple, name);
+                imports.add(name);
+            }
+        }
+
+        /**
+         * Writes a method which creates the given model and returns the name of the method.
+         */
+        String method(String prefix, Object model) throws Exception {
+            String name = "create" + StringHelper.capitalize(prefix);
+            if (body != null) {
+                // the route, route template or rest number
+                name += methodNames.merge(prefix, 1, Integer::sum);
+            }
+
+            StringBuilder parent = body;
+            int parentVariables = variables;
+            body = new StringBuilder();
+            variables = 0;
+
+            boolean root = parent == null;
+            String result = model(model, root);
+
+            methods.append("\n");
+            methods.append("    private ").append(typeName(model.getClass())).append(" ").append(name).append("() {\n");
+            methods.append(body);
+            methods.append("        return ").append(result).append(";\n");
+            methods.append("    }\n");
+
+            body = parent;
+            variables = parentVariables;
+            return name;
+        }
+
+        private String model(Object model, boolean root) throws Exception {
+            Class<?> type = model.getClass();
+            if (!isModel(type)) {
+                throw new IllegalArgumentException("Cannot generate source code for " + type.getName());
+            }
+            String var = "v" + variables++;
+            String typeName = typeName(type);
+            statement(typeName, " ", var, " = new ", typeName, "()");
+
+            for (ModelProperty property : properties(type)) {
+                Object value = property.read(model);
+                Object defaultValue = defaultValue(type, property);
+                if (value == null || isEqual(value, defaultValue)) {
+                    continue;
+                }
+                if (value instanceof Collection) {
+                    writeCollection(var, type, property, (Collection<?>) value, defaultValue != null, root);
+                } else if (value instanceof Map) {
+                    writeMap(var, type, property, (Map<?, ?>) value, defaultValue != null);
+                } else {
+                    Method setter = setter(type, property.name, value.getClass());
+                    if (setter == null) {
+                        throw new IllegalArgumentException("Cannot find setter for property " + property);
+                    }
+                    String expression = value(value, property);
+                    statement(var, ".", setter.getName(), "(", expression, ")");
+                }
+            }
+            return var;
+        }
+
+        private void writeCollection(
+                String var, Class<?> type, ModelProperty property, Collection<?> values, boolean existing, boolean root)
+                throws Exception {
+            List<String> expressions = new ArrayList<>(values.size());
+            for (Object element : values) {
+                // each route, route template and rest is created in its own method
+                if (root && isModel(element.getClass())) {
+                    String prefix = element.getClass().getSimpleName().replace("Definition", "");
+                    expressions.add(method(prefix, element) + "()");
+                } else {
+                    expressions.add(value(element, property));
+                }
+            }
+            if (existing) {
+                // the list is created by the model class, so add to the list like the xml parser does
+                String getter = getterName(type, property);
+                for (String expression : expressions) {
+                    statement(var, ".", getter, "().add(", expression, ")");
+                }
+            } else {
+                Method setter = setter(type, property.name, List.class);
+                if (setter == null) {
+                    throw new IllegalArgumentException("Cannot find setter for property " + property);
+                }
+                addImports("java.util.ArrayList", "java.util.Arrays");
+                String list = "new ArrayList<>(Arrays.asList(" + String.join(", ", expressions) + "))";
+                statement(var, ".", setter.getName(), "(", list, ")");
+            }
+        }
+
+        private void writeMap(String var, Class<?> type, ModelProperty property, Map<?, ?> values, boolean existing)
+                throws Exception {
+            String target;
+            Method setter = null;
+            if (existing) {
+                target = var + "." + getterName(type, property) + "()";
+            } else {
+                setter = setter(type, property.name, Map.class);
+                if (setter == null) {
+                    throw new IllegalArgumentException("Cannot find setter for property " + property);
+                }
+                addImports("java.util.LinkedHashMap");
+                target = "v" + variables++;
+                statement(setter.getGenericParameterTypes()[0].getTypeName(), " ", target, " = new LinkedHashMap<>()");
+            }
+            for (Map.Entry<?, ?> entry : values.entrySet()) {
+                String key = value(entry.getKey(), property);
+                String value = value(entry.getValue(), property);
+                statement(target, ".put(", key, ", ", value, ")");
+            }
+            if (setter != null) {
+                statement(var, ".", setter.getName(), "(", target, ")");
+            }
+        }
+
+        private String value(Object value, ModelProperty property) throws Exception {
+            if (value == null) {
+                return "null";
+            } else if (value instanceof String) {
+                return literal((String) value);
+            } else if (value instanceof Boolean || value instanceof Integer) {
+                return value.toString();
+            } else if (value instanceof Long) {
+                return value + "L";
+            } else if (value instanceof Double) {
+                return value + "d";
+            } else if (value instanceof Float) {
+                return value + "f";
+            } else if (value instanceof Short) {
+                return "(short) " + value;
+            } else if (value instanceof Byte) {
+                return "(byte) " + value;
+            } else if (value instanceof Character) {
+                StringBuilder sb = new StringBuilder("'");
+                escape(sb, (Character) value);
+                return sb.append("'").toString();
+            } else if (value instanceof Enum) {
+                return typeName(((Enum<?>) value).getDeclaringClass()) + "." + ((Enum<?>) value).name();
+            } else if (value instanceof QName) {
+                QName name = (QName) value;
+                addImports(QName.class.getName());
+                return "new QName(" + literal(name.getNamespaceURI()) + ", " + literal(name.getLocalPart()) + ", "
+                       + literal(name.getPrefix()) + ")";
+            } else if (value.getClass().isArray()) {
+                List<String> elements = new ArrayList<>();
+                for (int i = 0; i < Array.getLength(value); i++) {
+                    elements.add(value(Array.get(value, i), property));
+                }
+                String typeName = typeName(value.getClass().getComponentType());
+                return "new " + typeName + "[] { " + String.join(", ", elements) + " }";
+            } else if (isModel(value.getClass())) {
+                return model(value, false);
+            }
+            throw new IllegalArgumentException(
+                    "Cannot generate source code for property " + property + " of type " + value.getClass().getName());
+        }
+
+        private void statement(String... parts) {
+            body.append("        ");
+            for (String part : parts) {
+                body.append(part);
+            }
+            body.append(";\n");
+        }
+
+        private String getterName(Class<?> type, ModelProperty property) {
+            return property.getter != null ? property.getter.getName() : getter(type, property.name).getName();
+        }
+
+        private String typeName(Class<?> type) {
+            if (type.isPrimitive() || type.getName().startsWith("java.lang.") && type.getDeclaringClass() == null) {
+                return type.getSimpleName();
+            }
+            // import the top level class and refer to nested classes by their outer class
+            Class<?> top = type;
+            while (top.getDeclaringClass() != null) {
+                top = top.getDeclaringClass();
+            }
+            String simple = top.getSimpleName();
+            String existing = simpleNames.putIfAbsent(simple, top.getName());
+            String prefix;
+            if (existing == null || existing.equals(top.getName())) {
+                imports.add(top.getName());
+                prefix = simple;
+            } else {
+                prefix = top.getName();
+            }
+            return prefix + type.getCanonicalName().substring(top.getCanonicalName().length());
+        }
+    }
+
+    private static boolean isEqual(Object value, Object defaultValue) {
+        if (value instanceof Collection && defaultValue == null) {
+            return ((Collection<?>) value).isEmpty();
+        } else if (value instanceof Map && defaultValue == null) {
+            return ((Map<?, ?>) value).isEmpty();
+        }
+        return Objects.equals(value, defaultValue);
+    }
+}
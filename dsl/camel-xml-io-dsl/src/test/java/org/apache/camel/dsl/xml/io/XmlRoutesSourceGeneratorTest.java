@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dsl.xml.io;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class XmlRoutesSourceGeneratorTest {
+
+    @Test
+    public void canGenerateRoutes() throws Exception {
+        String content = ""
+                         + "<routes xmlns=\"http://camel.apache.org/schema/spring\">"
+                         + "   <route id=\"foo\" startupOrder=\"5\">"
+                         + "      <description>My \"foo\" route</description>"
+                         + "      <from uri=\"direct:foo\"/>"
+                         + "      <choice>"
+                         + "         <when>"
+                         + "            <simple>${header.foo} == 'bar'</simple>"
+                         + "            <to uri=\"mock:bar\" pattern=\"InOnly\"/>"
+                         + "         </when>"
+                         + "         <otherwise>"
+                         + "            <to uri=\"mock:other\"/>"
+                         + "         </otherwise>"
+                         + "      </choice>"
+                         + "   </route>"
+                         + "   <route>"
+                         + "      <from uri=\"direct:bar\"/>"
+                         + "      <routeProperty key=\"a\" value=\"b\"/>"
+                         + "      <to uri=\"mock:bar\"/>"
+                         + "   </route>"
+                         + "</routes>";
+
+        String source = generate(content);
+
+        assertTrue(source.contains("package org.foo;"), source);
+        assertTrue(source.contains("public class MyRoutes extends RouteBuilder {"), source);
+        assertTrue(source.contains("RoutesDefinition routes = createRoutes();"), source);
+        assertTrue(source.contains("RouteDefinitionHelper.prepareRoute(getContext(), route);"), source);
+        assertTrue(source.contains("setRouteCollection(routes);"), source);
+        assertTrue(source.contains("v0.getRoutes().add(createRoute1());"), source);
+        assertTrue(source.contains("v0.getRoutes().add(createRoute2());"), source);
+        assertTrue(source.contains("v0.setId(\"foo\");"), source);
+        assertTrue(source.contains("v0.setStartupOrder(5);"), source);
+        assertTrue(source.contains(".setText(\"My \\\"foo\\\" route\");"), source);
+        assertTrue(source.contains(".setUri(\"direct:foo\");"), source);
+        assertTrue(source.contains(".setExpression(\"${header.foo} == 'bar'\");"), source);
+        assertTrue(source.contains(".setPattern(\"InOnly\");"), source);
+        assertTrue(source.contains(".getWhenClauses().add("), source);
+        assertTrue(source.contains(".setOtherwise("), source);
+        assertTrue(source.contains(".setRouteProperties(new ArrayList<>(Arrays.asList("), source);
+    }
+
+    @Test
+    public void canGenerateRests() throws Exception {
+        String content = ""
+                         + "<rests xmlns=\"http://camel.apache.org/schema/spring\">"
+                         + "  <rest id=\"bar\" path=\"/say/hello\">"
+                         + "    <get uri=\"/bar\">"
+                         + "      <to uri=\"mock:bar\"/>"
+                         + "    </get>"
+                         + "  </rest>"
+                         + "</rests>";
+
+        String source = generate(content);
+
+        assertTrue(source.contains("setRestCollection(createRests());"), source);
+        assertTrue(source.contains("v0.getRests().add(createRest1());"), source);
+        assertTrue(source.contains("GetVerbDefinition v1 = new GetVerbDefinition();"), source);
+        assertTrue(source.contains("v1.setUri(\"/bar\");"), source);
+    }
+
+    @Test
+    public void canGenerateTemplates() throws Exception {
+        String content = ""
+                         + "<routeTemplates>"
+                         + "  <routeTemplate id=\"myTemplate\">"
+                         + "    <templateParameter name=\"foo\"/>"
+                         + "    <templateParameter name=\"bar\" defaultValue=\"x\"/>"
+                         + "    <route>"
+                         + "      <from uri=\"direct:{{foo}}\"/>"
+                         + "      <to uri=\"mock:{{bar}}\"/>"
+                         + "    </route>"
+                         + "  </routeTemplate>"
+                         + "</routeTemplates>";
+
+        String source = generate(content);
+
+        assertTrue(source.contains("setRouteTemplateCollection(createRouteTemplates());"), source);
+        assertTrue(source.contains("v0.getRouteTemplates().add(createRouteTemplate1());"), source);
+        assertTrue(source.contains(".setDefaultValue(\"x\");"), source);
+        assertTrue(source.contains(".setUri(\"mock:{{bar}}\");"), source);
+    }
+
+    @Test
+    public void noRoutes() throws Exception {
+        assertNull(generate("<beans/>"));
+    }
+
+    private static String generate(String content) throws Exception {
+        return new XmlRoutesSourceGenerator().generate("org.foo", "MyRoutes", "classpath:my-routes.xml",
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -151,6 +151,7 @@ import org.apache.camel.model.dataformat.JsonDataFormat;
 import org.apache.camel.model.dataformat.LZFDataFormat;
 import org.apache.camel.model.dataformat.MimeMultipartDataFormat;
 import org.apache.camel.model.dataformat.PGPDataFormat;
+import org.apache.camel.model.dataformat.ParquetAvroDataFormat;
 import org.apache.camel.model.dataformat.ProtobufDataFormat;
 import org.apache.camel.model.dataformat.RssDataFormat;
 import org.apache.camel.model.dataformat.SoapJaxbDataFormat;
@@ -579,7 +580,9 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "allow-unmarshall-type", type = "boolean"),
                     @YamlProperty(name = "auto-discover-object-mapper", type = "boolean"),
                     @YamlProperty(name = "auto-discover-schema-resolver", type = "boolean"),
+                    @YamlProperty(name = "codec", type = "string"),
                     @YamlProperty(name = "collection-type", type = "string"),
+                    @YamlProperty(name = "container-file", type = "boolean"),
                     @YamlProperty(name = "content-type-header", type = "boolean"),
                     @YamlProperty(name = "disable-features", type = "string"),
                     @YamlProperty(name = "enable-features", type = "string"),
@@ -587,6 +590,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "include", type = "string"),
                     @YamlProperty(name = "instance-class-name", type = "string"),
                     @YamlProperty(name = "json-view", type = "string"),
+                    @YamlProperty(name = "lazy-load", type = "boolean"),
                     @YamlProperty(name = "library", type = "enum:ApacheAvro,Jackson,dataFormatName"),
                     @YamlProperty(name = "module-class-names", type = "string"),
                     @YamlProperty(name = "module-refs", type = "string"),
@@ -637,11 +641,21 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setAutoDiscoverSchemaResolver(val);
                     break;
                 }
+                case "codec": {
+                    String val = asText(node);
+                    target.setCodec(val);
+                    break;
+                }
                 case "collection-type": {
                     String val = asText(node);
                     target.setCollectionTypeName(val);
                     break;
                 }
+                case "container-file": {
+                    String val = asText(node);
+                    target.setContainerFile(val);
+                    break;
+                }
                 case "content-type-header": {
                     String val = asText(node);
                     target.setContentTypeHeader(val);
@@ -677,6 +691,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setJsonViewTypeName(val);
                     break;
                 }
+                case "lazy-load": {
+                    String val = asText(node);
+                    target.setLazyLoad(val);
+                    break;
+                }
                 case "library": {
                     target.setLibrary(org.apache.camel.model.dataformat.AvroLibrary.valueOf(asText(node)));
                     break;
@@ -1072,6 +1091,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "allow-empty-stream", type = "boolean"),
                     @YamlProperty(name = "class-type", type = "string"),
                     @YamlProperty(name = "id", type = "string"),
+                    @YamlProperty(name = "lazy-load", type = "boolean"),
                     @YamlProperty(name = "locale", type = "string"),
                     @YamlProperty(name = "type", type = "string", required = true),
                     @YamlProperty(name = "unwrap-single-instance", type = "boolean")
@@ -1106,6 +1126,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setId(val);
                     break;
                 }
+                case "lazy-load": {
+                    String val = asText(node);
+                    target.setLazyLoad(val);
+                    break;
+                }
                 case "locale": {
                     String val = asText(node);
                     target.setLocale(val);
@@ -2304,6 +2329,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "skip-header-record", type = "boolean"),
                     @YamlProperty(name = "trailing-delimiter", type = "boolean"),
                     @YamlProperty(name = "trim", type = "boolean"),
+                    @YamlProperty(name = "use-flyweight-rows", type = "boolean"),
                     @YamlProperty(name = "use-maps", type = "boolean"),
                     @YamlProperty(name = "use-ordered-maps", type = "boolean")
             }
@@ -2467,6 +2493,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setTrim(val);
                     break;
                 }
+                case "use-flyweight-rows": {
+                    String val = asText(node);
+                    target.setUseFlyweightRows(val);
+                    break;
+                }
                 case "use-maps": {
                     String val = asText(node);
                     target.setUseMaps(val);
@@ -2791,6 +2822,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "json-api", type = "object:org.apache.camel.model.dataformat.JsonApiDataFormat"),
                     @YamlProperty(name = "lzf", type = "object:org.apache.camel.model.dataformat.LZFDataFormat"),
                     @YamlProperty(name = "mime-multipart", type = "object:org.apache.camel.model.dataformat.MimeMultipartDataFormat"),
+                    @YamlProperty(name = "parquet-avro", type = "object:org.apache.camel.model.dataformat.ParquetAvroDataFormat"),
                     @YamlProperty(name = "pgp", type = "object:org.apache.camel.model.dataformat.PGPDataFormat"),
                     @YamlProperty(name = "protobuf", type = "object:org.apache.camel.model.dataformat.ProtobufDataFormat"),
                     @YamlProperty(name = "ref", type = "string"),
@@ -2952,6 +2984,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setDataFormatType(val);
                     break;
                 }
+                case "parquet-avro": {
+                    org.apache.camel.model.dataformat.ParquetAvroDataFormat val = asType(node, org.apache.camel.model.dataformat.ParquetAvroDataFormat.class);
+                    target.setDataFormatType(val);
+                    break;
+                }
                 case "protobuf": {
                     org.apache.camel.model.dataformat.ProtobufDataFormat val = asType(node, org.apache.camel.model.dataformat.ProtobufDataFormat.class);
                     target.setDataFormatType(val);
@@ -3094,6 +3131,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "json-api", type = "object:org.apache.camel.model.dataformat.JsonApiDataFormat"),
                     @YamlProperty(name = "lzf", type = "object:org.apache.camel.model.dataformat.LZFDataFormat"),
                     @YamlProperty(name = "mime-multipart", type = "object:org.apache.camel.model.dataformat.MimeMultipartDataFormat"),
+                    @YamlProperty(name = "parquet-avro", type = "object:org.apache.camel.model.dataformat.ParquetAvroDataFormat"),
                     @YamlProperty(name = "pgp", type = "object:org.apache.camel.model.dataformat.PGPDataFormat"),
                     @YamlProperty(name = "protobuf", type = "object:org.apache.camel.model.dataformat.ProtobufDataFormat"),
                     @YamlProperty(name = "rss", type = "object:org.apache.camel.model.dataformat.RssDataFormat"),
@@ -3372,6 +3410,16 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setDataFormats(existing);
                     break;
                 }
+                case "parquet-avro": {
+                    org.apache.camel.model.dataformat.ParquetAvroDataFormat val = asType(node, org.apache.camel.model.dataformat.ParquetAvroDataFormat.class);
+                    java.util.List<org.apache.camel.model.DataFormatDefinition> existing = target.getDataFormats();
+                    if (existing == null) {
+                        existing = new java.util.ArrayList<>();
+                    }
+                    existing.add(val);
+                    target.setDataFormats(existing);
+                    break;
+                }
                 case "protobuf": {
                     org.apache.camel.model.dataformat.ProtobufDataFormat val = asType(node, org.apache.camel.model.dataformat.ProtobufDataFormat.class);
                     java.util.List<org.apache.camel.model.DataFormatDefinition> existing = target.getDataFormats();
@@ -5616,7 +5664,13 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
             types = org.apache.camel.model.dataformat.GzipDataFormat.class,
             order = org.apache.camel.dsl.yaml.common.YamlDeserializerResolver.ORDER_LOWEST - 1,
             nodes = "gzipdeflater",
-            properties = @YamlProperty(name = "id", type = "string")
+            properties = {
+                    @YamlProperty(name = "block-size", type = "number"),
+                    @YamlProperty(name = "compression-level", type = "number"),
+                    @YamlProperty(name = "id", type = "string"),
+                    @YamlProperty(name = "parallel", type = "boolean"),
+                    @YamlProperty(name = "parallelism", type = "number")
+            }
     )
     public static class GzipDataFormatDeserializer extends YamlDeserializerBase<GzipDataFormat> {
         public GzipDataFormatDeserializer() {
@@ -5632,11 +5686,31 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
         protected boolean setProperty(GzipDataFormat target, String propertyKey,
                 String propertyName, Node node) {
             switch(propertyKey) {
+                case "block-size": {
+                    String val = asText(node);
+                    target.setBlockSize(val);
+                    break;
+                }
+                case "compression-level": {
+                    String val = asText(node);
+                    target.setCompressionLevel(val);
+                    break;
+                }
                 case "id": {
                     String val = asText(node);
                     target.setId(val);
                     break;
                 }
+                case "parallel": {
+                    String val = asText(node);
+                    target.setParallel(val);
+                    break;
+                }
+                case "parallelism": {
+                    String val = asText(node);
+                    target.setParallelism(val);
+                    break;
+                }
                 default: {
                     return false;
                 }
@@ -6766,6 +6840,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "id", type = "string"),
                     @YamlProperty(name = "include", type = "string"),
                     @YamlProperty(name = "json-view", type = "string"),
+                    @YamlProperty(name = "lazy-load", type = "boolean"),
                     @YamlProperty(name = "module-class-names", type = "string"),
                     @YamlProperty(name = "module-refs", type = "string"),
                     @YamlProperty(name = "pretty-print", type = "boolean"),
@@ -6838,6 +6913,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setJsonViewTypeName(val);
                     break;
                 }
+                case "lazy-load": {
+                    String val = asText(node);
+                    target.setLazyLoad(val);
+                    break;
+                }
                 case "module-class-names": {
                     String val = asText(node);
                     target.setModuleClassNames(val);
@@ -6900,6 +6980,8 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "schema", type = "string"),
                     @YamlProperty(name = "schema-location", type = "string"),
                     @YamlProperty(name = "schema-severity-level", type = "number"),
+                    @YamlProperty(name = "streaming-element", type = "string"),
+                    @YamlProperty(name = "streaming-root-element", type = "string"),
                     @YamlProperty(name = "xml-stream-writer-wrapper", type = "string")
             }
     )
@@ -7012,6 +7094,16 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setSchemaSeverityLevel(val);
                     break;
                 }
+                case "streaming-element": {
+                    String val = asText(node);
+                    target.setStreamingElement(val);
+                    break;
+                }
+                case "streaming-root-element": {
+                    String val = asText(node);
+                    target.setStreamingRootElement(val);
+                    break;
+                }
                 case "xml-stream-writer-wrapper": {
                     String val = asText(node);
                     target.setXmlStreamWriterWrapper(val);
@@ -7168,6 +7260,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "id", type = "string"),
                     @YamlProperty(name = "include", type = "string"),
                     @YamlProperty(name = "json-view", type = "string"),
+                    @YamlProperty(name = "lazy-load", type = "boolean"),
                     @YamlProperty(name = "library", type = "enum:Fastjson,Gson,Jackson,Johnzon,Jsonb,XStream"),
                     @YamlProperty(name = "module-class-names", type = "string"),
                     @YamlProperty(name = "module-refs", type = "string"),
@@ -7255,6 +7348,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setJsonViewTypeName(val);
                     break;
                 }
+                case "lazy-load": {
+                    String val = asText(node);
+                    target.setLazyLoad(val);
+                    break;
+                }
                 case "library": {
                     target.setLibrary(org.apache.camel.model.dataformat.JsonLibrary.valueOf(asText(node)));
                     break;
@@ -8003,6 +8101,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "json-api", type = "object:org.apache.camel.model.dataformat.JsonApiDataFormat"),
                     @YamlProperty(name = "lzf", type = "object:org.apache.camel.model.dataformat.LZFDataFormat"),
                     @YamlProperty(name = "mime-multipart", type = "object:org.apache.camel.model.dataformat.MimeMultipartDataFormat"),
+                    @YamlProperty(name = "parquet-avro", type = "object:org.apache.camel.model.dataformat.ParquetAvroDataFormat"),
                     @YamlProperty(name = "pgp", type = "object:org.apache.camel.model.dataformat.PGPDataFormat"),
                     @YamlProperty(name = "protobuf", type = "object:org.apache.camel.model.dataformat.ProtobufDataFormat"),
                     @YamlProperty(name = "rss", type = "object:org.apache.camel.model.dataformat.RssDataFormat"),
@@ -8161,6 +8260,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setDataFormatType(val);
                     break;
                 }
+                case "parquet-avro": {
+                    org.apache.camel.model.dataformat.ParquetAvroDataFormat val = asType(node, org.apache.camel.model.dataformat.ParquetAvroDataFormat.class);
+                    target.setDataFormatType(val);
+                    break;
+                }
                 case "protobuf": {
                     org.apache.camel.model.dataformat.ProtobufDataFormat val = asType(node, org.apache.camel.model.dataformat.ProtobufDataFormat.class);
                     target.setDataFormatType(val);
@@ -9331,6 +9435,71 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
         }
     }
 
+    @YamlType(
+            types = org.apache.camel.model.dataformat.ParquetAvroDataFormat.class,
+            order = org.apache.camel.dsl.yaml.common.YamlDeserializerResolver.ORDER_LOWEST - 1,
+            nodes = "parquet-avro",
+            properties = {
+                    @YamlProperty(name = "columns", type = "string"),
+                    @YamlProperty(name = "compression-codec-name", type = "string"),
+                    @YamlProperty(name = "id", type = "string"),
+                    @YamlProperty(name = "lazy-load", type = "boolean"),
+                    @YamlProperty(name = "row-group-size", type = "number"),
+                    @YamlProperty(name = "unmarshal-type", type = "string")
+            }
+    )
+    public static class ParquetAvroDataFormatDeserializer extends YamlDeserializerBase<ParquetAvroDataFormat> {
+        public ParquetAvroDataFormatDeserializer() {
+            super(ParquetAvroDataFormat.class);
+        }
+
+        @Override
+        protected ParquetAvroDataFormat newInstance() {
+            return new ParquetAvroDataFormat();
+        }
+
+        @Override
+        protected boolean setProperty(ParquetAvroDataFormat target, String propertyKey,
+                String propertyName, Node node) {
+            switch(propertyKey) {
+                case "columns": {
+                    String val = asText(node);
+                    target.setColumns(val);
+                    break;
+                }
+                case "compression-codec-name": {
+                    String val = asText(node);
+                    target.setCompressionCodecName(val);
+                    break;
+                }
+                case "id": {
+                    String val = asText(node);
+                    target.setId(val);
+                    break;
+                }
+                case "lazy-load": {
+                    String val = asText(node);
+                    target.setLazyLoad(val);
+                    break;
+                }
+                case "row-group-size": {
+                    String val = asText(node);
+                    target.setRowGroupSize(val);
+                    break;
+                }
+                case "unmarshal-type": {
+                    String val = asText(node);
+                    target.setUnmarshalTypeName(val);
+                    break;
+                }
+                default: {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     @YamlType(
             types = org.apache.camel.model.cloud.PassThroughServiceCallServiceFilterConfiguration.class,
             order = org.apache.camel.dsl.yaml.common.YamlDeserializerResolver.ORDER_LOWEST - 1,
@@ -10052,12 +10221,14 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "collection-type", type = "string"),
                     @YamlProperty(name = "content-type-format", type = "string"),
                     @YamlProperty(name = "content-type-header", type = "boolean"),
+                    @YamlProperty(name = "delimited", type = "boolean"),
                     @YamlProperty(name = "disable-features", type = "string"),
                     @YamlProperty(name = "enable-features", type = "string"),
                     @YamlProperty(name = "id", type = "string"),
                     @YamlProperty(name = "include", type = "string"),
                     @YamlProperty(name = "instance-class", type = "string"),
                     @YamlProperty(name = "json-view", type = "string"),
+                    @YamlProperty(name = "lazy-load", type = "boolean"),
                     @YamlProperty(name = "library", type = "enum:GoogleProtobuf,Jackson,dataFormatName"),
                     @YamlProperty(name = "module-class-names", type = "string"),
                     @YamlProperty(name = "module-refs", type = "string"),
@@ -10123,6 +10294,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setContentTypeHeader(val);
                     break;
                 }
+                case "delimited": {
+                    String val = asText(node);
+                    target.setDelimited(val);
+                    break;
+                }
                 case "disable-features": {
                     String val = asText(node);
                     target.setDisableFeatures(val);
@@ -10153,6 +10329,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setJsonViewTypeName(val);
                     break;
                 }
+                case "lazy-load": {
+                    String val = asText(node);
+                    target.setLazyLoad(val);
+                    break;
+                }
                 case "library": {
                     target.setLibrary(org.apache.camel.model.dataformat.ProtobufLibrary.valueOf(asText(node)));
                     break;
@@ -15680,6 +15861,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "id", type = "string"),
                     @YamlProperty(name = "include-tokens", type = "boolean"),
                     @YamlProperty(name = "inherit-namespace-tag-name", type = "string"),
+                    @YamlProperty(name = "memory-mapped", type = "boolean"),
                     @YamlProperty(name = "regex", type = "boolean"),
                     @YamlProperty(name = "skip-first", type = "boolean"),
                     @YamlProperty(name = "token", type = "string", required = true),
@@ -15746,6 +15928,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setInheritNamespaceTagName(val);
                     break;
                 }
+                case "memory-mapped": {
+                    String val = asText(node);
+                    target.setMemoryMapped(val);
+                    break;
+                }
                 case "regex": {
                     String val = asText(node);
                     target.setRegex(val);
@@ -16543,6 +16730,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "json-api", type = "object:org.apache.camel.model.dataformat.JsonApiDataFormat"),
                     @YamlProperty(name = "lzf", type = "object:org.apache.camel.model.dataformat.LZFDataFormat"),
                     @YamlProperty(name = "mime-multipart", type = "object:org.apache.camel.model.dataformat.MimeMultipartDataFormat"),
+                    @YamlProperty(name = "parquet-avro", type = "object:org.apache.camel.model.dataformat.ParquetAvroDataFormat"),
                     @YamlProperty(name = "pgp", type = "object:org.apache.camel.model.dataformat.PGPDataFormat"),
                     @YamlProperty(name = "protobuf", type = "object:org.apache.camel.model.dataformat.ProtobufDataFormat"),
                     @YamlProperty(name = "rss", type = "object:org.apache.camel.model.dataformat.RssDataFormat"),
@@ -16701,6 +16889,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setDataFormatType(val);
                     break;
                 }
+                case "parquet-avro": {
+                    org.apache.camel.model.dataformat.ParquetAvroDataFormat val = asType(node, org.apache.camel.model.dataformat.ParquetAvroDataFormat.class);
+                    target.setDataFormatType(val);
+                    break;
+                }
                 case "protobuf": {
                     org.apache.camel.model.dataformat.ProtobufDataFormat val = asType(node, org.apache.camel.model.dataformat.ProtobufDataFormat.class);
                     target.setDataFormatType(val);
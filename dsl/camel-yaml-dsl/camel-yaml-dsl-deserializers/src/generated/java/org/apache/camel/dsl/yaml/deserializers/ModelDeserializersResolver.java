@@ -213,6 +213,8 @@ public final class ModelDeserializersResolver implements YamlDeserializerResolve
             case "org.apache.camel.model.dataformat.PGPDataFormat": return new ModelDeserializers.PGPDataFormatDeserializer();
             case "package-scan": return new ModelDeserializers.PackageScanDefinitionDeserializer();
             case "org.apache.camel.model.PackageScanDefinition": return new ModelDeserializers.PackageScanDefinitionDeserializer();
+            case "parquet-avro": return new ModelDeserializers.ParquetAvroDataFormatDeserializer();
+            case "org.apache.camel.model.dataformat.ParquetAvroDataFormat": return new ModelDeserializers.ParquetAvroDataFormatDeserializer();
             case "pass-through-service-filter": return new ModelDeserializers.PassThroughServiceCallServiceFilterConfigurationDeserializer();
             case "org.apache.camel.model.cloud.PassThroughServiceCallServiceFilterConfiguration": return new ModelDeserializers.PassThroughServiceCallServiceFilterConfigurationDeserializer();
             case "patch": return new ModelDeserializers.PatchVerbDefinitionDeserializer();
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.camel.dsl.xml.io.XmlRoutesSourceGenerator;
+import org.apache.camel.main.RoutesConfigurer;
+import org.apache.camel.util.StringHelper;
+import org.apache.maven.model.Resource;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.util.DirectoryScanner;
+
+/**
+ * Generates Java route builders from XML routes at build time, so Camel does not have to load and parse the XML
+ * routes when starting. Camel Main uses the generated route builders instead of the XML routes they were generated
+ * from.
+ */
+@Mojo(name = "generate-routes", threadSafe = true, defaultPhase = LifecyclePhase.GENERATE_SOURCES)
+public class GenerateRoutesMojo extends AbstractMojo {
+
+    private static final String GENERATED_MSG = "Generated by camel build tools - do NOT edit this file!";
+    private static final String NL = "\n";
+
+    @Parameter(property = "project", required = true, readonly = true)
+    private MavenProject project;
+
+    /**
+     * The directory with the XML routes.
+     */
+    @Parameter(defaultValue = "${project.basedir}/src/main/resources")
+    private File routesDirectory;
+
+    /**
+     * Comma separated Ant-style patterns of the XML routes (relative to the routes directory) to generate route
+     * builders for.
+     */
+    @Parameter(property = "camel.generateRoutes.includes", defaultValue = "camel/*.xml")
+    private String includes;
+
+    /**
+     * Comma separated Ant-style patterns of the XML routes (relative to the routes directory) to exclude.
+     */
+    @Parameter(property = "camel.generateRoutes.excludes")
+    private String excludes;
+
+    /**
+     * The package of the generated route builders.
+     */
+    @Parameter(property = "camel.generateRoutes.packageName", defaultValue = "org.apache.camel.generated.routes")
+    private String packageName;
+
+    /**
+     * The directory for the source code of the generated route builders.
+     */
+    @Parameter(defaultValue = "${project.build.directory}/generated-sources/camel-routes")
+    private File outputDirectory;
+
+    /**
+     * The directory for the index of the generated route builders.
+     */
+    @Parameter(defaultValue = "${project.build.directory}/generated-resources/camel-routes")
+    private File resourcesOutputDirectory;
+
+    /**
+     * Skip generating the route builders.
+     */
+    @Parameter(property = "camel.generateRoutes.skip", defaultValue = "false")
+    private boolean skip;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if (skip || !routesDirectory.isDirectory()) {
+            return;
+        }
+
+        DirectoryScanner scanner = new DirectoryScanner();
+        scanner.setBasedir(routesDirectory);
+        scanner.setIncludes(includes.split(","));
+        if (excludes != null && !excludes.isEmpty()) {
+            scanner.setExcludes(excludes.split(","));
+        }
+        scanner.scan();
+        String[] files = scanner.getIncludedFiles();
+        Arrays.sort(files);
+
+        XmlRoutesSourceGenerator generator = new XmlRoutesSourceGenerator();
+        List<String> classes = new ArrayList<>();
+        List<String> resources = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (String file : files) {
+            String resource = file.replace(File.separatorChar, '/');
+            String className = className(resource, names);
+
+            String source;
+            try (InputStream is = Files.newInputStream(new File(routesDirectory, file).toPath())) {
+                source = generator.generate(packageName, className, "classpath:" + resource, is);
+            } catch (Exception e) {
+                throw new MojoExecutionException("Error generating route builder from " + resource, e);
+            }
+            if (source == null) {
+                getLog().debug("No routes in " + resource);
+                continue;
+            }
+
+            File target = new File(outputDirectory, packageName.replace('.', '/') + "/" + className + ".java");
+            writeFile(target, source);
+            classes.add(packageName + "." + className);
+            resources.add(resource);
+        }
+
+        if (classes.isEmpty()) {
+            return;
+        }
+        getLog().info("Generated " + classes.size() + " route builders from XML routes in " + routesDirectory);
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("# ").append(GENERATED_MSG).append(NL);
+        sb.append("classes=").append(String.join(",", classes)).append(NL);
+        sb.append("resources=").append(String.join(",", resources)).append(NL);
+        writeFile(new File(resourcesOutputDirectory, RoutesConfigurer.GENERATED_ROUTES), sb.toString());
+
+        project.addCompileSourceRoot(outputDirectory.getPath());
+        Resource generated = new Resource();
+        generated.setDirectory(resourcesOutputDirectory.getPath());
+        project.addResource(generated);
+    }
+
+    /**
+     * The class name of the route builder generated from the given XML routes, such as <tt>MyRoutesRouteBuilder</tt>
+     * for <tt>camel/my-routes.xml</tt>.
+     */
+    private static String className(String resource, Set<String> names) {
+        String name = resource.substring(resource.lastIndexOf('/') + 1);
+        if (name.lastIndexOf('.') > 0) {
+            name = name.substring(0, name.lastIndexOf('.'));
+        }
+        StringBuilder sb = new StringBuilder();
+        for (char ch : StringHelper.capitalize(name, true).toCharArray()) {
+            if (Character.isJavaIdentifierPart(ch)) {
+                sb.append(ch);
+            }
+        }
+        if (sb.length() == 0 || !Character.isJavaIdentifierStart(sb.charAt(0))) {
+            sb.insert(0, "Xml");
+        }
+        sb.append("RouteBuilder");
+
+        // there may be xml routes with the same name in different directories
+        String answer = sb.toString();
+        for (int i = 2; !names.add(answer); i++) {
+            answer = sb.toString() + i;
+        }
+        return answer;
+    }
+
+    private static void writeFile(File file, String data) throws MojoExecutionException {
+        try {
+            Path path = file.toPath();
+            Files.createDirectories(path.getParent());
+            Files.write(path, data.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new MojoExecutionException("Error writing " + file, e);
+        }
+    }
+}